@@ -0,0 +1,139 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Compares two sets of benchmark results written by JMH in CSV format.
+ * <p>
+ * Usage: BenchCompare baseline.csv results.csv
+ * <p>
+ * Lines that start with '#' are ignored so that a results file can record the environment in
+ * which the benchmarks were run.
+ * <p>
+ * A result is reported as slower or faster only when the difference between the scores is
+ * larger than the sum of their error margins.
+ */
+public class BenchCompare {
+
+	static class Result {
+		final String unit;
+		final double score;
+		final double error;
+
+		Result(String unit, double score, double error) {
+			this.unit = unit;
+			this.score = score;
+			this.error = error;
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.out.println("Usage: BenchCompare baseline.csv results.csv");
+			return;
+		}
+		LinkedHashMap<String, Result> baseline = read(args[0]);
+		LinkedHashMap<String, Result> results = read(args[1]);
+
+		System.out.format("%-60s %12s %12s %8s%n", "Benchmark", "Baseline", "Result", "Ratio");
+		for (String key : results.keySet()) {
+			Result res = results.get(key);
+			Result base = baseline.get(key);
+			if (base == null || !base.unit.equals(res.unit)) {
+				System.out.format("%-60s %12s %12.3f %8s  %s%n", key, "-", res.score, "-", res.unit);
+				continue;
+			}
+
+			String change = "";
+			if (Math.abs(res.score - base.score) > res.error + base.error) {
+				boolean better = res.score < base.score;
+				if (res.unit.startsWith("ops/"))
+					better = !better;
+				change = better ? "faster" : "SLOWER";
+			}
+			System.out.format("%-60s %12.3f %12.3f %8.3f  %s %s%n", key, base.score, res.score,
+					res.score / base.score, res.unit, change);
+		}
+	}
+
+	/**
+	 * Returns the results in the specified file, keyed by the benchmark name and parameters.
+	 */
+	static LinkedHashMap<String, Result> read(String fileName) throws IOException {
+		LinkedHashMap<String, Result> ret = new LinkedHashMap<>();
+		try (BufferedReader in = new BufferedReader(new FileReader(fileName))) {
+			// Skip any comments before the header
+			String line = in.readLine();
+			while (line != null && line.startsWith("#")) {
+				line = in.readLine();
+			}
+			if (line == null)
+				return ret;
+			ArrayList<String> header = split(line);
+			int scoreInd = header.indexOf("Score");
+			int unitInd = header.indexOf("Unit");
+			int errorInd = scoreInd + 1;
+
+			while ((line = in.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				ArrayList<String> fields = split(line);
+				String name = fields.get(0);
+				name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+				StringBuilder sb = new StringBuilder(name);
+				for (int i = unitInd + 1; i < fields.size(); i++) {
+					if (fields.get(i).isEmpty())
+						continue;
+					String param = header.get(i).replace("Param: ", "");
+					sb.append(" ").append(param).append("=").append(fields.get(i));
+				}
+				double error = fields.get(errorInd).isEmpty() || fields.get(errorInd).equals("NaN")
+						? 0.0d : Double.parseDouble(fields.get(errorInd));
+				ret.put(sb.toString(), new Result(fields.get(unitInd),
+						Double.parseDouble(fields.get(scoreInd)), error));
+			}
+		}
+		return ret;
+	}
+
+	private static ArrayList<String> split(String line) {
+		ArrayList<String> ret = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c == '"') {
+				quoted = !quoted;
+				continue;
+			}
+			if (c == ',' && !quoted) {
+				ret.add(sb.toString());
+				sb.setLength(0);
+				continue;
+			}
+			sb.append(c);
+		}
+		ret.add(sb.toString());
+		return ret;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.util.concurrent.CountDownLatch;
+
+import com.jaamsim.basicsim.ErrorException;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.basicsim.RunListener;
+import com.jaamsim.events.EventManager;
+import com.jaamsim.events.EventTimeListener;
+import com.jaamsim.events.ProcessTarget;
+
+/**
+ * Methods shared by the benchmarks for creating models and executing events.
+ */
+public class BenchUtils {
+
+	/**
+	 * Writes the specified lines to a temporary configuration file.
+	 * @param prefix - prefix for the file name
+	 * @param lines - contents of the file
+	 * @return configuration file
+	 * @throws IOException
+	 */
+	public static File writeConfig(String prefix, String... lines) throws IOException {
+		File file = File.createTempFile(prefix, ".cfg");
+		file.deleteOnExit();
+		String name = file.getName();
+		new File(file.getParentFile(), name.substring(0, name.length() - 4) + ".log").deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+			for (String line : lines) {
+				out.println(line);
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * Loads the specified configuration file into a new model that is executed without a user
+	 * interface.
+	 * @param file - configuration file
+	 * @return new model
+	 * @throws URISyntaxException
+	 */
+	public static JaamSimModel loadModel(File file) throws URISyntaxException {
+		JaamSimModel sm = new JaamSimModel(file.getName());
+		sm.setGlobalLog(false);
+		sm.setBatchRun(true);
+		sm.autoLoad();
+		sm.configure(file);
+		return sm;
+	}
+
+	/**
+	 * Executes a run of the specified model and waits for it to finish.
+	 * @param sm - configured model
+	 * @param rep - replication number
+	 * @throws InterruptedException
+	 */
+	public static void runModel(JaamSimModel sm, int rep) throws InterruptedException {
+		sm.setReplicationNumber(rep);
+		ModelListener listener = new ModelListener();
+		if (!sm.start(listener))
+			throw new ErrorException("The model could not be started");
+		listener.latch.await();
+		sm.pause();
+		if (listener.error != null)
+			throw new ErrorException(listener.error);
+	}
+
+	private static class ModelListener implements RunListener {
+		final CountDownLatch latch = new CountDownLatch(1);
+		volatile Throwable error;
+
+		@Override
+		public void runEnded() {
+			latch.countDown();
+		}
+
+		@Override
+		public void handleRuntimeError(JaamSimModel sm, Throwable t) {
+			error = t;
+			latch.countDown();
+		}
+	}
+
+	/**
+	 * Executes the specified target and any events it schedules, and waits for the event
+	 * manager to run out of events.
+	 * @param evt - event manager
+	 * @param t - first target to be executed
+	 * @throws InterruptedException
+	 */
+	public static void runEvents(EventManager evt, ProcessTarget t) throws InterruptedException {
+		EventListener listener = new EventListener();
+		evt.clear();
+		evt.setTimeListener(listener);
+		evt.scheduleProcessExternal(0, 0, false, t, null);
+		evt.resumeTicks(Long.MAX_VALUE, false, false);
+		listener.latch.await();
+		evt.setTimeListener(null);
+		if (listener.error != null)
+			throw new ErrorException(listener.error);
+	}
+
+	private static class EventListener implements EventTimeListener {
+		final CountDownLatch latch = new CountDownLatch(1);
+		volatile Throwable error;
+
+		@Override
+		public void tickUpdate(long tick) {}
+
+		@Override
+		public void timeRunning() {
+			if (!EventManager.current().isRunning())
+				latch.countDown();
+		}
+
+		@Override
+		public void handleError(Throwable t) {
+			error = t;
+			latch.countDown();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.ProbabilityDistributions.Distribution;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.events.EventManager;
+import com.jaamsim.events.ProcessTarget;
+
+/**
+ * Sampling from probability distributions, one sample at a time and in bulk. Each score is
+ * the time per sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributionBench {
+
+	private static final int NUM_SAMPLES = 10000;
+
+	@Param({"ExponentialDistribution", "NormalDistribution", "GammaDistribution",
+		"TriangularDistribution", "DiscreteDistribution", "UniformDistribution",
+		"WeibullDistribution", "DiscreteUniformDistribution", "GeometricDistribution",
+		"LogLogisticDistribution", "ContinuousDistribution"})
+	String distType;
+
+	JaamSimModel simModel;
+	Distribution dist;
+	EventManager evt;
+	final double[] samples = new double[NUM_SAMPLES];
+
+	@Setup
+	public void setup() throws Exception {
+		String inputs;
+		switch (distType) {
+		case "ExponentialDistribution":
+			inputs = "Mean { 5 }";
+			break;
+		case "NormalDistribution":
+			inputs = "Mean { 5 } StandardDeviation { 2 }";
+			break;
+		case "GammaDistribution":
+			inputs = "Mean { 5 } Shape { 2.5 }";
+			break;
+		case "TriangularDistribution":
+			inputs = "MinValue { 1 } MaxValue { 6 } Mode { 2 }";
+			break;
+		case "DiscreteDistribution":
+			inputs = "ValueList { 1 3 5 10 } ProbabilityList { 0.1 0.4 0.3 0.2 }";
+			break;
+		case "UniformDistribution":
+			inputs = "MinValue { 1 } MaxValue { 6 }";
+			break;
+		case "WeibullDistribution":
+			inputs = "Scale { 2 } Shape { 1.5 }";
+			break;
+		case "DiscreteUniformDistribution":
+			inputs = "MinValue { 2 } MaxValue { 7 }";
+			break;
+		case "GeometricDistribution":
+			inputs = "Probability { 0.2 }";
+			break;
+		case "LogLogisticDistribution":
+			inputs = "Scale { 2 } Shape { 3 }";
+			break;
+		case "ContinuousDistribution":
+			inputs = "ValueList { 1 3 5 10 } CumulativeProbabilityList { 0 0.5 0.8 1 }";
+			break;
+		default:
+			throw new IllegalArgumentException(distType);
+		}
+		File file = BenchUtils.writeConfig("DistributionBench",
+				"Define " + distType + " { Dist }",
+				"Dist UnitType { DimensionlessUnit } RandomSeed { 1 } " + inputs);
+		simModel = BenchUtils.loadModel(file);
+		dist = (Distribution) simModel.getNamedEntity("Dist");
+		dist.validate();
+		dist.earlyInit();
+		evt = new EventManager("DistributionBench");
+	}
+
+	@TearDown
+	public void tearDown() {
+		simModel.close();
+	}
+
+	// Samples can only be generated by an event
+	private static class SampleTarget extends ProcessTarget {
+		final Distribution dist;
+		final double[] samples;
+		final boolean bulk;
+
+		SampleTarget(Distribution dist, double[] samples, boolean bulk) {
+			this.dist = dist;
+			this.samples = samples;
+			this.bulk = bulk;
+		}
+
+		@Override
+		public String getDescription() {
+			return "SampleTarget";
+		}
+
+		@Override
+		public void process() {
+			if (bulk) {
+				dist.fill(samples, 0.0d);
+				return;
+			}
+			for (int i = 0; i < samples.length; i++) {
+				samples[i] = dist.getNextSample(null, 0.0d);
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_SAMPLES)
+	public double[] nextSample() throws InterruptedException {
+		BenchUtils.runEvents(evt, new SampleTarget(dist, samples, false));
+		return samples;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_SAMPLES)
+	public double[] fill() throws InterruptedException {
+		BenchUtils.runEvents(evt, new SampleTarget(dist, samples, true));
+		return samples;
+	}
+}
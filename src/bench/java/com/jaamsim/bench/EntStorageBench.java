@@ -0,0 +1,112 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.ProcessFlow.EntStorage;
+import com.jaamsim.basicsim.JaamSimModel;
+
+/**
+ * Adding and removing entities from the storages used by Queue and the other objects that
+ * hold entities. Each score is the time to add one entry and remove the first one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntStorageBench {
+
+	private static final int NUM_OPS = 10000;
+	private static final String[] TYPES = {"A", "B", "C", "D", "E"};
+
+	// DequeEntStorage, BucketEntStorage or TreeEntStorage
+	@Param({"deque", "bucket", "tree"})
+	String storageType;
+
+	// Number of entries in the storage
+	@Param({"10", "1000"})
+	int size;
+
+	JaamSimModel simModel;
+	DisplayEntity ent;
+	EntStorage storage;
+	int[] priorities;
+	String[] types;
+	long seqNum;
+
+	@Setup
+	public void setup() throws Exception {
+		File file = BenchUtils.writeConfig("EntStorageBench", "Define SimEntity { Ent }");
+		simModel = BenchUtils.loadModel(file);
+		ent = (DisplayEntity) simModel.getNamedEntity("Ent");
+
+		boolean bool = storageType.equals("tree");
+		boolean constPriority = storageType.equals("deque");
+		storage = EntStorage.getStorage(bool, constPriority ? 1 : 5, false);
+
+		Random rng = new Random(1);
+		priorities = new int[NUM_OPS];
+		types = new String[NUM_OPS];
+		for (int i = 0; i < NUM_OPS; i++) {
+			priorities[i] = constPriority ? 0 : rng.nextInt(5);
+			types[i] = bool ? TYPES[rng.nextInt(TYPES.length)] : null;
+		}
+		for (int i = 0; i < size; i++) {
+			add(i);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		simModel.close();
+	}
+
+	private void add(int i) {
+		seqNum++;
+		storage.add(new EntStorage.StorageEntry(ent, types[i], priorities[i], seqNum, 0.0d));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_OPS)
+	public int addAndRemoveFirst() {
+		for (int i = 0; i < NUM_OPS; i++) {
+			add(i);
+			storage.remove(storage.first());
+		}
+		return storage.size();
+	}
+}
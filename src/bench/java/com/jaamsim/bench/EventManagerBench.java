@@ -0,0 +1,168 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.events.EventManager;
+import com.jaamsim.events.ProcessTarget;
+
+/**
+ * Scheduling and execution of events by EventManager. Each score is the time per event.
+ * The 'Heap' benchmarks store the future events in an EventHeap instead of an EventTree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventManagerBench {
+
+	private static final int NUM_EVENTS = 100000;
+
+	EventManager evt;
+	EventManager evtHeap;
+	int[] delays;
+
+	@Setup
+	public void setup() {
+		evt = new EventManager("EventManagerBench");
+		System.setProperty("jaamsim.eventHeap", "true");
+		evtHeap = new EventManager("EventManagerBench-Heap");
+		System.clearProperty("jaamsim.eventHeap");
+		Random rng = new Random(1);
+		delays = new int[NUM_EVENTS];
+		for (int i = 0; i < delays.length; i++) {
+			delays[i] = 1 + rng.nextInt(1000);
+		}
+	}
+
+	/**
+	 * Each event that is executed schedules a new one until the total number of events has
+	 * been executed.
+	 */
+	static class HoldTarget extends ProcessTarget {
+		final int[] delays;
+		final int numPending;
+		int count;  // number of events that have been scheduled
+
+		HoldTarget(int[] delays, int numPending) {
+			this.delays = delays;
+			this.numPending = numPending;
+		}
+
+		@Override
+		public String getDescription() {
+			return "HoldTarget";
+		}
+
+		@Override
+		public void process() {
+			// Schedule the initial events
+			if (count == 0) {
+				for (int i = 0; i < numPending; i++) {
+					EventManager.scheduleTicks(delays[count++], 5, true, this, null);
+				}
+				return;
+			}
+
+			if (count < delays.length)
+				EventManager.scheduleTicks(delays[count++], 5, true, this, null);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Pending {
+		// Number of events waiting to be executed at any time
+		@Param({"1", "100", "10000"})
+		int numPending;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_EVENTS)
+	public int scheduleAndExecute(Pending p) throws InterruptedException {
+		HoldTarget t = new HoldTarget(delays, p.numPending);
+		BenchUtils.runEvents(evt, t);
+		return t.count;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_EVENTS)
+	public int scheduleAndExecuteHeap(Pending p) throws InterruptedException {
+		HoldTarget t = new HoldTarget(delays, p.numPending);
+		BenchUtils.runEvents(evtHeap, t);
+		return t.count;
+	}
+
+	/**
+	 * Process that waits repeatedly for a given number of ticks.
+	 */
+	static class WaitTarget extends ProcessTarget {
+		final int[] delays;
+		int count;
+
+		WaitTarget(int[] delays) {
+			this.delays = delays;
+		}
+
+		@Override
+		public String getDescription() {
+			return "WaitTarget";
+		}
+
+		@Override
+		public void process() {
+			for (int i = 0; i < delays.length / 10; i++) {
+				EventManager.waitTicks(delays[i], 5, true, null);
+				count++;
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_EVENTS / 10)
+	public int processWait() throws InterruptedException {
+		WaitTarget t = new WaitTarget(delays);
+		BenchUtils.runEvents(evt, new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "StartWaitTarget";
+			}
+
+			@Override
+			public void process() {
+				EventManager.startProcess(t);
+			}
+		});
+		return t.count;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.basicsim.Entity;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.input.ExpError;
+import com.jaamsim.input.ExpEvaluator;
+import com.jaamsim.input.ExpParser;
+import com.jaamsim.input.ExpResult;
+
+/**
+ * Parsing and evaluation of expressions by ExpParser.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpParserBench {
+
+	@Param({"arithmetic", "outputs", "functions"})
+	String type;
+
+	JaamSimModel simModel;
+	Entity ent;
+	String source;
+	ExpParser.Expression exp;
+
+	@Setup
+	public void setup() throws Exception {
+		File file = BenchUtils.writeConfig("ExpParserBench",
+				"Define InputValue { X  Y }",
+				"X UnitType { DimensionlessUnit } Value { 3 }",
+				"Y UnitType { DistanceUnit } Value { 5 m }");
+		simModel = BenchUtils.loadModel(file);
+		ent = simModel.getNamedEntity("X");
+
+		switch (type) {
+		case "arithmetic":
+			source = "1 + 2*3 - 4/5 + 2^3 - (6 + 7)*(8 - 9) + 10";
+			break;
+		case "outputs":
+			source = "[X].Value * [X].Value + this.Value / 2 - [Y].Value / [Y].Value";
+			break;
+		case "functions":
+			source = "max(1, [X].Value, 3) + abs(-4) + floor(5.5) + (this.Value > 2 ? sqrt(16) : 0)";
+			break;
+		default:
+			throw new IllegalArgumentException(type);
+		}
+		exp = ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, source), source);
+	}
+
+	@TearDown
+	public void tearDown() {
+		simModel.close();
+	}
+
+	@Benchmark
+	public ExpParser.Expression parse() throws ExpError {
+		return ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, source), source);
+	}
+
+	@Benchmark
+	public ExpResult evaluate() throws ExpError {
+		return ExpEvaluator.evaluateExpression(exp, ent, 0.0d);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.ProbabilityDistributions.GuideTable;
+import com.jaamsim.rng.MRG1999a;
+
+/**
+ * Selecting an entry from a table of cumulative probabilities, as in ContinuousDistribution and
+ * DiscreteDistribution, by a binary search and by a GuideTable. Each score is the time per
+ * lookup. The table size of 64 is the smallest for which a GuideTable is used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuideTableBench {
+
+	private static final int NUM_SAMPLES = 100000;
+
+	@Param({"64", "1000"})
+	int size;
+
+	double[] cumProbs;
+	GuideTable table;
+	final double[] rands = new double[NUM_SAMPLES];
+
+	@Setup
+	public void setup() {
+		cumProbs = new double[size];
+		double total = 0.0d;
+		for (int i = 0; i < size; i++) {
+			total += (i % 7 + 1);
+			cumProbs[i] = total;
+		}
+		for (int i = 0; i < size; i++) {
+			cumProbs[i] /= total;
+		}
+		table = new GuideTable(cumProbs);
+
+		// Random probabilities, so that the binary search does not benefit from branch prediction
+		new MRG1999a(1, 0).nextUniforms(rands, 0, NUM_SAMPLES);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_SAMPLES)
+	public long binarySearch() {
+		long sum = 0L;
+		for (int k = 0; k < NUM_SAMPLES; k++) {
+			int j = Arrays.binarySearch(cumProbs, rands[k]);
+			sum += (j >= 0) ? j : -j - 1;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_SAMPLES)
+	public long guideTable() {
+		long sum = 0L;
+		for (int k = 0; k < NUM_SAMPLES; k++) {
+			sum += table.getIndex(rands[k]);
+		}
+		return sum;
+	}
+}
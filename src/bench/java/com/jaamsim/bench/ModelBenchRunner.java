@@ -0,0 +1,354 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.input.InputAgent;
+
+/**
+ * Measures the end-to-end performance of a set of reference models executed without a user
+ * interface. The reference models are a selection of the bundled examples together with
+ * large synthetic models that are generated when the runner starts: a long line of queues and
+ * servers, many resources, and many thresholds. Each model is run for a fixed simulated
+ * duration with fixed random seeds.
+ * <p>
+ * The events per second, allocation rate, peak heap and wall clock time for each model are
+ * appended to a CSV file so that the results can be tracked over time.
+ * <p>
+ * Usage: ModelBenchRunner [-out file] [-commit id] [-warmup n] [-runs n] [-scale x] [model ...]
+ */
+public class ModelBenchRunner {
+
+	// Bundled examples and the simulated duration for each run in seconds
+	private static final Object[][] EXAMPLES = {
+		{"Server and Queue Example", 86400.0d},
+		{"Seize, Release, and Resource Example", 86400.0d},
+		{"Branch Example - select shortest Queue", 86400.0d},
+		{"ExpressionThreshold Example", 86400.0d},
+		{"Duplicate and Combine Example", 86400.0d},
+		{"Pack, Unpack, and EntityContainer Example", 86400.0d},
+		{"DowntimeEntity Example - Server", 86400.0d},
+		{"FluidFlow Example", 86400.0d},
+		{"PIDController Example", 86400.0d},
+	};
+
+	private static final int NUM_STAGES = 100;
+	private static final double SYNTHETIC_DURATION = 10000.0d;
+
+	private static final String HEADER = "Date,Commit,Java,Model,SimDuration(s),Runs,WallTime(s),"
+			+ "Events,EventsPerSecond,Allocated(MB),AllocationRate(MB/s),PeakHeap(MB)";
+
+	/**
+	 * Reference model and the simulated duration for each run.
+	 */
+	static class Reference {
+		final String name;
+		final File file;  // configuration file, or null for a bundled example
+		final double duration;
+
+		Reference(String name, File file, double duration) {
+			this.name = name;
+			this.file = file;
+			this.duration = duration;
+		}
+
+		JaamSimModel load() throws Exception {
+			JaamSimModel sm;
+			if (file == null) {
+				sm = new JaamSimModel(name + ".cfg");
+				sm.setGlobalLog(false);
+				sm.setBatchRun(true);
+				sm.autoLoad();
+				InputAgent.readResource(sm, "<res>/examples/" + name + ".cfg");
+				sm.postLoad();
+			}
+			else {
+				sm = BenchUtils.loadModel(file);
+			}
+			sm.setInput("Simulation", "RealTime", "FALSE");
+			sm.setInput("Simulation", "InitializationDuration", "0 s");
+			sm.setInput("Simulation", "RunDuration", duration + " s");
+			sm.setInput("Simulation", "GlobalSubstreamSeed", "1");
+			return sm;
+		}
+	}
+
+	/**
+	 * Measurements for the runs of a reference model.
+	 */
+	static class Measurement {
+		int numRuns;
+		double wallTime;    // seconds
+		long numEvents;
+		double allocated;   // bytes
+		double peakHeap;    // bytes
+
+		double getEventsPerSecond() {
+			return numEvents / wallTime;
+		}
+
+		double getAllocationRate() {
+			return allocated / wallTime;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		File out = new File("ModelBench.csv");
+		String commit = "(none)";
+		int numWarmup = 1;
+		int numRuns = 3;
+		double scale = 1.0d;
+		ArrayList<String> names = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "-out":
+				out = new File(args[++i]);
+				break;
+			case "-commit":
+				commit = args[++i];
+				break;
+			case "-warmup":
+				numWarmup = Integer.parseInt(args[++i]);
+				break;
+			case "-runs":
+				numRuns = Integer.parseInt(args[++i]);
+				break;
+			case "-scale":
+				scale = Double.parseDouble(args[++i]);
+				break;
+			default:
+				names.add(args[i]);
+			}
+		}
+
+		ArrayList<Reference> refs = getReferences(scale);
+		if (!names.isEmpty())
+			refs.removeIf(ref -> !names.contains(ref.name));
+
+		boolean newFile = !out.exists() || out.length() == 0L;
+		String date = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date());
+		String java = System.getProperty("java.version");
+		try (PrintWriter writer = new PrintWriter(new FileWriter(out, true))) {
+			if (newFile)
+				writer.println(HEADER);
+			for (Reference ref : refs) {
+				Measurement meas = measure(ref, numWarmup, numRuns);
+				System.out.format(Locale.ROOT, "%-45s %8.3f s %12.0f events/s %10.1f MB/s %8.1f MB peak%n",
+						ref.name, meas.wallTime, meas.getEventsPerSecond(),
+						meas.getAllocationRate() / 1.0e6d, meas.peakHeap / 1.0e6d);
+				writer.format(Locale.ROOT, "%s,%s,%s,\"%s\",%s,%d,%.4f,%d,%.1f,%.2f,%.2f,%.2f%n",
+						date, commit, java, ref.name, ref.duration, meas.numRuns, meas.wallTime,
+						meas.numEvents, meas.getEventsPerSecond(), meas.allocated / 1.0e6d,
+						meas.getAllocationRate() / 1.0e6d, meas.peakHeap / 1.0e6d);
+				writer.flush();
+			}
+		}
+		System.exit(0);
+	}
+
+	/**
+	 * Returns the reference models, with simulated durations multiplied by the specified factor.
+	 */
+	static ArrayList<Reference> getReferences(double scale) throws IOException {
+		ArrayList<Reference> ret = new ArrayList<>();
+		for (Object[] example : EXAMPLES) {
+			ret.add(new Reference((String) example[0], null, (double) example[1] * scale));
+		}
+		double dur = SYNTHETIC_DURATION * scale;
+		ret.add(new Reference("Synthetic - queue chain", getQueueChain(NUM_STAGES), dur));
+		ret.add(new Reference("Synthetic - many resources", getManyResources(NUM_STAGES), dur));
+		ret.add(new Reference("Synthetic - many thresholds", getManyThresholds(NUM_STAGES / 2), dur));
+		return ret;
+	}
+
+	/**
+	 * Executes the specified model and returns the average measurements for the timed runs.
+	 */
+	static Measurement measure(Reference ref, int numWarmup, int numRuns) throws Exception {
+		Measurement ret = new Measurement();
+		JaamSimModel sm = ref.load();
+		try {
+			for (int i = 0; i < numWarmup; i++) {
+				BenchUtils.runModel(sm, 1);
+			}
+
+			for (int i = 0; i < numRuns; i++) {
+				System.gc();
+				for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+					pool.resetPeakUsage();
+				}
+				HashMap<Long, Long> allocMap = getAllocatedBytes();
+
+				long nanos = System.nanoTime();
+				BenchUtils.runModel(sm, 1);
+				nanos = System.nanoTime() - nanos;
+
+				ret.wallTime += nanos * 1.0e-9d;
+				ret.numEvents += sm.getEventManager().getNumberOfEvents();
+				ret.allocated += getAllocatedBytesSince(allocMap);
+				ret.peakHeap = Math.max(ret.peakHeap, getPeakHeap());
+				ret.numRuns++;
+			}
+		}
+		finally {
+			sm.close();
+		}
+
+		ret.wallTime /= ret.numRuns;
+		ret.numEvents /= ret.numRuns;
+		ret.allocated /= ret.numRuns;
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by each live thread, keyed by the thread id.
+	 */
+	private static HashMap<Long, Long> getAllocatedBytes() {
+		HashMap<Long, Long> ret = new HashMap<>();
+		com.sun.management.ThreadMXBean bean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long[] ids = bean.getAllThreadIds();
+		long[] bytes = bean.getThreadAllocatedBytes(ids);
+		for (int i = 0; i < ids.length; i++) {
+			if (bytes[i] >= 0L)
+				ret.put(ids[i], bytes[i]);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the live threads since the specified values
+	 * were recorded. Threads that ended in the meantime are not included.
+	 */
+	private static long getAllocatedBytesSince(HashMap<Long, Long> allocMap) {
+		long ret = 0L;
+		for (Entry<Long, Long> entry : getAllocatedBytes().entrySet()) {
+			Long start = allocMap.get(entry.getKey());
+			ret += entry.getValue() - (start == null ? 0L : start);
+		}
+		return ret;
+	}
+
+	private static long getPeakHeap() {
+		long ret = 0L;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP)
+				ret += pool.getPeakUsage().getUsed();
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns a model with a line of Queue and Server pairs.
+	 */
+	static File getQueueChain(int num) throws IOException {
+		ArrayList<String> lines = getHeader();
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Define ExponentialDistribution { Svc%s }", i));
+			lines.add(String.format("Define Queue { Q%s }", i));
+			lines.add(String.format("Define Server { S%s }", i));
+		}
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Svc%s UnitType { TimeUnit } Mean { 0.8 s } RandomSeed { %s }", i, i + 1));
+			lines.add(String.format("S%s WaitQueue { Q%s } ServiceTime { Svc%s } NextComponent { %s }",
+					i, i, i, getNext("S", i, num)));
+		}
+		lines.add("Gen NextComponent { S1 }");
+		return BenchUtils.writeConfig("QueueChain", toArray(lines));
+	}
+
+	/**
+	 * Returns a model with a line of stages that each seize and release a different resource.
+	 */
+	static File getManyResources(int num) throws IOException {
+		ArrayList<String> lines = getHeader();
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Define ExponentialDistribution { Svc%s }", i));
+			lines.add(String.format("Define Resource { R%s }", i));
+			lines.add(String.format("Define Queue { Q%s }", i));
+			lines.add(String.format("Define Seize { Seize%s }", i));
+			lines.add(String.format("Define EntityDelay { Delay%s }", i));
+			lines.add(String.format("Define Release { Release%s }", i));
+		}
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Svc%s UnitType { TimeUnit } Mean { 1.6 s } RandomSeed { %s }", i, i + 1));
+			lines.add(String.format("R%s Capacity { 2 }", i));
+			lines.add(String.format("Seize%s WaitQueue { Q%s } ResourceList { R%s } NextComponent { Delay%s }",
+					i, i, i, i));
+			lines.add(String.format("Delay%s Duration { Svc%s } NextComponent { Release%s }", i, i, i));
+			lines.add(String.format("Release%s ResourceList { R%s } NextComponent { %s }",
+					i, i, getNext("Seize", i, num)));
+		}
+		lines.add("Gen NextComponent { Seize1 }");
+		return BenchUtils.writeConfig("ManyResources", toArray(lines));
+	}
+
+	/**
+	 * Returns a model with a line of servers that each stop when the next queue is full.
+	 */
+	static File getManyThresholds(int num) throws IOException {
+		ArrayList<String> lines = getHeader();
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Define ExponentialDistribution { Svc%s }", i));
+			lines.add(String.format("Define Queue { Q%s }", i));
+			lines.add(String.format("Define Server { S%s }", i));
+			lines.add(String.format("Define ExpressionThreshold { T%s }", i));
+		}
+		for (int i = 1; i <= num; i++) {
+			lines.add(String.format("Svc%s UnitType { TimeUnit } Mean { 0.8 s } RandomSeed { %s }", i, i + 1));
+			String cond = (i == num) ? "TRUE" : String.format("[Q%s].QueueLength < 3", i + 1);
+			lines.add(String.format("T%s OpenCondition { '%s' }", i, cond));
+			lines.add(String.format("S%s WaitQueue { Q%s } ServiceTime { Svc%s } OperatingThresholdList { T%s } NextComponent { %s }",
+					i, i, i, i, getNext("S", i, num)));
+		}
+		lines.add("Gen NextComponent { S1 }");
+		return BenchUtils.writeConfig("ManyThresholds", toArray(lines));
+	}
+
+	private static ArrayList<String> getHeader() {
+		return new ArrayList<>(Arrays.asList(
+				"Define ExponentialDistribution { Arrivals }",
+				"Define SimEntity { Proto }",
+				"Define EntityGenerator { Gen }",
+				"Define EntitySink { Sink }",
+				"Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }",
+				"Gen InterArrivalTime { Arrivals } PrototypeEntity { Proto }"));
+	}
+
+	private static String getNext(String prefix, int i, int num) {
+		return (i == num) ? "Sink" : prefix + (i + 1);
+	}
+
+	private static String[] toArray(ArrayList<String> lines) {
+		return lines.toArray(new String[lines.size()]);
+	}
+}
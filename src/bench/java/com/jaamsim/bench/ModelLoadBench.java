@@ -0,0 +1,100 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.basicsim.JaamSimModel;
+
+/**
+ * Loading a configuration file with InputAgent and copying a loaded model. The model is a line
+ * of stations, each consisting of a Queue, a Server and a service time distribution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelLoadBench {
+
+	@Param({"10", "100"})
+	int numStations;
+
+	File configFile;
+	JaamSimModel simModel;
+
+	@Setup
+	public void setup() throws Exception {
+		ArrayList<String> lines = new ArrayList<>();
+		lines.add("Define ExponentialDistribution { Arrivals }");
+		lines.add("Define SimEntity { Proto }");
+		lines.add("Define EntityGenerator { Gen }");
+		lines.add("Define EntitySink { Sink }");
+		lines.add("Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }");
+		for (int i = 1; i <= numStations; i++) {
+			lines.add(String.format("Define ExponentialDistribution { Svc%s }", i));
+			lines.add(String.format("Define Queue { Q%s }", i));
+			lines.add(String.format("Define Server { S%s }", i));
+		}
+		for (int i = 1; i <= numStations; i++) {
+			String next = (i == numStations) ? "Sink" : "S" + (i + 1);
+			lines.add(String.format("Svc%s UnitType { TimeUnit } Mean { 0.8 s } RandomSeed { %s }", i, i + 1));
+			lines.add(String.format("Q%s Position { %s 0 0 m }", i, i));
+			lines.add(String.format("S%s WaitQueue { Q%s } ServiceTime { Svc%s } NextComponent { %s }", i, i, i, next));
+			lines.add(String.format("S%s Position { %s 1 0 m }", i, i));
+		}
+		lines.add("Gen NextComponent { S1 } InterArrivalTime { Arrivals } PrototypeEntity { Proto }");
+		lines.add("Simulation RunDuration { 1000 s }");
+		configFile = BenchUtils.writeConfig("ModelLoadBench", lines.toArray(new String[lines.size()]));
+		simModel = BenchUtils.loadModel(configFile);
+	}
+
+	@TearDown
+	public void tearDown() {
+		simModel.close();
+	}
+
+	@Benchmark
+	public JaamSimModel loadConfig() throws Exception {
+		JaamSimModel sm = BenchUtils.loadModel(configFile);
+		sm.close();
+		return sm;
+	}
+
+	@Benchmark
+	public JaamSimModel cloneModel() {
+		JaamSimModel sm = new JaamSimModel(simModel, "Clone");
+		sm.close();
+		return sm;
+	}
+}
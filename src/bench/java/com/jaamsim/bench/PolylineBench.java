@@ -0,0 +1,93 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.Graphics.PolylineInfo;
+import com.jaamsim.Graphics.PolylinePath;
+import com.jaamsim.math.Vec3d;
+
+/**
+ * Position and orientation queries along a spline curve, as made for each entity moving on a
+ * conveyor or path. The static PolylineInfo methods are compared with a PolylinePath.
+ * Each score is the time for one position and one orientation query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolylineBench {
+
+	private static final int NUM_QUERIES = 1000;
+
+	ArrayList<Vec3d> curve;
+	PolylinePath path;
+	final Vec3d pos = new Vec3d();
+	final Vec3d orient = new Vec3d();
+
+	@Setup
+	public void setup() {
+		ArrayList<Vec3d> pts = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			pts.add(new Vec3d(i, (i%2)*0.5d, 0.0d));
+		}
+		curve = PolylineInfo.getSplinePoints(pts);
+		path = new PolylinePath(curve);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_QUERIES)
+	public double staticQueries() {
+		double sum = 0.0d;
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			double frac = i/(double) NUM_QUERIES;
+			sum += PolylineInfo.getPositionOnPolyline(curve, frac).x;
+			sum += PolylineInfo.getOrientationOnPolyline(curve, frac).z;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_QUERIES)
+	public double pathQueries() {
+		double sum = 0.0d;
+		for (int i = 0; i < NUM_QUERIES; i++) {
+			double frac = i/(double) NUM_QUERIES;
+			path.getPosition(frac, pos);
+			path.getOrientation(frac, orient);
+			sum += pos.x;
+			sum += orient.z;
+		}
+		return sum;
+	}
+}
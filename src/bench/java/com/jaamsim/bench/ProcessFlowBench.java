@@ -0,0 +1,125 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.basicsim.JaamSimModel;
+
+/**
+ * Runs of small process flow models that exercise Queue, Server and ResourcePool. Each score
+ * is the time for one run of 1000 simulated seconds, which processes about 1000 entities.
+ * The 'shortRun' benchmark uses a run of 1 simulated second to measure the overhead of
+ * starting another replication on a re-used model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessFlowBench {
+
+	JaamSimModel queueModel;
+	JaamSimModel resourceModel;
+	JaamSimModel shortModel;
+	int rep;
+
+	@Setup
+	public void setup() throws Exception {
+		File queueFile = BenchUtils.writeConfig("QueueBench",
+				"Define ExponentialDistribution { Arrivals  Svc }",
+				"Define SimEntity { Proto }",
+				"Define EntityGenerator { Gen }",
+				"Define Queue { Q }",
+				"Define Server { S }",
+				"Define EntitySink { Sink }",
+				"Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }",
+				"Svc UnitType { TimeUnit } Mean { 0.9 s } RandomSeed { 2 }",
+				"Gen NextComponent { S } InterArrivalTime { Arrivals } PrototypeEntity { Proto }",
+				"S WaitQueue { Q } ServiceTime { Svc } NextComponent { Sink }",
+				"Simulation RunDuration { 1000 s }");
+		queueModel = BenchUtils.loadModel(queueFile);
+
+		File file = BenchUtils.writeConfig("ResourceBench",
+				"Define ExponentialDistribution { Arrivals  Svc }",
+				"Define SimEntity { Proto }",
+				"Define EntityGenerator { Gen }",
+				"Define Queue { Q }",
+				"Define Seize { Seize1 }",
+				"Define EntityDelay { Delay }",
+				"Define Release { Release1 }",
+				"Define EntitySink { Sink }",
+				"Define ResourcePool { Pool }",
+				"Define ResourceUnit { R1  R2  R3  R4 }",
+				"Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }",
+				"Svc UnitType { TimeUnit } Mean { 3.6 s } RandomSeed { 2 }",
+				"Gen NextComponent { Seize1 } InterArrivalTime { Arrivals } PrototypeEntity { Proto }",
+				"Seize1 NextComponent { Delay } WaitQueue { Q } ResourceList { Pool }",
+				"Delay NextComponent { Release1 } Duration { Svc }",
+				"Release1 NextComponent { Sink } ResourceList { Pool }",
+				"R1 ResourcePool { Pool }",
+				"R2 ResourcePool { Pool }",
+				"R3 ResourcePool { Pool }",
+				"R4 ResourcePool { Pool }",
+				"Simulation RunDuration { 1000 s }");
+		resourceModel = BenchUtils.loadModel(file);
+
+		shortModel = BenchUtils.loadModel(queueFile);
+		shortModel.setInput("Simulation", "RunDuration", "1 s");
+	}
+
+	@TearDown
+	public void tearDown() {
+		queueModel.close();
+		resourceModel.close();
+		shortModel.close();
+	}
+
+	private int nextRep() {
+		rep = rep % 1000 + 1;
+		return rep;
+	}
+
+	@Benchmark
+	public void queueServer() throws InterruptedException {
+		BenchUtils.runModel(queueModel, nextRep());
+	}
+
+	@Benchmark
+	public void seizeRelease() throws InterruptedException {
+		BenchUtils.runModel(resourceModel, nextRep());
+	}
+
+	@Benchmark
+	public void shortRun() throws InterruptedException {
+		BenchUtils.runModel(shortModel, nextRep());
+	}
+}
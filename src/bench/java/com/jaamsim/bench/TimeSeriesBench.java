@@ -0,0 +1,102 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.Samples.TimeSeriesCursor;
+import com.jaamsim.basicsim.JaamSimModel;
+
+/**
+ * Steps through every change in a long time series, as a TimeSeriesThreshold does. Lookups
+ * that search the series from the start are compared with lookups that use a cursor.
+ * Each score is the time for one value and one next-change lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSeriesBench {
+
+	private static final int NUM_POINTS = 100000;
+
+	JaamSimModel simModel;
+	TimeSeries ts;
+
+	@Setup
+	public void setup() {
+		StringBuilder sb = new StringBuilder();
+		Random rand = new Random(13);
+		for (int i = 0; i < NUM_POINTS; i++) {
+			sb.append(String.format("{ %d h %d } ", i, rand.nextInt(100)));
+		}
+		simModel = new JaamSimModel();
+		simModel.autoLoad();
+		simModel.defineEntity("TimeSeries", "TS");
+		simModel.setInput("TS", "UnitType", "DimensionlessUnit");
+		simModel.setInput("TS", "Value", sb.toString());
+		ts = (TimeSeries) simModel.getNamedEntity("TS");
+		ts.validate();
+	}
+
+	@TearDown
+	public void tearDown() {
+		simModel.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_POINTS)
+	public long search() {
+		long sum = 0L;
+		long ticks = 0L;
+		while (ticks != Long.MAX_VALUE) {
+			sum += (long) ts.getValueForTicks(ticks);
+			ticks = ts.getNextChangeAfterTicks(ticks);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUM_POINTS)
+	public long cursor() {
+		TimeSeriesCursor cursor = new TimeSeriesCursor();
+		long sum = 0L;
+		long ticks = 0L;
+		while (ticks != Long.MAX_VALUE) {
+			sum += (long) ts.getValueForTicks(ticks, cursor);
+			ticks = ts.getNextChangeAfterTicks(ticks, cursor);
+		}
+		return sum;
+	}
+}
@@ -109,6 +109,18 @@ public class ExpressionLogger extends Logger implements StateEntityListener, Obs
 	                     + "its value without being triggered by a WatchList object.")
 	private final BooleanProvInput verifyWatchList;
 
+	@Keyword(description = "If TRUE and the 'WatchList' input is not provided, the WatchList is "
+	                     + "inferred from the objects referenced by the 'ValueTraceList' input. "
+	                     + "A warning is issued and the inputs are tested after every event if "
+	                     + "they refer to the simulation time, a random function, or an object "
+	                     + "that does not notify its observers when its state changes.\n\n"
+	                     + "Care must be taken when the inputs use outputs such as time averages "
+	                     + "whose values change without any change in the state of the object.",
+	         exampleList = {"TRUE"})
+	private final BooleanInput autoWatchList;
+
+	private final ArrayList<SubjectEntity> inferredWatchList = new ArrayList<>();
+
 	@Keyword(description = "A logical condition that determines whether to record a log entry "
 	                     + "that is triggered by a change to one of the objects in the "
 	                     + "'WatchList'. "
@@ -153,6 +165,9 @@ public class ExpressionLogger extends Logger implements StateEntityListener, Obs
 		verifyWatchList = new BooleanProvInput("VerifyWatchList", KEY_INPUTS, false);
 		this.addInput(verifyWatchList);
 
+		autoWatchList = new BooleanInput("AutoWatchList", KEY_INPUTS, false);
+		this.addInput(autoWatchList);
+
 		watchListCondition = new ExpressionInput("WatchListCondition", KEY_INPUTS, null);
 		watchListCondition.setUnitType(DimensionlessUnit.class);
 		watchListCondition.setResultType(ExpResType.NUMBER);
@@ -181,6 +196,10 @@ public class ExpressionLogger extends Logger implements StateEntityListener, Obs
 		super.earlyInit();
 		valueUnitTypeList.reset();
 		valuePrecisionList.reset();
+
+		inferredWatchList.clear();
+		if (watchList.getValue().isEmpty() && autoWatchList.getValue())
+			inferredWatchList.addAll(ObserverEntity.getInferredWatchList(this, valueTraceList));
 	}
 
 	@Override
@@ -217,6 +236,8 @@ public class ExpressionLogger extends Logger implements StateEntityListener, Obs
 	public ArrayList<SubjectEntity> getWatchList() {
 		if (!isActive())
 			return new ArrayList<>();
+		if (watchList.getValue().isEmpty())
+			return inferredWatchList;
 		return watchList.getValue();
 	}
 
@@ -31,6 +31,7 @@ import com.jaamsim.basicsim.ObserverEntity;
 import com.jaamsim.basicsim.SubjectEntity;
 import com.jaamsim.events.Conditional;
 import com.jaamsim.events.EventManager;
+import com.jaamsim.input.BooleanInput;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputCallback;
 import com.jaamsim.input.InterfaceEntityListInput;
@@ -90,6 +91,18 @@ public class ExpressionStatistics extends DisplayEntity implements ObserverEntit
 	                     + "its value without being triggered by a 'WatchList' object.")
 	private final BooleanProvInput verifyWatchList;
 
+	@Keyword(description = "If TRUE and the 'WatchList' input is not provided, the WatchList is "
+	                     + "inferred from the objects referenced by the 'DataSource' input. "
+	                     + "A warning is issued and the inputs are tested after every event if "
+	                     + "they refer to the simulation time, a random function, or an object "
+	                     + "that does not notify its observers when its state changes.\n\n"
+	                     + "Care must be taken when the inputs use outputs such as time averages "
+	                     + "whose values change without any change in the state of the object.",
+	         exampleList = {"TRUE"})
+	private final BooleanInput autoWatchList;
+
+	private final ArrayList<SubjectEntity> inferredWatchList = new ArrayList<>();
+
 	private double lastValue;
 	private final TimeBasedStatistics timeStats = new TimeBasedStatistics();
 	private final TimeBasedFrequency freq = new TimeBasedFrequency(0, 10);
@@ -121,6 +134,9 @@ public class ExpressionStatistics extends DisplayEntity implements ObserverEntit
 
 		verifyWatchList = new BooleanProvInput("VerifyWatchList", KEY_INPUTS, false);
 		this.addInput(verifyWatchList);
+
+		autoWatchList = new BooleanInput("AutoWatchList", KEY_INPUTS, false);
+		this.addInput(autoWatchList);
 	}
 
 	static final InputCallback inputCallback = new InputCallback() {
@@ -142,6 +158,16 @@ public class ExpressionStatistics extends DisplayEntity implements ObserverEntit
 		super.earlyInit();
 		timeStats.clear();
 		freq.clear();
+
+		inferredWatchList.clear();
+		if (watchList.getValue().isEmpty() && autoWatchList.getValue())
+			inferredWatchList.addAll(ObserverEntity.getInferredWatchList(this, dataSource));
+	}
+
+	@Override
+	public void lateInit() {
+		super.lateInit();
+		ObserverEntity.registerWithSubjects(this, getWatchList());
 	}
 
 	@Override
@@ -176,6 +202,8 @@ public class ExpressionStatistics extends DisplayEntity implements ObserverEntit
 
 	@Override
 	public ArrayList<SubjectEntity> getWatchList() {
+		if (watchList.getValue().isEmpty())
+			return inferredWatchList;
 		return watchList.getValue();
 	}
 
@@ -55,6 +55,7 @@ public class Controller extends DisplayEntity implements SubjectEntity {
 	private final SampleInput maxUpdates;
 
 	private final ArrayList<Controllable> entityList;  // Entities controlled by this Controller.
+	private Controllable[] updateList;  // Entities in the sequence in which they are updated
 	private int count;  // Number of update cycle completed.
 
 	private final ProcessTarget doUpdate = new DoUpdateTarget(this);
@@ -82,6 +83,7 @@ public class Controller extends DisplayEntity implements SubjectEntity {
 
 	public Controller() {
 		entityList = new ArrayList<>();
+		updateList = new Controllable[0];
 	}
 
 	private static final EntitySequenceSort sequenceSort = new EntitySequenceSort();
@@ -99,7 +101,7 @@ public class Controller extends DisplayEntity implements SubjectEntity {
 
 		// Prepare a list of the calculation entities managed by this controller
 		entityList.clear();
-		for (Entity ent : getJaamSimModel().getClonesOfIterator(Entity.class, Controllable.class)) {
+		for (Entity ent : getJaamSimModel().getClonesOfList(Entity.class, Controllable.class)) {
 			Controllable con = (Controllable) ent;
 			if (con.getController() == this)
 				entityList.add(con);
@@ -107,6 +109,7 @@ public class Controller extends DisplayEntity implements SubjectEntity {
 
 		// Sort the calculation entities into the correct sequence
 		Collections.sort(entityList, sequenceSort);
+		updateList = entityList.toArray(new Controllable[entityList.size()]);
 
 		// Clear the list of observers
 		subject.clear();
@@ -151,8 +154,8 @@ public class Controller extends DisplayEntity implements SubjectEntity {
 
 		// Update the last value for each entity
 		double simTime = EventManager.simSeconds();
-		for (Controllable ent : entityList) {
-			ent.update(simTime);
+		for (int i = 0; i < updateList.length; i++) {
+			updateList[i].update(simTime);
 		}
 
 		// Notify any observers
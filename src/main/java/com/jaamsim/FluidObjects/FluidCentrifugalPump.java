@@ -18,7 +18,6 @@ package com.jaamsim.FluidObjects;
 
 import com.jaamsim.CalculationObjects.DoubleCalculation;
 import com.jaamsim.Samples.SampleInput;
-import com.jaamsim.events.EventManager;
 import com.jaamsim.input.EntityInput;
 import com.jaamsim.input.Keyword;
 import com.jaamsim.units.PressureUnit;
@@ -73,8 +72,7 @@ public class FluidCentrifugalPump extends FluidComponent {
 	 * Return the outlet pressure for the given inlet pressure and flow acceleration.
 	 */
 	@Override
-	public double calcOutletPressure( double inletPres, double flowAccel ) {
-		double simTime = EventManager.simSeconds();
+	public double calcOutletPressure( double simTime, double inletPres, double flowAccel ) {
 		double speedFactor = speedControllerInput.getValue().getLastValue();
 		speedFactor = Math.max(speedFactor, 0.0);
 		speedFactor = Math.min(speedFactor, 1.0);
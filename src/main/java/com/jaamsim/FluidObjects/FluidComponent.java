@@ -96,21 +96,21 @@ public class FluidComponent extends DisplayEntity {
 		}
 	}
 
-	public void updateBaseOutletPressure() {
-		baseOutletPressure = this.calcOutletPressure( baseInletPressure, 0.0 );
+	public void updateBaseOutletPressure(double simTime) {
+		baseOutletPressure = this.calcOutletPressure( simTime, baseInletPressure, 0.0 );
 	}
 
 	/*
 	 * Update the outlet pressure after allowing for acceleration
 	 */
-	public void updateOutletPressure( double flowAccel ) {
-		outletPressure = this.calcOutletPressure( inletPressure, flowAccel );
+	public void updateOutletPressure( double simTime, double flowAccel ) {
+		outletPressure = this.calcOutletPressure( simTime, inletPressure, flowAccel );
 	}
 
 	/*
 	 * Return the outlet pressure for the given inlet pressure and flow acceleration.
 	 */
-	public double calcOutletPressure( double inletPres, double flowAccel ) {
+	public double calcOutletPressure( double simTime, double inletPres, double flowAccel ) {
 		return inletPres;
 	}
 
@@ -177,7 +177,7 @@ public class FluidComponent extends DisplayEntity {
 		return velocity;
 	}
 
-	public double getTargetInletPressure() {
+	public double getTargetInletPressure(double simTime) {
 		return 0.0;
 	}
 
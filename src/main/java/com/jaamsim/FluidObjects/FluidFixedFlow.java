@@ -23,7 +23,6 @@ import com.jaamsim.Graphics.FillEntity;
 import com.jaamsim.Graphics.LineEntity;
 import com.jaamsim.Graphics.PolylineEntity;
 import com.jaamsim.Samples.SampleInput;
-import com.jaamsim.events.EventManager;
 import com.jaamsim.input.ColourInput;
 import com.jaamsim.input.Keyword;
 import com.jaamsim.math.Color4d;
@@ -86,10 +85,10 @@ public class FluidFixedFlow extends FluidFlowCalculation implements LineEntity,
 	}
 
 	@Override
-	protected void calcFlowRate(FluidComponent source, FluidComponent destination, double dt) {
+	protected void calcFlowRate(FluidComponent source, FluidComponent destination, double simTime, double dt) {
 
 		// Update the flow rate
-		this.setFlowRate( flowRateInput.getNextSample(this, EventManager.simSeconds()) );
+		this.setFlowRate( flowRateInput.getNextSample(this, simTime) );
 	}
 
 	@Override
@@ -19,9 +19,12 @@ package com.jaamsim.FluidObjects;
 
 import java.util.ArrayList;
 
-import com.jaamsim.events.EventManager;
 import com.jaamsim.input.InputErrorException;
+import com.jaamsim.input.Keyword;
 import com.jaamsim.input.Output;
+import com.jaamsim.input.ValueInput;
+import com.jaamsim.units.DimensionlessUnit;
+import com.jaamsim.units.VolumeUnit;
 
 /**
  * FluidFlow tracks the flow rate between a source and a destination.
@@ -30,6 +33,16 @@ import com.jaamsim.input.Output;
  */
 public class FluidFlow extends FluidFlowCalculation {
 
+	@Keyword(description = "The maximum error in the volume of fluid moved by each integration "
+	                     + "step. If a value is entered, the flow is integrated between the "
+	                     + "updates from the Controller using steps whose size is adjusted to "
+	                     + "achieve this accuracy, and a step ends exactly when the source or "
+	                     + "destination tank becomes empty. This allows a much longer Interval "
+	                     + "to be used for the Controller. "
+	                     + "If zero, a single step is taken between updates.",
+	         exampleList = {"0.001 m3"})
+	private final ValueInput maxVolumeError;
+
 	private double flowAcceleration;  // The rate of change of the volumetric flow rate with respect to time (m3/s2).
 
 	private ArrayList<FluidComponent> routeList;  // A list of the hydraulic components in the flow, from source to destination.
@@ -37,9 +50,19 @@ public class FluidFlow extends FluidFlowCalculation {
 	private double destinationBaseInletPressure;  // The base pressure at the destination's inlet.
 	private double destinationTargetInletPressure;  // The desired inlet pressure at the destination's inlet.
 
+	private double stepSize;  // The size of the last integration step (s).
+	private long numberOfSteps;  // The number of integration steps performed.
+
+	private static final double MIN_STEP_FRACTION = 1.0e-6;  // Smallest step as a fraction of the update interval
+
 	{
 		sourceInput.setRequired(true);
 		destinationInput.setRequired(true);
+
+		maxVolumeError = new ValueInput("MaxVolumeError", KEY_INPUTS, 0.0d);
+		maxVolumeError.setValidRange(0.0d, Double.POSITIVE_INFINITY);
+		maxVolumeError.setUnitType(VolumeUnit.class);
+		this.addInput(maxVolumeError);
 	}
 
 	public FluidFlow() {
@@ -51,6 +74,8 @@ public class FluidFlow extends FluidFlowCalculation {
 		super.earlyInit();
 
 		flowAcceleration = 0.0;
+		stepSize = Double.POSITIVE_INFINITY;
+		numberOfSteps = 0L;
 
 		// Construct the list of hydraulic components in the flow path
 		routeList.clear();
@@ -81,8 +106,83 @@ public class FluidFlow extends FluidFlowCalculation {
 	}
 
 	@Override
-	protected void calcFlowRate( FluidComponent source, FluidComponent destination, double dt ) {
-		double simTime = EventManager.simSeconds();
+	protected void advance(double simTime, double dt) {
+		double tol = maxVolumeError.getValue();
+		if (tol <= 0.0d || dt <= 0.0d) {
+			super.advance(simTime, dt);
+			numberOfSteps++;
+			return;
+		}
+
+		// Integrate over the interval using steps that meet the error tolerance
+		FluidComponent source = this.getSource();
+		FluidComponent destination = this.getDestination();
+		double startTime = simTime - dt;
+		double minStep = dt * MIN_STEP_FRACTION;
+		double t = 0.0d;
+		double h = Math.min(stepSize, dt);
+		while (t < dt) {
+			h = Math.min(h, dt - t);
+
+			// End the step when the source or destination tank becomes empty
+			double rate = this.getFlowRate();
+			if (rate > 0.0d && source.getFluidVolume() > 0.0d)
+				h = Math.min(h, source.getFluidVolume() / rate);
+			else if (rate < 0.0d && destination.getFluidVolume() > 0.0d)
+				h = Math.min(h, destination.getFluidVolume() / -rate);
+			h = Math.max(h, Math.min(minStep, dt - t));
+
+			// Estimate the error by comparing a full step with two half steps
+			double accel = flowAcceleration;
+			double sourceVol = source.getFluidVolume();
+			double destVol = destination.getFluidVolume();
+			super.advance(startTime + t + h, h);
+			double fullRate = this.getFlowRate();
+			double fullVol = destination.getFluidVolume();
+			restoreState(rate, accel, sourceVol, destVol);
+			super.advance(startTime + t + 0.5d*h, 0.5d*h);
+			super.advance(startTime + t + h, 0.5d*h);
+			double err = Math.max(Math.abs(destination.getFluidVolume() - fullVol),
+					Math.abs(this.getFlowRate() - fullRate) * h);
+
+			// Repeat the step with a smaller size if the error is too large
+			if (err > tol && h > minStep) {
+				restoreState(rate, accel, sourceVol, destVol);
+				h = Math.max(minStep, h * Math.max(0.2d, 0.9d*Math.sqrt(tol/err)));
+				continue;
+			}
+
+			// Improve the result by extrapolating from the full step and the two half steps
+			double dRate = this.getFlowRate() - fullRate;
+			double dDest = destination.getFluidVolume() - fullVol;
+			double dSource = -dDest;
+			if (source.getFluidVolume() + dSource >= 0.0d && destination.getFluidVolume() + dDest >= 0.0d) {
+				this.setFlowRate(this.getFlowRate() + dRate);
+				source.addVolume(dSource);
+				destination.addVolume(dDest);
+				super.advance(startTime + t + h, 0.0d);
+			}
+
+			t += h;
+			numberOfSteps++;
+			stepSize = h * Math.min(2.0d, 0.9d*Math.sqrt(tol/Math.max(err, 1.0e-6d*tol)));
+			h = stepSize;
+		}
+	}
+
+	/**
+	 * Resets the flow rate, flow acceleration, and source and destination volumes to the
+	 * specified values.
+	 */
+	private void restoreState(double rate, double accel, double sourceVol, double destVol) {
+		this.setFlowRate(rate);
+		flowAcceleration = accel;
+		this.getSource().addVolume(sourceVol - this.getSource().getFluidVolume());
+		this.getDestination().addVolume(destVol - this.getDestination().getFluidVolume());
+	}
+
+	@Override
+	protected void calcFlowRate( FluidComponent source, FluidComponent destination, double simTime, double dt ) {
 
 		// Update the flow rate
 		this.setFlowRate( this.getFlowRate() + flowAcceleration * dt );
@@ -92,24 +192,24 @@ public class FluidFlow extends FluidFlowCalculation {
 		for( FluidComponent each : routeList ) {
 			each.updateVelocity();
 			each.updateBaseInletPressure(simTime);
-			each.updateBaseOutletPressure();
+			each.updateBaseOutletPressure(simTime);
 		}
 
 		// Update the flow acceleration
 		destinationBaseInletPressure = destination.getBaseInletPressure();
-		destinationTargetInletPressure = destination.getTargetInletPressure();
+		destinationTargetInletPressure = destination.getTargetInletPressure(simTime);
 		flowAcceleration = ( destinationBaseInletPressure
 				- destinationTargetInletPressure ) / totalFlowInertia;
 
 		// Update the pressure in each component of the flow route after allowing for acceleration
 		for( FluidComponent each : routeList ) {
 			each.updateInletPressure(simTime);
-			each.updateOutletPressure( flowAcceleration );
+			each.updateOutletPressure( simTime, flowAcceleration );
 		}
 
 		// Confirm that the pressure is now balanced
 		double diff = destination.getInletPressure() /
-				destination.getTargetInletPressure() - 1.0;
+				destination.getTargetInletPressure(simTime) - 1.0;
 		if( Math.abs( diff ) > 1.0e-4 ) {
 			error("Pressure did not balance correctly.  Difference = %f", diff);
 		}
@@ -121,6 +221,13 @@ public class FluidFlow extends FluidFlowCalculation {
 		return flowAcceleration;
 	}
 
+	@Output(name = "NumberOfSteps",
+	 description = "The number of integration steps that have been performed.",
+	    unitType = DimensionlessUnit.class)
+	public long getNumberOfSteps( double simTime ) {
+		return numberOfSteps;
+	}
+
 	@Output(name = "FlowInertia",
 	 description = "The sum of (density)(length)/(flow area) for the hydraulic components in the route.")
 	public double getFlowInertia( double simTime ) {
@@ -67,6 +67,16 @@ public abstract class FluidFlowCalculation extends CalculationEntity {
 
 		double dt = simTime - lastUpdateTime;
 		lastUpdateTime = simTime;
+		this.advance(simTime, dt);
+	}
+
+	/**
+	 * Moves fluid between the source and destination at the present flow rate for the
+	 * specified length of time, and then calculates the new flow rate.
+	 * @param simTime - simulation time at the end of the step (s)
+	 * @param dt - elapsed time (s)
+	 */
+	protected void advance(double simTime, double dt) {
 
 		// Update the volume stored at the source and destination
 		FluidComponent source = sourceInput.getValue();
@@ -82,10 +92,10 @@ public abstract class FluidFlowCalculation extends CalculationEntity {
 		if( destination != null ) { destination.addVolume( dV ); }
 
 		// Set the new flow rate
-		this.calcFlowRate( source, destination, dt);
+		this.calcFlowRate( source, destination, simTime, dt);
 	}
 
-	protected abstract void calcFlowRate( FluidComponent source, FluidComponent destination, double dt );
+	protected abstract void calcFlowRate( FluidComponent source, FluidComponent destination, double simTime, double dt );
 
 	protected void setFlowRate( double rate) {
 		flowRate = rate;
@@ -20,7 +20,6 @@ package com.jaamsim.FluidObjects;
 import com.jaamsim.DisplayModels.ShapeModel;
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.basicsim.Entity;
-import com.jaamsim.events.EventManager;
 import com.jaamsim.input.ColourInput;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputCallback;
@@ -101,21 +100,20 @@ public class FluidTank extends FluidComponent {
 	}
 
 	@Override
-	public double calcOutletPressure( double inletPres, double flowAccel ) {
-		return this.getFluidPressure(0.0);
+	public double calcOutletPressure( double simTime, double inletPres, double flowAccel ) {
+		return this.getFluidPressure(simTime, 0.0);
 	}
 
 	@Override
-	public double getTargetInletPressure() {
-		double h = inletHeightInput.getNextSample(this, EventManager.simSeconds());
-		return getFluidPressure(h);
+	public double getTargetInletPressure(double simTime) {
+		double h = inletHeightInput.getNextSample(this, simTime);
+		return getFluidPressure(simTime, h);
 	}
 
 	/*
 	 * Return the pressure in the tank at the given height above the outlet.
 	 */
-	private double getFluidPressure( double h ) {
-		double simTime = EventManager.simSeconds();
+	private double getFluidPressure( double simTime, double h ) {
 		double pres = ambientPressureInput.getNextSample(this, simTime);
 		if( h < fluidLevel ) {
 			pres += (fluidLevel - h) * getFluid().getDensityxGravity(simTime);
@@ -34,6 +34,7 @@ import com.jaamsim.DisplayModels.TextModel;
 import com.jaamsim.SubModels.CompoundEntity;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
+import com.jaamsim.basicsim.FrameSnapshot;
 import com.jaamsim.basicsim.GUIListener;
 import com.jaamsim.basicsim.ObjectType;
 import com.jaamsim.basicsim.ObserverEntity;
@@ -153,6 +154,8 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	private ArrayList<DisplayModelBinding> modelBindings;
 	private VisibilityInfo visInfo = null;
 
+	private FrameState[] frameStates;  // graphics state recorded for each FrameSnapshot buffer
+
 	private final HashMap<String, Tag> tagMap = new HashMap<>();
 
 	private static final ArrayList<Vec3d> defPoints =  new ArrayList<>();
@@ -623,6 +626,9 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	}
 
 	public Region getCurrentRegion() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return fs.region;
 		synchronized (position) {
 			if (currentRegion == null && getParent() instanceof DisplayEntity)
 				return ((DisplayEntity) getParent()).getCurrentRegion();
@@ -631,54 +637,91 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	}
 
 	public void setRegion(Region newRegion) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.region = newRegion;
+			return;
+		}
 		synchronized (position) {
 			currentRegion = newRegion;
 		}
 	}
 
 	public Vec3d getPosition() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return new Vec3d(fs.position);
 		synchronized (position) {
 			return new Vec3d(position);
 		}
 	}
 
 	public void setPosition(Vec3d pos) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.position.set3(pos);
+			return;
+		}
 		synchronized (position) {
 			position.set3(pos);
 		}
 	}
 
 	public Vec3d getSize() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return new Vec3d(fs.size);
 		synchronized (position) {
 			return new Vec3d(size);
 		}
 	}
 
 	public void setSize(Vec3d size) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.size.set3(size);
+			return;
+		}
 		synchronized (position) {
 			this.size.set3(size);
 		}
 	}
 
 	public Vec3d getOrientation() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return new Vec3d(fs.orient);
 		synchronized (position) {
 			return new Vec3d(orient);
 		}
 	}
 
 	public void setOrientation(Vec3d orientation) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.orient.set3(orientation);
+			return;
+		}
 		synchronized (position) {
 			orient.set3(orientation);
 		}
 	}
 
 	public Vec3d getAlignment() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return new Vec3d(fs.align);
 		synchronized (position) {
 			return new Vec3d(align);
 		}
 	}
 
 	public void setAlignment(Vec3d align) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.align.set3(align);
+			return;
+		}
 		synchronized (position) {
 			this.align.set3(align);
 		}
@@ -693,6 +736,9 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	}
 
 	public boolean getShow(double simTime) {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return fs.visible && fs.show;
 		if (isPooled())
 			return false;
 		boolean ret;
@@ -720,6 +766,11 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	}
 
 	public void setShow(boolean bool) {
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			fs.show = bool;
+			return;
+		}
 		synchronized (position) {
 			show = bool;
 		}
@@ -812,6 +863,14 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	 */
 	public Vec3d getPositionForAlignment(Vec3d pos) {
 		Vec3d temp = new Vec3d(pos);
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			temp.sub3(fs.align);
+			temp.mul3(fs.size);
+			calculateEulerRotation(temp, fs.orient);
+			temp.add3(fs.position);
+			return temp;
+		}
 		synchronized (position) {
 			temp.sub3(align);
 			temp.mul3(size);
@@ -846,6 +905,15 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	public void setPositionForAlignment(Vec3d pos, Vec3d algn) {
 		Vec3d newPos = new Vec3d(pos);
 		Vec3d temp = new Vec3d(algn);
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			temp.sub3(fs.align);
+			temp.mul3(fs.size);
+			calculateEulerRotation(temp, fs.orient);
+			newPos.sub3(temp);
+			fs.position.set3(newPos);
+			return;
+		}
 		synchronized (position) {
 			temp.sub3(align);
 			temp.mul3(size);
@@ -863,6 +931,15 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	 */
 	public Vec3d getGlobalPositionForPosition(Vec3d pos) {
 		Vec3d temp = new Vec3d(pos);
+		FrameState fs = getFrameState();
+		if (fs != null) {
+			Vec3d scaledAlign = new Vec3d(fs.align);
+			scaledAlign.mul3(fs.size);
+			temp.sub3(scaledAlign);
+			calculateEulerRotation(temp, fs.orient);
+			temp.add3(fs.position);
+			return getGlobalPosition(temp);
+		}
 		synchronized (position) {
 			Vec3d scaledAlign = new Vec3d(align);
 			scaledAlign.mul3(size);
@@ -886,6 +963,9 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	 * @return global coordinates for the point.
 	 */
 	public Transform getGlobalTrans() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return getGlobalTransForSize(fs.size);
 		return getGlobalTransForSize(size);
 	}
 
@@ -901,15 +981,17 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 		// As size is a non-uniform scale it can not be represented by the jaamsim TRS Transform and therefore
 		// not actually included in this result, except to adjust the alignment
 
+		FrameState fs = getFrameState();
+
 		// Alignment transformations
 		Vec3d temp = new Vec3d(sizeIn);
-		temp.mul3(align);
+		temp.mul3(fs != null ? fs.align : align);
 		temp.scale3(-1.0d);
 		Transform alignTrans = new Transform(temp);
 
 		// Orientation transformation
 		Quaternion rot = new Quaternion();
-		rot.setEuler3(orient);
+		rot.setEuler3(fs != null ? fs.orient : orient);
 		Transform ret = new Transform(null, rot, 1);
 
 		// Combine the alignment and orientation transformations
@@ -958,7 +1040,8 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	 * Returns the inverse global transform with scale factor all rolled into a Matrix4d
 	 */
 	public Mat4d getInvTransMatrix() {
-		return RenderUtils.getInverseWithScale(getGlobalTrans(), size);
+		FrameState fs = getFrameState();
+		return RenderUtils.getInverseWithScale(getGlobalTrans(), fs != null ? fs.size : size);
 	}
 
 	/**
@@ -1126,6 +1209,9 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	}
 
 	public ArrayList<DisplayModelBinding> getDisplayBindings() {
+		FrameState fs = getFrameState();
+		if (fs != null)
+			return fs.bindings;
 		if (modelBindings == null) {
 			// Populate the model binding list
 			if (getDisplayModelList() == null) {
@@ -1141,6 +1227,79 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 		return modelBindings;
 	}
 
+	/**
+	 * Graphics state for the entity at the time a frame was published by FrameSnapshot.
+	 */
+	private static class FrameState {
+		long sequence = -1L;
+		final Vec3d position = new Vec3d();
+		final Vec3d size = new Vec3d();
+		final Vec3d orient = new Vec3d();
+		final Vec3d align = new Vec3d();
+		boolean visible;
+		boolean show;
+		Region region;
+		ArrayList<DisplayModelBinding> bindings;
+	}
+
+	/**
+	 * Records the present graphics state in the specified buffer of the model's FrameSnapshot.
+	 * Called by the event thread when a frame is published. The state is copied as it stands;
+	 * the entity's graphics are updated later by the renderer, whose changes to the position,
+	 * size, orientation, alignment, region, and show flag are then written to this buffer
+	 * instead of to the entity.
+	 * An entity that cannot be seen in any of the open views is recorded as not shown, without
+	 * evaluating its Show input or copying its display model bindings.
+	 * @param buf - index of the buffer
+	 * @param seq - sequence number for the frame
+	 * @param simTime - present simulation time
+	 * @param visible - false if the entity cannot be seen in any of the open views
+	 */
+	public final void captureFrameState(int buf, long seq, double simTime, boolean visible) {
+		if (frameStates == null)
+			frameStates = new FrameState[] { new FrameState(), new FrameState() };
+		FrameState fs = frameStates[buf];
+		synchronized (position) {
+			fs.position.set3(position);
+			fs.size.set3(size);
+			fs.orient.set3(orient);
+			fs.align.set3(align);
+		}
+		fs.region = getCurrentRegion();
+		fs.visible = visible;
+		if (!visible) {
+			fs.show = false;
+			fs.sequence = seq;
+			return;
+		}
+		fs.show = getShow(simTime);
+		ArrayList<DisplayModelBinding> bindings = getDisplayBindings();
+		if (fs.bindings == null)
+			fs.bindings = new ArrayList<>(bindings.size());
+		fs.bindings.clear();
+		fs.bindings.addAll(bindings);
+		fs.sequence = seq;
+	}
+
+
+	/**
+	 * Returns the graphics state to be read and written by the calling thread, or null if the
+	 * live state is to be used. A recorded state is returned only to the thread that is
+	 * collecting the graphics for a frame, and only if the entity was recorded in that frame.
+	 */
+	private FrameState getFrameState() {
+		FrameState[] states = frameStates;
+		if (states == null)
+			return null;
+		FrameSnapshot snapshot = getJaamSimModel().getFrameSnapshot();
+		if (snapshot == null)
+			return null;
+		int buf = snapshot.getDisplayBuffer();
+		if (buf < 0 || states[buf].sequence != snapshot.getSequence(buf))
+			return null;
+		return states[buf];
+	}
+
 	public VisibilityInfo getVisibilityInfo() {
 		return visInfo;
 	}
@@ -1280,11 +1439,13 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	private final Object screenPointLock = new Object();
 	private PolylineInfo[] cachedPointInfo;
 	private ArrayList<Vec3d> cachedCurvePoints;
+	private PolylinePath cachedCurvePath;
 
 	protected final void invalidateScreenPoints() {
 		synchronized(screenPointLock) {
 			cachedPointInfo = null;
 			cachedCurvePoints = null;
+			cachedCurvePath = null;
 		}
 	}
 
@@ -1316,6 +1477,19 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 		}
 	}
 
+	/**
+	 * Returns the arc-length parameterisation for the curve points. The path is rebuilt only
+	 * when the points or the curve type are changed.
+	 * @return path along the curve points
+	 */
+	public PolylinePath getCurvePath() {
+		synchronized(screenPointLock) {
+			if (cachedCurvePath == null)
+				cachedCurvePath = new PolylinePath(getCurvePoints());
+			return cachedCurvePath;
+		}
+	}
+
 	private ArrayList<Vec3d> buildCurvePoints() {
 		ArrayList<Vec3d> ret = null;
 		switch (this.getCurveType()) {
@@ -1675,7 +1849,7 @@ public class DisplayEntity extends Entity implements DragAndDropable {
 	    sequence = 7)
 	public double getGraphicalLength(double simTime) {
 		if (usePointsInput()) {
-			return PolylineInfo.getLength(getCurvePoints());
+			return getCurvePath().getLength();
 		}
 		Vec3d vec = getSize();
 		return Math.max(Math.max(vec.x, vec.y), vec.z);
@@ -493,9 +493,11 @@ public class PolylineInfo {
 	 */
 	public static double[] getCumulativeLengths(ArrayList<Vec3d> pts) {
 		double[] cumLengthList = new double[pts.size()];
+		if (pts.isEmpty())
+			return cumLengthList;
 		cumLengthList[0] = 0.0;
+		Vec3d vec = new Vec3d();
 		for (int i = 1; i < pts.size(); i++) {
-			Vec3d vec = new Vec3d();
 			vec.sub3(pts.get(i), pts.get(i-1));
 			cumLengthList[i] = cumLengthList[i-1] + vec.mag3();
 		}
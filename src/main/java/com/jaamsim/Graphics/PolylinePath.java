@@ -0,0 +1,146 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.Graphics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.jaamsim.math.Vec3d;
+
+/**
+ * Immutable arc-length parameterisation of a polyline.
+ * <p>
+ * The cumulative lengths of the nodes are calculated once when the path is constructed so that
+ * the position and orientation at a fractional distance along the path can be found by binary
+ * search without recalculating the lengths or allocating any objects. Bezier, spline, and
+ * circular arc curves are represented by the points returned by the corresponding methods in
+ * PolylineInfo, so that the table of cumulative lengths is a sampled arc-length table for the
+ * curve.
+ */
+public class PolylinePath {
+
+	private final Vec3d[] pts;
+	private final double[] cumLengths;
+
+	public PolylinePath(ArrayList<Vec3d> points) {
+		pts = new Vec3d[points.size()];
+		for (int i = 0; i < pts.length; i++) {
+			pts[i] = new Vec3d(points.get(i));
+		}
+		cumLengths = PolylineInfo.getCumulativeLengths(points);
+	}
+
+	/**
+	 * Returns the number of nodes in the path.
+	 * @return number of nodes
+	 */
+	public int getNumPoints() {
+		return pts.length;
+	}
+
+	/**
+	 * Returns the total graphical length of the path.
+	 * @return total length
+	 */
+	public double getLength() {
+		if (pts.length == 0)
+			return 0.0d;
+		return cumLengths[cumLengths.length - 1];
+	}
+
+	/**
+	 * Sets the specified vector to the local coordinates for a fractional distance along the
+	 * path. The result is identical to PolylineInfo.getPositionOnPolyline.
+	 * @param frac - fraction of the total graphical length of the path
+	 * @param out - vector to receive the local coordinates
+	 */
+	public void getPosition(double frac, Vec3d out) {
+
+		if (pts.length == 0) {
+			out.set3(0.0d, 0.0d, 0.0d);
+			return;
+		}
+
+		// Find the insertion point by binary search
+		double dist = frac * cumLengths[cumLengths.length - 1];
+		int k = Arrays.binarySearch(cumLengths, dist);
+
+		// Exact match
+		if (k >= 0) {
+			out.set3(pts[k]);
+			return;
+		}
+
+		// Error condition
+		if (k == -1) {
+			out.set3(0.0d, 0.0d, 0.0d);
+			return;
+		}
+
+		// Insertion index = -k-1
+		int index = -k - 1;
+
+		// Interpolate the final position between the two points
+		if (index == cumLengths.length) {
+			out.set3(pts[index - 1]);
+			return;
+		}
+		double fracInSegment = (dist - cumLengths[index - 1]) /
+				(cumLengths[index] - cumLengths[index - 1]);
+		out.interpolate3(pts[index - 1], pts[index], fracInSegment);
+	}
+
+	/**
+	 * Sets the specified vector to the Euler angles for the direction of the path at a
+	 * fractional distance along it. The result is identical to
+	 * PolylineInfo.getOrientationOnPolyline.
+	 * @param frac - fraction of the total graphical length of the path
+	 * @param out - vector to receive the Euler angles
+	 */
+	public void getOrientation(double frac, Vec3d out) {
+
+		if (pts.length == 0) {
+			out.set3(0.0d, 0.0d, 0.0d);
+			return;
+		}
+
+		// Find the insertion point by binary search
+		double dist = frac * cumLengths[cumLengths.length - 1];
+		int k = Arrays.binarySearch(cumLengths, dist);
+
+		// Error condition
+		if (k == -1) {
+			out.set3(0.0d, 0.0d, 0.0d);
+			return;
+		}
+
+		// Insertion index
+		int index = k;
+		if (k < 0)
+			index = -k - 1;
+		index = Math.max(index, 1);
+		index = Math.min(index, pts.length - 1);
+
+		// Calculate the direction vector
+		out.sub3(pts[index], pts[index - 1]);
+		out.normalize3();
+
+		// Set the Euler angles
+		out.set3(0.0d, Math.asin(-out.z), Math.atan2(out.y, out.x));
+	}
+
+}
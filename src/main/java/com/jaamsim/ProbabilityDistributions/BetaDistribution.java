@@ -32,7 +32,7 @@ public class BetaDistribution extends Distribution {
 	         exampleList = {"5.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput betaInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
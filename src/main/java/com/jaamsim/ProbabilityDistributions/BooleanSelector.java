@@ -78,6 +78,7 @@ public class BooleanSelector extends DisplayEntity implements RandomStreamUser {
 	public void earlyInit() {
 		super.earlyInit();
 		rng.setSeedStream(getStreamNumber(), getSimulation().getSubstreamNumber());
+		rng.setAntithetic(getSimulation().isAntitheticReplication());
 		lastValue = false;
 	}
 
@@ -91,6 +92,11 @@ public class BooleanSelector extends DisplayEntity implements RandomStreamUser {
 		return randomSeedInput.getKeyword();
 	}
 
+	@Override
+	public MRG1999a[] getRandomGenerators() {
+		return new MRG1999a[] { rng };
+	}
+
 	public boolean getNextValue() {
 		double samp = rng.nextUniform();
 		double prob = trueProbInput.getNextSample(this, 0);
@@ -45,7 +45,10 @@ public class ContinuousDistribution extends Distribution {
 	         exampleList = {"0.0  0.6  1.0"})
 	private final CumulativeProbInput cumulativeProbabilityListInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
+	private double[] valueList;
+	private double[] cumProbList;
+	private GuideTable guideTable;  // used for large tables in place of a binary search
 
 	{
 		valueListInput = new ValueListInput("ValueList", KEY_INPUTS, null);
@@ -75,6 +78,13 @@ public class ContinuousDistribution extends Distribution {
 	public void earlyInit() {
 		super.earlyInit();
 		rng.setSeedStream(getStreamNumber(), getSubstreamNumber());
+
+		// Store the values and cumulative probabilities for sampling
+		valueList = valueListInput.getValue().toArray();
+		cumProbList = cumulativeProbabilityListInput.getValue().toArray();
+		guideTable = null;
+		if (cumProbList.length >= GuideTable.MIN_SIZE)
+			guideTable = new GuideTable(cumProbList);
 	}
 
 	@Override
@@ -86,9 +96,26 @@ public class ContinuousDistribution extends Distribution {
 
 	@Override
 	protected double getSample(double simTime) {
-		double[] values = valueListInput.getValue().toArray();
-		double[] cumProbs = cumulativeProbabilityListInput.getValue().toArray();
-		return getSample(values, cumProbs, rng);
+		return getValue(rng.nextUniform());
+	}
+
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			out[i] = getValue(out[i]);
+		}
+	}
+
+	private double getValue(double rand) {
+		if (guideTable == null)
+			return getValue(valueList, cumProbList, rand);
+		return getValue(valueList, cumProbList, guideTable.getIndex(rand), rand);
 	}
 
 	@Override
@@ -124,7 +151,17 @@ public class ContinuousDistribution extends Distribution {
 	}
 
 	public static double getSample(double[] values, double[] cumProbs, MRG1999a rng) {
-		double rand = rng.nextUniform();
+		return getValue(values, cumProbs, rng.nextUniform());
+	}
+
+	/**
+	 * Returns the value corresponding to the specified cumulative probability.
+	 * @param values - values for the distribution
+	 * @param cumProbs - cumulative probabilities for the values
+	 * @param rand - cumulative probability to be converted
+	 * @return value for the cumulative probability
+	 */
+	public static double getValue(double[] values, double[] cumProbs, double rand) {
 		int k = Arrays.binarySearch(cumProbs, rand);
 		if (k > 0)
 			return values[k];
@@ -137,6 +174,26 @@ public class ContinuousDistribution extends Distribution {
 		return ret;
 	}
 
+	/**
+	 * Returns the value corresponding to the specified cumulative probability, given the index of
+	 * the first cumulative probability that is greater than or equal to it.
+	 * @param values - values for the distribution
+	 * @param cumProbs - cumulative probabilities for the values
+	 * @param i - index of the first cumulative probability >= rand
+	 * @param rand - cumulative probability to be converted
+	 * @return value for the cumulative probability
+	 */
+	public static double getValue(double[] values, double[] cumProbs, int i, double rand) {
+		if (i == values.length)
+			return values[values.length - 1];
+		if (i == 0)
+			return values[0];
+		if (cumProbs[i] == rand)
+			return values[i];
+		double ret = values[i - 1] + (rand - cumProbs[i - 1])*(values[i] - values[i - 1])/(cumProbs[i] - cumProbs[i - 1]);
+		return ret;
+	}
+
 	public static double getMean(double[] values, double[] cumProbs) {
 		double sum = 0.0;
 		for (int i = 1; i < cumProbs.length; i++) {
@@ -49,9 +49,10 @@ public class DiscreteDistribution extends Distribution {
 	         exampleList = {"0.3  0.7"})
 	private final ValueListInput probabilityListInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 	private int[] sampleCount;  // number of times each index has been selected
 	private double[] cumProbList;
+	private GuideTable guideTable;  // used for large tables in place of a binary search
 
 	{
 		valueListInput = new ValueListInput( "ValueList", KEY_INPUTS, null);
@@ -97,6 +98,10 @@ public class DiscreteDistribution extends Distribution {
 			cumProbList[i] = total;
 		}
 		cumProbList[n-1] = 1.0d;
+
+		guideTable = null;
+		if (n >= GuideTable.MIN_SIZE)
+			guideTable = new GuideTable(cumProbList);
 	}
 
 	@Override
@@ -108,7 +113,34 @@ public class DiscreteDistribution extends Distribution {
 
 	@Override
 	protected double getSample(double simTime) {
-		int index = getSample(cumProbList, rng);
+		return getValue(rng.nextUniform());
+	}
+
+	// The samples are not prefetched because getValue records each sample in the sample count
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			out[i] = getValue(out[i]);
+		}
+	}
+
+	/**
+	 * Returns the number of values that can be sampled from the distribution.
+	 */
+	public int getNumberOfValues() {
+		return valueListInput.getListSize();
+	}
+
+	private double getValue(double rand) {
+		int index;
+		if (guideTable != null) {
+			index = guideTable.getIndex(rand);
+		}
+		else {
+			int k = Arrays.binarySearch(cumProbList, rand);
+			index = (k >= 0) ? k : -k - 1;
+		}
 		if (index < 0 || index >= valueListInput.getListSize())
 			throw new RuntimeException("Bad index returned from binary search.");
 		sampleCount[index]++;
@@ -25,7 +25,7 @@ import com.jaamsim.units.DimensionlessUnit;
  */
 public class DiscreteUniformDistribution extends Distribution {
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	public DiscreteUniformDistribution() {}
 
@@ -51,6 +51,21 @@ public class DiscreteUniformDistribution extends Distribution {
 		return getSample(i, j, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		int i = (int) getMinValueInput(simTime);
+		double j = (int) getMaxValueInput(simTime);
+		rng.nextUniforms(out, off, len);
+		for (int k = off; k < off + len; k++) {
+			out[k] = (int) (i + out[k] * (j - i + 1));
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		int i = (int) getMinValueInput(simTime);
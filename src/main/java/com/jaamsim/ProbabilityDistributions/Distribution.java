@@ -17,7 +17,11 @@
  */
 package com.jaamsim.ProbabilityDistributions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.Samples.SampleConstant;
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.Samples.SampleProvider;
 import com.jaamsim.Statistics.SampleStatistics;
@@ -31,6 +35,7 @@ import com.jaamsim.input.Keyword;
 import com.jaamsim.input.Output;
 import com.jaamsim.input.ParseContext;
 import com.jaamsim.input.UnitTypeInput;
+import com.jaamsim.rng.MRG1999a;
 import com.jaamsim.units.DimensionlessUnit;
 import com.jaamsim.units.Unit;
 import com.jaamsim.units.UserSpecifiedUnit;
@@ -84,8 +89,15 @@ implements SampleProvider, RandomStreamUser {
 
 	private final SampleStatistics stats = new SampleStatistics();
 	private double lastSample = Double.NaN;
+	private final ArrayList<MRG1999a> rngList = new ArrayList<>(2);
+
+	private double[] prefetch;  // samples generated in advance, or null if not used
+	private int prefetchPos;  // index of the next prefetched sample to be returned
+	private long prefetchVersion;  // input version for which the samples were generated
+	private final MRG1999a prefetchRng = new MRG1999a();  // generator state before prefetching
 
 	private static int MAX_ATTEMPTS = 1000;
+	private static final int PREFETCH_SIZE = 64;
 
 	{
 		unitType = new UnitTypeInput("UnitType", KEY_INPUTS, UserSpecifiedUnit.class);
@@ -147,6 +159,17 @@ implements SampleProvider, RandomStreamUser {
 		super.earlyInit();
 		stats.clear();
 		lastSample = Double.NaN;
+
+		boolean bool = getSimulation().isAntitheticReplication();
+		for (MRG1999a rng : rngList) {
+			rng.setAntithetic(bool);
+		}
+
+		prefetch = null;
+		prefetchPos = PREFETCH_SIZE;
+		if (usePrefetch())
+			prefetch = new double[PREFETCH_SIZE];
+		prefetchVersion = getJaamSimModel().getInputVersion();
 	}
 
 	static final InputCallback inputCallback = new InputCallback() {
@@ -179,6 +202,109 @@ implements SampleProvider, RandomStreamUser {
 	 */
 	protected abstract double getSample(double simTime);
 
+	/**
+	 * Fills the specified range of an array with the next samples from the probability
+	 * distribution. The samples must be identical to the ones returned by the same number of
+	 * calls to getSample.
+	 * @param simTime - present simulation time
+	 * @param out - array to receive the samples
+	 * @param off - index of the first entry to be filled
+	 * @param len - number of samples to generate
+	 */
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		for (int i = off; i < off + len; i++) {
+			out[i] = getSample(simTime);
+		}
+	}
+
+	/**
+	 * Returns whether the samples can be generated in advance using getSamples. This requires
+	 * each sample to use exactly one value from the distribution's only random generator and
+	 * getSample to have no side effects. The method is called only when all the inputs are
+	 * constants.
+	 * @return true if the samples can be prefetched
+	 */
+	protected boolean isPrefetchable() {
+		return false;
+	}
+
+	private boolean usePrefetch() {
+		return rngList.size() == 1 && hasConstantInputs() && isPrefetchable();
+	}
+
+	/**
+	 * Returns whether every SampleInput for the distribution has a constant value.
+	 */
+	private boolean hasConstantInputs() {
+		for (Input<?> in : getEditableInputs()) {
+			if (in instanceof SampleInput && !(((SampleInput) in).getValue() instanceof SampleConstant))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Discards the prefetched samples if an input has been changed since they were generated.
+	 * The random generator is returned to the state it would have had without prefetching.
+	 */
+	private void checkPrefetch() {
+		long version = getJaamSimModel().getInputVersion();
+		if (version == prefetchVersion)
+			return;
+		prefetchVersion = version;
+
+		if (prefetchPos < PREFETCH_SIZE) {
+			MRG1999a rng = rngList.get(0);
+			rng.setState(prefetchRng);
+			for (int i = 0; i < prefetchPos; i++) {
+				rng.nextUniform();
+			}
+			prefetchPos = PREFETCH_SIZE;
+		}
+		if (!usePrefetch())
+			prefetch = null;
+	}
+
+	/**
+	 * Returns the next sample from the probability distribution without applying the MinValue
+	 * and MaxValue inputs. The prefetched samples are used if they are available.
+	 */
+	private double nextSample(double simTime) {
+		if (prefetch == null)
+			return getSample(simTime);
+
+		checkPrefetch();
+		if (prefetch == null)
+			return getSample(simTime);
+
+		if (prefetchPos == PREFETCH_SIZE) {
+			prefetchRng.setState(rngList.get(0));
+			getSamples(simTime, prefetch, 0, PREFETCH_SIZE);
+			prefetchPos = 0;
+		}
+		return prefetch[prefetchPos++];
+	}
+
+	/**
+	 * Fills the specified range of an array with the next samples from the probability
+	 * distribution without applying the MinValue and MaxValue inputs. Any prefetched samples are
+	 * used first.
+	 */
+	private void nextSamples(double simTime, double[] out, int off, int len) {
+		if (prefetch != null) {
+			checkPrefetch();
+			if (prefetch != null) {
+				int n = Math.min(len, PREFETCH_SIZE - prefetchPos);
+				System.arraycopy(prefetch, prefetchPos, out, off, n);
+				prefetchPos += n;
+				off += n;
+				len -= n;
+			}
+		}
+		if (len > 0)
+			getSamples(simTime, out, off, len);
+	}
+
 	@Override
 	public Class<? extends Unit> getUnitType() {
 		return unitType.getUnitType();
@@ -206,6 +332,22 @@ implements SampleProvider, RandomStreamUser {
 		return getSimulation().getSubstreamNumber();
 	}
 
+	/**
+	 * Returns a new random generator for use by the distribution function.
+	 * The generators are listed in the order in which they were created.
+	 * @return new random generator
+	 */
+	protected final MRG1999a newRandomGenerator() {
+		MRG1999a ret = new MRG1999a();
+		rngList.add(ret);
+		return ret;
+	}
+
+	@Override
+	public MRG1999a[] getRandomGenerators() {
+		return rngList.toArray(new MRG1999a[rngList.size()]);
+	}
+
 	/**
 	 * Returns the next sample from the probability distribution.
 	 */
@@ -237,7 +379,7 @@ implements SampleProvider, RandomStreamUser {
 						+ "the MinValue and MaxValue inputs.%n"
 						+ "Number of samples tested = %s", MAX_ATTEMPTS);
 			}
-			nextSample = this.getSample(simTime);
+			nextSample = this.nextSample(simTime);
 			n++;
 		}
 		while (nextSample < minVal ||
@@ -248,6 +390,67 @@ implements SampleProvider, RandomStreamUser {
 		return nextSample;
 	}
 
+	/**
+	 * Fills the specified array with the next samples from the probability distribution.
+	 * @param out - array to receive the samples
+	 * @param simTime - present simulation time
+	 */
+	public final void fill(double[] out, double simTime) {
+		fill(out, 0, out.length, simTime);
+	}
+
+	/**
+	 * Fills the specified range of an array with the next samples from the probability
+	 * distribution. The samples are identical to the ones returned by the same number of calls
+	 * to getNextSample, provided that the distribution's inputs do not change with each sample.
+	 * The MinValue and MaxValue inputs are evaluated once for the whole range.
+	 * @param out - array to receive the samples
+	 * @param off - index of the first entry to be filled
+	 * @param len - number of samples to generate
+	 * @param simTime - present simulation time
+	 */
+	public final void fill(double[] out, int off, int len, double simTime) {
+		if (len == 0)
+			return;
+
+		// If we are not in a model context, do not perturb the distribution by sampling
+		if (!EventManager.hasCurrent()) {
+			Arrays.fill(out, off, off + len, lastSample);
+			return;
+		}
+
+		// Generate the samples and then remove any that fall outside the min and max values.
+		// Replacements for the rejected samples are generated at the end of the range so that
+		// the accepted samples follow the same sequence as getNextSample.
+		double minVal = getMinValueInput(simTime);
+		double maxVal = getMaxValueInput(simTime);
+		int end = off + len;
+		int pos = off;
+		int n = 0;
+		while (pos < end) {
+			nextSamples(simTime, out, pos, end - pos);
+			int j = pos;
+			for (int i = pos; i < end; i++) {
+				double val = out[i];
+				if (val < minVal || val > maxVal) {
+					n++;
+					if (n > MAX_ATTEMPTS) {
+						this.error("Could not find a sample value that was within the range "
+								+ "specified by the MinValue and MaxValue inputs.%n"
+								+ "Number of samples tested = %s", MAX_ATTEMPTS);
+					}
+					continue;
+				}
+				n = 0;
+				out[j] = val;
+				stats.addValue(val);
+				j++;
+			}
+			pos = j;
+		}
+		lastSample = out[end - 1];
+	}
+
 	public double getMinValueInput(double simTime) {
 		return minValueInput.getNextSample(this, simTime);
 	}
@@ -39,7 +39,7 @@ public class ErlangDistribution extends Distribution {
 	         exampleList = {"2"})
 	private final SampleInput shapeInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -33,7 +33,7 @@ public class ExponentialDistribution extends Distribution {
 	         exampleList = {"5.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput meanInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -65,6 +65,20 @@ public class ExponentialDistribution extends Distribution {
 		return getSample(mean, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		double mean = meanInput.getNextSample(this, simTime);
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			out[i] = (-mean * Math.log(out[i]));
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		double mean = meanInput.getNextSample(this, simTime);
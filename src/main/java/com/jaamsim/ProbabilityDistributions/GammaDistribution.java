@@ -40,8 +40,8 @@ public class GammaDistribution extends Distribution {
 	         exampleList = {"2.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput shapeInput;
 
-	private final MRG1999a rng1 = new MRG1999a();
-	private final MRG1999a rng2 = new MRG1999a();
+	private final MRG1999a rng1 = newRandomGenerator();
+	private final MRG1999a rng2 = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -16,6 +16,8 @@
  */
 package com.jaamsim.ProbabilityDistributions;
 
+import java.util.Arrays;
+
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.input.Keyword;
 import com.jaamsim.math.MathUtils;
@@ -32,7 +34,7 @@ public class GeometricDistribution extends Distribution {
 	         exampleList = {"0.5", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput probability;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		unitType.setDefaultValue(DimensionlessUnit.class);
@@ -61,6 +63,26 @@ public class GeometricDistribution extends Distribution {
 		return getSample(p, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		// No random number is used when the probability is one
+		return !MathUtils.near(probability.getNextSample(this, 0.0d), 1.0d);
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		double p = probability.getNextSample(this, simTime);
+		if (MathUtils.near(p, 1.0d)) {
+			Arrays.fill(out, off, off + len, 0.0d);
+			return;
+		}
+		double denom = Math.log(1 - p);
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			out[i] = (int) (Math.log(out[i]) / denom);
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		double p = probability.getNextSample(this, simTime);
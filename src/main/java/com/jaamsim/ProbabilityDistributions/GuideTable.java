@@ -0,0 +1,73 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.ProbabilityDistributions;
+
+/**
+ * Guide table for inverting a cumulative probability distribution in constant expected time.
+ * The table holds the result of the search for each of a set of equally spaced probabilities so
+ * that only a short sequential search is required for each sample (Chen and Asau, 1974).
+ * <p>
+ * The index returned for each probability is identical to the one obtained by a binary search
+ * of the cumulative probabilities.
+ */
+public class GuideTable {
+
+	// Smallest number of entries for which the guide table is faster than a binary search
+	public static final int MIN_SIZE = 64;
+
+	private final double[] cumProbs;
+	private final int[] guide;  // first index with a cumulative probability >= j/n
+
+	/**
+	 * Constructs a guide table for the specified cumulative probabilities.
+	 * @param cumProbs - non-decreasing cumulative probabilities
+	 */
+	public GuideTable(double[] cumProbs) {
+		this.cumProbs = cumProbs;
+		int n = cumProbs.length;
+		guide = new int[n];
+		int i = 0;
+		for (int j = 0; j < n; j++) {
+			double p = (double) j / n;
+			while (i < n && cumProbs[i] < p) {
+				i++;
+			}
+			guide[j] = i;
+		}
+	}
+
+	/**
+	 * Returns the index of the first cumulative probability that is greater than or equal to
+	 * the specified probability.
+	 * @param rand - probability in the range (0, 1)
+	 * @return index of the entry, or the number of entries if all are less than rand
+	 */
+	public int getIndex(double rand) {
+		int n = cumProbs.length;
+		int i = guide[Math.min((int) (rand * n), n - 1)];
+
+		// Allow for rounding in the calculation of the guide table index
+		while (i > 0 && cumProbs[i - 1] >= rand) {
+			i--;
+		}
+		while (i < n && cumProbs[i] < rand) {
+			i++;
+		}
+		return i;
+	}
+
+}
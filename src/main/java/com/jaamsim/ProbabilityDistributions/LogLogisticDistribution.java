@@ -35,7 +35,7 @@ public class LogLogisticDistribution extends Distribution {
 	         exampleList = {"1.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput shapeInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -65,6 +65,23 @@ public class LogLogisticDistribution extends Distribution {
 		return location + getSample(scale, shape, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		double location = getLocationInput(simTime);
+		double scale = getScaleInput(simTime);
+		double shape = shapeInput.getNextSample(this, simTime);
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			double u = out[i];
+			out[i] = location + scale * Math.pow( u / (1 - u), 1.0 / shape );
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		double location = getLocationInput(simTime);
@@ -35,7 +35,7 @@ public class NegativeBinomialDistribution extends Distribution {
 	         exampleList = {"0.5", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput probability;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		unitType.setDefaultValue(DimensionlessUnit.class);
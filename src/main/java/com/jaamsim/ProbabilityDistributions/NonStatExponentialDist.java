@@ -19,6 +19,7 @@ package com.jaamsim.ProbabilityDistributions;
 
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.Samples.TimeSeriesCursor;
 import com.jaamsim.Samples.TimeSeriesProvider;
 import com.jaamsim.events.EventManager;
 import com.jaamsim.input.InputErrorException;
@@ -46,7 +47,8 @@ public class NonStatExponentialDist extends Distribution {
 	         exampleList = {"2.0"})
 	private final SampleInput scaleFactor;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
+	private final TimeSeriesCursor cursor = new TimeSeriesCursor();  // position of the last sample
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -90,6 +92,7 @@ public class NonStatExponentialDist extends Distribution {
 	public void earlyInit() {
 		super.earlyInit();
 		rng.setSeedStream(getStreamNumber(), getSubstreamNumber());
+		cursor.clear();
 	}
 
 	private double getScaleFactor(double simTime) {
@@ -102,9 +105,9 @@ public class NonStatExponentialDist extends Distribution {
 		long ticksNow = EventManager.simTicks();  // ignore the simTime passed as an argument
 		TimeSeriesProvider ts = expectedArrivals.getValue();
 		double factor = getScaleFactor(simTime);
-		double valueNow = factor * ts.getInterpolatedCumulativeValueForTicks(ticksNow);
+		double valueNow = factor * ts.getInterpolatedCumulativeValueForTicks(ticksNow, cursor);
 		double valueNext = valueNow - Math.log(rng.nextUniform());
-		long ticksNext = ts.getInterpolatedTicksForValue(valueNext/factor);
+		long ticksNext = ts.getInterpolatedTicksForValue(valueNext/factor, cursor);
 
 		if (ticksNext == Long.MAX_VALUE)
 			return Double.POSITIVE_INFINITY;
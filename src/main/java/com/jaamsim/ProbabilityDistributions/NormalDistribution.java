@@ -40,8 +40,8 @@ public class NormalDistribution extends Distribution {
 	         exampleList = {"2.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput standardDeviationInput;
 
-	private final MRG1999a rng1 = new MRG1999a();
-	private final MRG1999a rng2 = new MRG1999a();
+	private final MRG1999a rng1 = newRandomGenerator();
+	private final MRG1999a rng2 = newRandomGenerator();
 
 	{
 		meanInput = new SampleInput("Mean", KEY_INPUTS, 0.0d);
@@ -31,7 +31,7 @@ public class PoissonDistribution extends Distribution {
 	         exampleList = {"5.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput meanInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		unitType.setDefaultValue(DimensionlessUnit.class);
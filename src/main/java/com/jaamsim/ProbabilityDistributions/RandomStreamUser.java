@@ -19,6 +19,7 @@ package com.jaamsim.ProbabilityDistributions;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.input.InputAgent;
+import com.jaamsim.rng.MRG1999a;
 
 public interface RandomStreamUser {
 
@@ -34,6 +35,12 @@ public interface RandomStreamUser {
 	 */
 	public String getStreamNumberKeyword();
 
+	/**
+	 * Returns the random generators used by this object.
+	 * @return random generators
+	 */
+	public MRG1999a[] getRandomGenerators();
+
 	public static void setUniqueRandomSeed(RandomStreamUser rsu) {
 		Entity ent = (Entity) rsu;
 		JaamSimModel simModel = ent.getJaamSimModel();
@@ -34,7 +34,7 @@ public class TriangularDistribution extends Distribution {
 	         exampleList = {"5.0", "InputValue1", "'2 * [InputValue1].Value'"})
 	private final SampleInput modeInput;
 
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -81,6 +81,31 @@ public class TriangularDistribution extends Distribution {
 		return getSample(minVal, mode, maxVal, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		double minVal = getMinValueInput(simTime);
+		double maxVal = getMaxValueInput(simTime);
+		double mode = modeInput.getNextSample(this, simTime);
+		double m = (mode - minVal)/(maxVal - minVal);
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			double rand = out[i];
+			double sample;
+			if (rand <= m) {
+				sample = Math.sqrt( m * rand );
+			}
+			else {
+				sample = 1.0 - Math.sqrt( ( 1.0 - m )*( 1.0 - rand ) );
+			}
+			out[i] = minVal + sample*(maxVal - minVal);
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		double minVal = getMinValueInput(simTime);
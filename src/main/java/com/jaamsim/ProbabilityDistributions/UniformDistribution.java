@@ -24,7 +24,7 @@ import com.jaamsim.rng.MRG1999a;
  * Adapted from A.M. Law, "Simulation Modelling and Analysis, 4th Edition", page 448.
  */
 public class UniformDistribution extends Distribution {
-	private final MRG1999a rng = new MRG1999a();
+	private final MRG1999a rng = newRandomGenerator();
 
 	{
 		minValueInput.setDefaultValue(0.0d);
@@ -48,6 +48,21 @@ public class UniformDistribution extends Distribution {
 		return getSample(minVal, maxVal, rng);
 	}
 
+	@Override
+	protected boolean isPrefetchable() {
+		return true;
+	}
+
+	@Override
+	protected void getSamples(double simTime, double[] out, int off, int len) {
+		double minVal = getMinValueInput(simTime);
+		double maxVal = getMaxValueInput(simTime);
+		rng.nextUniforms(out, off, len);
+		for (int i = off; i < off + len; i++) {
+			out[i] = minVal + out[i]*(maxVal - minVal);
+		}
+	}
+
 	@Override
 	protected double getMean(double simTime) {
 		double minVal = getMinValueInput(simTime);
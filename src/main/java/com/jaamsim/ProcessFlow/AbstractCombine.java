@@ -160,8 +160,8 @@ public abstract class AbstractCombine extends LinkedService {
 		Queue shortest = null;
 		int count = Integer.MAX_VALUE;
 		for (Queue que : queueList) {
-			if (que.getEntityTypes().size() < count) {
-				count = que.getEntityTypes().size();
+			if (que.getEntityTypeCount() < count) {
+				count = que.getEntityTypeCount();
 				shortest = que;
 			}
 		}
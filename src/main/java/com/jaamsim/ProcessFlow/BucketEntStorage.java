@@ -0,0 +1,169 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.ProcessFlow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * Storage that holds the entries in a separate array deque for each priority value. It is
+ * intended for a FIFO or LIFO queue with a small number of distinct priorities and no entity
+ * types. The entries in each deque are ordered in the same way as DequeEntStorage.
+ * <p>
+ * A bucket is removed when it becomes empty, so the first bucket always holds the first entry.
+ * Adding or removing a bucket copies the list of buckets, which is efficient only when the number
+ * of distinct priorities is small.
+ */
+public class BucketEntStorage extends EntStorage {
+
+	private int[] priorities;  // priority for each bucket in ascending order
+	private final ArrayList<ArrayDeque<StorageEntry>> buckets;
+	private ArrayDeque<StorageEntry> spare;  // empty bucket kept for re-use
+	private int size;
+
+	public BucketEntStorage() {
+		priorities = new int[0];
+		buckets = new ArrayList<>();
+	}
+
+	private ArrayDeque<StorageEntry> getBucket(int pri, boolean create) {
+		int ind = Arrays.binarySearch(priorities, pri);
+		if (ind >= 0)
+			return buckets.get(ind);
+		if (!create)
+			return null;
+
+		// Add a new bucket in priority order
+		ind = -ind - 1;
+		int[] temp = new int[priorities.length + 1];
+		System.arraycopy(priorities, 0, temp, 0, ind);
+		temp[ind] = pri;
+		System.arraycopy(priorities, ind, temp, ind + 1, priorities.length - ind);
+		priorities = temp;
+		ArrayDeque<StorageEntry> ret = spare;
+		spare = null;
+		if (ret == null)
+			ret = new ArrayDeque<>();
+		buckets.add(ind, ret);
+		return ret;
+	}
+
+	private void removeBucket(int pri) {
+		int ind = Arrays.binarySearch(priorities, pri);
+		int[] temp = new int[priorities.length - 1];
+		System.arraycopy(priorities, 0, temp, 0, ind);
+		System.arraycopy(priorities, ind + 1, temp, ind, temp.length - ind);
+		priorities = temp;
+		spare = buckets.remove(ind);
+	}
+
+	@Override
+	public void clear() {
+		priorities = new int[0];
+		buckets.clear();
+		size = 0;
+	}
+
+	@Override
+	public boolean add(StorageEntry entry) {
+		DequeEntStorage.checkType(entry);
+		boolean ret = DequeEntStorage.addSorted(getBucket(entry.priority, true), entry);
+		if (ret)
+			size++;
+		return ret;
+	}
+
+	@Override
+	public boolean remove(StorageEntry entry) {
+		ArrayDeque<StorageEntry> bucket = getBucket(entry.priority, false);
+		if (bucket == null || !bucket.remove(entry))
+			return false;
+		if (bucket.isEmpty())
+			removeBucket(entry.priority);
+		size--;
+		return true;
+	}
+
+	@Override
+	public int size(int typeId) {
+		if (typeId < 0)
+			return size;
+		return 0;
+	}
+
+	@Override
+	public StorageEntry first(int typeId) {
+		if (typeId >= 0 || size == 0)
+			return null;
+		return buckets.get(0).peekFirst();
+	}
+
+	@Override
+	public Iterator<StorageEntry> iterator(int typeId) {
+		if (typeId >= 0)
+			return null;
+		return new Iterator<StorageEntry>() {
+			private int ind = 0;
+			private Iterator<StorageEntry> itr = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!itr.hasNext()) {
+					if (ind >= buckets.size())
+						return false;
+					itr = buckets.get(ind).iterator();
+					ind++;
+				}
+				return true;
+			}
+
+			@Override
+			public StorageEntry next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return itr.next();
+			}
+		};
+	}
+
+	@Override
+	public Set<String> getTypes() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public int getTypeCount() {
+		return 0;
+	}
+
+	@Override
+	public String getTypeWithMaxCount() {
+		return null;
+	}
+
+	@Override
+	public int getCountForMaxType() {
+		return 0;
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.ProcessFlow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.jaamsim.basicsim.ErrorException;
+
+/**
+ * Storage that holds the entries in a single array deque. It is intended for a FIFO or LIFO
+ * queue in which every entity has the same priority and there are no entity types.
+ * <p>
+ * The entries are kept in the same order as TreeEntStorage. When the insertion sequence numbers
+ * increase in magnitude with each entry, a FIFO entry always belongs at the end of the deque and
+ * a LIFO entry at the front, so that adding and removing the first entry take constant time.
+ * An entry that belongs elsewhere, for example because it has a different priority, is inserted
+ * by copying the deque.
+ */
+public class DequeEntStorage extends EntStorage {
+
+	private final ArrayDeque<StorageEntry> deque;
+
+	public DequeEntStorage() {
+		deque = new ArrayDeque<>();
+	}
+
+	/**
+	 * Adds the entry to a deque whose entries are in ascending order, if not present.
+	 * @param dq - deque in ascending order
+	 * @param entry - entry to be added
+	 * @return true if the deque did not already contain the entry.
+	 */
+	static boolean addSorted(ArrayDeque<StorageEntry> dq, StorageEntry entry) {
+		if (dq.isEmpty()) {
+			dq.addLast(entry);
+			return true;
+		}
+
+		// Normal case: FIFO entries are added to the end and LIFO entries to the front
+		int cmp = entry.compareTo(dq.peekLast());
+		if (cmp > 0) {
+			dq.addLast(entry);
+			return true;
+		}
+		if (cmp == 0)
+			return false;
+		cmp = entry.compareTo(dq.peekFirst());
+		if (cmp < 0) {
+			dq.addFirst(entry);
+			return true;
+		}
+		if (cmp == 0)
+			return false;
+
+		// Otherwise, insert the entry in its position in the sequence
+		ArrayList<StorageEntry> list = new ArrayList<>(dq.size() + 1);
+		list.addAll(dq);
+		int ind = Collections.binarySearch(list, entry);
+		if (ind >= 0)
+			return false;
+		list.add(-ind - 1, entry);
+		dq.clear();
+		dq.addAll(list);
+		return true;
+	}
+
+	static void checkType(StorageEntry entry) {
+		if (entry.typeId >= 0)
+			throw new ErrorException("Storage does not support entity types: %s", entry);
+	}
+
+	@Override
+	public void clear() {
+		deque.clear();
+	}
+
+	@Override
+	public boolean add(StorageEntry entry) {
+		checkType(entry);
+		return addSorted(deque, entry);
+	}
+
+	@Override
+	public boolean remove(StorageEntry entry) {
+		return deque.remove(entry);
+	}
+
+	@Override
+	public int size(int typeId) {
+		if (typeId < 0)
+			return deque.size();
+		return 0;
+	}
+
+	@Override
+	public StorageEntry first(int typeId) {
+		if (typeId < 0)
+			return deque.peekFirst();
+		return null;
+	}
+
+	@Override
+	public Iterator<StorageEntry> iterator(int typeId) {
+		if (typeId < 0)
+			return deque.iterator();
+		return null;
+	}
+
+	@Override
+	public Set<String> getTypes() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public int getTypeCount() {
+		return 0;
+	}
+
+	@Override
+	public String getTypeWithMaxCount() {
+		return null;
+	}
+
+	@Override
+	public int getCountForMaxType() {
+		return 0;
+	}
+
+}
@@ -33,7 +33,7 @@ public class EntContainerDelegate implements EntContainer {
 	private long numberRemoved;
 
 	public EntContainerDelegate() {
-		storage = new EntStorage();
+		storage = new TreeEntStorage();
 	}
 
 	public void clear() {
@@ -155,6 +155,10 @@ public class EntContainerDelegate implements EntContainer {
 		return storage.getTypes();
 	}
 
+	public int getEntityTypeCount() {
+		return storage.getTypeCount();
+	}
+
 	@Override
 	public String toString() {
 		return storage.toString();
@@ -24,35 +24,93 @@ import java.util.Set;
 import com.jaamsim.Graphics.DisplayEntity;
 
 /**
- * Stores entities in order of priority and insertion sequence. Entities are grouped by type into
- * subclasses that maintained separately for increased efficiency.
+ * Stores entities in order of priority and insertion sequence. Entities can be grouped by type
+ * into subclasses that are maintained separately for increased efficiency.
+ * <p>
+ * A storage that supports entity types assigns an integer id to each type while entities of that
+ * type are present, so that the subclasses are selected by the id instead of by hashing the type
+ * string. A type id of -1 selects every entity in the storage.
+ * <p>
+ * The implementations differ only in the cost of each operation:
+ * <ul>
+ * <li>TreeEntStorage supports any priorities and entity types.
+ * <li>BucketEntStorage supports any priorities but no entity types.
+ * <li>DequeEntStorage supports a single priority value and no entity types.
+ * </ul>
  * @author Harry King
  *
  */
-public class EntStorage {
+public abstract class EntStorage {
 
-	private final MappedTreeSet<String, StorageEntry> entrySet;
-	private String typeWithMaxCount;  // entity type with the largest number of entities
-	private int countForMaxType;     // largest number of entities for a given entity type
+	/**
+	 * Largest number of distinct priorities for which a BucketEntStorage is used.
+	 */
+	public static final int MAX_BUCKETS = 16;
 
-	public EntStorage() {
-		entrySet = new MappedTreeSet<>();
+	/**
+	 * Returns the storage that is most efficient for the specified usage.
+	 * @param types - true if entities are grouped by type
+	 * @param numPriorities - number of distinct priorities that an entity can have, or -1 if
+	 * the number is not known
+	 * @param removeAny - true if entities are frequently removed from positions other than the
+	 * front of the storage
+	 * @return new storage
+	 */
+	public static EntStorage getStorage(boolean types, int numPriorities, boolean removeAny) {
+		return getStorage(null, types, numPriorities, removeAny);
 	}
 
-	public void clear() {
-		entrySet.clear();
-		typeWithMaxCount = null;
-		countForMaxType = -1;
+	/**
+	 * Returns the storage that is most efficient for the specified usage. The previous storage
+	 * is cleared and re-used if it is already of the required type, which avoids allocating
+	 * a new storage for each run when a model is re-used for many replications.
+	 * @param old - previous storage, or null
+	 * @param types - true if entities are grouped by type
+	 * @param numPriorities - number of distinct priorities that an entity can have, or -1 if
+	 * the number is not known
+	 * @param removeAny - true if entities are frequently removed from positions other than the
+	 * front of the storage
+	 * @return empty storage
+	 */
+	public static EntStorage getStorage(EntStorage old, boolean types, int numPriorities,
+			boolean removeAny) {
+		Class<? extends EntStorage> klass = TreeEntStorage.class;
+		if (!types && !removeAny) {
+			if (numPriorities == 1)
+				klass = DequeEntStorage.class;
+			else if (numPriorities > 1 && numPriorities <= MAX_BUCKETS)
+				klass = BucketEntStorage.class;
+		}
+
+		if (old != null && old.getClass() == klass) {
+			old.clear();
+			return old;
+		}
+
+		if (klass == TreeEntStorage.class)
+			return new TreeEntStorage();
+		if (klass == DequeEntStorage.class)
+			return new DequeEntStorage();
+		return new BucketEntStorage();
 	}
 
 	public static class StorageEntry implements Comparable<StorageEntry> {
 
 		final DisplayEntity entity;
 		final String type;
+		int typeId = -1;  // id assigned to the type by the storage that holds the entry
 		final int priority;
 		final long seqNum;
 		final double timeAdded;
 
+		/**
+		 * Creates an entry for the specified entity.
+		 * @param ent - entity to be stored
+		 * @param tp - entity type, or null
+		 * @param pri - priority for removal
+		 * @param n - insertion sequence number, negative for LIFO order
+		 * @param t - time the entity was stored
+		 */
 		public StorageEntry(DisplayEntity ent, String tp, int pri, long n, double t) {
 			entity = ent;
 			type = tp;
@@ -77,68 +135,91 @@ public class EntStorage {
 		}
 	}
 
+	/**
+	 * Returns the id used by the storage for the specified entity type, or -1 if the type is
+	 * null. A type that is not present in the storage returns an id for which it is empty.
+	 * @param type - specified entity type
+	 * @return id for the entity type
+	 */
+	public int getTypeId(String type) {
+		if (type == null)
+			return -1;
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Removes every entry from the storage.
+	 */
+	public abstract void clear();
+
 	/**
 	 * Adds the specified entry to the storage if not present.
 	 * @param entry - entry to be added to this storage.
 	 * @return true if this storage did not already contain the specified entry.
 	 */
-	public boolean add(StorageEntry entry) {
-
-		// Add the entity to the storage
-		String type = entry.type;
-		boolean bool = entrySet.add(type, entry);
-		if (!bool)
-			return false;
-
-		// Does the entry have a entity type value?
-		if (type == null || typeWithMaxCount == null)
-			return true;
-
-		// Update the maximum count
-		if (type.equals(typeWithMaxCount)) {
-			countForMaxType++;
-		}
-		else {
-			int n = entrySet.size(type);
-			if (n > countForMaxType) {
-				typeWithMaxCount = type;
-				countForMaxType = n;
-			}
-		}
-		return true;
-	}
+	public abstract boolean add(StorageEntry entry);
 
 	/**
 	 * Removes the specified entry from this storage if present.
 	 * @param entry to be removed from this storage.
 	 * @return true if this storage contained the specified entry.
 	 */
-	public boolean remove(StorageEntry entry) {
-
-		// Remove the entity from the storage
-		String type = entry.type;
-		boolean found = entrySet.remove(type, entry);
-		if (!found)
-			return false;
-
-		// Does the entry have a entity type value?
-		if (type == null || typeWithMaxCount == null)
-			return true;
-
-		// Update the maximum count
-		if (type.equals(typeWithMaxCount)) {
-			typeWithMaxCount = null;
-			countForMaxType = -1;
-		}
-		return true;
-	}
+	public abstract boolean remove(StorageEntry entry);
+
+	/**
+	 * Returns the number of entities in storage with the specified entity type id.
+	 * If the id is negative, then every entity is counted.
+	 * @param typeId - id for the entity type
+	 * @return number of entities of the specified type.
+	 */
+	public abstract int size(int typeId);
+
+	/**
+	 * Returns the first StorageEntry in the storage with the specified entity type id.
+	 * If the id is negative, the first StorageEntry is returned.
+	 * @param typeId - id for the entity type
+	 * @return first StorageEntry of the specified type, or null if there are none.
+	 */
+	public abstract StorageEntry first(int typeId);
+
+	/**
+	 * Returns an iterator over the entries with the specified entity type id in the order they
+	 * would be removed. If the id is negative, every entry is included.
+	 * @param typeId - id for the entity type
+	 * @return iterator, or null if there are no entries of this type.
+	 */
+	public abstract Iterator<StorageEntry> iterator(int typeId);
+
+	/**
+	 * Returns the entity types that are present in the storage.
+	 * @return set of entity types.
+	 */
+	public abstract Set<String> getTypes();
+
+	/**
+	 * Returns the number of entity types that are present in the storage.
+	 * @return number of entity types.
+	 */
+	public abstract int getTypeCount();
+
+	/**
+	 * Returns the entity type that has the largest number of entities in the storage.
+	 * @return entity type with the most entities.
+	 */
+	public abstract String getTypeWithMaxCount();
+
+	/**
+	 * Returns the number of entities for the most numerous entity type in storage.
+	 * @return number of entities for the most numerous entity type.
+	 */
+	public abstract int getCountForMaxType();
 
 	/**
 	 * Returns the number of entities in the storage.
 	 * @return number of entities in storage.
 	 */
 	public int size() {
-		return size(null);
+		return size(-1);
 	}
 
 	/**
@@ -148,9 +229,7 @@ public class EntStorage {
 	 * @return number of entities of the specified type.
 	 */
 	public int size(String type) {
-		if (type == null)
-			return entrySet.size();
-		return entrySet.size(type);
+		return size(getTypeId(type));
 	}
 
 	/**
@@ -158,7 +237,7 @@ public class EntStorage {
 	 * @return true if the storage is empty
 	 */
 	public boolean isEmpty() {
-		return isEmpty(null);
+		return size(-1) == 0;
 	}
 
 	/**
@@ -167,9 +246,7 @@ public class EntStorage {
 	 * @return true if the storage is empty
 	 */
 	public boolean isEmpty(String type) {
-		if (type == null)
-			return entrySet.isEmpty();
-		return entrySet.isEmpty(type);
+		return size(getTypeId(type)) == 0;
 	}
 
 	/**
@@ -177,7 +254,7 @@ public class EntStorage {
 	 * @return first entity in the storage.
 	 */
 	public StorageEntry first() {
-		return first(null);
+		return first(-1);
 	}
 
 	/**
@@ -187,19 +264,15 @@ public class EntStorage {
 	 * @return first StorageEntry of the specified type.
 	 */
 	public StorageEntry first(String type) {
-		if (type == null)
-			return entrySet.first();
-		return entrySet.first(type);
+		return first(getTypeId(type));
 	}
 
 	public Iterator<StorageEntry> iterator() {
-		return iterator(null);
+		return iterator(-1);
 	}
 
 	public Iterator<StorageEntry> iterator(String type) {
-		if (type == null)
-			return entrySet.iterator();
-		return entrySet.iterator(type);
+		return iterator(getTypeId(type));
 	}
 
 	/**
@@ -216,41 +289,15 @@ public class EntStorage {
 	 * @return StorageEntries in storage.
 	 */
 	public Collection<StorageEntry> getEntries(String type) {
-		if (type == null)
-			return entrySet.values();
-		return entrySet.values(type);
-	}
-
-	/**
-	 * Returns the entity types that are present in the storage.
-	 * @return set of entity types.
-	 */
-	public Set<String> getTypes() {
-		return entrySet.keySet();
-	}
-
-	/**
-	 * Returns the entity type that has the largest number of entities in the storage.
-	 * @return entity type with the most entities.
-	 */
-	public String getTypeWithMaxCount() {
-		if (typeWithMaxCount == null) {
-			typeWithMaxCount = entrySet.maxKey();
-			countForMaxType = entrySet.size(typeWithMaxCount);
-		}
-		return typeWithMaxCount;
-	}
-
-	/**
-	 * Returns the number of entities for the most numerous entity type in storage.
-	 * @return number of entities for the most numerous entity type.
-	 */
-	public int getCountForMaxType() {
-		if (typeWithMaxCount == null) {
-			typeWithMaxCount = entrySet.maxKey();
-			countForMaxType = entrySet.size(typeWithMaxCount);
+		int typeId = getTypeId(type);
+		ArrayList<StorageEntry> ret = new ArrayList<>(size(typeId));
+		Iterator<StorageEntry> itr = iterator(typeId);
+		if (itr == null)
+			return ret;
+		while (itr.hasNext()) {
+			ret.add(itr.next());
 		}
-		return countForMaxType;
+		return ret;
 	}
 
 	/**
@@ -267,8 +314,11 @@ public class EntStorage {
 	 * @return entities in storage for the specified type
 	 */
 	public ArrayList<DisplayEntity> getEntityList(String type) {
-		ArrayList<DisplayEntity> ret = new ArrayList<>(size(type));
-		Iterator<StorageEntry> itr = iterator(type);
+		int typeId = getTypeId(type);
+		ArrayList<DisplayEntity> ret = new ArrayList<>(size(typeId));
+		Iterator<StorageEntry> itr = iterator(typeId);
+		if (itr == null)
+			return ret;
 		while (itr.hasNext()) {
 			ret.add(itr.next().entity);
 		}
@@ -280,8 +330,8 @@ public class EntStorage {
 	 * @return priority for each entity
 	 */
 	public ArrayList<Integer> getPriorityList() {
-		ArrayList<Integer> ret = new ArrayList<>(entrySet.size());
-		Iterator<StorageEntry> itr = entrySet.iterator();
+		ArrayList<Integer> ret = new ArrayList<>(size());
+		Iterator<StorageEntry> itr = iterator();
 		while (itr.hasNext()) {
 			ret.add(itr.next().priority);
 		}
@@ -293,8 +343,8 @@ public class EntStorage {
 	 * @return type for each entity
 	 */
 	public ArrayList<String> getTypeList() {
-		ArrayList<String> ret = new ArrayList<>(entrySet.size());
-		Iterator<StorageEntry> itr = entrySet.iterator();
+		ArrayList<String> ret = new ArrayList<>(size());
+		Iterator<StorageEntry> itr = iterator();
 		while (itr.hasNext()) {
 			String type = itr.next().type;
 			if (type != null) {
@@ -310,8 +360,8 @@ public class EntStorage {
 	 * @return time in storage for each entity
 	 */
 	public ArrayList<Double> getStorageTimeList(double simTime) {
-		ArrayList<Double> ret = new ArrayList<>(entrySet.size());
-		Iterator<StorageEntry> itr = entrySet.iterator();
+		ArrayList<Double> ret = new ArrayList<>(size());
+		Iterator<StorageEntry> itr = iterator();
 		while (itr.hasNext()) {
 			ret.add(simTime - itr.next().timeAdded);
 		}
@@ -320,7 +370,7 @@ public class EntStorage {
 
 	@Override
 	public String toString() {
-		return entrySet.toString();
+		return getEntries().toString();
 	}
 
 }
@@ -383,7 +383,7 @@ public class EntityContainer extends SimEntity implements EntContainer {
 	    unitType = DimensionlessUnit.class,
 	    sequence = 8)
 	public int getMatchValueCount(double simTime) {
-		return container.getEntityTypes().size();
+		return container.getEntityTypeCount();
 	}
 
 	@Output(name = "UniqueMatchValues",
@@ -24,7 +24,7 @@ import com.jaamsim.ColourProviders.ColourProvInput;
 import com.jaamsim.DisplayModels.PolylineModel;
 import com.jaamsim.Graphics.DisplayEntity;
 import com.jaamsim.Graphics.LineEntity;
-import com.jaamsim.Graphics.PolylineInfo;
+import com.jaamsim.Graphics.PolylinePath;
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.SubModels.CompoundEntity;
 import com.jaamsim.basicsim.SubjectEntity;
@@ -523,6 +523,9 @@ public class EntityConveyor extends LinkedService implements LineEntity {
 		double convLength = length.getNextSample(this, simTime);
 		ConveyorEntry lastEntry = null;
 		double lastPos = 0.0d;
+		PolylinePath path = getCurvePath();
+		Vec3d localPos = new Vec3d();
+		Vec3d orient = new Vec3d();
 		for (ConveyorEntry entry : copiedList) {
 
 			entry.entity.setRegion(this.getCurrentRegion());
@@ -535,7 +538,7 @@ public class EntityConveyor extends LinkedService implements LineEntity {
 			lastEntry = entry;
 
 			convPos = Math.max(convPos, 0.0d);
-			Vec3d localPos = PolylineInfo.getPositionOnPolyline(getCurvePoints(), convPos);
+			path.getPosition(convPos, localPos);
 			if (isAlignEntities(simTime)) {
 				Vec3d alignment = entry.entity.getAlignment();
 				alignment.x = -0.5d;
@@ -546,7 +549,7 @@ public class EntityConveyor extends LinkedService implements LineEntity {
 			}
 
 			if (isRotateEntities(simTime)) {
-				Vec3d orient = PolylineInfo.getOrientationOnPolyline(getCurvePoints(), convPos);
+				path.getOrientation(convPos, orient);
 				entry.entity.setRelativeOrientation(orient);
 			}
 		}
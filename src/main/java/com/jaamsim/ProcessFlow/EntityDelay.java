@@ -25,7 +25,7 @@ import com.jaamsim.ColourProviders.ColourProvInput;
 import com.jaamsim.DisplayModels.PolylineModel;
 import com.jaamsim.Graphics.DisplayEntity;
 import com.jaamsim.Graphics.LineEntity;
-import com.jaamsim.Graphics.PolylineInfo;
+import com.jaamsim.Graphics.PolylinePath;
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.SubModels.CompoundEntity;
 import com.jaamsim.basicsim.Entity;
@@ -291,6 +291,9 @@ public class EntityDelay extends LinkedComponent implements LineEntity {
 		}
 
 		// Loop through the entities on the path
+		PolylinePath path = getCurvePath();
+		Vec3d localPos = new Vec3d();
+		Vec3d orient = new Vec3d();
 		for (EntityDelayEntry entry : copiedList) {
 			// Calculate the distance travelled by this entity
 			double frac = ( simTime - entry.startTime ) / entry.duration;
@@ -299,12 +302,12 @@ public class EntityDelay extends LinkedComponent implements LineEntity {
 			entry.ent.setRegion(this.getCurrentRegion());
 
 			// Set the position for the entity
-			Vec3d localPos = PolylineInfo.getPositionOnPolyline(getCurvePoints(), frac);
+			path.getPosition(frac, localPos);
 			entry.ent.setGlobalPosition(this.getGlobalPosition(localPos));
 
 			// Set the orientation for the entity
 			if (isRotateEntities(simTime)) {
-				Vec3d orient = PolylineInfo.getOrientationOnPolyline(getCurvePoints(), frac);
+				path.getOrientation(frac, orient);
 				entry.ent.setRelativeOrientation(orient);
 			}
 		}
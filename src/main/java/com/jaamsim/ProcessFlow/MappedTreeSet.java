@@ -16,46 +16,52 @@
  */
 package com.jaamsim.ProcessFlow;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Stores a set of unique objects in an order determined by the object's comparator.
- * The objects are grouped into subsets by the value of a key, which is normally a
- * property of the object.
+ * The objects are grouped into subsets by the value of an integer key, which is normally the
+ * id assigned to a property of the object by a SymbolTable. A negative key indicates that the
+ * object does not belong to a subset.
  * @author Harry King
  *
- * @param <K> - key
  * @param <V> - object
  */
-public class MappedTreeSet<K,V> {
+public class MappedTreeSet<V> {
 
 	private final TreeSet<V> objSet;  // contains all the objects
-	private final HashMap<K, TreeSet<V>> subsetMap;  // maps a key to sub-sets of the objects
+	private final ArrayList<TreeSet<V>> subsetList;  // sub-sets of the objects indexed by key
+	private int numKeys;  // number of keys with a non-empty subset
 
 	public MappedTreeSet() {
 		objSet = new TreeSet<>();
-		subsetMap = new HashMap<>();
+		subsetList = new ArrayList<>();
 	}
 
 	public void clear() {
 		objSet.clear();
-		subsetMap.clear();
+		subsetList.clear();
+		numKeys = 0;
+	}
+
+	private TreeSet<V> getSubset(int key) {
+		if (key < 0 || key >= subsetList.size())
+			return null;
+		return subsetList.get(key);
 	}
 
 	/**
 	 * Adds the specified element to the set if it is not already present.
-	 * If the key is not null, the element is added to both the set of all elements and to
+	 * If the key is not negative, the element is added to both the set of all elements and to
 	 * the subset for that key.
 	 * @param key - property used to group the stored elements into subsets.
 	 * @param e - element to be added to this set.
 	 * @return true if this set did not already contain the specified element.
 	 */
-	public boolean add(K key, V e) {
+	public boolean add(int key, V e) {
 
 		// Add the object to the complete set
 		boolean ret = objSet.add(e);
@@ -63,14 +69,18 @@ public class MappedTreeSet<K,V> {
 			return false;
 
 		// If there is a key for this object, add it to its subset
-		if (key == null)
+		if (key < 0)
 			return true;
 
 		// If this is the first object for its key, create a new subset
-		TreeSet<V> subSet = subsetMap.get(key);
+		while (subsetList.size() <= key) {
+			subsetList.add(null);
+		}
+		TreeSet<V> subSet = subsetList.get(key);
 		if (subSet == null) {
 			subSet = new TreeSet<>();
-			subsetMap.put(key, subSet);
+			subsetList.set(key, subSet);
+			numKeys++;
 		}
 		ret = subSet.add(e);
 		return ret;
@@ -78,13 +88,13 @@ public class MappedTreeSet<K,V> {
 
 	/**
 	 * Removes the specified element from this set if it is present.
-	 * If the key is not null, the element is removed from both the set of all elements and from
-	 * the subset for that key.
+	 * If the key is not negative, the element is removed from both the set of all elements and
+	 * from the subset for that key.
 	 * @param key - property used to group the stored elements into subsets.
 	 * @param o - object to be removed from this set if present.
 	 * @return true if this set contained the specified element.
 	 */
-	public boolean remove(K key, Object o) {
+	public boolean remove(int key, Object o) {
 
 		// Remove the object from the complete set
 		boolean found = objSet.remove(o);
@@ -92,10 +102,10 @@ public class MappedTreeSet<K,V> {
 			return false;
 
 		// If there a key for this object, remove it from its subset
-		if (key == null)
+		if (key < 0)
 			return true;
 
-		TreeSet<V> subSet = subsetMap.get(key);
+		TreeSet<V> subSet = getSubset(key);
 		if (subSet == null)
 			return false;
 
@@ -103,9 +113,10 @@ public class MappedTreeSet<K,V> {
 		if (!found)
 			return false;
 
-		// Delete the subset if it is now empty
+		// If this was the last object for its key, remove the subset
 		if (subSet.isEmpty()) {
-			subsetMap.remove(key);
+			subsetList.set(key, null);
+			numKeys--;
 		}
 		return true;
 	}
@@ -114,8 +125,8 @@ public class MappedTreeSet<K,V> {
 		return objSet.size();
 	}
 
-	public int size(K key) {
-		TreeSet<V> subSet = subsetMap.get(key);
+	public int size(int key) {
+		TreeSet<V> subSet = getSubset(key);
 		if (subSet == null)
 			return 0;
 		return subSet.size();
@@ -125,8 +136,8 @@ public class MappedTreeSet<K,V> {
 		return objSet.isEmpty();
 	}
 
-	public boolean isEmpty(K key) {
-		TreeSet<V> subSet = subsetMap.get(key);
+	public boolean isEmpty(int key) {
+		TreeSet<V> subSet = getSubset(key);
 		return subSet == null || subSet.isEmpty();
 	}
 
@@ -138,9 +149,9 @@ public class MappedTreeSet<K,V> {
 		return objSet.iterator();
 	}
 
-	public Iterator<V> iterator(K key) {
-		TreeSet<V> subSet = subsetMap.get(key);
-		if (subSet == null)
+	public Iterator<V> iterator(int key) {
+		TreeSet<V> subSet = getSubset(key);
+		if (subSet == null || subSet.isEmpty())
 			return null;
 		return subSet.iterator();
 	}
@@ -153,8 +164,8 @@ public class MappedTreeSet<K,V> {
 		return objSet.toArray(a);
 	}
 
-	public boolean containsKey(Object key) {
-		return subsetMap.containsKey(key);
+	public boolean containsKey(int key) {
+		return !isEmpty(key);
 	}
 
 	public V first() {
@@ -163,9 +174,9 @@ public class MappedTreeSet<K,V> {
 		return objSet.first();
 	}
 
-	public V first(Object key) {
-		TreeSet<V> subSet = subsetMap.get(key);
-		if (subSet == null)
+	public V first(int key) {
+		TreeSet<V> subSet = getSubset(key);
+		if (subSet == null || subSet.isEmpty())
 			return null;
 		return subSet.first();
 	}
@@ -176,36 +187,63 @@ public class MappedTreeSet<K,V> {
 		return objSet.last();
 	}
 
-	public V last(Object key) {
-		TreeSet<V> subSet = subsetMap.get(key);
-		if (subSet == null)
+	public V last(int key) {
+		TreeSet<V> subSet = getSubset(key);
+		if (subSet == null || subSet.isEmpty())
 			return null;
 		return subSet.last();
 	}
 
-	public Set<K> keySet() {
-		return subsetMap.keySet();
+	/**
+	 * Returns the number of keys that have at least one element.
+	 * @return number of keys
+	 */
+	public int getKeyCount() {
+		return numKeys;
+	}
+
+	/**
+	 * Returns the keys that have at least one element, in ascending order.
+	 * @return keys in use
+	 */
+	public int[] keys() {
+		int[] ret = new int[numKeys];
+		int n = 0;
+		for (int key = 0; key < subsetList.size(); key++) {
+			TreeSet<V> subSet = subsetList.get(key);
+			if (subSet == null || subSet.isEmpty())
+				continue;
+			ret[n++] = key;
+		}
+		return ret;
 	}
 
 	public Collection<V> values() {
 		return objSet;
 	}
 
-	public Collection<V> values(Object key) {
-		return subsetMap.get(key);
+	public Collection<V> values(int key) {
+		TreeSet<V> subSet = getSubset(key);
+		if (subSet == null || subSet.isEmpty())
+			return null;
+		return subSet;
 	}
 
 	/**
 	 * Returns the key for the subset that has the greatest number of elements.
-	 * @return key with the most elements.
+	 * If two or more subsets have the same number of elements, the smallest key is returned.
+	 * @return key with the most elements, or -1 if there are no subsets.
 	 */
-	public K maxKey() {
-		K ret = null;
+	public int maxKey() {
+		int ret = -1;
 		int n = 0;
-		for (Entry<K, TreeSet<V>> each : subsetMap.entrySet()) {
-			if (ret == null || each.getValue().size() > n) {
-				ret = each.getKey();
-				n = each.getValue().size();
+		for (int key = 0; key < subsetList.size(); key++) {
+			TreeSet<V> subSet = subsetList.get(key);
+			if (subSet == null || subSet.isEmpty())
+				continue;
+			if (ret == -1 || subSet.size() > n) {
+				ret = key;
+				n = subSet.size();
 			}
 		}
 		return ret;
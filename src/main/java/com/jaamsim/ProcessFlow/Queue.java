@@ -25,8 +25,11 @@ import java.util.Set;
 
 import com.jaamsim.BooleanProviders.BooleanProvInput;
 import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.ProbabilityDistributions.DiscreteDistribution;
 import com.jaamsim.ProcessFlow.EntStorage.StorageEntry;
+import com.jaamsim.Samples.SampleConstant;
 import com.jaamsim.Samples.SampleInput;
+import com.jaamsim.Samples.SampleProvider;
 import com.jaamsim.Statistics.TimeBasedFrequency;
 import com.jaamsim.Statistics.TimeBasedStatistics;
 import com.jaamsim.StringProviders.StringProvInput;
@@ -112,7 +115,7 @@ public class Queue extends LinkedComponent {
 	@Keyword(description = "If TRUE, the objects in the Queue are displayed.")
 	protected final BooleanProvInput showEntities;
 
-	private final EntStorage storage;  // stores the entities in the queue
+	private EntStorage storage;  // stores the entities in the queue
 	private final ArrayList<QueueUser> userList;  // other objects that use this queue
 	private final TimeBasedStatistics stats;
 	private final TimeBasedFrequency freq;
@@ -173,7 +176,7 @@ public class Queue extends LinkedComponent {
 	}
 
 	public Queue() {
-		storage = new EntStorage();
+		storage = new TreeEntStorage();
 		userList = new ArrayList<>();
 		stats = new TimeBasedStatistics();
 		freq = new TimeBasedFrequency(0, 10);
@@ -195,8 +198,9 @@ public class Queue extends LinkedComponent {
 	public void earlyInit() {
 		super.earlyInit();
 
-		// Clear the entries in the queue
-		storage.clear();
+		// Select the type of storage for the entries in the queue
+		storage = EntStorage.getStorage(storage, !match.isDefault(), getNumberOfPriorities(),
+				!renegeTime.isDefault());
 
 		// Clear statistics
 		stats.clear();
@@ -207,13 +211,26 @@ public class Queue extends LinkedComponent {
 
 		// Identify the objects that use this queue
 		userList.clear();
-		for (Entity each : getJaamSimModel().getClonesOfIterator(Entity.class, QueueUser.class)) {
+		for (Entity each : getJaamSimModel().getClonesOfList(Entity.class, QueueUser.class)) {
 			QueueUser u = (QueueUser) each;
 			if (u.getQueues().contains(this))
 				userList.add(u);
 		}
 	}
 
+	/**
+	 * Returns the number of distinct priorities that an entity can be given, or -1 if the
+	 * number is not known.
+	 */
+	private int getNumberOfPriorities() {
+		SampleProvider samp = priority.getValue();
+		if (samp instanceof SampleConstant)
+			return 1;
+		if (samp instanceof DiscreteDistribution)
+			return ((DiscreteDistribution) samp).getNumberOfValues();
+		return -1;
+	}
+
 	public boolean isFIFO(double simTime) {
 		return fifo.getNextBoolean(this, simTime);
 	}
@@ -542,6 +559,13 @@ public class Queue extends LinkedComponent {
 		return storage.getTypes();
 	}
 
+	/**
+	 * Returns the number of entity types that are present in this Queue.
+	 */
+	public int getEntityTypeCount() {
+		return storage.getTypeCount();
+	}
+
 	public ArrayList<DisplayEntity> getEntityList() {
 		return getEntityList(null);
 	}
@@ -804,7 +828,7 @@ public class Queue extends LinkedComponent {
 	    unitType = DimensionlessUnit.class,
 	    sequence = 13)
 	public int getMatchValueCount(double simTime) {
-		return getEntityTypes().size();
+		return getEntityTypeCount();
 	}
 
 	@Output(name = "UniqueMatchValues",
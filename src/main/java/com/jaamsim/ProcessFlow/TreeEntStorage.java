@@ -0,0 +1,171 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.ProcessFlow;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.jaamsim.basicsim.SymbolTable;
+
+/**
+ * Storage that holds the entries in a tree ordered by priority and insertion sequence, with a
+ * separate tree for each entity type. It supports any priorities and entity types, and removes
+ * an entry from any position in the same time as from the front.
+ */
+public class TreeEntStorage extends EntStorage {
+
+	private final MappedTreeSet<StorageEntry> entrySet;
+	private final SymbolTable typeTable;  // assigns an id to each entity type in the storage
+	private int typeWithMaxCount;    // id for the entity type with the largest number of entities
+	private int countForMaxType;     // largest number of entities for a given entity type
+	private boolean maxCountValid;   // true if the maximum count is up to date
+
+	public TreeEntStorage() {
+		entrySet = new MappedTreeSet<>();
+		typeTable = new SymbolTable();
+	}
+
+	@Override
+	public void clear() {
+		entrySet.clear();
+		typeTable.clear();
+		maxCountValid = false;
+	}
+
+	@Override
+	public int getTypeId(String type) {
+		if (type == null)
+			return -1;
+		int ret = typeTable.getId(type);
+		if (ret < 0)
+			return Integer.MAX_VALUE;
+		return ret;
+	}
+
+	@Override
+	public boolean add(StorageEntry entry) {
+
+		// Add the entity to the storage
+		int type = typeTable.intern(entry.type);
+		boolean bool = entrySet.add(type, entry);
+		if (!bool) {
+			typeTable.release(type);
+			return false;
+		}
+		entry.typeId = type;
+
+		// Does the entry have a entity type value?
+		if (type < 0 || !maxCountValid)
+			return true;
+
+		// Update the maximum count
+		if (type == typeWithMaxCount) {
+			countForMaxType++;
+		}
+		else {
+			int n = entrySet.size(type);
+			if (n > countForMaxType) {
+				typeWithMaxCount = type;
+				countForMaxType = n;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean remove(StorageEntry entry) {
+
+		// Remove the entity from the storage
+		int type = entry.typeId;
+		boolean found = entrySet.remove(type, entry);
+		if (!found)
+			return false;
+		typeTable.release(type);
+
+		// Does the entry have a entity type value?
+		if (type < 0 || !maxCountValid)
+			return true;
+
+		// Update the maximum count
+		if (type == typeWithMaxCount) {
+			maxCountValid = false;
+		}
+		return true;
+	}
+
+	@Override
+	public int size(int typeId) {
+		if (typeId < 0)
+			return entrySet.size();
+		return entrySet.size(typeId);
+	}
+
+	@Override
+	public StorageEntry first(int typeId) {
+		if (typeId < 0)
+			return entrySet.first();
+		return entrySet.first(typeId);
+	}
+
+	@Override
+	public Iterator<StorageEntry> iterator(int typeId) {
+		if (typeId < 0)
+			return entrySet.iterator();
+		return entrySet.iterator(typeId);
+	}
+
+	/**
+	 * Returns the entity types that are present in the storage, in the order of their ids.
+	 * @return set of entity types.
+	 */
+	@Override
+	public Set<String> getTypes() {
+		int[] keys = entrySet.keys();
+		LinkedHashSet<String> ret = new LinkedHashSet<>(keys.length * 2);
+		for (int key : keys) {
+			ret.add(typeTable.getString(key));
+		}
+		return ret;
+	}
+
+	@Override
+	public int getTypeCount() {
+		return entrySet.getKeyCount();
+	}
+
+	private void updateMaxCount() {
+		if (maxCountValid)
+			return;
+		typeWithMaxCount = entrySet.maxKey();
+		countForMaxType = entrySet.size(typeWithMaxCount);
+		maxCountValid = (typeWithMaxCount >= 0);
+	}
+
+	@Override
+	public String getTypeWithMaxCount() {
+		updateMaxCount();
+		return typeTable.getString(typeWithMaxCount);
+	}
+
+	@Override
+	public int getCountForMaxType() {
+		updateMaxCount();
+		return countForMaxType;
+	}
+
+}
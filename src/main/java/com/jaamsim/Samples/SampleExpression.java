@@ -21,6 +21,7 @@ import java.util.ArrayList;
 
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
+import com.jaamsim.input.ExpDependencies;
 import com.jaamsim.input.ExpError;
 import com.jaamsim.input.ExpEvaluator;
 import com.jaamsim.input.ExpParser;
@@ -94,6 +95,13 @@ public class SampleExpression implements SampleProvider {
 		catch (ExpError e) {}
 	}
 
+	public void appendDependencies(ExpDependencies deps) {
+		try {
+			ExpParser.appendDependencies(exp, deps);
+		}
+		catch (ExpError e) {}
+	}
+
 	@Override
 	public String toString() {
 		return getExpressionString();
@@ -24,6 +24,7 @@ import com.jaamsim.ProbabilityDistributions.Distribution;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
 import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.input.ExpDependencies;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputErrorException;
 import com.jaamsim.input.KeywordIndex;
@@ -172,6 +173,19 @@ public class SampleInput extends Input<SampleProvider> {
 		}
 	}
 
+	@Override
+	public void appendDependencies(ExpDependencies deps) {
+		if (value instanceof Entity) {
+			deps.addEntity((Entity) value);
+			return;
+		}
+
+		if (value instanceof SampleExpression) {
+			((SampleExpression) value).appendDependencies(deps);
+			return;
+		}
+	}
+
 	@Override
 	public boolean useExpressionBuilder() {
 		return true;
@@ -18,7 +18,6 @@
 package com.jaamsim.Samples;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
 import com.jaamsim.BooleanProviders.BooleanProvInput;
 import com.jaamsim.Graphics.DisplayEntity;
@@ -35,6 +34,7 @@ import com.jaamsim.input.InputErrorException;
 import com.jaamsim.input.Keyword;
 import com.jaamsim.input.Output;
 import com.jaamsim.input.TimeSeriesDataInput;
+import com.jaamsim.input.TimeSeriesFileInput;
 import com.jaamsim.input.UnitTypeInput;
 import com.jaamsim.units.TimeUnit;
 import com.jaamsim.units.Unit;
@@ -76,6 +76,19 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	                        "{ '2010-01-01 00:00:00' 0.5 m } { '2010-01-01 03:00:00' 1.5 m }"} )
 	private final TimeSeriesDataInput value;
 
+	@Keyword(description = "A file containing the time series records, which is used in place of "
+	                     + "the 'Value' input for long time series. The records are read from "
+	                     + "the file as the simulation advances, so that only a small part of "
+	                     + "the series is held in memory.\n\n"
+	                     + "A text file has one record per line with the format 'time, value', "
+	                     + "where 'time' is either in seconds or an RFC8601 date/time and "
+	                     + "'value' is in SI units. Lines starting with '#' are ignored. "
+	                     + "A binary file (extension '.bin') contains pairs of big-endian "
+	                     + "double values for the time in seconds and the value in SI units.\n\n"
+	                     + "Records must be in order of increasing time.",
+	         exampleList = {"'TimeSeriesData.csv'", "'TimeSeriesData.bin'"})
+	private final TimeSeriesFileInput dataFile;
+
 	@Keyword(description = "The time at which the time series will repeat from the start.",
 	         exampleList = {"8760.0 h"})
 	private final SampleInput cycleTime;
@@ -98,9 +111,12 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 		value = new TimeSeriesDataInput("Value", KEY_INPUTS, null);
 		value.setTickLength(getSimulation().getTickLength());
 		value.setUnitType(UserSpecifiedUnit.class);
-		value.setRequired(true);
 		this.addInput(value);
 
+		dataFile = new TimeSeriesFileInput("DataFile", KEY_INPUTS);
+		dataFile.setTickLength(getSimulation().getTickLength());
+		this.addInput(dataFile);
+
 		cycleTime = new SampleInput("CycleTime", KEY_INPUTS, Double.POSITIVE_INFINITY);
 		cycleTime.setUnitType(TimeUnit.class);
 		this.addInput(cycleTime);
@@ -118,17 +134,35 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	public void validate() {
 		super.validate();
 
-		if (value.getTickLength() != getSimulation().getTickLength())
+		if (value.getValue() == null && dataFile.getData() == null)
+			throw new InputErrorException("Either the Value or the DataFile input must be specified.");
+
+		if (value.getValue() != null && dataFile.getData() != null)
+			throw new InputErrorException("The Value and DataFile inputs cannot both be specified.");
+
+		double tickLength = (dataFile.getData() != null) ? dataFile.getTickLength() : value.getTickLength();
+		if (tickLength != getSimulation().getTickLength())
 			throw new InputErrorException("A new value was entered for the Simulation keyword TickLength " +
 					"after the TimeSeries data had been loaded.%n" +
 					"The configuration file must be saved and reloaded before the simulation can be executed.");
 
-		long[] ticksList = value.getValue().ticksList;
-		if (getCycleTicks() < ticksList[ticksList.length - 1] - ticksList[0])
+		TimeSeriesPoints data = getData();
+		if (getCycleTicks() < data.getTicks(data.getSize() - 1) - data.getTicks(0))
 			throw new InputErrorException( "CycleTime must be larger than the difference between "
 					+ "the first and last times in the series." );
 	}
 
+	/**
+	 * Returns the records for the time series, which are held either by the 'Value' input or
+	 * by the 'DataFile' input.
+	 */
+	private TimeSeriesPoints getData() {
+		TimeSeriesPoints ret = dataFile.getData();
+		if (ret != null)
+			return ret;
+		return value.getValue();
+	}
+
 	static final InputCallback inputCallback = new InputCallback() {
 		@Override
 		public void callback(Entity ent, Input<?> inp) {
@@ -232,7 +266,22 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 */
 	@Override
 	public double getValueForTicks(long ticks) {
-		return getValue(getTSPointForTicks(ticks));
+		return getValue(getTSPointForTicks(ticks, null));
+	}
+
+	@Override
+	public double getValueForTicks(long ticks, TimeSeriesCursor cursor) {
+		return getValue(getTSPointForTicks(ticks, cursor));
+	}
+
+	@Override
+	public void getValuesForTicks(long[] ticks, double[] values, int len, TimeSeriesCursor cursor) {
+		long offsetTicks = getOffsetTicks();
+		boolean cyclic = !isCycleTimeInfinite();
+		long cycleTicks = cyclic ? getCycleTicks() : 0L;
+		for (int i = 0; i < len; i++) {
+			values[i] = getValue(getTSPointForTicks(ticks[i], offsetTicks, cyclic, cycleTicks, cursor));
+		}
 	}
 
 	/**
@@ -243,7 +292,12 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 */
 	@Override
 	public long getLastChangeBeforeTicks(long ticks) {
-		return getTicks(getTSPointBefore(getTSPointForTicks(ticks)));
+		return getTicks(getTSPointBefore(getTSPointForTicks(ticks, null)));
+	}
+
+	@Override
+	public long getLastChangeBeforeTicks(long ticks, TimeSeriesCursor cursor) {
+		return getTicks(getTSPointBefore(getTSPointForTicks(ticks, cursor)));
 	}
 
 	/**
@@ -254,7 +308,12 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 */
 	@Override
 	public long getNextChangeAfterTicks(long ticks) {
-		return getTicks(getTSPointAfter(getTSPointForTicks(ticks)));
+		return getTicks(getTSPointAfter(getTSPointForTicks(ticks, null)));
+	}
+
+	@Override
+	public long getNextChangeAfterTicks(long ticks, TimeSeriesCursor cursor) {
+		return getTicks(getTSPointAfter(getTSPointForTicks(ticks, cursor)));
 	}
 
 	@Override
@@ -267,8 +326,8 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 		if (!isCycleTimeInfinite())
 			return getCycleTicks();
 
-		long[] ticksList = value.getValue().ticksList;
-		return ticksList[ ticksList.length-1 ];
+		TimeSeriesPoints data = getData();
+		return data.getTicks(data.getSize() - 1);
 	}
 
 	@Override
@@ -278,12 +337,12 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 
 	@Override
 	public double getMaxValue() {
-		return value.getValue().getMaxValue();
+		return getData().getMaxValue();
 	}
 
 	@Override
 	public double getMinValue() {
-		return value.getValue().getMinValue();
+		return getData().getMinValue();
 	}
 
 	@Override
@@ -292,7 +351,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	}
 
 	public boolean isMonotonic(int dir) {
-		return value.getValue().isMonotonic(dir);
+		return getData().isMonotonic(dir);
 	}
 
 	/**
@@ -302,36 +361,44 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 * The position returned is the largest one whose ticks value is less than
 	 * or equal to the specified ticks.
 	 * @param ticks - simulation time in clock ticks.
+	 * @param cursor - position found by the caller's last lookup, or null
 	 * @return position in the TimeSeries.
 	 */
-	private TSPoint getTSPointForTicks(long ticks) {
-		long[] ticksList = value.getValue().ticksList;
+	private TSPoint getTSPointForTicks(long ticks, TimeSeriesCursor cursor) {
+		boolean cyclic = !isCycleTimeInfinite();
+		long cycleTicks = cyclic ? getCycleTicks() : 0L;
+		return getTSPointForTicks(ticks, getOffsetTicks(), cyclic, cycleTicks, cursor);
+	}
+
+	private TSPoint getTSPointForTicks(long ticks, long offsetTicks, boolean cyclic, long cycleTicks,
+			TimeSeriesCursor cursor) {
+		TimeSeriesPoints data = getData();
+		int last = data.getSize() - 1;
 
 		if (ticks == Long.MAX_VALUE) {
-			if (isCycleTimeInfinite())
-				return new TSPoint(ticksList.length - 1, 0);
-			return new TSPoint(ticksList.length - 1, Long.MAX_VALUE);
+			if (!cyclic)
+				return new TSPoint(last, 0);
+			return new TSPoint(last, Long.MAX_VALUE);
 		}
 
 		// Calculate the offset internal clock ticks
-		ticks -= getOffsetTicks();
+		ticks -= offsetTicks;
 
 		// Find the time within the present cycle
 		long ticksInCycle = Math.max(ticks, 0L);
 		long numberOfCycles = 0L;
-		if (!isCycleTimeInfinite()) {
-			long cycleTicks = getCycleTicks();
-			numberOfCycles = Math.floorDiv(ticks - ticksList[0], cycleTicks);
+		if (cyclic) {
+			numberOfCycles = Math.floorDiv(ticks - data.getTicks(0), cycleTicks);
 			ticksInCycle = ticks - numberOfCycles*cycleTicks;
 		}
 
 		// If the time in the cycle is greater than the last time, return the last value
-		if (ticksInCycle >= ticksList[ticksList.length - 1]) {
-			return new TSPoint(ticksList.length - 1, numberOfCycles);
+		if (ticksInCycle >= data.getTicks(last)) {
+			return new TSPoint(last, numberOfCycles);
 		}
 
 		// Find the index by binary search
-		int k = Arrays.binarySearch(ticksList, ticksInCycle);
+		int k = (cursor == null) ? data.searchTicks(ticksInCycle) : cursor.searchTicks(data, ticksInCycle);
 
 		// If the returned index is greater or equal to zero,
 		// then an exact match was found
@@ -339,7 +406,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 			return new TSPoint(k, numberOfCycles);
 
 		if (k == -1)
-			error("No value found at time: %f", getSimTime(ticks + getOffsetTicks()));
+			error("No value found at time: %f", getSimTime(ticks + offsetTicks));
 
 		// If the returned index is negative, then (insertion index) = -k-1
 		// Return the index before the insertion index
@@ -352,24 +419,26 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 * The TimeSeries values must increase monotonically. The position returned
 	 * is the largest one whose value is less than or equal to the specified value.
 	 * @param val - specified value.
+	 * @param cursor - position found by the caller's last lookup, or null
 	 * @return position in the TimeSeries.
 	 */
-	private TSPoint getTSPointForValue(double val) {
+	private TSPoint getTSPointForValue(double val, TimeSeriesCursor cursor) {
 
-		double[] valueList = value.getValue().valueList;
+		TimeSeriesPoints data = getData();
+		int last = data.getSize() - 1;
 		if (val > getMaxValue() && isCycleTimeInfinite())
-			return new TSPoint(valueList.length - 1, 0);
+			return new TSPoint(last, 0);
 
 		// Find the value within the present cycle
 		double valInCycle = val % getMaxValue();
 		long numberOfCycles = Math.round((val - valInCycle) / getMaxValue());
 
 		// If the value in the cycle is greater than or equal to the last value, return the last index
-		if (valInCycle >= valueList[valueList.length - 1])
-			return new TSPoint(valueList.length - 1, numberOfCycles);
+		if (valInCycle >= data.getValue(last))
+			return new TSPoint(last, numberOfCycles);
 
 		// Find the index by binary search
-		int k = Arrays.binarySearch(valueList, valInCycle);
+		int k = (cursor == null) ? data.searchValue(valInCycle) : cursor.searchValue(data, valInCycle);
 
 		// If the returned index is greater or equal to zero,
 		// then an exact match was found
@@ -394,8 +463,8 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 		if (pt.index == -1)
 			return Long.MAX_VALUE;
 		if (isCycleTimeInfinite())
-			return value.getValue().ticksList[pt.index] + getOffsetTicks();
-		return value.getValue().ticksList[pt.index] + getOffsetTicks() + pt.numberOfCycles*getCycleTicks();
+			return getData().getTicks(pt.index) + getOffsetTicks();
+		return getData().getTicks(pt.index) + getOffsetTicks() + pt.numberOfCycles*getCycleTicks();
 	}
 
 	/**
@@ -405,10 +474,10 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	 * @return value for the time series.
 	 */
 	private double getValue(TSPoint pt) {
-		double valueList[] = value.getValue().valueList;
+		TimeSeriesPoints data = getData();
 		if (pt.index == -1)
-			return valueList[ valueList.length - 1 ];
-		return valueList[pt.index];
+			return data.getValue(data.getSize() - 1);
+		return data.getValue(pt.index);
 	}
 
 	/**
@@ -442,7 +511,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 			if (isCycleTimeInfinite())
 				return new TSPoint(-1, pt.numberOfCycles);
 
-			return new TSPoint(value.getValue().ticksList.length - 1, pt.numberOfCycles - 1);
+			return new TSPoint(getData().getSize() - 1, pt.numberOfCycles - 1);
 		}
 
 		return new TSPoint(pt.index - 1, pt.numberOfCycles);
@@ -461,7 +530,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 		if (pt.index == -1)
 			return new TSPoint(pt.index, pt.numberOfCycles);
 
-		if (pt.index == value.getValue().ticksList.length - 1) {
+		if (pt.index == getData().getSize() - 1) {
 			if (isCycleTimeInfinite())
 				return new TSPoint(-1, pt.numberOfCycles);
 
@@ -473,8 +542,13 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 
 	@Override
 	public long getInterpolatedTicksForValue(double val) {
+		return getInterpolatedTicksForValue(val, null);
+	}
+
+	@Override
+	public long getInterpolatedTicksForValue(double val, TimeSeriesCursor cursor) {
 
-		TSPoint low = getTSPointForValue(val);
+		TSPoint low = getTSPointForValue(val, cursor);
 		TSPoint high = getTSPointAfter(low);
 		if (high.index == -1)
 			return Long.MAX_VALUE;
@@ -496,12 +570,17 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 
 	@Override
 	public double getInterpolatedCumulativeValueForTicks(long ticks) {
+		return getInterpolatedCumulativeValueForTicks(ticks, null);
+	}
+
+	@Override
+	public double getInterpolatedCumulativeValueForTicks(long ticks, TimeSeriesCursor cursor) {
 
-		TSPoint low = getTSPointForTicks(ticks);
+		TSPoint low = getTSPointForTicks(ticks, cursor);
 		TSPoint high = getTSPointAfter(low);
 		if (high.index == -1) {
-			double valueList[] = value.getValue().valueList;
-			return valueList[ valueList.length - 1 ];
+			TimeSeriesPoints data = getData();
+			return data.getValue(data.getSize() - 1);
 		}
 
 		long ticksLow = getTicks(low);
@@ -525,7 +604,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 
 	@Override
 	public final double getNextSample(Entity thisEnt, double simTime) {
-		return getValue(getTSPointForTicks(getTicks(simTime)));
+		return getValue(getTSPointForTicks(getTicks(simTime), null));
 	}
 
 	// ******************************************************************************************************
@@ -537,7 +616,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	    unitType = UserSpecifiedUnit.class,
 	    sequence = 1)
 	public final double getPresentValue(double simTime) {
-		if (value.getValue() == null)
+		if (getData() == null)
 			return Double.NaN;
 		return this.getNextSample(simTime);
 	}
@@ -547,7 +626,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	    unitType = TimeUnit.class,
 	    sequence = 2)
 	public final double getNextEventTime(double simTime) {
-		if (value.getValue() == null)
+		if (getData() == null)
 			return 0.0d;
 		return this.getNextTimeAfter(simTime);
 	}
@@ -557,7 +636,7 @@ public class TimeSeries extends DisplayEntity implements TimeSeriesProvider, Sub
 	    unitType = UserSpecifiedUnit.class,
 	    sequence = 3)
 	public final double getNextValue(double simTime) {
-		if (value.getValue() == null)
+		if (getData() == null)
 			return Double.NaN;
 		EventManager evt = this.getJaamSimModel().getEventManager();
 		long simTicks = evt.secondsToNearestTick(simTime);
@@ -17,6 +17,8 @@
  */
 package com.jaamsim.Samples;
 
+import java.util.Arrays;
+
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.input.Input;
@@ -60,6 +62,16 @@ public class TimeSeriesConstantDouble implements TimeSeriesProvider {
 		return val;
 	}
 
+	@Override
+	public double getValueForTicks(long ticks, TimeSeriesCursor cursor) {
+		return val;
+	}
+
+	@Override
+	public void getValuesForTicks(long[] ticks, double[] values, int len, TimeSeriesCursor cursor) {
+		Arrays.fill(values, 0, len, val);
+	}
+
 	@Override
 	public double getNextTimeAfter(double simTime) {
 		return Double.POSITIVE_INFINITY;
@@ -75,6 +87,16 @@ public class TimeSeriesConstantDouble implements TimeSeriesProvider {
 		return Long.MAX_VALUE;
 	}
 
+	@Override
+	public long getLastChangeBeforeTicks(long ticks, TimeSeriesCursor cursor) {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public long getNextChangeAfterTicks(long ticks, TimeSeriesCursor cursor) {
+		return Long.MAX_VALUE;
+	}
+
 	@Override
 	public double getMaxValue() {
 		return val;
@@ -117,8 +139,18 @@ public class TimeSeriesConstantDouble implements TimeSeriesProvider {
 		return 0;
 	}
 
+	@Override
+	public long getInterpolatedTicksForValue(double val, TimeSeriesCursor cursor) {
+		return 0;
+	}
+
 	@Override
 	public double getInterpolatedCumulativeValueForTicks(long ticks) {
 		return val;
 	}
+
+	@Override
+	public double getInterpolatedCumulativeValueForTicks(long ticks, TimeSeriesCursor cursor) {
+		return val;
+	}
 }
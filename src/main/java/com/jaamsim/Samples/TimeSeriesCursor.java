@@ -0,0 +1,151 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.Samples;
+
+/**
+ * Remembers the position in a time series that was found by the last lookup, so that the next
+ * lookup by the same caller can start from there instead of searching the entire series.
+ * <p>
+ * Simulation time only moves forward, so most lookups are either for the same record or for
+ * one of the next few records. These are found in constant time. A lookup for an earlier time
+ * or for a time well past the remembered position reverts to a binary search.
+ * <p>
+ * A cursor is not thread-safe and should be used by only one caller.
+ */
+public class TimeSeriesCursor {
+	private static final int MAX_STEPS = 8;  // records to step forward before searching
+
+	private TimeSeriesPoints data;  // records for which the positions are valid
+
+	// Position found by the last lookup by time
+	private int ticksIndex;
+	private long loTicks;  // time for the record at the position
+	private long hiTicks;  // time for the next record
+
+	// Position found by the last lookup by value
+	private int valueIndex;
+	private double prevValue;  // value for the previous record
+	private double loValue;    // value for the record at the position
+	private double hiValue;    // value for the next record
+
+	public TimeSeriesCursor() {
+		clear();
+	}
+
+	/**
+	 * Forgets the positions found by previous lookups.
+	 */
+	public void clear() {
+		data = null;
+		ticksIndex = -1;
+		valueIndex = -1;
+	}
+
+	private void setData(TimeSeriesPoints pts) {
+		if (pts == data)
+			return;
+		clear();
+		data = pts;
+	}
+
+	/**
+	 * Searches the record times for the specified time in clock ticks.
+	 * The result is identical to TimeSeriesPoints.searchTicks.
+	 * @param pts - time series records
+	 * @param ticks - time in clock ticks
+	 * @return position of the record or (-(insertion point) - 1)
+	 */
+	int searchTicks(TimeSeriesPoints pts, long ticks) {
+		setData(pts);
+
+		// Step forward from the last position
+		if (ticksIndex >= 0 && ticks >= loTicks) {
+			for (int n = 0; n < MAX_STEPS; n++) {
+				if (ticks < hiTicks) {
+					if (ticks == loTicks)
+						return ticksIndex;
+					return -ticksIndex - 2;
+				}
+				if (ticksIndex + 1 >= data.getSize())
+					break;
+				setTicksIndex(ticksIndex + 1);
+			}
+		}
+
+		// Search the entire series
+		int k = pts.searchTicks(ticks);
+		int ind = (k >= 0) ? k : -k - 2;
+		if (ind >= 0)
+			setTicksIndex(ind);
+		else
+			ticksIndex = -1;
+		return k;
+	}
+
+	private void setTicksIndex(int i) {
+		ticksIndex = i;
+		loTicks = data.getTicks(i);
+		hiTicks = (i + 1 < data.getSize()) ? data.getTicks(i + 1) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Searches the record values for the specified value.
+	 * The result is identical to TimeSeriesPoints.searchValue.
+	 * @param pts - time series records
+	 * @param val - time series value
+	 * @return position of the record or (-(insertion point) - 1)
+	 */
+	int searchValue(TimeSeriesPoints pts, double val) {
+		setData(pts);
+
+		// Step forward from the last position
+		if (valueIndex >= 0 && val >= loValue) {
+			for (int n = 0; n < MAX_STEPS; n++) {
+				if (val < hiValue) {
+					if (val != loValue)
+						return -valueIndex - 2;
+
+					// An exact match is returned only if it is unique, since the binary
+					// search can return any one of a set of equal values
+					if (valueIndex == 0 || prevValue != val)
+						return valueIndex;
+					break;
+				}
+				if (valueIndex + 1 >= data.getSize())
+					break;
+				setValueIndex(valueIndex + 1);
+			}
+		}
+
+		// Search the entire series
+		int k = pts.searchValue(val);
+		int ind = (k >= 0) ? k : -k - 2;
+		if (ind >= 0)
+			setValueIndex(ind);
+		else
+			valueIndex = -1;
+		return k;
+	}
+
+	private void setValueIndex(int i) {
+		valueIndex = i;
+		prevValue = (i > 0) ? data.getValue(i - 1) : Double.NaN;
+		loValue = data.getValue(i);
+		hiValue = (i + 1 < data.getSize()) ? data.getValue(i + 1) : Double.POSITIVE_INFINITY;
+	}
+
+}
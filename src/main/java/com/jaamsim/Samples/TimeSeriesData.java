@@ -17,10 +17,12 @@
  */
 package com.jaamsim.Samples;
 
+import java.util.Arrays;
+
 import com.jaamsim.datatypes.DoubleVector;
 import com.jaamsim.events.EventManager;
 
-public class TimeSeriesData {
+public class TimeSeriesData implements TimeSeriesPoints {
 	final EventManager evt;
 	final long[] ticksList;   // time in clock ticks corresponding to each value
 	final double[] valueList;
@@ -44,19 +46,42 @@ public class TimeSeriesData {
 		}
 	}
 
+	@Override
+	public int getSize() {
+		return ticksList.length;
+	}
+
+	@Override
+	public long getTicks(int i) {
+		return ticksList[i];
+	}
+
+	@Override
+	public double getValue(int i) {
+		return valueList[i];
+	}
+
+	@Override
+	public int searchTicks(long ticks) {
+		return Arrays.binarySearch(ticksList, ticks);
+	}
+
+	@Override
+	public int searchValue(double val) {
+		return Arrays.binarySearch(valueList, val);
+	}
+
+	@Override
 	public double getMaxValue() {
 		return maxValue;
 	}
 
+	@Override
 	public double getMinValue() {
 		return minValue;
 	}
 
-	/**
-	 * Tests whether the time series values are monotonically increasing or decreasing.
-	 * @param dir - direction (positive = increasing, negative = decreasing)
-	 * @return true if monotonic
-	 */
+	@Override
 	public boolean isMonotonic(int dir) {
 		for (int i = 1; i < valueList.length; i++) {
 			int comp = Double.compare(valueList[i], valueList[i - 1]);
@@ -0,0 +1,431 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.Samples;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.jaamsim.basicsim.ErrorException;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.input.Input;
+import com.jaamsim.input.InputErrorException;
+
+/**
+ * Time series records that are streamed from a sorted file instead of being held in memory.
+ * <p>
+ * The file is scanned once when it is loaded to check the records and to build a sparse index
+ * that holds the file position, time, and value for the first record in each block of records.
+ * During the simulation run, the records are read one block at a time into a small window of
+ * buffers that follows the simulation time. The memory used for the records does not depend on
+ * the length of the series.
+ * <p>
+ * Two file formats are supported:
+ * <ul>
+ * <li>text - one record per line with the form 'time, value', where 'time' is either a number
+ * of seconds or an RFC8601 date/time and 'value' is in SI units. Blank lines and lines starting
+ * with '#' are ignored.
+ * <li>binary ('.bin' extension) - a sequence of big-endian double pairs that give the time in
+ * seconds and the value in SI units.
+ * </ul>
+ */
+public class TimeSeriesFileData implements TimeSeriesPoints {
+	static final int BLOCK_SIZE = 4096;  // number of records read from the file at one time
+	private static final int WINDOW_SIZE = 2;  // number of blocks held in memory
+	private static final int RECORD_BYTES = 16;  // size of a record in a binary file
+
+	private final JaamSimModel simModel;
+	private final File file;
+	private final boolean binary;
+	private final double tickLength;  // simulation clock tick length used to convert times into ticks
+	private final boolean offsetToFirst;
+	private long offset;  // time in microseconds that is subtracted from each record
+
+	// Sparse index with one entry for each block of records
+	private int numBlocks;
+	private long[] blockPos;
+	private long[] blockTicks;
+	private double[] blockValues;
+
+	private int size;
+	private double maxValue;
+	private double minValue;
+	private boolean increasing;  // true if any value is greater than the previous one
+	private boolean decreasing;  // true if any value is less than the previous one
+
+	// Blocks of records that have been read from the file
+	private final Block[] window = new Block[WINDOW_SIZE];
+	private int lastUsed;  // position in the window for the last block accessed
+
+	private static class Block {
+		int index;
+		int count;
+		final long[] ticks = new long[BLOCK_SIZE];
+		final double[] values = new double[BLOCK_SIZE];
+	}
+
+	public TimeSeriesFileData(JaamSimModel simModel, URI uri, double tickLength, boolean offsetToFirst)
+			throws InputErrorException {
+		if (!"file".equalsIgnoreCase(uri.getScheme()))
+			throw new InputErrorException("The time series file must be a local file.%nURI=%s", uri);
+
+		this.simModel = simModel;
+		this.file = new File(uri);
+		this.binary = file.getName().toLowerCase().endsWith(".bin");
+		this.tickLength = tickLength;
+		this.offsetToFirst = offsetToFirst;
+		scan();
+	}
+
+	/**
+	 * Reads the entire file to check the records and to build the block index.
+	 */
+	private void scan() throws InputErrorException {
+		blockPos = new long[16];
+		blockTicks = new long[16];
+		blockValues = new double[16];
+		maxValue = Double.NEGATIVE_INFINITY;
+		minValue = Double.POSITIVE_INFINITY;
+
+		try (RecordReader rdr = new RecordReader(0L)) {
+			long lastTime = Long.MIN_VALUE;
+			double lastValue = Double.NaN;
+			while (rdr.next()) {
+
+				// Make sure the times are in increasing order
+				if (rdr.micros <= lastTime)
+					throw new InputErrorException("%s: The times must be given in increasing order.",
+							rdr.getLocation());
+				lastTime = rdr.micros;
+
+				// Set the offset to the time for the first record
+				if (size == 0 && offsetToFirst)
+					offset = rdr.micros;
+
+				// Start a new block
+				if (size % BLOCK_SIZE == 0) {
+					if (numBlocks == blockPos.length) {
+						blockPos = Arrays.copyOf(blockPos, numBlocks*2);
+						blockTicks = Arrays.copyOf(blockTicks, numBlocks*2);
+						blockValues = Arrays.copyOf(blockValues, numBlocks*2);
+					}
+					blockPos[numBlocks] = rdr.recordPos;
+					blockTicks[numBlocks] = getTicks(rdr.micros);
+					blockValues[numBlocks] = rdr.value;
+					numBlocks++;
+				}
+
+				maxValue = Math.max(maxValue, rdr.value);
+				minValue = Math.min(minValue, rdr.value);
+				if (size > 0) {
+					int comp = Double.compare(rdr.value, lastValue);
+					increasing |= (comp > 0);
+					decreasing |= (comp < 0);
+				}
+				lastValue = rdr.value;
+				size++;
+			}
+		}
+		catch (IOException e) {
+			throw new InputErrorException("IOException thrown trying to read time series file:%n%s",
+					e.getMessage());
+		}
+
+		if (size == 0)
+			throw new InputErrorException("The time series file does not contain any records.");
+
+		// Confirm that the first simulation time is less than or equal to zero
+		if (blockTicks[0] > 0L)
+			throw new InputErrorException("First simulation time must be less than or equal to "
+					+ "zero. Received %s seconds.", blockTicks[0]*tickLength);
+	}
+
+	private long getTicks(long micros) {
+		return Math.round((micros - offset)/(1.0e6*tickLength));
+	}
+
+	/**
+	 * Returns the specified block of records, reading it from the file if it is not already
+	 * held in the window.
+	 * @param b - index of the block
+	 * @return block of records
+	 */
+	private Block getBlock(int b) {
+		Block blk = window[lastUsed];
+		if (blk != null && blk.index == b)
+			return blk;
+
+		// Look for the block in the rest of the window
+		for (int i = 0; i < WINDOW_SIZE; i++) {
+			blk = window[i];
+			if (blk != null && blk.index == b) {
+				lastUsed = i;
+				return blk;
+			}
+		}
+
+		// Replace the block that follows the last one accessed
+		lastUsed = (lastUsed + 1) % WINDOW_SIZE;
+		blk = window[lastUsed];
+		if (blk == null) {
+			blk = new Block();
+			window[lastUsed] = blk;
+		}
+		blk.index = -1;
+		int count = Math.min(BLOCK_SIZE, size - b*BLOCK_SIZE);
+		try (RecordReader rdr = new RecordReader(blockPos[b])) {
+			for (int i = 0; i < count; i++) {
+				if (!rdr.next())
+					throw new ErrorException("Time series file has been changed: %s", file);
+				blk.ticks[i] = getTicks(rdr.micros);
+				blk.values[i] = rdr.value;
+			}
+		}
+		catch (IOException e) {
+			throw new ErrorException("IOException thrown trying to read time series file:%n%s",
+					e.getMessage());
+		}
+		blk.count = count;
+		blk.index = b;
+		return blk;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public synchronized long getTicks(int i) {
+		return getBlock(i / BLOCK_SIZE).ticks[i % BLOCK_SIZE];
+	}
+
+	@Override
+	public synchronized double getValue(int i) {
+		return getBlock(i / BLOCK_SIZE).values[i % BLOCK_SIZE];
+	}
+
+	@Override
+	public synchronized int searchTicks(long ticks) {
+		int b = Arrays.binarySearch(blockTicks, 0, numBlocks, ticks);
+		if (b >= 0)
+			return b*BLOCK_SIZE;
+
+		// Search the block that precedes the insertion point
+		b = -b - 2;
+		if (b < 0)
+			return -1;
+		Block blk = getBlock(b);
+		int k = Arrays.binarySearch(blk.ticks, 0, blk.count, ticks);
+		if (k >= 0)
+			return b*BLOCK_SIZE + k;
+		return -(b*BLOCK_SIZE - k - 1) - 1;
+	}
+
+	@Override
+	public synchronized int searchValue(double val) {
+		int b = Arrays.binarySearch(blockValues, 0, numBlocks, val);
+		if (b >= 0)
+			return b*BLOCK_SIZE;
+
+		// Search the block that precedes the insertion point
+		b = -b - 2;
+		if (b < 0)
+			return -1;
+		Block blk = getBlock(b);
+		int k = Arrays.binarySearch(blk.values, 0, blk.count, val);
+		if (k >= 0)
+			return b*BLOCK_SIZE + k;
+		return -(b*BLOCK_SIZE - k - 1) - 1;
+	}
+
+	@Override
+	public double getMaxValue() {
+		return maxValue;
+	}
+
+	@Override
+	public double getMinValue() {
+		return minValue;
+	}
+
+	@Override
+	public boolean isMonotonic(int dir) {
+		if (dir > 0)
+			return !decreasing;
+		if (dir < 0)
+			return !increasing;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return file.getPath();
+	}
+
+	/**
+	 * Reads the records from the file, starting at a specified file position.
+	 */
+	private class RecordReader implements Closeable {
+		private final InputStream in;
+		private final byte[] buf = new byte[RECORD_BYTES];
+		private byte[] line = new byte[256];
+		private long pos;  // file position of the next byte to be read
+		private int count;  // number of lines or records read
+
+		long recordPos;  // file position of the last record read
+		long micros;  // time for the last record in microseconds
+		double value;  // value for the last record
+
+		RecordReader(long start) throws IOException {
+			FileInputStream fin = new FileInputStream(file);
+			try {
+				fin.getChannel().position(start);
+			}
+			catch (IOException e) {
+				fin.close();
+				throw e;
+			}
+			in = new BufferedInputStream(fin, 1 << 16);
+			pos = start;
+		}
+
+		String getLocation() {
+			if (binary)
+				return String.format("Record %s", count);
+			return String.format("Line %s", count);
+		}
+
+		/**
+		 * Reads the next record from the file.
+		 * @return false if the end of the file has been reached
+		 */
+		boolean next() throws IOException, InputErrorException {
+			if (binary)
+				return nextBinary();
+			return nextText();
+		}
+
+		private boolean nextBinary() throws IOException, InputErrorException {
+			int n = 0;
+			while (n < RECORD_BYTES) {
+				int len = in.read(buf, n, RECORD_BYTES - n);
+				if (len < 0)
+					break;
+				n += len;
+			}
+			if (n == 0)
+				return false;
+			count++;
+			if (n < RECORD_BYTES)
+				throw new InputErrorException("%s: Incomplete record at the end of the file.",
+						getLocation());
+
+			recordPos = pos;
+			pos += RECORD_BYTES;
+			ByteBuffer bb = ByteBuffer.wrap(buf);
+			micros = (long) (bb.getDouble(0)*1e6);
+			value = bb.getDouble(8);
+			return true;
+		}
+
+		private boolean nextText() throws IOException, InputErrorException {
+			while (true) {
+				long start = pos;
+				String str = readLine();
+				if (str == null)
+					return false;
+				count++;
+
+				str = str.trim();
+				if (str.isEmpty() || str.startsWith("#"))
+					continue;
+
+				recordPos = start;
+				parseRecord(str);
+				return true;
+			}
+		}
+
+		private String readLine() throws IOException {
+			int n = 0;
+			int b = in.read();
+			if (b < 0)
+				return null;
+			while (b >= 0) {
+				pos++;
+				if (b == '\n')
+					break;
+				if (n == line.length)
+					line = Arrays.copyOf(line, n*2);
+				line[n++] = (byte) b;
+				b = in.read();
+			}
+			return new String(line, 0, n, StandardCharsets.UTF_8);
+		}
+
+		private void parseRecord(String str) throws InputErrorException {
+
+			// The value follows the last delimiter in the line
+			int idx = -1;
+			for (int i = str.length() - 1; i >= 0; i--) {
+				char c = str.charAt(i);
+				if (c == ',' || c == ';' || Character.isWhitespace(c)) {
+					idx = i;
+					break;
+				}
+			}
+			if (idx < 0)
+				throw new InputErrorException("%s: Expected a record of the form 'time, value'. "
+						+ "Received: %s", getLocation(), str);
+
+			String timeStr = str.substring(0, idx).trim();
+			while (timeStr.endsWith(",") || timeStr.endsWith(";"))
+				timeStr = timeStr.substring(0, timeStr.length() - 1).trim();
+			timeStr = timeStr.replace("'", "").replace("\"", "");
+			String valStr = str.substring(idx + 1).trim();
+
+			try {
+				if (Input.isRFC8601DateTime(timeStr))
+					micros = (long) (Input.parseRFC8601DateTime(simModel, timeStr)*1e6);
+				else
+					micros = (long) (Double.parseDouble(timeStr)*1e6);
+				value = Double.parseDouble(valStr);
+			}
+			catch (NumberFormatException e) {
+				throw new InputErrorException("%s: Invalid record: %s", getLocation(), str);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
+}
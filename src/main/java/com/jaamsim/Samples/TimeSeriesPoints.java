@@ -0,0 +1,73 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.Samples;
+
+/**
+ * Read access to the sorted (time, value) records held by a TimeSeries.
+ * <p>
+ * The records can be held in memory or streamed from a file. Positions are numbered from zero
+ * in order of increasing time.
+ */
+public interface TimeSeriesPoints {
+
+	/**
+	 * Returns the number of records in the time series.
+	 */
+	public int getSize();
+
+	/**
+	 * Returns the time in clock ticks for the specified record.
+	 * @param i - position of the record
+	 * @return time in clock ticks
+	 */
+	public long getTicks(int i);
+
+	/**
+	 * Returns the value for the specified record.
+	 * @param i - position of the record
+	 * @return time series value
+	 */
+	public double getValue(int i);
+
+	/**
+	 * Searches the record times for the specified time in clock ticks.
+	 * The result follows the contract of Arrays.binarySearch.
+	 * @param ticks - time in clock ticks
+	 * @return position of the record or (-(insertion point) - 1)
+	 */
+	public int searchTicks(long ticks);
+
+	/**
+	 * Searches the record values for the specified value. The values must be monotonically
+	 * increasing. The result follows the contract of Arrays.binarySearch.
+	 * @param val - time series value
+	 * @return position of the record or (-(insertion point) - 1)
+	 */
+	public int searchValue(double val);
+
+	public double getMaxValue();
+
+	public double getMinValue();
+
+	/**
+	 * Tests whether the time series values are monotonically increasing or decreasing.
+	 * @param dir - direction (positive = increasing, negative = decreasing)
+	 * @return true if monotonic
+	 */
+	public boolean isMonotonic(int dir);
+
+}
@@ -27,6 +27,27 @@ public interface TimeSeriesProvider extends SampleProvider {
 	public long getLastChangeBeforeTicks(long ticks);
 	public long getMaxTicksValue();
 
+	/**
+	 * Returns the value for the specified simulation time in clock ticks. The lookup starts
+	 * from the position held by the cursor, which is then updated.
+	 * @param ticks - simulation time in clock ticks.
+	 * @param cursor - position found by the caller's last lookup.
+	 * @return time series value.
+	 */
+	public double getValueForTicks(long ticks, TimeSeriesCursor cursor);
+	public long getNextChangeAfterTicks(long ticks, TimeSeriesCursor cursor);
+	public long getLastChangeBeforeTicks(long ticks, TimeSeriesCursor cursor);
+
+	/**
+	 * Returns the values for a list of simulation times in clock ticks. The lookups are
+	 * fastest when the times are in increasing order.
+	 * @param ticks - simulation times in clock ticks.
+	 * @param values - array to receive the time series values.
+	 * @param len - number of times to look up.
+	 * @param cursor - position found by the caller's last lookup.
+	 */
+	public void getValuesForTicks(long[] ticks, double[] values, int len, TimeSeriesCursor cursor);
+
 	/**
 	 * Returns the simulation time in ticks corresponding to the specified
 	 * value that it interpolated from the time series entries.
@@ -36,6 +57,7 @@ public interface TimeSeriesProvider extends SampleProvider {
 	 * @return interpolated simulation time in clock ticks.
 	 */
 	public long getInterpolatedTicksForValue(double val);
+	public long getInterpolatedTicksForValue(double val, TimeSeriesCursor cursor);
 
 	/**
 	 * Returns the value corresponding to the specified simulation
@@ -45,4 +67,5 @@ public interface TimeSeriesProvider extends SampleProvider {
 	 * @return interpolated value.
 	 */
 	public double getInterpolatedCumulativeValueForTicks(long ticks);
+	public double getInterpolatedCumulativeValueForTicks(long ticks, TimeSeriesCursor cursor);
 }
@@ -17,6 +17,8 @@
 package com.jaamsim.StringProviders;
 
 import com.jaamsim.basicsim.Entity;
+import com.jaamsim.units.DimensionlessUnit;
+import com.jaamsim.units.Unit;
 
 public class StringProvConstant implements StringProvider {
 
@@ -51,6 +53,11 @@ public class StringProvConstant implements StringProvider {
 		return Double.NaN;
 	}
 
+	@Override
+	public Class<? extends Unit> getUnitType(Entity thisEnt, double simTime) {
+		return DimensionlessUnit.class;
+	}
+
 	@Override
 	public String toString() {
 		return val;
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
 import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.input.ExpDependencies;
 import com.jaamsim.input.ExpError;
 import com.jaamsim.input.ExpEvaluator;
 import com.jaamsim.input.ExpParser;
@@ -148,6 +149,13 @@ public class StringProvExpression implements StringProvider {
 		catch (ExpError e) {}
 	}
 
+	public void appendDependencies(ExpDependencies deps) {
+		try {
+			ExpParser.appendDependencies(exp, deps);
+		}
+		catch (ExpError e) {}
+	}
+
 	@Override
 	public double getNextValue(Entity thisEnt, double simTime) {
 		double ret = Double.NaN;
@@ -163,6 +171,19 @@ public class StringProvExpression implements StringProvider {
 		return ret;
 	}
 
+	@Override
+	public Class<? extends Unit> getUnitType(Entity thisEnt, double simTime) {
+		try {
+			ExpResult result = ExpEvaluator.evaluateExpression(exp, thisEnt, simTime);
+			if (result.type == ExpResType.NUMBER)
+				return result.unitType;
+			return DimensionlessUnit.class;
+		}
+		catch(ExpError e) {
+			throw new ErrorException(thisEnt, e);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return parseContext.getUpdatedSource();
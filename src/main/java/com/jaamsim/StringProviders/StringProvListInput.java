@@ -20,16 +20,19 @@ package com.jaamsim.StringProviders;
 import java.util.ArrayList;
 import java.util.Collections;
 
+import com.jaamsim.Samples.SampleExpression;
 import com.jaamsim.Samples.SampleProvider;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.input.ArrayListInput;
+import com.jaamsim.input.ExpDependencies;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputErrorException;
 import com.jaamsim.input.KeywordIndex;
 import com.jaamsim.input.Parser;
 import com.jaamsim.units.DimensionlessUnit;
+import com.jaamsim.units.Unit;
 
 public class StringProvListInput extends ArrayListInput<StringProvider> {
 
@@ -149,6 +152,31 @@ public class StringProvListInput extends ArrayListInput<StringProvider> {
 		}
 	}
 
+	@Override
+	public void appendDependencies(ExpDependencies deps) {
+		if (value == null)
+			return;
+		for (StringProvider sp : value) {
+			if (sp instanceof StringProvExpression) {
+				((StringProvExpression) sp).appendDependencies(deps);
+				continue;
+			}
+
+			if (sp instanceof StringProvSample) {
+				SampleProvider samp = ((StringProvSample) sp).getSampleProvider();
+				if (samp instanceof Entity)
+					deps.addEntity((Entity) samp);
+				else if (samp instanceof SampleExpression)
+					((SampleExpression) samp).appendDependencies(deps);
+				continue;
+			}
+
+			if (sp instanceof Entity) {
+				deps.addEntity((Entity) sp);
+			}
+		}
+	}
+
 	@Override
 	public boolean useExpressionBuilder() {
 		return true;
@@ -202,6 +230,20 @@ public class StringProvListInput extends ArrayListInput<StringProvider> {
 		}
 	}
 
+	public Class<? extends Unit> getUnitType(int i, Entity thisEnt, double simTime) {
+		try {
+			return getValue().get(i).getUnitType(thisEnt, simTime);
+		}
+		catch (ErrorException e) {
+			e.keyword = getKeyword();
+			e.index = i + 1;
+			throw e;
+		}
+		catch (Exception e) {
+			throw new ErrorException(thisEnt, getKeyword(), i + 1, e);
+		}
+	}
+
 	public String[] getNextStrings(Entity thisEnt, double simTime) {
 		String[] ret = new String[getListSize()];
 		for (int i = 0; i < getListSize(); i++) {
@@ -19,6 +19,7 @@ package com.jaamsim.StringProviders;
 
 import com.jaamsim.Samples.SampleProvider;
 import com.jaamsim.basicsim.Entity;
+import com.jaamsim.units.Unit;
 
 public class StringProvSample implements StringProvider {
 	private final SampleProvider samp;
@@ -57,6 +58,11 @@ public class StringProvSample implements StringProvider {
 		return samp.getNextSample(thisEnt, simTime);
 	}
 
+	@Override
+	public Class<? extends Unit> getUnitType(Entity thisEnt, double simTime) {
+		return samp.getUnitType();
+	}
+
 	@Override
 	public String toString() {
 		return samp.toString();
@@ -18,6 +18,7 @@
 package com.jaamsim.StringProviders;
 
 import com.jaamsim.basicsim.Entity;
+import com.jaamsim.units.Unit;
 
 public interface StringProvider {
 
@@ -28,4 +29,12 @@ public interface StringProvider {
 	public String getNextString(Entity thisEnt, double simTime, String fmt, double siFactor);
 
 	public double getNextValue(Entity thisEnt, double simTime);
+
+	/**
+	 * Returns the unit type for the value returned by getNextValue.
+	 * @param thisEnt - entity that owns the input
+	 * @param simTime - present simulation time
+	 * @return unit type for the next value
+	 */
+	public Class<? extends Unit> getUnitType(Entity thisEnt, double simTime);
 }
@@ -30,6 +30,7 @@ import com.jaamsim.events.Conditional;
 import com.jaamsim.events.EventHandle;
 import com.jaamsim.events.EventManager;
 import com.jaamsim.events.ProcessTarget;
+import com.jaamsim.input.BooleanInput;
 import com.jaamsim.input.ColourInput;
 import com.jaamsim.input.ExpResType;
 import com.jaamsim.input.ExpressionInput;
@@ -99,6 +100,18 @@ public class ExpressionThreshold extends Threshold implements ObserverEntity {
 	                     + "being triggered by a WatchList object.")
 	private final BooleanProvInput verifyWatchList;
 
+	@Keyword(description = "If TRUE and the 'WatchList' input is not provided, the WatchList is "
+	                     + "inferred from the objects referenced by the 'OpenCondition' and 'CloseCondition' inputs. "
+	                     + "A warning is issued and the inputs are tested after every event if "
+	                     + "they refer to the simulation time, a random function, or an object "
+	                     + "that does not notify its observers when its state changes.\n\n"
+	                     + "Care must be taken when the inputs use outputs such as time averages "
+	                     + "whose values change without any change in the state of the object.",
+	         exampleList = {"TRUE"})
+	private final BooleanInput autoWatchList;
+
+	private final ArrayList<SubjectEntity> inferredWatchList = new ArrayList<>();
+
 	private boolean lastOpenValue; // state of the threshold that was calculated on-demand
 	private boolean useLastValue;
 	private long numCalls;
@@ -142,6 +155,9 @@ public class ExpressionThreshold extends Threshold implements ObserverEntity {
 
 		verifyWatchList = new BooleanProvInput("VerifyWatchList", KEY_INPUTS, false);
 		this.addInput(verifyWatchList);
+
+		autoWatchList = new BooleanInput("AutoWatchList", KEY_INPUTS, false);
+		this.addInput(autoWatchList);
 	}
 
 	public ExpressionThreshold() {}
@@ -159,6 +175,10 @@ public class ExpressionThreshold extends Threshold implements ObserverEntity {
 		useLastValue = false;
 		numCalls = 0L;
 		numEvals = 0L;
+
+		inferredWatchList.clear();
+		if (watchList.getValue().isEmpty() && autoWatchList.getValue())
+			inferredWatchList.addAll(ObserverEntity.getInferredWatchList(this, openCondition, closeCondition));
 	}
 
 	@Override
@@ -198,6 +218,8 @@ public class ExpressionThreshold extends Threshold implements ObserverEntity {
 
 	@Override
 	public ArrayList<SubjectEntity> getWatchList() {
+		if (watchList.getValue().isEmpty())
+			return inferredWatchList;
 		return watchList.getValue();
 	}
 
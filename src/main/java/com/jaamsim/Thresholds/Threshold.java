@@ -89,7 +89,7 @@ public class Threshold extends StateEntity implements SubjectEntity {
 		closedCount = 0L;
 
 		userList.clear();
-		for (Entity each : getJaamSimModel().getClonesOfIterator(Entity.class, ThresholdUser.class)) {
+		for (Entity each : getJaamSimModel().getClonesOfList(Entity.class, ThresholdUser.class)) {
 			ThresholdUser tu = (ThresholdUser) each;
 			if (tu.getThresholds().contains(this))
 				registerThresholdUser(tu);
@@ -19,6 +19,7 @@ package com.jaamsim.Thresholds;
 
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.Samples.TimeSeriesCursor;
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.EntityTarget;
 import com.jaamsim.events.EventManager;
@@ -76,6 +77,11 @@ public class TimeSeriesThreshold extends Threshold {
 	         exampleList = {"DistanceUnit"})
 	private final UnitTypeInput unitType;
 
+	// Positions in the time series for the lookups made by the simulation thread
+	private final TimeSeriesCursor timeSeriesCursor = new TimeSeriesCursor();
+	private final TimeSeriesCursor maxOpenLimitCursor = new TimeSeriesCursor();
+	private final TimeSeriesCursor minOpenLimitCursor = new TimeSeriesCursor();
+
 	{
 		unitType = new UnitTypeInput("UnitType", KEY_INPUTS, UserSpecifiedUnit.class);
 		unitType.setRequired(true);
@@ -146,12 +152,30 @@ public class TimeSeriesThreshold extends Threshold {
 					this, minOpenLimit.getValue().getMinValue(), timeSeries.getValue().getMaxValue());
 	}
 
+	@Override
+	public void earlyInit() {
+		super.earlyInit();
+		timeSeriesCursor.clear();
+		maxOpenLimitCursor.clear();
+		minOpenLimitCursor.clear();
+	}
+
 	@Override
 	public void startUp() {
 		super.startUp();
 		this.doOpenClose();
 	}
 
+	/**
+	 * Returns the specified cursor if the lookup is made by the simulation thread.
+	 * Lookups made by other threads do not use a cursor.
+	 * @param cursor - cursor for one of the time series
+	 * @return cursor or null
+	 */
+	private static TimeSeriesCursor getCursor(TimeSeriesCursor cursor) {
+		return EventManager.hasCurrent() ? cursor : null;
+	}
+
 	@Override
 	public Class<? extends Unit> getUserUnitType() {
 		return unitType.getUnitType();
@@ -451,9 +475,12 @@ public class TimeSeriesThreshold extends Threshold {
 	 * @return the last time in clock ticks that a change occurred
 	 */
 	private long getLastChangeBeforeTicks(long ticks) {
-		long lastChange = timeSeries.getValue().getLastChangeBeforeTicks(ticks);
-		lastChange = Math.min(lastChange, maxOpenLimit.getValue().getLastChangeBeforeTicks(ticks));
-		lastChange = Math.min(lastChange, minOpenLimit.getValue().getLastChangeBeforeTicks(ticks));
+		long lastChange = timeSeries.getValue().getLastChangeBeforeTicks(ticks,
+				getCursor(timeSeriesCursor));
+		lastChange = Math.min(lastChange, maxOpenLimit.getValue().getLastChangeBeforeTicks(ticks,
+				getCursor(maxOpenLimitCursor)));
+		lastChange = Math.min(lastChange, minOpenLimit.getValue().getLastChangeBeforeTicks(ticks,
+				getCursor(minOpenLimitCursor)));
 		return lastChange;
 	}
 
@@ -475,9 +502,12 @@ public class TimeSeriesThreshold extends Threshold {
 	 * @return the next time in clock ticks that a change will occur
 	 */
 	private long getNextChangeAfterTicks(long ticks) {
-		long firstChange = timeSeries.getValue().getNextChangeAfterTicks(ticks);
-		firstChange = Math.min(firstChange, maxOpenLimit.getValue().getNextChangeAfterTicks(ticks));
-		firstChange = Math.min(firstChange, minOpenLimit.getValue().getNextChangeAfterTicks(ticks));
+		long firstChange = timeSeries.getValue().getNextChangeAfterTicks(ticks,
+				getCursor(timeSeriesCursor));
+		firstChange = Math.min(firstChange, maxOpenLimit.getValue().getNextChangeAfterTicks(ticks,
+				getCursor(maxOpenLimitCursor)));
+		firstChange = Math.min(firstChange, minOpenLimit.getValue().getNextChangeAfterTicks(ticks,
+				getCursor(minOpenLimitCursor)));
 		return firstChange;
 	}
 
@@ -501,9 +531,11 @@ public class TimeSeriesThreshold extends Threshold {
 	 */
 	private boolean isPointOpenAtTicks(long ticks) {
 
-		double value = timeSeries.getValue().getValueForTicks(ticks);
-		double minOpenLimitVal = minOpenLimit.getValue().getValueForTicks(ticks);
-		double maxOpenLimitVal = maxOpenLimit.getValue().getValueForTicks(ticks);
+		double value = timeSeries.getValue().getValueForTicks(ticks, getCursor(timeSeriesCursor));
+		double minOpenLimitVal = minOpenLimit.getValue().getValueForTicks(ticks,
+				getCursor(minOpenLimitCursor));
+		double maxOpenLimitVal = maxOpenLimit.getValue().getValueForTicks(ticks,
+				getCursor(maxOpenLimitCursor));
 
 		// Error check that threshold limits remain consistent
 		if (minOpenLimitVal > maxOpenLimitVal) {
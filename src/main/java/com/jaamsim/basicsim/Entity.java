@@ -28,6 +28,7 @@ import java.util.LinkedHashMap;
 import com.jaamsim.Graphics.EntityLabel;
 import com.jaamsim.input.AttributeDefinitionListInput;
 import com.jaamsim.input.AttributeHandle;
+import com.jaamsim.input.AttributeLayout;
 import com.jaamsim.input.BooleanInput;
 import com.jaamsim.input.EntityNameInput;
 import com.jaamsim.input.ExpError;
@@ -95,6 +96,11 @@ public class Entity {
 
 	private HashMap<String, ValueHandle> userOutputMap;
 
+	// Attributes in the order given by the layout, with their numeric values held in slots
+	private AttributeLayout attributeLayout;
+	private AttributeHandle[] attributeHandles = new AttributeHandle[0];
+	private double[] attributeSlots;
+
 	// Input categories
 	public static final String KEY_INPUTS = "Key Inputs";
 	public static final String OPTIONS = "Options";
@@ -349,10 +355,7 @@ public class Entity {
 	public void earlyInit() {
 
 		// Reset the attributes to their initial values
-		for (ValueHandle vh : getAllUserOutputHandles()) {
-			if (!(vh instanceof AttributeHandle))
-				continue;
-			AttributeHandle h = (AttributeHandle) vh;
+		for (AttributeHandle h : attributeHandles) {
 			try {
 				ExpResult res = ExpEvaluator.evaluateExpression(h.getExpression(), this, 0.0d);
 				h.setValue(res);
@@ -722,6 +725,15 @@ public class Entity {
 	 * @param target - entity whose attribute values are to be assigned
 	 */
 	public static void copyAttributeValues(Entity ent, Entity target) {
+
+		// Entities with the same layout have the same attribute at each slot
+		if (ent.attributeLayout == target.attributeLayout) {
+			for (int i = 0; i < ent.attributeHandles.length; i++) {
+				target.attributeHandles[i].setValue(ent.attributeHandles[i].copyValue());
+			}
+			return;
+		}
+
 		for (ValueHandle sourceVHandle : ent.getAllUserOutputHandles()) {
 			ValueHandle targetVHandle = target.getUserOutputHandle(sourceVHandle.getName());
 			if (!(sourceVHandle instanceof AttributeHandle)
@@ -958,9 +970,9 @@ public class Entity {
 
 	public void updateUserOutputMap() {
 		clearUserOutputs();
-		for (NamedExpression ne : attributeDefinitionList.getValue()) {
-			AttributeHandle ah = new AttributeHandle(this, ne.getName(), ne.getExpression(), null, ne.getUnitType());
-			addUserOutputHandle(ne.getName(), ah);
+		updateAttributeLayout();
+		for (AttributeHandle ah : attributeHandles) {
+			addUserOutputHandle(ah.getName(), ah);
 		}
 		for (NamedExpression ne : namedExpressionInput.getValue()) {
 			ExpressionHandle eh = new ExpressionHandle(this, ne.getExpression(), ne.getName(), ne.getUnitType());
@@ -974,6 +986,44 @@ public class Entity {
 		}
 	}
 
+	private void updateAttributeLayout() {
+		ArrayList<NamedExpression> defs = attributeDefinitionList.getValue();
+
+		// Clones share the layout for their prototype
+		if (prototype != null && prototype.attributeLayout != null
+				&& prototype.attributeLayout.isLayoutFor(defs)) {
+			attributeLayout = prototype.attributeLayout;
+		}
+		else if (attributeLayout == null || !attributeLayout.isLayoutFor(defs)) {
+			attributeLayout = new AttributeLayout(defs);
+		}
+
+		attributeSlots = new double[defs.size()];
+		attributeHandles = new AttributeHandle[defs.size()];
+		for (int i = 0; i < defs.size(); i++) {
+			NamedExpression ne = defs.get(i);
+			attributeHandles[i] = new AttributeHandle(this, ne.getName(), ne.getExpression(),
+					ne.getUnitType(), attributeSlots, i);
+		}
+	}
+
+	/**
+	 * Returns the slot layout for the attributes defined by this entity.
+	 * Entities that return the same layout have the same attribute at each slot index.
+	 */
+	public AttributeLayout getAttributeLayout() {
+		return attributeLayout;
+	}
+
+	/**
+	 * Returns the attribute at the specified slot index in the layout.
+	 * @param index - slot index
+	 * @return attribute handle
+	 */
+	public AttributeHandle getAttributeHandle(int index) {
+		return attributeHandles[index];
+	}
+
 	public void handleSelectionLost() {}
 
 	// ******************************************************************************************************
@@ -1057,7 +1107,14 @@ public class Entity {
 		userOutputMap.put(name, vh);
 	}
 
-	private ValueHandle getUserOutputHandle(String name) {
+	/**
+	 * Returns the output handle for an attribute, custom output, or input value with the
+	 * specified name, or null if there is none. Outputs defined by the entity's class are
+	 * not included.
+	 * @param name - output name
+	 * @return output handle
+	 */
+	public ValueHandle getUserOutputHandle(String name) {
 		if (userOutputMap == null)
 			return null;
 		return userOutputMap.get(name);
@@ -1098,10 +1155,28 @@ public class Entity {
 	}
 
 	public void setAttribute(String name, ExpResult[] indices, ExpResult value) throws ExpError {
-		ValueHandle vh = getUserOutputHandle(name);
-		if (!(vh instanceof AttributeHandle))
+		int index = (attributeLayout == null) ? -1 : attributeLayout.getIndex(name);
+		if (index < 0)
 			throw new ExpError(null, -1, "Invalid attribute name for %s: %s", this, name);
-		AttributeHandle h = (AttributeHandle) vh;
+		setAttribute(index, indices, value);
+	}
+
+	/**
+	 * Assigns a new value to the attribute at the specified slot index in the layout.
+	 * @param index - slot index
+	 * @param indices - collection indices for the value to be assigned, or null
+	 * @param value - new value
+	 * @throws ExpError
+	 */
+	public void setAttribute(int index, ExpResult[] indices, ExpResult value) throws ExpError {
+		AttributeHandle h = attributeHandles[index];
+
+		// Numeric value with the same unit type as the present value
+		if (indices == null && value.type == ExpResType.NUMBER && h.isNumber()
+				&& h.getUnitType() == value.unitType) {
+			h.setNumber(value.value);
+			return;
+		}
 
 		ExpResult assignValue = null;
 
@@ -1110,7 +1185,7 @@ public class Entity {
 			ExpResult attribValue = h.getValue(ExpResult.class);
 			if (attribValue.type != ExpResType.COLLECTION) {
 				throw new ExpError(null, -1, "Trying to set %s attribute: %s with an index, "
-						+ "but it is not a collection", this, name);
+						+ "but it is not a collection", this, h.getName());
 			}
 
 			try {
@@ -27,6 +27,14 @@ public abstract class EntityTarget<T extends Entity> extends ProcessTarget {
 		this.desc = method;
 	}
 
+	public final T getEntity() {
+		return ent;
+	}
+
+	public final String getMethodName() {
+		return desc;
+	}
+
 	@Override
 	public String getDescription() {
 		return ent.getName() + "." + desc;
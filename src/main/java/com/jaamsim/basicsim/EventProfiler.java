@@ -0,0 +1,420 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jaamsim.events.EventTraceListener;
+import com.jaamsim.events.ProcessTarget;
+
+/**
+ * Records the number of events and conditional evaluations executed by a simulation model, and
+ * estimates the time spent in each one without requiring the Event Viewer.
+ * <p>
+ * The counts are recorded for every event, but the execution time is measured only for one in
+ * every 'sampleInterval' events of each type so that the overhead of the profiler is small. The total time
+ * for each type of event is estimated from the average time for the sampled events.
+ */
+public class EventProfiler implements EventTraceListener {
+
+	public static final int DEFAULT_SAMPLE_INTERVAL = 10;
+	private static final int MAX_ENTITY_ROWS = 50;
+
+	private final int sampleInterval;
+
+	// Statistics by class of the entity or target, and by method
+	private final HashMap<Class<?>, HashMap<String, ProfileData>> eventMap = new HashMap<>();
+	private final HashMap<Class<?>, HashMap<String, ProfileData>> condMap = new HashMap<>();
+
+	// Statistics by entity
+	private final HashMap<Entity, ProfileData> entityEventMap = new HashMap<>();
+	private final HashMap<Entity, ProfileData> entityCondMap = new HashMap<>();
+
+	private int level;
+	private long numEvents;
+	private long numConds;
+
+	// Event being timed
+	private ProfileData timedEvent;
+	private ProfileData timedEventEnt;
+	private long eventStartNanos;
+	private long eventCondNanos;  // time spent on conditional evaluations during the event
+
+	// Conditional evaluation being timed
+	private ProfileData timedCond;
+	private ProfileData timedCondEnt;
+	private long condStartNanos;
+	private boolean condTimed;
+
+	static final class ProfileData {
+		long count;
+		long sampleCount;
+		long sampleNanos;
+
+		void add(ProfileData data) {
+			count += data.count;
+			sampleCount += data.sampleCount;
+			sampleNanos += data.sampleNanos;
+		}
+
+		double getAverageNanos() {
+			if (sampleCount == 0L)
+				return 0.0d;
+			return (double) sampleNanos / sampleCount;
+		}
+
+		double getEstimatedNanos() {
+			return getAverageNanos() * count;
+		}
+	}
+
+	public EventProfiler() {
+		this(DEFAULT_SAMPLE_INTERVAL);
+	}
+
+	/**
+	 * Constructs a profiler that measures the execution time for one in every specified number
+	 * of events.
+	 * @param interval - number of events for each measurement
+	 */
+	public EventProfiler(int interval) {
+		if (interval < 1)
+			throw new IllegalArgumentException("The sample interval must be at least one");
+		sampleInterval = interval;
+	}
+
+	public int getSampleInterval() {
+		return sampleInterval;
+	}
+
+	public long getNumberOfEvents() {
+		return numEvents;
+	}
+
+	public long getNumberOfConditionalEvaluations() {
+		return numConds;
+	}
+
+	/**
+	 * Discards the statistics that have been recorded.
+	 */
+	public void clear() {
+		eventMap.clear();
+		condMap.clear();
+		entityEventMap.clear();
+		entityCondMap.clear();
+		level = 0;
+		numEvents = 0L;
+		numConds = 0L;
+		timedEvent = null;
+		timedEventEnt = null;
+		timedCond = null;
+		timedCondEnt = null;
+		condTimed = false;
+	}
+
+	/**
+	 * Returns the entity whose method is executed by the specified target, or null if the target
+	 * is not associated with an entity.
+	 */
+	private static Entity getEntity(ProcessTarget t) {
+		if (t instanceof EntityTarget)
+			return ((EntityTarget<?>) t).getEntity();
+		if (t instanceof StartUpTarget)
+			return ((StartUpTarget) t).ent;
+		return null;
+	}
+
+	private static ProfileData getData(HashMap<Class<?>, HashMap<String, ProfileData>> map, ProcessTarget t, Entity ent) {
+		Class<?> klass = t.getClass();
+		String method = "";
+		if (t instanceof EntityTarget) {
+			klass = ent.getClass();
+			method = ((EntityTarget<?>) t).getMethodName();
+		}
+		else if (t instanceof StartUpTarget) {
+			klass = ent.getClass();
+			method = "startUp";
+		}
+
+		HashMap<String, ProfileData> methodMap = map.get(klass);
+		if (methodMap == null) {
+			methodMap = new HashMap<>();
+			map.put(klass, methodMap);
+		}
+		ProfileData ret = methodMap.get(method);
+		if (ret == null) {
+			ret = new ProfileData();
+			methodMap.put(method, ret);
+		}
+		return ret;
+	}
+
+	private static ProfileData getData(HashMap<Entity, ProfileData> map, Entity ent) {
+		if (ent == null)
+			return null;
+
+		// Generated entities are recorded against their prototype
+		if (!ent.isRegistered()) {
+			ent = ent.getPrototype();
+			if (ent == null)
+				return null;
+		}
+
+		ProfileData ret = map.get(ent);
+		if (ret == null) {
+			ret = new ProfileData();
+			map.put(ent, ret);
+		}
+		return ret;
+	}
+
+	private void startEvent(ProcessTarget t) {
+		Entity ent = getEntity(t);
+		ProfileData data = getData(eventMap, t, ent);
+		ProfileData entData = getData(entityEventMap, ent);
+		data.count++;
+		if (entData != null)
+			entData.count++;
+
+		// Samples are counted for each target so that events repeated in a fixed cycle are all
+		// sampled
+		numEvents++;
+		if (data.count % sampleInterval != 0L)
+			return;
+		timedEvent = data;
+		timedEventEnt = entData;
+		eventCondNanos = 0L;
+		eventStartNanos = System.nanoTime();
+	}
+
+	private void endEvent() {
+		if (level != 0 || timedEvent == null)
+			return;
+		long nanos = System.nanoTime() - eventStartNanos - eventCondNanos;
+		timedEvent.sampleCount++;
+		timedEvent.sampleNanos += nanos;
+		if (timedEventEnt != null) {
+			timedEventEnt.sampleCount++;
+			timedEventEnt.sampleNanos += nanos;
+		}
+		timedEvent = null;
+		timedEventEnt = null;
+	}
+
+	@Override
+	public void traceEvent(long tick, int priority, ProcessTarget t) {
+		level = 1;
+		startEvent(t);
+	}
+
+	@Override
+	public void traceWait(long tick, int priority, ProcessTarget t) {
+		level--;
+		endEvent();
+	}
+
+	@Override
+	public void traceSchedProcess(long tick, int priority, ProcessTarget t) {}
+
+	@Override
+	public void traceProcessStart(ProcessTarget t) {
+		level++;
+	}
+
+	@Override
+	public void traceProcessEnd() {
+		level--;
+		endEvent();
+	}
+
+	@Override
+	public void traceInterrupt(long tick, int priority, ProcessTarget t) {
+		level++;
+	}
+
+	@Override
+	public void traceKill(long tick, int priority, ProcessTarget t) {}
+
+	@Override
+	public void traceWaitUntil() {
+		level--;
+		endEvent();
+	}
+
+	@Override
+	public void traceSchedUntil(ProcessTarget t) {}
+
+	@Override
+	public void traceConditionalEval(ProcessTarget t) {
+		Entity ent = getEntity(t);
+		ProfileData data = getData(condMap, t, ent);
+		ProfileData entData = getData(entityCondMap, ent);
+		data.count++;
+		if (entData != null)
+			entData.count++;
+
+		// A conditional evaluation made while an event is being timed is always measured so
+		// that its time can be removed from the event's time
+		numConds++;
+		boolean sampled = (data.count % sampleInterval == 0L);
+		if (!sampled && timedEvent == null)
+			return;
+		timedCond = sampled ? data : null;
+		timedCondEnt = sampled ? entData : null;
+		condTimed = true;
+		condStartNanos = System.nanoTime();
+	}
+
+	@Override
+	public void traceConditionalEvalEnded(boolean wakeup, ProcessTarget t) {
+		if (!condTimed)
+			return;
+		long nanos = System.nanoTime() - condStartNanos;
+		condTimed = false;
+		if (timedEvent != null)
+			eventCondNanos += nanos;
+		if (timedCond == null)
+			return;
+		timedCond.sampleCount++;
+		timedCond.sampleNanos += nanos;
+		if (timedCondEnt != null) {
+			timedCondEnt.sampleCount++;
+			timedCondEnt.sampleNanos += nanos;
+		}
+		timedCond = null;
+		timedCondEnt = null;
+	}
+
+	private static String getClassName(Class<?> klass) {
+		String ret = klass.getSimpleName();
+		if (ret.isEmpty())
+			ret = klass.getName().substring(klass.getName().lastIndexOf('.') + 1);
+		return ret;
+	}
+
+	private static void appendByTarget(HashMap<Class<?>, HashMap<String, ProfileData>> map, HashMap<String, ProfileData> ret) {
+		for (Map.Entry<Class<?>, HashMap<String, ProfileData>> entry : map.entrySet()) {
+			String className = getClassName(entry.getKey());
+			for (Map.Entry<String, ProfileData> methodEntry : entry.getValue().entrySet()) {
+				String key = className;
+				if (!methodEntry.getKey().isEmpty())
+					key = className + "." + methodEntry.getKey();
+				add(ret, key, methodEntry.getValue());
+			}
+		}
+	}
+
+	private static void appendByEntity(HashMap<Entity, ProfileData> map, HashMap<String, ProfileData> ret) {
+		for (Map.Entry<Entity, ProfileData> entry : map.entrySet()) {
+			add(ret, entry.getKey().getName(), entry.getValue());
+		}
+	}
+
+	private static void add(HashMap<String, ProfileData> map, String key, ProfileData data) {
+		ProfileData val = map.get(key);
+		if (val == null) {
+			val = new ProfileData();
+			map.put(key, val);
+		}
+		val.add(data);
+	}
+
+	/**
+	 * Writes a report that combines the statistics recorded by the specified profilers. Each
+	 * profiler is normally attached to the model for a different thread.
+	 * @param list - profilers to be reported
+	 * @param out - stream to receive the report
+	 */
+	public static void printReport(ArrayList<EventProfiler> list, PrintStream out) {
+		HashMap<String, ProfileData> events = new HashMap<>();
+		HashMap<String, ProfileData> conds = new HashMap<>();
+		HashMap<String, ProfileData> entEvents = new HashMap<>();
+		HashMap<String, ProfileData> entConds = new HashMap<>();
+		long numEvents = 0L;
+		long numConds = 0L;
+		int interval = DEFAULT_SAMPLE_INTERVAL;
+		for (EventProfiler prof : list) {
+			appendByTarget(prof.eventMap, events);
+			appendByTarget(prof.condMap, conds);
+			appendByEntity(prof.entityEventMap, entEvents);
+			appendByEntity(prof.entityCondMap, entConds);
+			numEvents += prof.numEvents;
+			numConds += prof.numConds;
+			interval = prof.sampleInterval;
+		}
+
+		double eventNanos = getTotalNanos(events);
+		double condNanos = getTotalNanos(conds);
+		double totalNanos = eventNanos + condNanos;  // event times exclude conditional evaluations
+
+		out.format("Event Profile%n");
+		out.format("Models profiled: %d%n", list.size());
+		out.format("Timing sample interval: 1 in %d%n", interval);
+		out.format("Events executed: %d (estimated time %.1f ms)%n", numEvents, eventNanos*1.0e-6d);
+		out.format("Conditional evaluations: %d (estimated time %.1f ms)%n", numConds, condNanos*1.0e-6d);
+
+		out.format("%nEvents by target%n");
+		printTable(events, totalNanos, Integer.MAX_VALUE, out);
+
+		out.format("%nConditional evaluations by target%n");
+		printTable(conds, totalNanos, Integer.MAX_VALUE, out);
+
+		HashMap<String, ProfileData> entities = new HashMap<>();
+		for (Map.Entry<String, ProfileData> entry : entEvents.entrySet()) {
+			add(entities, entry.getKey(), entry.getValue());
+		}
+		for (Map.Entry<String, ProfileData> entry : entConds.entrySet()) {
+			add(entities, entry.getKey(), entry.getValue());
+		}
+		out.format("%nEvents and conditional evaluations by entity (largest %d)%n", MAX_ENTITY_ROWS);
+		printTable(entities, totalNanos, MAX_ENTITY_ROWS, out);
+	}
+
+	private static double getTotalNanos(HashMap<String, ProfileData> map) {
+		double ret = 0.0d;
+		for (ProfileData data : map.values()) {
+			ret += data.getEstimatedNanos();
+		}
+		return ret;
+	}
+
+	private static void printTable(final HashMap<String, ProfileData> map, double totalNanos, int maxRows, PrintStream out) {
+		ArrayList<String> keys = new ArrayList<>(map.keySet());
+		Collections.sort(keys, (a, b) -> {
+			int ret = Double.compare(map.get(b).getEstimatedNanos(), map.get(a).getEstimatedNanos());
+			if (ret != 0)
+				return ret;
+			return a.compareTo(b);
+		});
+
+		out.format("%-50s %12s %10s %12s %14s %8s%n", "Name", "Count", "Samples", "Avg (us)", "Total (ms)", "Percent");
+		int n = Math.min(keys.size(), maxRows);
+		for (int i = 0; i < n; i++) {
+			ProfileData data = map.get(keys.get(i));
+			double nanos = data.getEstimatedNanos();
+			double percent = totalNanos > 0.0d ? nanos/totalNanos*100.0d : 0.0d;
+			out.format("%-50s %12d %10d %12.3f %14.3f %8.2f%n", keys.get(i), data.count,
+					data.sampleCount, data.getAverageNanos()*1.0e-3d, nanos*1.0e-6d, percent);
+		}
+	}
+
+}
@@ -0,0 +1,341 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.Graphics.View;
+import com.jaamsim.events.EventData;
+import com.jaamsim.events.EventManager;
+import com.jaamsim.input.InputAgent;
+import com.jaamsim.input.ValueHandle;
+
+/**
+ * Double-buffered copy of the simulation state that is displayed by the renderer and the user
+ * interface while the simulation is running.
+ * <p>
+ * Each time the simulation clock advances, the event thread fills the buffer that is not being
+ * displayed and then publishes it as the front buffer. Updates are limited to MAX_FRAME_RATE per
+ * second of real time. A frame holds the position, size, orientation, alignment, region, show
+ * flag, and display model bindings of every DisplayEntity, the values of the outputs shown by
+ * the Output Viewer, and the event list shown by the Event Viewer. Each of these is recorded
+ * only after it has been requested by the part of the user interface that displays it. Other
+ * graphics, such as the text of a label or the points of a polyline, are still read from the
+ * model by the renderer.
+ * <p>
+ * Readers take the front buffer without acquiring any lock used by the event thread. A buffer
+ * that is still being read is never overwritten: the event thread skips that update and tries
+ * again the next time the clock advances.
+ */
+public class FrameSnapshot {
+
+	public static final double MAX_FRAME_RATE = 60.0d;
+	private static final long MIN_FRAME_NANOS = (long) (1.0e9d / MAX_FRAME_RATE);
+	private static final int MAX_ERRORS = 10;
+
+	private final JaamSimModel simModel;
+	private final Frame[] frames = { new Frame(), new Frame() };
+	private final AtomicIntegerArray readers = new AtomicIntegerArray(2);
+	private volatile int front = -1;
+
+	// Accessed only by the event thread
+	private long frameCount;
+	private long lastFrameNanos;
+	private final ArrayList<View> openViews = new ArrayList<>();
+
+	// Buffer held by the thread that is collecting the graphics for a frame
+	private volatile Thread displayThread;
+	private volatile int displayBuffer = -1;
+
+	// Values requested by the user interface
+	private volatile boolean displayRequested;
+	private volatile ValueHandle[] outputHandles;
+	private volatile boolean eventsRequested;
+
+	private static class Frame {
+		long sequence;
+		long simTicks;
+		final ArrayList<Throwable> errors = new ArrayList<>();
+		ValueHandle[] outputHandles;
+		String[] outputValues = new String[0];
+		boolean hasEvents;
+		final ArrayList<EventData> events = new ArrayList<>();
+		final ArrayList<String> conditionals = new ArrayList<>();
+	}
+
+	public FrameSnapshot(JaamSimModel model) {
+		simModel = model;
+	}
+
+	/**
+	 * Fills the back buffer with the present state of the model and publishes it as the front
+	 * buffer. Must be called by the event thread between events.
+	 * @param force - true if the frame rate limit is to be ignored
+	 */
+	public void update(boolean force) {
+		if (!simModel.isRunning())
+			return;
+
+		long nanos = System.nanoTime();
+		if (!force && nanos - lastFrameNanos < MIN_FRAME_NANOS)
+			return;
+
+		// Skip this update if the back buffer is still being read
+		int back = (front == 0) ? 1 : 0;
+		if (readers.get(back) > 0)
+			return;
+		lastFrameNanos = nanos;
+
+		Frame frame = frames[back];
+		frameCount++;
+		frame.sequence = frameCount;
+		frame.simTicks = simModel.getSimTicks();
+		frame.errors.clear();
+		double simTime = simModel.getSimTime();
+
+		// The graphics and outputs are evaluated outside the model context, as they are by the
+		// user interface, so that an input or output that draws from a probability distribution
+		// returns its last value instead of a new sample
+		EventManager.runDetached(() -> capture(frame, back, simTime));
+
+		// Event list
+		frame.events.clear();
+		frame.conditionals.clear();
+		frame.hasEvents = eventsRequested;
+		if (frame.hasEvents) {
+			EventManager evt = simModel.getEventManager();
+			evt.getEventDataList(frame.events);
+			evt.getConditionalDataList(frame.conditionals);
+		}
+
+		front = back;
+	}
+
+	private void capture(Frame frame, int buf, double simTime) {
+
+		// Graphics, once a frame has been requested by the renderer and while a view is open
+		openViews.clear();
+		if (displayRequested) {
+			for (View v : simModel.getClonesOfIterator(View.class)) {
+				if (v.showWindow() && !v.isDead())
+					openViews.add(v);
+			}
+		}
+		if (!openViews.isEmpty()) {
+
+			// Only the state that has already been computed is copied. The renderer updates the
+			// graphics for the frame on its own thread, so that the cost is not added to the run.
+			for (DisplayEntity ent : simModel.getClonesOfIterator(DisplayEntity.class)) {
+				try {
+					ent.captureFrameState(buf, frame.sequence, simTime, isVisible(ent));
+				}
+				catch (Throwable t) {
+					recordError(frame, t);
+				}
+			}
+		}
+
+		// Output values
+		ValueHandle[] handles = outputHandles;
+		frame.outputHandles = handles;
+		if (handles != null) {
+			if (frame.outputValues.length < handles.length)
+				frame.outputValues = new String[handles.length];
+			for (int i = 0; i < handles.length; i++) {
+				try {
+					frame.outputValues[i] = InputAgent.getValueAsString(simModel, handles[i], simTime);
+				}
+				catch (Throwable t) {
+					frame.outputValues[i] = "Error: " + t.getMessage();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the specified entity can be seen in one of the open views.
+	 */
+	private boolean isVisible(DisplayEntity ent) {
+		if (ent.isPooled())
+			return false;
+		ArrayList<View> views = ent.getVisibleViews();
+		if (views == null || views.isEmpty())
+			return true;
+		for (View v : openViews) {
+			if (views.contains(v))
+				return true;
+		}
+		return false;
+	}
+
+	private static void recordError(Frame frame, Throwable t) {
+		if (frame.errors.size() < MAX_ERRORS)
+			frame.errors.add(t);
+	}
+
+	/**
+	 * Returns the index of the front buffer after registering the calling thread as one of its
+	 * readers. Returns -1 if the model is not running or no frame has been published, in which
+	 * case the live state of the model is to be used instead.
+	 * The buffer must be returned by calling release.
+	 * @return index of the buffer to be read, or -1
+	 */
+	public int acquire() {
+		if (!simModel.isRunning())
+			return -1;
+		while (true) {
+			int buf = front;
+			if (buf < 0)
+				return -1;
+			readers.incrementAndGet(buf);
+
+			// Make sure the event thread did not start to refill the buffer before it was held
+			if (front == buf)
+				return buf;
+			readers.decrementAndGet(buf);
+		}
+	}
+
+	/**
+	 * Releases a buffer obtained from acquire.
+	 * @param buf - index of the buffer, or -1
+	 */
+	public void release(int buf) {
+		if (buf < 0)
+			return;
+		readers.decrementAndGet(buf);
+	}
+
+	/**
+	 * Acquires the front buffer for the calling thread and causes the graphics state returned by
+	 * each DisplayEntity to be taken from it until releaseDisplay is called.
+	 * @return index of the buffer to be read, or -1
+	 */
+	public int acquireDisplay() {
+		displayRequested = true;
+		int buf = acquire();
+		if (buf >= 0) {
+			displayBuffer = buf;
+			displayThread = Thread.currentThread();
+		}
+		return buf;
+	}
+
+	public void releaseDisplay(int buf) {
+		if (buf < 0)
+			return;
+		displayThread = null;
+		displayBuffer = -1;
+		release(buf);
+	}
+
+	/**
+	 * Returns the buffer from which the calling thread is to read the graphics state for each
+	 * DisplayEntity, or -1 if the live state is to be used.
+	 * @return index of the buffer, or -1
+	 */
+	public int getDisplayBuffer() {
+		if (Thread.currentThread() != displayThread)
+			return -1;
+		return displayBuffer;
+	}
+
+	/**
+	 * Returns the sequence number for the frame held by the specified buffer.
+	 * Each published frame is given a larger number than the one before.
+	 * @param buf - index of a buffer held by the caller
+	 * @return sequence number
+	 */
+	public long getSequence(int buf) {
+		return frames[buf].sequence;
+	}
+
+	public long getSimTicks(int buf) {
+		return frames[buf].simTicks;
+	}
+
+	/**
+	 * Returns the errors that were thrown while the graphics state was recorded for the frame.
+	 * @param buf - index of a buffer held by the caller
+	 * @return list of errors
+	 */
+	public ArrayList<Throwable> getErrors(int buf) {
+		return frames[buf].errors;
+	}
+
+	/**
+	 * Sets the outputs whose values are to be recorded in each frame.
+	 * @param handles - outputs to be recorded, or null
+	 */
+	public void setOutputHandles(ValueHandle[] handles) {
+		outputHandles = handles;
+	}
+
+	/**
+	 * Copies the recorded output values to the specified array.
+	 * @param buf - index of a buffer held by the caller
+	 * @param handles - outputs that were passed to setOutputHandles
+	 * @param values - array to receive the formatted values
+	 * @return true if the frame holds the values for the specified outputs
+	 */
+	public boolean getOutputValues(int buf, ValueHandle[] handles, String[] values) {
+		Frame frame = frames[buf];
+		if (handles == null || frame.outputHandles != handles)
+			return false;
+		System.arraycopy(frame.outputValues, 0, values, 0, handles.length);
+		return true;
+	}
+
+	/**
+	 * Sets whether the pending events and conditional events are to be recorded in each frame.
+	 * @param bool - true if the event list is to be recorded
+	 */
+	public void setEventsRequested(boolean bool) {
+		eventsRequested = bool;
+	}
+
+	/**
+	 * Appends the recorded pending events to the specified list.
+	 * @param buf - index of a buffer held by the caller
+	 * @param events - list to receive the pending events
+	 * @return true if the frame holds the event list
+	 */
+	public boolean getEventDataList(int buf, ArrayList<EventData> events) {
+		Frame frame = frames[buf];
+		if (!frame.hasEvents)
+			return false;
+		events.addAll(frame.events);
+		return true;
+	}
+
+	/**
+	 * Appends the recorded conditional events to the specified list.
+	 * @param buf - index of a buffer held by the caller
+	 * @param events - list to receive the descriptions of the conditional events
+	 * @return true if the frame holds the event list
+	 */
+	public boolean getConditionalDataList(int buf, ArrayList<String> events) {
+		Frame frame = frames[buf];
+		if (!frame.hasEvents)
+			return false;
+		events.addAll(frame.conditionals);
+		return true;
+	}
+
+}
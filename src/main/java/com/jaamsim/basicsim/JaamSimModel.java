@@ -25,6 +25,8 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -44,10 +46,12 @@ import com.jaamsim.events.EventManager;
 import com.jaamsim.events.EventTimeListener;
 import com.jaamsim.events.ProcessTarget;
 import com.jaamsim.input.ExpError;
+import com.jaamsim.input.FileInput;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputAgent;
 import com.jaamsim.input.InputErrorException;
 import com.jaamsim.input.KeywordIndex;
+import com.jaamsim.input.OutputHandle;
 import com.jaamsim.input.ParseContext;
 import com.jaamsim.rng.MRG1999a;
 import com.jaamsim.ui.EventViewer;
@@ -77,16 +81,34 @@ public class JaamSimModel implements EventTimeListener {
 	private final EntityListNode entityList = new EntityListNode();
 	private int numLiveEnts;
 
+	// Entity lists for each class and interface that are re-used until one of their members is
+	// added or removed
+	private final HashMap<Class<?>, HashMap<Class<?>, List<? extends Entity>>> clonesOfLists = new HashMap<>();
+
+	// State of the model when its entities were last validated successfully
+	private volatile long inputVersion;  // incremented each time an input is set, read by the event thread
+	private boolean validated;
+	private long validatedInputVersion;
+	private int validatedScenario;
+	private int validatedEntityCount;
+	private long validatedEntityNumber;
+	private final ArrayList<File> validatedFiles = new ArrayList<>();  // files used by the inputs
+	private long[] validatedFileTimes = new long[0];  // last modified time for each file
+
 	private File configFile;           // present configuration file
 	private File reportDir;         // directory for the output reports
 
 	private boolean batchRun;       // true if the run is to be terminated automatically
 	private boolean scriptMode;     // TRUE if script mode (command line) is specified
+	private EventProfiler profiler;  // records the execution times for events, if profiling
+	private FrameSnapshot snapshot;  // state displayed by the user interface, if one is present
 	private boolean sessionEdited;  // TRUE if any inputs have been changed after loading a configuration file
 	private boolean recordEditsFound;  // TRUE if the "RecordEdits" marker is found in the configuration file
 	private boolean recordEdits;       // TRUE if input changes are to be marked as edited
 
 	private FileEntity logFile;
+	private final LogBuffer logBuffer = new LogBuffer();  // messages logged by this model
+	private boolean globalLog = true;  // messages are copied to the global log
 	private int numErrors = 0;
 	private int numWarnings = 0;
 
@@ -130,6 +152,8 @@ public class JaamSimModel implements EventTimeListener {
 
 		configFile = sm.configFile;
 		reportDir = sm.reportDir;
+		if (sm.isProfiling())
+			profiler = new EventProfiler(sm.profiler.getSampleInterval());
 
 		// Ensure that 'getReportDirectory' works correctly for an Example Model
 		if (reportDir == null && configFile == null)
@@ -211,6 +235,10 @@ public class JaamSimModel implements EventTimeListener {
 			for (Input<?> in : ent.getEditableInputs()) {
 				if (in.isSynonym() || InputAgent.isEarlyInput(in))
 					continue;
+
+				// Locked inputs are set by the program and cannot be copied
+				if (in.isLocked() && !ent.isGenerated())
+					continue;
 				String key = in.getKeyword();
 				//System.out.format("Normal Keyword - ent=%s, key=%s%n", ent, key);
 				newEnt.copyInput(ent, key, context);
@@ -259,20 +287,36 @@ public class JaamSimModel implements EventTimeListener {
 
 	public void setGUIListener(GUIListener l) {
 		gui = l;
+		snapshot = (l == null) ? null : new FrameSnapshot(this);
 	}
 
 	public GUIListener getGUIListener() {
 		return gui;
 	}
 
+	/**
+	 * Returns the copy of the model's state that is published for the user interface while the
+	 * simulation is running, or null if there is no user interface.
+	 * @return snapshot of the displayed state
+	 */
+	public FrameSnapshot getFrameSnapshot() {
+		return snapshot;
+	}
+
 	@Override
 	public void tickUpdate(long tick) {
+		FrameSnapshot snap = snapshot;
+		if (snap != null)
+			snap.update(false);
 		if (gui != null)
 			gui.gui_tickUpdate(tick);
 	}
 
 	@Override
 	public void timeRunning() {
+		FrameSnapshot snap = snapshot;
+		if (snap != null)
+			snap.update(true);
 		if (gui != null)
 			gui.gui_timeRunning();
 	}
@@ -350,6 +394,7 @@ public class JaamSimModel implements EventTimeListener {
 		recordEditsFound = false;
 		numErrors = 0;
 		numWarnings = 0;
+		validated = false;
 		lastTickForTrace = -1L;
 	}
 
@@ -364,6 +409,13 @@ public class JaamSimModel implements EventTimeListener {
 
 		// Save the number of entities created by the autoload.cfg file
 		preDefinedEntityCount = getTailEntity().getEntityNumber();
+
+		// Register the outputs for each class before any run is started
+		for (ObjectType type : getClonesOfIterator(ObjectType.class)) {
+			Class<? extends Entity> klass = type.getJavaClass();
+			if (klass != null)
+				OutputHandle.preloadOutputInfo(klass);
+		}
 	}
 
 	/**
@@ -442,31 +494,38 @@ public class JaamSimModel implements EventTimeListener {
 			throw new NullPointerException("A runlistener must be provided to start a run");
 
 		runListener = l;
+		logBuffer.clear();
 
-		for (Entity each : getClonesOfIterator(Entity.class)) {
-			if (each.hasClone())
-				continue;
+		// Validate the entities unless they are unchanged since the last run
+		if (!isValidated()) {
+			for (Entity each : getClonesOfIterator(Entity.class)) {
+				if (each.hasClone())
+					continue;
 
-			try {
-				each.validate();
-			}
-			catch (Throwable t) {
-				String msg = String.format("Validation Error - %s: %s%n", each, t.getMessage());
-				if (t instanceof ErrorException)
-					msg = String.format("Validation Error - %s%n", t.getMessage());
-				this.logMessage(msg);
-				if (t.getMessage() == null || t.getMessage().equals("null"))
-					this.logStackTrace(t);
-				if (gui != null) {
-					gui.handleInputError(t, each);
+				try {
+					each.validate();
+				}
+				catch (Throwable t) {
+					String msg = String.format("Validation Error - %s: %s%n", each, t.getMessage());
+					if (t instanceof ErrorException)
+						msg = String.format("Validation Error - %s%n", t.getMessage());
+					this.logMessage(msg);
+					if (t.getMessage() == null || t.getMessage().equals("null"))
+						this.logStackTrace(t);
+					if (gui != null) {
+						gui.handleInputError(t, each);
+					}
+					validated = false;
+					return false;
 				}
-				return false;
 			}
+			setValidated();
 		}
 
 		prepareReportDirectory();
 		killGeneratedEntities();
 		eventManager.clear();
+		rngMap.clear();
 		hasStarted.set(false);
 		hasEnded.set(false);
 
@@ -482,6 +541,9 @@ public class JaamSimModel implements EventTimeListener {
 				EventTracer trc = new EventTracer(evtName);
 				eventManager.setTraceListener(trc);
 			}
+			else if (profiler != null) {
+				eventManager.setTraceListener(profiler);
+			}
 			else if (getSimulation().isEventViewerVisible() && gui != null) {
 				eventManager.setTraceListener(EventViewer.getInstance());
 			}
@@ -499,6 +561,78 @@ public class JaamSimModel implements EventTimeListener {
 		return true;
 	}
 
+	/**
+	 * Records that an input has been set for an entity that was not generated during a run.
+	 */
+	public void recordInputChange() {
+		inputVersion++;
+	}
+
+	/**
+	 * Returns a number that is incremented each time an input is changed.
+	 */
+	public long getInputVersion() {
+		return inputVersion;
+	}
+
+	/**
+	 * Returns whether the entities have been validated already for the present inputs and data
+	 * files. Entities that were generated during a run are ignored since they are destroyed
+	 * before the next run.
+	 */
+	private boolean isValidated() {
+		if (!validated || validatedInputVersion != inputVersion || validatedScenario != scenarioNumber)
+			return false;
+
+		// Entity numbers increase monotonically, so the number of entities and the largest
+		// entity number identify the set of entities
+		int count = 0;
+		long maxNum = 0L;
+		for (Entity each : getClonesOfIterator(Entity.class)) {
+			if (each.isGenerated())
+				continue;
+			count++;
+			maxNum = Math.max(maxNum, each.getEntityNumber());
+		}
+		if (count != validatedEntityCount || maxNum != validatedEntityNumber)
+			return false;
+
+		// Data files can be edited outside of JaamSim without changing an input
+		for (int i = 0; i < validatedFiles.size(); i++) {
+			if (validatedFiles.get(i).lastModified() != validatedFileTimes[i])
+				return false;
+		}
+		return true;
+	}
+
+	private void setValidated() {
+		int count = 0;
+		long maxNum = 0L;
+		validatedFiles.clear();
+		for (Entity each : getClonesOfIterator(Entity.class)) {
+			if (each.isGenerated())
+				continue;
+			count++;
+			maxNum = Math.max(maxNum, each.getEntityNumber());
+			for (Input<?> in : each.getEditableInputs()) {
+				if (!(in instanceof FileInput) || in.getValue() == null)
+					continue;
+				URI uri = ((FileInput) in).getValue();
+				if ("file".equals(uri.getScheme()))
+					validatedFiles.add(new File(uri));
+			}
+		}
+		validatedFileTimes = new long[validatedFiles.size()];
+		for (int i = 0; i < validatedFiles.size(); i++) {
+			validatedFileTimes[i] = validatedFiles.get(i).lastModified();
+		}
+		validated = true;
+		validatedInputVersion = inputVersion;
+		validatedScenario = scenarioNumber;
+		validatedEntityCount = count;
+		validatedEntityNumber = maxNum;
+	}
+
 	private final PauseModelTarget pauseModelTarget = new PauseModelTarget(this);
 
 	/**
@@ -527,6 +661,7 @@ public class JaamSimModel implements EventTimeListener {
 	public void reset() {
 		eventManager.pause();
 		eventManager.clear();
+		logBuffer.clear();
 		hasStarted.set(false);
 		hasEnded.set(false);
 		killGeneratedEntities();
@@ -870,7 +1005,7 @@ public class JaamSimModel implements EventTimeListener {
 	}
 
 	public int getRunNumber() {
-		int numberOfReplications = getSimulation().getNumberOfReplications();
+		int numberOfReplications = getSimulation().getMaxNumberOfReplications();
 		return (scenarioNumber - 1) * numberOfReplications + replicationNumber;
 	}
 
@@ -1153,6 +1288,7 @@ public class JaamSimModel implements EventTimeListener {
 			validateEntList();
 
 			numLiveEnts++;
+			updateClonesOfLists(e);
 
 			EntityListNode newNode = new EntityListNode(e);
 
@@ -1169,6 +1305,7 @@ public class JaamSimModel implements EventTimeListener {
 		synchronized (namedEntities) {
 			validateEntList();
 			numLiveEnts++;
+			updateClonesOfLists(e);
 			addNamedEntity(e);
 
 			// Scan through the linked list to find the place to insert this entity
@@ -1201,6 +1338,7 @@ public class JaamSimModel implements EventTimeListener {
 		synchronized (namedEntities) {
 			validateEntList();
 			numLiveEnts--;
+			updateClonesOfLists(e);
 			removeNamedEntity(e);
 
 			EntityListNode listNode = e.listNode;
@@ -1256,6 +1394,47 @@ public class JaamSimModel implements EventTimeListener {
 		return new ClonesOfIterableInterface<>(this, proto, iface);
 	}
 
+	/**
+	 * Discards any of the saved entity lists that the specified entity belongs to.
+	 * @param e - entity that has been added or removed
+	 */
+	private void updateClonesOfLists(Entity e) {
+		for (Entry<Class<?>, HashMap<Class<?>, List<? extends Entity>>> entry : clonesOfLists.entrySet()) {
+			if (!entry.getKey().isInstance(e))
+				continue;
+			entry.getValue().keySet().removeIf(iface -> iface.isInstance(e));
+		}
+	}
+
+	/**
+	 * Returns a list of the instances of the specified class and its sub-classes that implement
+	 * the specified interface. The list is re-used until an entity of this type is added or
+	 * removed, which avoids repeated searches of the full entity list during initialisation.
+	 * @param proto - specified class
+	 * @param iface - specified interface
+	 * @return unmodifiable list of the instances that implement the specified interface
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Entity> List<T> getClonesOfList(Class<T> proto, Class<?> iface) {
+		synchronized (namedEntities) {
+			HashMap<Class<?>, List<? extends Entity>> map = clonesOfLists.get(proto);
+			if (map == null) {
+				map = new HashMap<>();
+				clonesOfLists.put(proto, map);
+			}
+			List<T> ret = (List<T>) map.get(iface);
+			if (ret == null) {
+				ArrayList<T> list = new ArrayList<>();
+				for (T each : getClonesOfIterator(proto, iface)) {
+					list.add(each);
+				}
+				ret = Collections.unmodifiableList(list);
+				map.put(iface, ret);
+			}
+			return ret;
+		}
+	}
+
 	// Note, these methods should only be called by EntityIterator and some unit tests
 	public final Entity getHeadEntity() {
 		return entityList.next.ent;
@@ -1419,6 +1598,23 @@ public class JaamSimModel implements EventTimeListener {
 		return scriptMode;
 	}
 
+	/**
+	 * Sets whether the number of events and their execution times are to be recorded for each
+	 * simulation run and written to a profile report when the runs are complete.
+	 * @param bool - true if the events are to be profiled
+	 */
+	public void setProfiling(boolean bool) {
+		profiler = bool ? new EventProfiler() : null;
+	}
+
+	public boolean isProfiling() {
+		return profiler != null;
+	}
+
+	public EventProfiler getProfiler() {
+		return profiler;
+	}
+
 	public void setSessionEdited(boolean bool) {
 		sessionEdited = bool;
 	}
@@ -1537,10 +1733,34 @@ public class JaamSimModel implements EventTimeListener {
 	 */
 	public final void logMessage(String fmt, Object... args) {
 		String msg = String.format(fmt, args);
-		Log.logLine(msg);
+		logBuffer.add(msg);
+		if (globalLog)
+			Log.logLine(msg);
 		this.logFileMessage(msg);
 	}
 
+	/**
+	 * Sets whether the messages logged by this model are also copied to the global log that is
+	 * shown by the Log Viewer.
+	 * @param bool - true if the messages are to be copied
+	 */
+	public void setGlobalLog(boolean bool) {
+		globalLog = bool;
+	}
+
+	public boolean isGlobalLog() {
+		return globalLog;
+	}
+
+	/**
+	 * Returns the messages that have been logged by this model.
+	 * Unlike the global log, the buffer holds only the messages for this model since the start
+	 * of its present run.
+	 */
+	public LogBuffer getLogBuffer() {
+		return logBuffer;
+	}
+
 	/**
 	 * Writes a warning message to standard error, the Log Viewer, and the Log File.
 	 * @param fmt - format string for the warning message
@@ -1782,11 +2002,18 @@ public class JaamSimModel implements EventTimeListener {
 		if (ret == null) {
 			ret = new MRG1999a[num];
 			int streamNumber = seed;
-			if (seed == -1)
+			if (seed == -1) {
 				streamNumber = getSmallestAvailableStreamNumber();
+				if (getSimulation().isCommonRandomNumbers())
+					logWarning("A random function without a seed was assigned random stream %s. "
+							+ "This stream can differ between scenarios when CommonRandomNumbers "
+							+ "is TRUE.", streamNumber);
+			}
 			int substreamNumber = getSimulation().getSubstreamNumber();
+			boolean antithetic = getSimulation().isAntitheticReplication();
 			for (int i = 0; i < num; i++) {
 				ret[i] = new MRG1999a(streamNumber + i, substreamNumber);
+				ret[i].setAntithetic(antithetic);
 			}
 			rngMap.put(key, ret);
 		}
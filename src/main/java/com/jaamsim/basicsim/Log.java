@@ -22,15 +22,13 @@ import java.util.ArrayList;
 
 /**
  * Simple logger for global log not tied to any particular model.
+ * Messages for a specific model are also held by the model's own LogBuffer.
  */
 public class Log {
-	private static final ArrayList<String> log = new ArrayList<>();
-	private static final ArrayList<LogListener> listeners = new ArrayList<>();
+	private static final LogBuffer log = new LogBuffer();
 
 	public static void addListener(LogListener listen) {
-		synchronized (log) {
-			listeners.add(listen);
-		}
+		log.addListener(listen);
 	}
 
 	public static void format(String format, Object... args) {
@@ -38,11 +36,16 @@ public class Log {
 	}
 
 	public static void logLine(String line) {
-		synchronized (log) {
-			log.add(line);
-			for (LogListener each : listeners)
-				each.update();
-		}
+		log.add(line);
+	}
+
+	/**
+	 * Appends the messages for a model whose lines are not copied to the global log as they
+	 * are logged.
+	 * @param lines - messages to be added
+	 */
+	public static void logLines(ArrayList<String> lines) {
+		log.addAll(lines);
 	}
 
 	public static void logException(Throwable ex) {
@@ -58,12 +61,6 @@ public class Log {
 	}
 
 	public static ArrayList<String> getLog(int fromIdx) {
-		ArrayList<String> ret = new ArrayList<>();
-		synchronized (log) {
-			for (int i = fromIdx; i < log.size(); i++) {
-				ret.add(log.get(i));
-			}
-		}
-		return ret;
+		return log.getLines(fromIdx);
 	}
 }
@@ -0,0 +1,93 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Thread-safe list of log messages.
+ * <p>
+ * Each JaamSimModel holds its own buffer so that the models running on separate threads do
+ * not contend for a single list. The listeners are notified outside the lock so that a slow
+ * listener does not hold up the threads that are writing to the buffer.
+ */
+public class LogBuffer {
+	private final ArrayList<String> lines = new ArrayList<>();
+	private final CopyOnWriteArrayList<LogListener> listeners = new CopyOnWriteArrayList<>();
+
+	public void addListener(LogListener listen) {
+		listeners.add(listen);
+	}
+
+	public void removeListener(LogListener listen) {
+		listeners.remove(listen);
+	}
+
+	/**
+	 * Appends the specified line to the buffer and notifies the listeners.
+	 * @param line - text to be added
+	 */
+	public void add(String line) {
+		synchronized (lines) {
+			lines.add(line);
+		}
+		for (LogListener each : listeners)
+			each.update();
+	}
+
+	/**
+	 * Appends the specified lines to the buffer and notifies the listeners once.
+	 * @param list - lines to be added
+	 */
+	public void addAll(ArrayList<String> list) {
+		if (list.isEmpty())
+			return;
+		synchronized (lines) {
+			lines.addAll(list);
+		}
+		for (LogListener each : listeners)
+			each.update();
+	}
+
+	/**
+	 * Returns the lines in the buffer starting with the specified index.
+	 * @param fromIdx - index of the first line to be returned
+	 * @return list of lines
+	 */
+	public ArrayList<String> getLines(int fromIdx) {
+		synchronized (lines) {
+			ArrayList<String> ret = new ArrayList<>(Math.max(lines.size() - fromIdx, 0));
+			for (int i = fromIdx; i < lines.size(); i++) {
+				ret.add(lines.get(i));
+			}
+			return ret;
+		}
+	}
+
+	public int size() {
+		synchronized (lines) {
+			return lines.size();
+		}
+	}
+
+	public void clear() {
+		synchronized (lines) {
+			lines.clear();
+		}
+	}
+}
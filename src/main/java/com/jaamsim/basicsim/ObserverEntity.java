@@ -18,6 +18,8 @@ package com.jaamsim.basicsim;
 
 import java.util.ArrayList;
 
+import com.jaamsim.input.ExpDependencies;
+import com.jaamsim.input.Input;
 import com.jaamsim.input.InputErrorException;
 
 public interface ObserverEntity {
@@ -68,6 +70,50 @@ public interface ObserverEntity {
 		return false;
 	}
 
+	/**
+	 * Returns the subject entities whose state determines the values of the specified inputs.
+	 * If an input refers to something whose changes cannot be notified to the observer, a
+	 * warning is logged and an empty list is returned so that the inputs continue to be tested
+	 * after every event.
+	 * @param obs - observer whose inputs are to be tracked
+	 * @param inputs - inputs to be tracked
+	 * @return subjects to be monitored by the observer
+	 */
+	public static ArrayList<SubjectEntity> getInferredWatchList(ObserverEntity obs, Input<?>... inputs) {
+		Entity obsEnt = (Entity) obs;
+		ExpDependencies deps = new ExpDependencies(obsEnt);
+		for (Input<?> in : inputs) {
+			in.appendDependencies(deps);
+		}
+
+		ArrayList<SubjectEntity> ret = new ArrayList<>();
+		for (Entity ent : deps.getEntityList()) {
+			if (ent == obsEnt) {
+				deps.addIssue("the object itself");
+				continue;
+			}
+			if (!(ent instanceof SubjectEntity)) {
+				deps.addIssue("'%s' which does not notify its observers", ent);
+				continue;
+			}
+			SubjectEntity subj = (SubjectEntity) ent;
+			if (obs instanceof SubjectEntity && subj instanceof ObserverEntity
+					&& isObserverOf((ObserverEntity) subj, (SubjectEntity) obs)) {
+				deps.addIssue("'%s' which is watching this object", ent);
+				continue;
+			}
+			ret.add(subj);
+		}
+
+		if (!deps.isComplete()) {
+			obsEnt.getJaamSimModel().logWarning("%s - the WatchList could not be inferred because "
+					+ "the inputs refer to %s. The inputs will be tested after every event.",
+					obsEnt, String.join(", ", deps.getIssueList()));
+			ret.clear();
+		}
+		return ret;
+	}
+
 	/**
 	 * Tests whether there is a closed loop in the chain of observers and subjects.
 	 * @param obs - observer
@@ -0,0 +1,873 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jaamsim.rng.MRG1999a;
+
+/**
+ * Resident server that executes simulation runs requested over a local socket.
+ * <p>
+ * The daemon keeps a single JVM running so that the cost of starting Java, loading the classes,
+ * reading autoload.cfg, and compiling the frequently executed code is paid once instead of for
+ * every run. Each request is executed on its own JaamSimModel, so the only cost for a run is that
+ * of loading its configuration file and executing the simulation.
+ * <p>
+ * The daemon accepts connections from the local host only. Since a configuration file can run
+ * an external program, a connection must also prove that it belongs to the user who started the
+ * daemon. The daemon generates a random token when it starts and main writes it to a file that
+ * only that user can read. The first line sent on each connection must be an AUTH line with
+ * this token, otherwise the connection is closed. The AUTH line must be received within a few
+ * seconds and is limited in length, so a connection that never authenticates cannot hold a
+ * thread or a growing buffer.
+ * <p>
+ * Each connection is served by its own thread and the number of connections served at the same
+ * time is limited. A connection that arrives when the limit has been reached receives an error
+ * and is closed. A connection can submit any number of requests, one after another. Only the
+ * runs themselves are executed by the pool of run threads, so an idle connection does not
+ * prevent the runs for other connections from being executed. Each line of the protocol is
+ * terminated by a newline and the fields in a response line are separated by tabs.
+ * <pre>
+ * AUTH &lt;token&gt;                          must be the first line, responds with OK
+ * PING                                  responds with OK
+ * SHUTDOWN                              stops the daemon
+ * QUIT                                  closes the connection
+ * RUN &lt;config file&gt;                     starts a run request
+ * SCENARIO &lt;n&gt;                          scenario number for the run (default 1)
+ * REPLICATION &lt;n&gt;                       replication number for the run (default 1)
+ * SET &lt;entity&gt; &lt;keyword&gt; &lt;value&gt;      input to be changed after the file is loaded
+ * TIMEOUT &lt;seconds&gt;                     maximum wall clock time for the run
+ * END                                   executes the run request
+ * </pre>
+ * A successful run returns an OK line followed by a PARAM line for each entry in the
+ * RunParameterList, an OUTPUT line for each entry in the RunOutputList, and a TIME line with the
+ * load and run times in milliseconds. A failed run returns an ERROR line followed by a LOG line
+ * for each message logged by the model. Both responses are terminated by an END line.
+ * <p>
+ * An OPTIMIZE block searches for the input values that minimise or maximise a run output using
+ * RunOptimizer. The search is driven by the connection's thread and its runs are executed on a
+ * set of models, one for each of the daemon's run threads. The runs are executed by the run
+ * threads, so they share the limit on the number of runs at the same time with the RUN requests.
+ * <pre>
+ * OPTIMIZE &lt;config file&gt;                        starts an optimisation request
+ * PARAMETER &lt;entity&gt; &lt;keyword&gt; &lt;min&gt; &lt;max&gt; [unit]  input to be varied
+ * INTEGER &lt;entity&gt; &lt;keyword&gt; &lt;min&gt; &lt;max&gt; [unit]    input to be varied in integer steps
+ * OBJECTIVE &lt;n&gt; [MIN|MAX]                       entry in the RunOutputList (default 1 MIN)
+ * METHOD NELDER_MEAD|CROSS_ENTROPY               search method (default NELDER_MEAD)
+ * REPLICATIONS &lt;n&gt;                              replications for each candidate
+ * EVALUATIONS &lt;n&gt;                               maximum number of candidates
+ * TOLERANCE &lt;x&gt;                                 search region size at which to stop
+ * SELECTION &lt;candidates&gt; &lt;stages&gt;               ranking and selection settings
+ * SEED &lt;n&gt;                                      random stream for the cross-entropy method
+ * TIMEOUT &lt;seconds&gt;                             maximum wall clock time for each run
+ * END                                           executes the optimisation
+ * </pre>
+ * A successful optimisation returns an OK line followed by a CANDIDATE line for each candidate
+ * that remains after ranking and selection, best first, and an EVALUATIONS line with the number
+ * of candidates evaluated. A CANDIDATE line gives the mean of the run output, its 95% confidence
+ * interval, the number of replications, and the value of each parameter. A failed optimisation
+ * returns an ERROR line. Both responses are terminated by an END line.
+ */
+public class RunDaemon {
+
+	public static final int DEFAULT_PORT = 5150;
+	public static final int DEFAULT_MAX_CONNECTIONS = 16;
+
+	private static final int AUTH_TIMEOUT_MILLIS = 10000;
+	private static final int MAX_AUTH_LENGTH = 256;
+
+	private final ServerSocket serverSocket;
+	private final int numThreads;
+	private final ExecutorService executor;
+	private final ThreadPoolExecutor connectionPool;
+	private final String token;
+	private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean running = new AtomicBoolean(true);
+	private final AtomicInteger numRuns = new AtomicInteger();
+	private final AtomicInteger numConnections = new AtomicInteger();
+	private final AtomicInteger numActive = new AtomicInteger();  // connections being served
+	private final int maxConnections;
+	private volatile int authTimeout = AUTH_TIMEOUT_MILLIS;
+
+	/**
+	 * Opens a daemon on the specified port of the local host.
+	 * @param port - port number, or zero to use any free port
+	 * @param numThreads - maximum number of runs to execute at the same time
+	 * @throws IOException if the port cannot be opened
+	 */
+	public RunDaemon(int port, int numThreads) throws IOException {
+		this(port, numThreads, DEFAULT_MAX_CONNECTIONS);
+	}
+
+	/**
+	 * Opens a daemon on the specified port of the local host.
+	 * @param port - port number, or zero to use any free port
+	 * @param numThreads - maximum number of runs to execute at the same time
+	 * @param maxConnections - maximum number of connections to serve at the same time
+	 * @throws IOException if the port cannot be opened
+	 */
+	public RunDaemon(int port, int numThreads, int maxConnections) throws IOException {
+		serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		this.numThreads = Math.max(numThreads, 1);
+		final AtomicInteger threadCount = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(this.numThreads, r -> {
+			Thread t = new Thread(r, "RunDaemon-" + threadCount.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+
+		// Connection threads are created as required. The number of connections is limited by
+		// numActive, which is released before the final response on a connection is sent, so a
+		// thread that is still returning to the pool does not cause a new connection to be refused.
+		this.maxConnections = Math.max(maxConnections, 1);
+		connectionPool = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+				60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), r -> {
+			Thread t = new Thread(r, "RunDaemon-Connection-" + numConnections.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+
+		// Random token that authenticates each connection
+		byte[] bytes = new byte[16];
+		new SecureRandom().nextBytes(bytes);
+		StringBuilder sb = new StringBuilder(2 * bytes.length);
+		for (byte b : bytes) {
+			sb.append(String.format("%02x", b));
+		}
+		token = sb.toString();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Returns the token that must be sent in the AUTH line of each connection.
+	 * @return authentication token
+	 */
+	public String getToken() {
+		return token;
+	}
+
+	/**
+	 * Writes the authentication token to the specified file. The file is created so that it can
+	 * be read and written only by its owner.
+	 * @param file - file to receive the token
+	 * @throws IOException if the file cannot be written
+	 */
+	public void writeToken(File file) throws IOException {
+		Path path = file.toPath();
+		Files.deleteIfExists(path);
+		try {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(
+					PosixFilePermissions.fromString("rw-------")));
+		}
+		catch (UnsupportedOperationException e) {
+			// Not a POSIX file system, so restrict the permissions after the file is created
+			Files.createFile(path);
+			file.setReadable(false, false);
+			file.setWritable(false, false);
+			file.setReadable(true, true);
+			file.setWritable(true, true);
+		}
+		Files.write(path, token.getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * Sets the time allowed for a new connection to send its AUTH line.
+	 * @param millis - time in milliseconds
+	 */
+	void setAuthTimeout(int millis) {
+		authTimeout = millis;
+	}
+
+	private boolean isValidToken(String str) {
+		return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+				str.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public int getNumberOfRuns() {
+		return numRuns.get();
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * Loads the classes and the metadata that are used by every model so that they are ready
+	 * before the first request is received.
+	 */
+	public static void warmUp() {
+		JaamSimModel sm = new JaamSimModel("WarmUp");
+		sm.setGlobalLog(false);
+		sm.autoLoad();
+		sm.close();
+
+		// Initialise the static cache for the random number generators
+		@SuppressWarnings("unused")
+		MRG1999a cacher = new MRG1999a();
+	}
+
+	/**
+	 * Accepts connections until the daemon is shut down.
+	 */
+	public void serve() {
+		while (running.get()) {
+			Socket socket;
+			try {
+				socket = serverSocket.accept();
+			}
+			catch (SocketException e) {
+				// Thrown when the server socket is closed by shutdown()
+				break;
+			}
+			catch (IOException e) {
+				Log.logException(e);
+				continue;
+			}
+
+			// Serve the connection on one of the connection threads
+			if (!running.get()) {
+				try {
+					socket.close();
+				}
+				catch (IOException e) {}
+				break;
+			}
+			if (numActive.incrementAndGet() > maxConnections) {
+				numActive.decrementAndGet();
+				reject(socket, "Too many connections");
+				continue;
+			}
+			connections.add(socket);
+			try {
+				connectionPool.execute(() -> handleConnection(socket));
+			}
+			catch (RejectedExecutionException e) {
+				release(socket);
+				reject(socket, "The daemon is shutting down");
+			}
+		}
+	}
+
+	/**
+	 * Ends the count for a connection that is being served. Called before the last response is
+	 * sent, so that a client can open a new connection as soon as it has received the response.
+	 */
+	private void release(Socket socket) {
+		if (connections.remove(socket))
+			numActive.decrementAndGet();
+	}
+
+	/**
+	 * Sends an error message to a connection that will not be served and closes it.
+	 */
+	private static void reject(Socket socket, String msg) {
+		try (Socket s = socket;
+				PrintWriter out = new PrintWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+			out.format("ERROR\t%s%n", msg);
+			out.println("END");
+		}
+		catch (IOException e) {}
+	}
+
+	/**
+	 * Accepts connections on a separate thread.
+	 * @return thread that accepts the connections
+	 */
+	public Thread start() {
+		Thread t = new Thread(() -> serve(), "RunDaemon-Server");
+		t.setDaemon(true);
+		t.start();
+		return t;
+	}
+
+	/**
+	 * Stops accepting connections, closes the open connections, and interrupts any runs in
+	 * progress.
+	 */
+	public void shutdown() {
+		if (!running.getAndSet(false))
+			return;
+		try {
+			serverSocket.close();
+		}
+		catch (IOException e) {}
+		for (Socket s : connections) {
+			try {
+				s.close();
+			}
+			catch (IOException e) {}
+		}
+		executor.shutdownNow();
+		connectionPool.shutdownNow();
+	}
+
+	/**
+	 * Reads a line of text that is no longer than the specified number of characters.
+	 * @param in - source of the text
+	 * @param maxLen - maximum number of characters, excluding the line terminator
+	 * @return line of text, or null if the end of the stream is reached or the line is too long
+	 * @throws IOException if the text cannot be read
+	 */
+	private static String readLine(BufferedReader in, int maxLen) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		while (true) {
+			int c = in.read();
+			if (c == -1)
+				return (sb.length() == 0) ? null : sb.toString();
+			if (c == '\n')
+				return sb.toString();
+			if (c == '\r')
+				continue;
+			if (sb.length() >= maxLen)
+				return null;
+			sb.append((char) c);
+		}
+	}
+
+	private void handleConnection(Socket socket) {
+		try (Socket s = socket;
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+				PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8)))) {
+
+			// The first line must authenticate the connection
+			String line;
+			s.setSoTimeout(authTimeout);
+			try {
+				line = readLine(in, MAX_AUTH_LENGTH);
+			}
+			catch (SocketTimeoutException e) {
+				line = null;
+			}
+			String[] auth = (line == null) ? new String[0] : line.trim().split("\\s+", 2);
+			if (auth.length < 2 || !auth[0].equalsIgnoreCase("AUTH") || !isValidToken(auth[1])) {
+				release(s);
+				out.println("ERROR\tAuthentication failed");
+				out.println("END");
+				out.flush();
+				return;
+			}
+			s.setSoTimeout(0);
+			out.println("OK");
+			out.flush();
+
+			RunRequest req = null;
+			RunOptimizer opt = null;
+			while ((line = in.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty())
+					continue;
+				String[] toks = line.split("\\s+", 2);
+				String cmd = toks[0].toUpperCase();
+				String arg = (toks.length > 1) ? toks[1] : "";
+
+				// Lines that complete an optimisation request
+				if (opt != null) {
+					try {
+						if (!opt.setOption(cmd, arg))
+							continue;
+						opt.optimize();
+						opt.print(out);
+					}
+					catch (RuntimeException e) {
+						out.format("ERROR\t%s%n", RunResult.escape(e.getMessage()));
+						out.println("END");
+					}
+					out.flush();
+					opt = null;
+					continue;
+				}
+
+				// Commands that are not part of a run request
+				if (req == null) {
+					switch (cmd) {
+					case "PING":
+						out.println("OK");
+						break;
+					case "QUIT":
+						release(s);
+						out.println("OK");
+						out.flush();
+						return;
+					case "SHUTDOWN":
+						out.println("OK");
+						out.flush();
+						shutdown();
+						return;
+					case "RUN":
+						req = new RunRequest(new File(arg));
+						continue;
+					case "OPTIMIZE":
+						opt = new RunOptimizer(new File(arg), numThreads);
+						opt.setRunExecutor(executor);
+						continue;
+					default:
+						out.format("ERROR\tUnknown command: %s%n", cmd);
+						out.println("END");
+					}
+					out.flush();
+					continue;
+				}
+
+				// Lines that complete a run request
+				try {
+					switch (cmd) {
+					case "SCENARIO":
+						req.setScenarioNumber(Integer.parseInt(arg));
+						continue;
+					case "REPLICATION":
+						req.setReplicationNumber(Integer.parseInt(arg));
+						continue;
+					case "TIMEOUT":
+						req.setTimeout(Double.parseDouble(arg));
+						continue;
+					case "SET":
+						String[] vals = arg.split("\\s+", 3);
+						if (vals.length < 3)
+							throw new ErrorException("SET requires an entity, keyword, and value");
+						req.addInput(vals[0], vals[1], vals[2]);
+						continue;
+					case "END":
+						break;
+					default:
+						throw new ErrorException("Unknown command in run request: %s", cmd);
+					}
+				}
+				catch (RuntimeException e) {
+					out.format("ERROR\t%s%n", e.getMessage());
+					out.println("END");
+					out.flush();
+					req = null;
+					continue;
+				}
+
+				RunResult res = submit(req);
+				numRuns.incrementAndGet();
+				res.print(out);
+				out.flush();
+				req = null;
+			}
+		}
+		catch (SocketException e) {
+			// Thrown when the connection is closed by shutdown()
+		}
+		catch (IOException e) {
+			Log.logException(e);
+		}
+		finally {
+			release(socket);
+		}
+	}
+
+	/**
+	 * Executes the specified run on one of the run threads and waits for it to finish.
+	 * @param req - run to be executed
+	 * @return results for the run
+	 */
+	private RunResult submit(RunRequest req) {
+		RunResult res;
+		try {
+			Future<RunResult> future = executor.submit(() -> execute(req));
+			res = future.get();
+		}
+		catch (RejectedExecutionException e) {
+			res = new RunResult();
+			res.errorMessage = "The daemon is shutting down";
+		}
+		catch (InterruptedException e) {
+			res = new RunResult();
+			res.errorMessage = "Run was interrupted";
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			res = new RunResult();
+			Throwable t = e.getCause();
+			res.errorMessage = (t.getMessage() == null) ? t.toString() : t.getMessage();
+		}
+		return res;
+	}
+
+	/**
+	 * Executes the specified run on a new model and waits for it to finish.
+	 * @param req - run to be executed
+	 * @return results for the run
+	 */
+	public static RunResult execute(RunRequest req) {
+		RunResult res = new RunResult();
+		long startNanos = System.nanoTime();
+		JaamSimModel sm = new JaamSimModel(req.getConfigFile().getName());
+		ArrayList<String> loadLog = new ArrayList<>();  // the model's buffer is cleared by start()
+		try {
+			loadModel(sm, req.getConfigFile());
+			for (String[] inp : req.getInputs()) {
+				sm.setInput(inp[0], inp[1], inp[2]);
+			}
+			loadLog = sm.getLogBuffer().getLines(0);
+			res.loadNanos = System.nanoTime() - startNanos;
+			executeRun(sm, req.getScenarioNumber(), req.getReplicationNumber(), req.getTimeout(), res);
+		}
+		catch (Throwable t) {
+			res.errorMessage = (t.getMessage() == null) ? t.toString() : t.getMessage();
+		}
+
+		if (res.isError()) {
+			res.log = loadLog;
+			res.log.addAll(sm.getLogBuffer().getLines(0));
+		}
+		sm.close();
+		return res;
+	}
+
+	/**
+	 * Loads the specified configuration file into a new model that is to be executed without a
+	 * user interface.
+	 * @param sm - new model
+	 * @param file - configuration file
+	 * @throws URISyntaxException
+	 */
+	static void loadModel(JaamSimModel sm, File file) throws URISyntaxException {
+		sm.setGlobalLog(false);
+		sm.setBatchRun(true);
+		sm.autoLoad();
+		sm.configure(file.getAbsoluteFile());
+	}
+
+	/**
+	 * Executes a run on a model whose configuration file has been loaded already and waits for
+	 * the run to finish. The model can be used again for further runs.
+	 * @param sm - configured model
+	 * @param scene - scenario number
+	 * @param rep - replication number
+	 * @param timeout - maximum wall clock time in seconds, or zero for no limit
+	 * @param res - receives the results for the run
+	 */
+	static void executeRun(JaamSimModel sm, int scene, int rep, double timeout, RunResult res) {
+		sm.setScenarioNumber(scene);
+		sm.setReplicationNumber(rep);
+		long runNanos = System.nanoTime();
+
+		// Start the run and wait for it to end
+		ResultListener listener = new ResultListener(sm, res);
+		if (!sm.start(listener))
+			throw new ErrorException("The model could not be started");
+		try {
+			boolean done = true;
+			if (timeout > 0.0d)
+				done = listener.latch.await((long) (timeout * 1.0e9d), TimeUnit.NANOSECONDS);
+			else
+				listener.latch.await();
+			if (!done)
+				res.errorMessage = String.format("Run did not finish within %s seconds", timeout);
+		}
+		catch (InterruptedException e) {
+			res.errorMessage = "Run was interrupted";
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			sm.pause();
+		}
+		res.runNanos = System.nanoTime() - runNanos;
+	}
+
+	/**
+	 * Records the run outputs when the run ends.
+	 */
+	private static class ResultListener implements RunListener {
+		final JaamSimModel simModel;
+		final RunResult result;
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		ResultListener(JaamSimModel sm, RunResult res) {
+			simModel = sm;
+			result = res;
+		}
+
+		@Override
+		public void runEnded() {
+			try {
+				Simulation simulation = simModel.getSimulation();
+				double simTime = simModel.getSimTime();
+				result.parameterHeaders = simulation.getRunParameterHeaders();
+				result.parameterStrings = simulation.getRunParameterStrings(simTime);
+				result.outputHeaders = simulation.getRunOutputHeaders();
+				result.outputStrings = simulation.getRunOutputStrings(simTime);
+				result.outputValues = simulation.getRunOutputValues(simTime);
+			}
+			catch (Throwable t) {
+				result.errorMessage = t.getMessage();
+			}
+			finally {
+				latch.countDown();
+			}
+		}
+
+		@Override
+		public void handleRuntimeError(JaamSimModel sm, Throwable t) {
+			sm.logMessage("Runtime error at time %f s: %s", sm.getSimTime(), t.getMessage());
+			result.errorMessage = (t.getMessage() == null) ? t.toString() : t.getMessage();
+			latch.countDown();
+		}
+	}
+
+	/**
+	 * Configuration file and input changes for a single simulation run.
+	 */
+	public static class RunRequest {
+		private final File configFile;
+		private int scenarioNumber = 1;
+		private int replicationNumber = 1;
+		private double timeout = 0.0d;
+		private final ArrayList<String[]> inputs = new ArrayList<>();
+
+		public RunRequest(File file) {
+			configFile = file;
+		}
+
+		public File getConfigFile() {
+			return configFile;
+		}
+
+		public void setScenarioNumber(int n) {
+			if (n < 1)
+				throw new ErrorException("Scenario number must be at least 1: %s", n);
+			scenarioNumber = n;
+		}
+
+		public int getScenarioNumber() {
+			return scenarioNumber;
+		}
+
+		public void setReplicationNumber(int n) {
+			if (n < 1)
+				throw new ErrorException("Replication number must be at least 1: %s", n);
+			replicationNumber = n;
+		}
+
+		public int getReplicationNumber() {
+			return replicationNumber;
+		}
+
+		/**
+		 * Sets the maximum wall clock time for the run.
+		 * @param secs - time in seconds, or zero for no limit
+		 */
+		public void setTimeout(double secs) {
+			timeout = secs;
+		}
+
+		public double getTimeout() {
+			return timeout;
+		}
+
+		/**
+		 * Adds an input that is applied after the configuration file has been loaded.
+		 * @param entName - name of the entity
+		 * @param keyword - input keyword
+		 * @param arg - input value as it would appear in the Input Editor
+		 */
+		public void addInput(String entName, String keyword, String arg) {
+			inputs.add(new String[] {entName, keyword, arg});
+		}
+
+		public ArrayList<String[]> getInputs() {
+			return inputs;
+		}
+	}
+
+	/**
+	 * Outputs for a simulation run executed by the daemon.
+	 */
+	public static class RunResult {
+		private ArrayList<String> parameterHeaders = new ArrayList<>();
+		private ArrayList<String> parameterStrings = new ArrayList<>();
+		private ArrayList<String> outputHeaders = new ArrayList<>();
+		private ArrayList<String> outputStrings = new ArrayList<>();
+		private ArrayList<Double> outputValues = new ArrayList<>();
+		private ArrayList<String> log = new ArrayList<>();
+		private String errorMessage;
+		private long loadNanos;
+		private long runNanos;
+
+		public boolean isError() {
+			return errorMessage != null;
+		}
+
+		public String getErrorMessage() {
+			return errorMessage;
+		}
+
+		public ArrayList<String> getParameterHeaders() {
+			return parameterHeaders;
+		}
+
+		public ArrayList<String> getParameterStrings() {
+			return parameterStrings;
+		}
+
+		public ArrayList<String> getOutputHeaders() {
+			return outputHeaders;
+		}
+
+		public ArrayList<String> getOutputStrings() {
+			return outputStrings;
+		}
+
+		public ArrayList<Double> getOutputValues() {
+			return outputValues;
+		}
+
+		public ArrayList<String> getLog() {
+			return log;
+		}
+
+		public long getLoadNanos() {
+			return loadNanos;
+		}
+
+		public long getRunNanos() {
+			return runNanos;
+		}
+
+		void print(PrintWriter out) {
+			if (isError()) {
+				out.format("ERROR\t%s%n", escape(errorMessage));
+				for (String line : log) {
+					out.format("LOG\t%s%n", escape(line));
+				}
+				out.println("END");
+				return;
+			}
+			out.println("OK");
+			for (int i = 0; i < parameterStrings.size(); i++) {
+				out.format("PARAM\t%s\t%s%n", escape(parameterHeaders.get(i)), escape(parameterStrings.get(i)));
+			}
+			for (int i = 0; i < outputStrings.size(); i++) {
+				out.format("OUTPUT\t%s\t%s%n", escape(outputHeaders.get(i)), escape(outputStrings.get(i)));
+			}
+			out.format("TIME\t%d\t%d%n", loadNanos / 1000000L, runNanos / 1000000L);
+			out.println("END");
+		}
+
+		static String escape(String str) {
+			if (str == null)
+				return "";
+			return str.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ').trim();
+		}
+	}
+
+	/**
+	 * Starts the daemon and waits for requests.
+	 * <pre>
+	 * -port &lt;n&gt;          port on the local host (default 5150)
+	 * -threads &lt;n&gt;       maximum number of runs executed at the same time
+	 * -connections &lt;n&gt;   maximum number of connections served at the same time (default 16)
+	 * -tokenfile &lt;path&gt;  file to receive the authentication token
+	 *                    (default .jaamsim-daemon-&lt;port&gt;.token in the user's home directory)
+	 * </pre>
+	 * @param args - command line arguments
+	 */
+	public static void main(String[] args) {
+		int port = DEFAULT_PORT;
+		int numThreads = Runtime.getRuntime().availableProcessors();
+		int maxConnections = DEFAULT_MAX_CONNECTIONS;
+		File tokenFile = null;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equalsIgnoreCase("-port") && i + 1 < args.length) {
+				port = Integer.parseInt(args[++i]);
+				continue;
+			}
+			if (args[i].equalsIgnoreCase("-threads") && i + 1 < args.length) {
+				numThreads = Integer.parseInt(args[++i]);
+				continue;
+			}
+			if (args[i].equalsIgnoreCase("-connections") && i + 1 < args.length) {
+				maxConnections = Integer.parseInt(args[++i]);
+				continue;
+			}
+			if (args[i].equalsIgnoreCase("-tokenfile") && i + 1 < args.length) {
+				tokenFile = new File(args[++i]);
+				continue;
+			}
+		}
+
+		warmUp();
+		RunDaemon daemon;
+		try {
+			daemon = new RunDaemon(port, numThreads, maxConnections);
+		}
+		catch (IOException e) {
+			System.err.format("Cannot open port %s: %s%n", port, e.getMessage());
+			System.exit(1);
+			return;
+		}
+
+		// Make the token available to the user who started the daemon
+		if (tokenFile == null)
+			tokenFile = new File(System.getProperty("user.home"),
+					String.format(".jaamsim-daemon-%s.token", daemon.getPort()));
+		try {
+			daemon.writeToken(tokenFile);
+		}
+		catch (IOException e) {
+			System.err.format("Cannot write the token file %s: %s%n", tokenFile, e.getMessage());
+			System.exit(1);
+			return;
+		}
+		tokenFile.deleteOnExit();
+
+		System.out.format("RunDaemon listening on port %s with %s threads%n", daemon.getPort(), numThreads);
+		System.out.format("Authentication token written to %s%n", tokenFile.getAbsolutePath());
+		daemon.serve();
+		System.exit(0);
+	}
+}
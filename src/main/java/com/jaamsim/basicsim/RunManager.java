@@ -39,11 +39,14 @@ public class RunManager {
 
 	private final ArrayList<JaamSimModel> simModelList;
 	private final ArrayList<Scenario> scenarioList;
+	private int scenariosPrinted;  // number of scenarios whose outputs have been printed
+	private final ArrayList<JaamSimModel> idleModelList;  // models waiting for a run to start
 
 	public RunManager(JaamSimModel sm) {
 		simModel = sm;
 		simModelList = new ArrayList<>();
 		scenarioList = new ArrayList<>();
+		idleModelList = new ArrayList<>();
 	}
 
 	public JaamSimModel getJaamSimModel() {
@@ -63,9 +66,15 @@ public class RunManager {
 		if (simulation.getPrintReport())
 			reportFile = getReportFile();
 
+		// Discard the profile data for any previous runs
+		if (simModel.isProfiling())
+			simModel.getProfiler().clear();
+
 		// Start a new simulation run on each thread
 		simModelList.clear();
 		scenarioList.clear();
+		idleModelList.clear();
+		scenariosPrinted = 0;
 		for (int i = 0; i < getNumberOfThreads(); i++) {
 			//System.out.format("Thread %s:%n", i);
 
@@ -73,8 +82,10 @@ public class RunManager {
 			JaamSimModel sm = simModel;
 			if (i > 0) {
 				try {
-					String nextName = String.format("%s(%s)", simModel.getName(), simModelList.size() + 1);
-					sm = new JaamSimModel(simModel, nextName);
+					sm = copyModel(simModel, simModelList.size() + 1);
+
+					// Messages are copied to the global log when each run ends
+					sm.setGlobalLog(false);
 					//System.out.format("JaamSimModel %s created%n", sm);
 				}
 				catch (Exception e) {
@@ -101,6 +112,17 @@ public class RunManager {
 		}
 	}
 
+	/**
+	 * Returns a copy of the specified model that executes its runs on its own thread.
+	 * @param sm - model to be copied
+	 * @param num - number that is appended to the name of the model
+	 * @return new model
+	 */
+	static JaamSimModel copyModel(JaamSimModel sm, int num) {
+		String name = String.format("%s(%s)", sm.getName(), num);
+		return new JaamSimModel(sm, name);
+	}
+
 	public synchronized void pause() {
 		for (JaamSimModel sm : simModelList) {
 			sm.pause();
@@ -118,6 +140,8 @@ public class RunManager {
 		close();
 		simModelList.clear();
 		scenarioList.clear();
+		idleModelList.clear();
+		scenariosPrinted = 0;
 
 		simModel.setScenarioNumber(getStartingScenarioNumber());
 		simModel.setReplicationNumber(1);
@@ -140,8 +164,13 @@ public class RunManager {
 
 	public boolean hasRunsToStart() {
 		synchronized (scenarioList) {
-			return scenarioList.size() < getNumberOfScenarios()
-					|| scenarioList.get(scenarioList.size() - 1).hasRunsToStart();
+			if (scenarioList.size() < getNumberOfScenarios())
+				return true;
+			for (Scenario scene : scenarioList) {
+				if (scene.hasRunsToStart() || scene.needsMoreRuns())
+					return true;
+			}
+			return false;
 		}
 	}
 
@@ -149,95 +178,178 @@ public class RunManager {
 		Simulation simulation = simModel.getSimulation();
 		GUIFrame.updateUI();
 
+		// Copy the messages for a run on another model to the global log in one step
+		JaamSimModel runModel = run.getJaamSimModel();
+		if (!runModel.isGlobalLog()) {
+			Log.logLines(runModel.getLogBuffer().getLines(0));
+			runModel.getLogBuffer().clear();
+		}
+
 		synchronized (simModel) {
 			// Print the output report
 			if (reportFile != null)
 				InputAgent.printReport(run.getJaamSimModel(), EventManager.simSeconds(), reportFile);
 
-			// Is the scenario finished?
-			Scenario scene = run.getScenario();
-			if (scene.isFinished()) {
+			// Print the results for each scenario that has finished, in scenario number order
+			Scenario scene = getNextScenarioToPrint();
+			while (scene != null) {
+				printScenario(scene);
+				scenariosPrinted++;
+				scene = getNextScenarioToPrint();
+			}
 
-				// Print the results
-				int numOuts = simulation.getRunOutputListSize();
-				if (numOuts > 0) {
-					outStream = getOutStream();
-					if (outStream != null) {
-						int replications = scene.getRunsCompleted().size();
-						boolean labels = simulation.getPrintRunLabels();
-						boolean reps = simulation.getPrintReplications();
-						boolean bool = simulation.getPrintConfidenceIntervals();
-
-						// Print the column headers
-						if (scene.getScenarioNumber() == getStartingScenarioNumber())
-							InputAgent.printRunOutputHeaders(simModel, labels, reps, bool, outStream);
-
-						// Print the output lines for the scenario
-						InputAgent.printScenarioOutputs(scene, labels, reps, bool, outStream);
-
-						// Print a blank line after the scenario if the replications are shown
-						if (reps && replications > 1 &&
-								scene.getScenarioNumber() < getEndingScenarioNumber()) {
-							outStream.println();
-						}
-					}
+			// Exit if all the scenarios have been completed
+			if (scenariosPrinted == getNumberOfScenarios()) {
+				if (outStream != null) {
+					outStream.close();
+					outStream = null;
+				}
+				if (reportFile != null) {
+					reportFile.close();
+					reportFile = null;
 				}
+				if (simModel.isProfiling())
+					printProfile();
 
-				// Exit if this is the last scenario
-				if (scene.getScenarioNumber() == getEndingScenarioNumber()) {
-					if (outStream != null) {
-						outStream.close();
-						outStream = null;
-					}
-					if (reportFile != null) {
-						reportFile.close();
-						reportFile = null;
-					}
-					// Close warning/error trace file
-					Log.logLine("Made it to do end at");
-					simModel.closeLogFile();
+				// Close warning/error trace file
+				Log.logLine("Made it to do end at");
+				simModel.closeLogFile();
 
-					// Always terminate the run when in batch mode
-					if (simModel.isBatchRun() || simulation.getExitAtStop()) {
-						GUIFrame.shutdown(0);
-					}
+				// Always terminate the run when in batch mode
+				if (simModel.isBatchRun() || simulation.getExitAtStop()) {
+					GUIFrame.shutdown(0);
+				}
 
-					// Are there any runs with errors
-					ArrayList<SimRun> errorRuns = getErrorRuns();
-					if (GUIFrame.getInstance() != null && !errorRuns.isEmpty()) {
-						StringBuilder sb = new StringBuilder();
-						for (SimRun r : errorRuns) {
-							sb.append(String.format("replication %s of scenario %s%n",
-									r.getReplicationNumber(), r.getScenario().getScenarioNumber()));
-						}
-						GUIFrame.invokeErrorDialog("Runtime Error",
-								"Runtime errors occured in the following simulation runs:",
-								sb.toString(),
-								"More information can be found in the Log Viewer.");
+				// Are there any runs with errors
+				ArrayList<SimRun> errorRuns = getErrorRuns();
+				if (GUIFrame.getInstance() != null && !errorRuns.isEmpty()) {
+					StringBuilder sb = new StringBuilder();
+					for (SimRun r : errorRuns) {
+						sb.append(String.format("replication %s of scenario %s%n",
+								r.getReplicationNumber(), r.getScenario().getScenarioNumber()));
 					}
-					return;
+					GUIFrame.invokeErrorDialog("Runtime Error",
+							"Runtime errors occured in the following simulation runs:",
+							sb.toString(),
+							"More information can be found in the Log Viewer.");
 				}
+				return;
 			}
 		}
 
 		// Start the next run
 		JaamSimModel sm = run.getJaamSimModel();
 		startNextRun(sm);
+
+		// Start runs on any threads that were idle, if further replications are now required
+		synchronized (scenarioList) {
+			for (JaamSimModel idle : new ArrayList<>(idleModelList)) {
+				idleModelList.remove(idle);
+				if (!startNextRun(idle))
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Writes the event profile for the runs on every thread to the profile report.
+	 */
+	private void printProfile() {
+		ArrayList<EventProfiler> list = new ArrayList<>();
+		for (JaamSimModel sm : getSimModelList()) {
+			if (sm.isProfiling())
+				list.add(sm.getProfiler());
+		}
+		String fileName = simModel.getReportFileName(".prof");
+		try (PrintStream out = new PrintStream(fileName)) {
+			EventProfiler.printReport(list, out);
+		}
+		catch (FileNotFoundException e) {
+			simModel.logWarning("Cannot create the profile report %s", fileName);
+		}
+	}
+
+	/**
+	 * Returns the next scenario whose results are to be printed, or null if that scenario has
+	 * not finished.
+	 * @return next scenario to be printed
+	 */
+	private Scenario getNextScenarioToPrint() {
+		synchronized (scenarioList) {
+			if (scenariosPrinted >= scenarioList.size())
+				return null;
+			Scenario scene = scenarioList.get(scenariosPrinted);
+			if (!scene.isFinished())
+				return null;
+			return scene;
+		}
+	}
+
+	/**
+	 * Prints the run outputs for the specified scenario.
+	 * @param scene - scenario that has finished
+	 */
+	private void printScenario(Scenario scene) {
+		Simulation simulation = simModel.getSimulation();
+		int numOuts = simulation.getRunOutputListSize();
+		if (numOuts == 0)
+			return;
+
+		outStream = getOutStream();
+		if (outStream == null)
+			return;
+
+		int replications = scene.getRunsCompleted().size();
+		boolean labels = simulation.getPrintRunLabels();
+		boolean reps = simulation.getPrintReplications();
+		boolean bool = simulation.getPrintConfidenceIntervals();
+
+		// Print the column headers
+		if (scene.getScenarioNumber() == getStartingScenarioNumber())
+			InputAgent.printRunOutputHeaders(simModel, labels, reps, bool, outStream);
+
+		// Scenario used for the paired comparisons
+		Scenario base = null;
+		if (simulation.isCommonRandomNumbers()) {
+			synchronized (scenarioList) {
+				base = scenarioList.get(0);
+			}
+		}
+
+		// Print the output lines for the scenario
+		InputAgent.printScenarioOutputs(scene, base, labels, reps, bool, outStream);
+
+		// Print a blank line after the scenario if the replications are shown
+		if (reps && replications > 1 &&
+				scene.getScenarioNumber() < getEndingScenarioNumber()) {
+			outStream.println();
+		}
 	}
 
-	private void startNextRun(JaamSimModel sm) {
+	/**
+	 * Starts the next simulation run on the specified model. Replications that are required to
+	 * complete the scenarios that have been started are given priority over a new scenario.
+	 * Additional replications for sequential sampling are started only when there are no other
+	 * runs to start. If there are no runs to start, the model is added to the list of idle
+	 * models.
+	 * @param sm - model that is available to execute a run
+	 * @return true if a run was started
+	 */
+	private boolean startNextRun(JaamSimModel sm) {
 		synchronized (scenarioList) {
 			Simulation simulation = simModel.getSimulation();
 
-			// Set the present scenario
+			// Select a scenario that has runs to start
 			Scenario presentScenario = null;
-			if (!scenarioList.isEmpty())
-				presentScenario = scenarioList.get(scenarioList.size() - 1);
+			for (Scenario scene : scenarioList) {
+				if (scene.hasRunsToStart()) {
+					presentScenario = scene;
+					break;
+				}
+			}
 
 			// Start a new scenario if required
-			if (presentScenario == null || !presentScenario.hasRunsToStart()) {
-				if (scenarioList.size() >= getNumberOfScenarios())
-					return;
+			if (presentScenario == null && scenarioList.size() < getNumberOfScenarios()) {
 				int numOuts = simulation.getRunOutputListSize();
 				int scenarioNumber = scenarioList.size() + getStartingScenarioNumber();
 				int numberOfReplications = getNumberOfReplications();
@@ -246,13 +358,28 @@ public class RunManager {
 				//System.out.format("Scenario %s started%n", presentScenario.getScenarioNumber());
 			}
 
-			// Start the next simulation run for the present scenario
-			if (presentScenario.hasRunsToStart()) {
-				presentScenario.startNextRun(sm);
-				if (sm == simModel && GUIFrame.getInstance() != null) {
-					GUIFrame.getInstance().initSpeedUp(0.0d);
+			// Select a scenario that requires additional replications
+			if (presentScenario == null) {
+				for (Scenario scene : scenarioList) {
+					if (scene.needsMoreRuns()) {
+						presentScenario = scene;
+						break;
+					}
 				}
 			}
+
+			if (presentScenario == null) {
+				if (!idleModelList.contains(sm))
+					idleModelList.add(sm);
+				return false;
+			}
+
+			// Start the next simulation run for the present scenario
+			presentScenario.startNextRun(sm);
+			if (sm == simModel && GUIFrame.getInstance() != null) {
+				GUIFrame.getInstance().initSpeedUp(0.0d);
+			}
+			return true;
 		}
 	}
 
@@ -0,0 +1,877 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.jaamsim.ProbabilityDistributions.StudentsTDistribution;
+import com.jaamsim.Statistics.SampleStatistics;
+import com.jaamsim.rng.MRG1999a;
+
+/**
+ * Searches for the values of a set of model inputs that minimise or maximise one of the outputs
+ * in the RunOutputList.
+ * <p>
+ * Each parameter is an input for an entity in the model whose value is varied between a minimum
+ * and a maximum. A candidate set of values is evaluated by executing the specified number of
+ * replications and averaging the selected run output. Every candidate uses the same replication
+ * numbers so that the comparisons between candidates use common random numbers.
+ * <p>
+ * The search is performed by either the Nelder-Mead simplex method or the cross-entropy method.
+ * The best candidates found by the search are then compared by a ranking and selection procedure
+ * that adds replications until the candidates that are statistically worse than the best one
+ * have been eliminated.
+ * <p>
+ * The replications are executed in parallel in the same way as RunManager: the configuration
+ * file is loaded into one model, which is copied for each additional thread, and each model
+ * starts its next run on its own event thread when its previous run ends. Each model is loaded
+ * once and is re-used for all the runs it executes. Alternatively, the runs for each model can be
+ * executed by a task on a specified executor, so that they share its limit on the number of runs
+ * at the same time.
+ * <p>
+ * An optimisation can be requested from a RunDaemon using an OPTIMIZE block.
+ */
+public class RunOptimizer {
+
+	public enum Method {
+		NELDER_MEAD,
+		CROSS_ENTROPY,
+	}
+
+	private final File configFile;
+	private final int numThreads;
+	private final ArrayList<Parameter> paramList = new ArrayList<>();
+
+	private int objectiveIndex = 0;
+	private boolean maximize = false;
+	private int replications = 3;
+	private int maxEvaluations = 50;
+	private Method method = Method.NELDER_MEAD;
+	private double tolerance = 1.0e-3d;
+	private int numCandidates = 5;
+	private int maxSelectionStages = 5;
+	private int seed = 0;
+	private double timeout = 0.0d;
+	private Executor runExecutor;
+
+	// Candidates that have been evaluated, keyed by their input values
+	private final HashMap<String, Candidate> candidateMap = new HashMap<>();
+	private final ArrayList<Candidate> candidateList = new ArrayList<>();
+	private final ArrayList<Candidate> selectedList = new ArrayList<>();
+
+	// Models on which the runs are executed, one for each thread
+	private final ArrayList<JaamSimModel> modelList = new ArrayList<>();
+
+	/**
+	 * Input to be varied by the optimisation.
+	 */
+	public static class Parameter {
+		private final String entName;
+		private final String keyword;
+		private final double minValue;
+		private final double maxValue;
+		private final String unit;
+		private final boolean integer;
+
+		/**
+		 * Defines a parameter whose value is entered for the specified input.
+		 * @param ent - name of the entity
+		 * @param key - input keyword
+		 * @param min - minimum value
+		 * @param max - maximum value
+		 * @param unitString - unit to be appended to the value, or null for a dimensionless value
+		 * @param bool - true if the value must be an integer
+		 */
+		public Parameter(String ent, String key, double min, double max, String unitString, boolean bool) {
+			if (!(max > min))
+				throw new ErrorException("The maximum value for %s.%s must be larger than the minimum", ent, key);
+			entName = ent;
+			keyword = key;
+			minValue = min;
+			maxValue = max;
+			unit = unitString;
+			integer = bool;
+		}
+
+		/**
+		 * Returns the parameter value for the specified position between the minimum (0) and
+		 * the maximum (1).
+		 */
+		double getValue(double u) {
+			double val = minValue + Math.min(Math.max(u, 0.0d), 1.0d) * (maxValue - minValue);
+			if (integer)
+				val = Math.min(Math.max(Math.rint(val), Math.ceil(minValue)), Math.floor(maxValue));
+			return val;
+		}
+
+		String getInputString(double val) {
+			String str = integer ? Long.toString((long) val) : Double.toString(val);
+			if (unit == null || unit.isEmpty())
+				return str;
+			return str + " " + unit;
+		}
+
+		@Override
+		public String toString() {
+			return entName + "." + keyword;
+		}
+	}
+
+	/**
+	 * Set of parameter values and the run outputs obtained for them.
+	 */
+	public static class Candidate {
+		private final double[] values;
+		private final SampleStatistics stats = new SampleStatistics();
+		private final ArrayList<Double> repValues = new ArrayList<>();  // value for each replication
+		private double objective;  // mean value to be minimised
+
+		Candidate(double[] vals) {
+			values = vals;
+		}
+
+		public double[] getValues() {
+			return values.clone();
+		}
+
+		public int getNumberOfReplications() {
+			return (int) stats.getCount();
+		}
+
+		public double getMean() {
+			return stats.getMean();
+		}
+
+		public double getVariance() {
+			return stats.getVariance();
+		}
+
+		public double getConfidenceInterval95() {
+			return stats.getConfidenceInterval95();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: mean=%s, n=%s", Arrays.toString(values), getMean(),
+					getNumberOfReplications());
+		}
+	}
+
+	private static final Comparator<Candidate> objectiveOrder = new Comparator<Candidate>() {
+		@Override
+		public int compare(Candidate c1, Candidate c2) {
+			return Double.compare(c1.objective, c2.objective);
+		}
+	};
+
+	/**
+	 * Prepares an optimisation for the specified model.
+	 * @param file - configuration file for the model
+	 * @param threads - number of runs to be executed at the same time
+	 */
+	public RunOptimizer(File file, int threads) {
+		configFile = file;
+		numThreads = Math.max(threads, 1);
+	}
+
+	public void addParameter(Parameter param) {
+		paramList.add(param);
+	}
+
+	/**
+	 * Selects the output that is to be optimised.
+	 * @param index - index of the output in the RunOutputList (0 for the first entry)
+	 * @param bool - true if the output is to be maximised, false if it is to be minimised
+	 */
+	public void setObjective(int index, boolean bool) {
+		objectiveIndex = index;
+		maximize = bool;
+	}
+
+	/**
+	 * Sets the number of replications used to evaluate each candidate during the search.
+	 */
+	public void setReplications(int n) {
+		replications = Math.max(n, 1);
+	}
+
+	/**
+	 * Sets the maximum number of candidates to be evaluated by the search.
+	 */
+	public void setMaxEvaluations(int n) {
+		maxEvaluations = n;
+	}
+
+	public void setMethod(Method m) {
+		method = m;
+	}
+
+	/**
+	 * Sets the size of the search region, as a fraction of each parameter's range, below which
+	 * the search is stopped.
+	 */
+	public void setTolerance(double tol) {
+		if (!(tol > 0.0d))
+			throw new ErrorException("The tolerance must be greater than zero");
+		tolerance = tol;
+	}
+
+	/**
+	 * Sets the number of candidates compared by the ranking and selection procedure and the
+	 * maximum number of stages of additional replications it performs.
+	 */
+	public void setSelection(int candidates, int stages) {
+		numCandidates = Math.max(candidates, 1);
+		maxSelectionStages = Math.max(stages, 0);
+	}
+
+	/**
+	 * Sets the random stream used to generate the candidates for the cross-entropy method.
+	 */
+	public void setSeed(int n) {
+		seed = n;
+	}
+
+	/**
+	 * Sets the maximum wall clock time for each run.
+	 * @param secs - time in seconds, or zero for no limit
+	 */
+	public void setTimeout(double secs) {
+		timeout = secs;
+	}
+
+	/**
+	 * Sets the executor for the runs. Each model's runs are executed one after another by a task
+	 * submitted to the executor, which waits for each run to end.
+	 * @param exec - executor for the runs, or null to start each run from the end of the
+	 * previous run on the same model
+	 */
+	public void setRunExecutor(Executor exec) {
+		runExecutor = exec;
+	}
+
+	/**
+	 * Returns the candidates that have been evaluated, in the order of evaluation.
+	 */
+	public ArrayList<Candidate> getCandidates() {
+		return new ArrayList<>(candidateList);
+	}
+
+	/**
+	 * Returns the candidates that remain after the ranking and selection procedure, best first.
+	 */
+	public ArrayList<Candidate> getSelectedCandidates() {
+		return new ArrayList<>(selectedList);
+	}
+
+	/**
+	 * Sets an option for the optimisation from a line of a RunDaemon OPTIMIZE block.
+	 * @param cmd - option name
+	 * @param arg - option value
+	 * @return true if the line ends the block
+	 */
+	boolean setOption(String cmd, String arg) {
+		String[] toks = arg.isEmpty() ? new String[0] : arg.split("\\s+");
+		switch (cmd) {
+		case "PARAMETER":
+		case "INTEGER":
+			if (toks.length < 4 || toks.length > 5)
+				throw new ErrorException("%s requires an entity, keyword, minimum, maximum, and optional unit", cmd);
+			String unitString = (toks.length > 4) ? toks[4] : null;
+			addParameter(new Parameter(toks[0], toks[1], Double.parseDouble(toks[2]),
+					Double.parseDouble(toks[3]), unitString, cmd.equals("INTEGER")));
+			return false;
+		case "OBJECTIVE":
+			if (toks.length < 1 || toks.length > 2
+					|| (toks.length == 2 && !toks[1].equalsIgnoreCase("MIN") && !toks[1].equalsIgnoreCase("MAX")))
+				throw new ErrorException("OBJECTIVE requires an output number and optional MIN or MAX");
+			int num = Integer.parseInt(toks[0]);
+			if (num < 1)
+				throw new ErrorException("The output number must be 1 or more");
+			setObjective(num - 1, toks.length == 2 && toks[1].equalsIgnoreCase("MAX"));
+			return false;
+		case "METHOD":
+			try {
+				setMethod(Method.valueOf(arg.toUpperCase()));
+			}
+			catch (IllegalArgumentException e) {
+				throw new ErrorException("Unknown method: %s", arg);
+			}
+			return false;
+		case "REPLICATIONS":
+			setReplications(Integer.parseInt(arg));
+			return false;
+		case "EVALUATIONS":
+			setMaxEvaluations(Integer.parseInt(arg));
+			return false;
+		case "TOLERANCE":
+			setTolerance(Double.parseDouble(arg));
+			return false;
+		case "SELECTION":
+			if (toks.length != 2)
+				throw new ErrorException("SELECTION requires a number of candidates and a number of stages");
+			setSelection(Integer.parseInt(toks[0]), Integer.parseInt(toks[1]));
+			return false;
+		case "SEED":
+			setSeed(Integer.parseInt(arg));
+			return false;
+		case "TIMEOUT":
+			setTimeout(Double.parseDouble(arg));
+			return false;
+		case "END":
+			return true;
+		default:
+			throw new ErrorException("Unknown command in optimisation request: %s", cmd);
+		}
+	}
+
+	/**
+	 * Writes the selected candidates in the format used by RunDaemon.
+	 */
+	void print(PrintWriter out) {
+		out.println("OK");
+		for (Candidate cand : selectedList) {
+			out.format(Locale.ROOT, "CANDIDATE\t%s\t%s\t%s", cand.getMean(),
+					cand.getConfidenceInterval95(), cand.getNumberOfReplications());
+			for (int i = 0; i < paramList.size(); i++) {
+				out.format("\t%s", paramList.get(i).getInputString(cand.values[i]));
+			}
+			out.println();
+		}
+		out.format("EVALUATIONS\t%s%n", candidateList.size());
+		out.println("END");
+	}
+
+	/**
+	 * Performs the optimisation.
+	 * @return best candidate
+	 */
+	public Candidate optimize() {
+		if (paramList.isEmpty())
+			throw new ErrorException("No parameters have been defined for the optimisation");
+
+		candidateMap.clear();
+		candidateList.clear();
+		selectedList.clear();
+		try {
+			JaamSimModel simModel = new JaamSimModel(configFile.getName());
+			modelList.add(simModel);
+			RunDaemon.loadModel(simModel, configFile);
+			for (int i = 1; i < numThreads; i++) {
+				JaamSimModel sm = RunManager.copyModel(simModel, i + 1);
+				sm.setGlobalLog(false);
+				sm.setBatchRun(true);
+				modelList.add(sm);
+			}
+
+			if (method == Method.CROSS_ENTROPY)
+				crossEntropySearch();
+			else
+				nelderMeadSearch();
+
+			select();
+			return selectedList.get(0);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ErrorException("Optimisation was interrupted");
+		}
+		catch (ErrorException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new ErrorException(e);
+		}
+		finally {
+			for (JaamSimModel sm : modelList) {
+				sm.pause();
+				sm.close();
+			}
+			modelList.clear();
+		}
+	}
+
+	private boolean isBudgetExhausted() {
+		return candidateList.size() >= maxEvaluations;
+	}
+
+	/**
+	 * Returns the candidate for the specified position in the normalised search space.
+	 */
+	private Candidate getCandidate(double[] u) {
+		double[] vals = new double[paramList.size()];
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < vals.length; i++) {
+			Parameter param = paramList.get(i);
+			vals[i] = param.getValue(u[i]);
+			sb.append(param.getInputString(vals[i])).append(';');
+		}
+		String key = sb.toString();
+		Candidate ret = candidateMap.get(key);
+		if (ret == null) {
+			ret = new Candidate(vals);
+			candidateMap.put(key, ret);
+			candidateList.add(ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Executes replications until each of the specified candidates has at least the specified
+	 * number. The runs for all the candidates are executed in parallel.
+	 */
+	private void evaluate(ArrayList<Candidate> list, int numReps) throws InterruptedException {
+		ArrayList<Candidate> runCands = new ArrayList<>();
+		ArrayList<Integer> runReps = new ArrayList<>();
+		for (Candidate cand : list) {
+			if (runCands.contains(cand))
+				continue;
+			for (int rep = cand.getNumberOfReplications() + 1; rep <= numReps; rep++) {
+				runCands.add(cand);
+				runReps.add(rep);
+			}
+		}
+		double[] vals = new RunBatch(runCands, runReps).execute();
+
+		// Record the results in replication order so that the statistics are reproducible
+		for (int i = 0; i < vals.length; i++) {
+			Candidate cand = runCands.get(i);
+			cand.stats.addValue(vals[i]);
+			cand.repValues.add(vals[i]);
+			cand.objective = maximize ? -cand.stats.getMean() : cand.stats.getMean();
+		}
+	}
+
+	/**
+	 * Set of runs that are executed on the models. Each model starts its next run when its
+	 * previous run ends, in the same way as for RunManager.
+	 */
+	private class RunBatch {
+		final ArrayList<Candidate> cands;
+		final ArrayList<Integer> reps;
+		final double[] values;
+		final HashMap<JaamSimModel, Long> startNanos = new HashMap<>();  // runs in progress
+		int nextRun;
+		int numEnded;
+		String errorMessage;
+
+		RunBatch(ArrayList<Candidate> c, ArrayList<Integer> r) {
+			cands = c;
+			reps = r;
+			values = new double[c.size()];
+		}
+
+		/**
+		 * Executes the runs and waits for them to end.
+		 * @return objective value for each run
+		 */
+		synchronized double[] execute() throws InterruptedException {
+			for (JaamSimModel sm : modelList) {
+				if (runExecutor == null)
+					startNextRun(sm);
+				else
+					runExecutor.execute(() -> executeRuns(sm));
+			}
+
+			long timeoutNanos = (long) (timeout * 1.0e9d);
+			while (numEnded < cands.size() && errorMessage == null) {
+
+				// Runs that are waiting for the run executor are not timed
+				if (timeoutNanos <= 0L || startNanos.isEmpty()) {
+					wait();
+					continue;
+				}
+
+				// Stop if the run that started first has exceeded the time limit
+				long first = Long.MAX_VALUE;
+				for (long nanos : startNanos.values()) {
+					first = Math.min(first, nanos);
+				}
+				long remaining = first + timeoutNanos - System.nanoTime();
+				if (remaining <= 0L) {
+					errorMessage = String.format("Run did not finish within %s seconds", timeout);
+					break;
+				}
+				TimeUnit.NANOSECONDS.timedWait(this, remaining);
+			}
+
+			if (errorMessage != null) {
+				for (JaamSimModel sm : modelList) {
+					sm.pause();
+				}
+				notifyAll();
+				throw new ErrorException(errorMessage);
+			}
+			return values;
+		}
+
+		/**
+		 * Executes runs on the specified model, waiting for each one to end, until there are
+		 * none left. Used by the tasks for the run executor.
+		 */
+		synchronized void executeRuns(JaamSimModel sm) {
+			try {
+				while (startNextRun(sm)) {
+					while (startNanos.containsKey(sm) && errorMessage == null) {
+						wait();
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				if (errorMessage == null)
+					errorMessage = "Optimisation was interrupted";
+				notifyAll();
+			}
+		}
+
+		/**
+		 * Starts the next run on the specified model, if there is one.
+		 * @return true if a run was started
+		 */
+		synchronized boolean startNextRun(JaamSimModel sm) {
+			if (nextRun >= cands.size() || errorMessage != null)
+				return false;
+			int ind = nextRun++;
+			Candidate cand = cands.get(ind);
+			try {
+				for (int i = 0; i < paramList.size(); i++) {
+					Parameter param = paramList.get(i);
+					sm.setInput(param.entName, param.keyword, param.getInputString(cand.values[i]));
+				}
+				sm.setScenarioNumber(1);
+				sm.setReplicationNumber(reps.get(ind));
+				startNanos.put(sm, System.nanoTime());
+				notifyAll();  // starts the timer for the run
+				if (!sm.start(new RunTask(this, sm, ind)))
+					throw new ErrorException("The model could not be started");
+			}
+			catch (Throwable t) {
+				runEnded(sm, ind, Double.NaN, (t.getMessage() == null) ? t.toString() : t.getMessage());
+			}
+			return true;
+		}
+
+		synchronized void runEnded(JaamSimModel sm, int ind, double val, String msg) {
+			startNanos.remove(sm);
+			if (msg != null && errorMessage == null)
+				errorMessage = String.format("Error in replication %s for %s: %s",
+						reps.get(ind), Arrays.toString(cands.get(ind).values), msg);
+			values[ind] = val;
+			numEnded++;
+			notifyAll();
+			if (runExecutor == null)
+				startNextRun(sm);
+		}
+	}
+
+	/**
+	 * Records the objective value for a single replication when the run ends.
+	 */
+	private class RunTask implements RunListener {
+		final RunBatch batch;
+		final JaamSimModel simModel;
+		final int ind;
+
+		RunTask(RunBatch b, JaamSimModel sm, int i) {
+			batch = b;
+			simModel = sm;
+			ind = i;
+		}
+
+		@Override
+		public void runEnded() {
+			double val = Double.NaN;
+			String msg = null;
+			try {
+				ArrayList<Double> vals = simModel.getSimulation().getRunOutputValues(simModel.getSimTime());
+				if (objectiveIndex < vals.size())
+					val = vals.get(objectiveIndex);
+				else
+					msg = String.format("The RunOutputList has no entry number %s", objectiveIndex + 1);
+			}
+			catch (Throwable t) {
+				msg = (t.getMessage() == null) ? t.toString() : t.getMessage();
+			}
+			batch.runEnded(simModel, ind, val, msg);
+		}
+
+		@Override
+		public void handleRuntimeError(JaamSimModel sm, Throwable t) {
+			sm.logMessage("Runtime error at time %f s: %s", sm.getSimTime(), t.getMessage());
+			sm.pause();
+			batch.runEnded(sm, ind, Double.NaN, (t.getMessage() == null) ? t.toString() : t.getMessage());
+		}
+	}
+
+	/**
+	 * Nelder-Mead simplex search in the normalised parameter space. The reflection, expansion,
+	 * and contraction points for each step are evaluated together so that their replications
+	 * can be executed in parallel.
+	 */
+	private void nelderMeadSearch() throws InterruptedException {
+		int n = paramList.size();
+
+		// Initial simplex about the centre of the search region
+		double[][] simplex = new double[n + 1][n];
+		ArrayList<Candidate> list = new ArrayList<>(n + 1);
+		for (int i = 0; i <= n; i++) {
+			Arrays.fill(simplex[i], 0.5d);
+			if (i > 0)
+				simplex[i][i - 1] = 0.75d;
+			list.add(getCandidate(simplex[i]));
+		}
+		evaluate(list, replications);
+		double[] f = new double[n + 1];
+		for (int i = 0; i <= n; i++) {
+			f[i] = list.get(i).objective;
+		}
+
+		while (!isBudgetExhausted()) {
+			int numEvaluated = candidateList.size();
+
+			// Order the vertices from best to worst
+			Integer[] order = new Integer[n + 1];
+			for (int i = 0; i <= n; i++) {
+				order[i] = i;
+			}
+			final double[] fv = f;
+			Arrays.sort(order, (a, b) -> Double.compare(fv[a], fv[b]));
+			double[][] sorted = new double[n + 1][];
+			double[] fSorted = new double[n + 1];
+			for (int i = 0; i <= n; i++) {
+				sorted[i] = simplex[order[i]];
+				fSorted[i] = f[order[i]];
+			}
+			simplex = sorted;
+			f = fSorted;
+
+			// Stop when the simplex has collapsed
+			double size = 0.0d;
+			for (int i = 1; i <= n; i++) {
+				for (int j = 0; j < n; j++) {
+					size = Math.max(size, Math.abs(simplex[i][j] - simplex[0][j]));
+				}
+			}
+			if (size < tolerance)
+				break;
+
+			// Centroid of all the vertices except the worst
+			double[] centroid = new double[n];
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					centroid[j] += simplex[i][j] / n;
+				}
+			}
+
+			double[] worst = simplex[n];
+			double[] refl = getPoint(centroid, worst, 1.0d);
+			double[] exp = getPoint(centroid, worst, 2.0d);
+			double[] outer = getPoint(centroid, worst, 0.5d);
+			double[] inner = getPoint(centroid, worst, -0.5d);
+
+			Candidate cRefl = getCandidate(refl);
+			Candidate cExp = getCandidate(exp);
+			Candidate cOuter = getCandidate(outer);
+			Candidate cInner = getCandidate(inner);
+			list = new ArrayList<>(4);
+			list.add(cRefl);
+			list.add(cExp);
+			list.add(cOuter);
+			list.add(cInner);
+			evaluate(list, replications);
+
+			if (cRefl.objective < f[0]) {
+				// Expansion
+				if (cExp.objective < cRefl.objective) {
+					simplex[n] = exp;
+					f[n] = cExp.objective;
+				}
+				else {
+					simplex[n] = refl;
+					f[n] = cRefl.objective;
+				}
+			}
+			else if (cRefl.objective < f[n - 1]) {
+				// Reflection
+				simplex[n] = refl;
+				f[n] = cRefl.objective;
+			}
+			else if (cRefl.objective < f[n] && cOuter.objective <= cRefl.objective) {
+				// Outside contraction
+				simplex[n] = outer;
+				f[n] = cOuter.objective;
+			}
+			else if (cRefl.objective >= f[n] && cInner.objective < f[n]) {
+				// Inside contraction
+				simplex[n] = inner;
+				f[n] = cInner.objective;
+			}
+			else {
+				// Shrink towards the best vertex
+				list = new ArrayList<>(n);
+				for (int i = 1; i <= n; i++) {
+					simplex[i] = getPoint(simplex[0], simplex[i], -0.5d);
+					list.add(getCandidate(simplex[i]));
+				}
+				evaluate(list, replications);
+				for (int i = 1; i <= n; i++) {
+					f[i] = list.get(i - 1).objective;
+				}
+			}
+
+			// Stop if every point was a candidate that had already been evaluated, as happens
+			// when the integer parameters round the simplex onto the same values
+			if (candidateList.size() == numEvaluated)
+				break;
+		}
+	}
+
+	/**
+	 * Returns the point centroid + coef * (centroid - point), limited to the search region.
+	 */
+	private static double[] getPoint(double[] centroid, double[] point, double coef) {
+		double[] ret = new double[centroid.length];
+		for (int j = 0; j < ret.length; j++) {
+			double val = centroid[j] + coef * (centroid[j] - point[j]);
+			ret[j] = Math.min(Math.max(val, 0.0d), 1.0d);
+		}
+		return ret;
+	}
+
+	/**
+	 * Cross-entropy search in the normalised parameter space. Each iteration samples a
+	 * population of candidates from independent normal distributions and moves the
+	 * distributions towards the best (elite) candidates in the population.
+	 */
+	private void crossEntropySearch() throws InterruptedException {
+		int n = paramList.size();
+		int popSize = Math.max(10, 5 * n);
+		int numElite = Math.max(2, popSize / 5);
+		double smoothing = 0.7d;
+		MRG1999a rng = new MRG1999a(seed, 0);
+
+		double[] mean = new double[n];
+		double[] sd = new double[n];
+		Arrays.fill(mean, 0.5d);
+		Arrays.fill(sd, 0.3d);
+
+		while (!isBudgetExhausted()) {
+
+			// Sample the population
+			int numEvaluated = candidateList.size();
+			ArrayList<Candidate> pop = new ArrayList<>(popSize);
+			for (int k = 0; k < popSize; k++) {
+				double[] u = new double[n];
+				for (int j = 0; j < n; j++) {
+					u[j] = mean[j] + sd[j] * nextNormal(rng);
+				}
+				pop.add(getCandidate(u));
+			}
+			evaluate(pop, replications);
+
+			// Update the sampling distributions using the elite candidates
+			ArrayList<Candidate> elite = new ArrayList<>(pop);
+			Collections.sort(elite, objectiveOrder);
+			double maxSd = 0.0d;
+			for (int j = 0; j < n; j++) {
+				Parameter param = paramList.get(j);
+				double range = param.maxValue - param.minValue;
+				SampleStatistics stats = new SampleStatistics();
+				for (int k = 0; k < Math.min(numElite, elite.size()); k++) {
+					stats.addValue((elite.get(k).values[j] - param.minValue) / range);
+				}
+				double eliteSd = stats.getCount() > 1 ? stats.getStandardDeviation() : 0.0d;
+				mean[j] = smoothing * stats.getMean() + (1.0d - smoothing) * mean[j];
+				sd[j] = smoothing * eliteSd + (1.0d - smoothing) * sd[j];
+				maxSd = Math.max(maxSd, sd[j]);
+			}
+
+			// Stop when the distributions have converged or no new candidates are being found
+			if (maxSd < tolerance || candidateList.size() == numEvaluated)
+				break;
+		}
+	}
+
+	private static double nextNormal(MRG1999a rng) {
+		// Box-Muller method
+		double u1 = rng.nextUniform();
+		double u2 = rng.nextUniform();
+		return Math.sqrt(-2.0d * Math.log(u1)) * Math.cos(2.0d * Math.PI * u2);
+	}
+
+	/**
+	 * Ranking and selection by sequential screening. Additional replications are executed for
+	 * the best candidates until the ones whose mean is worse than the best by more than the
+	 * 95% confidence interval for the difference have been eliminated. Since the candidates
+	 * use common random numbers, the confidence interval is calculated from the differences
+	 * between the results for the same replication number.
+	 */
+	private void select() throws InterruptedException {
+		ArrayList<Candidate> list = new ArrayList<>();
+		for (Candidate cand : candidateList) {
+			if (cand.getNumberOfReplications() >= replications)
+				list.add(cand);
+		}
+		Collections.sort(list, objectiveOrder);
+		ArrayList<Candidate> survivors = new ArrayList<>(list.subList(0, Math.min(numCandidates, list.size())));
+
+		int numReps = replications;
+		for (int stage = 0; stage < maxSelectionStages && survivors.size() > 1; stage++) {
+			numReps += replications;
+			evaluate(survivors, numReps);
+			Collections.sort(survivors, objectiveOrder);
+
+			Candidate best = survivors.get(0);
+			ArrayList<Candidate> next = new ArrayList<>(survivors.size());
+			next.add(best);
+			for (int i = 1; i < survivors.size(); i++) {
+				Candidate cand = survivors.get(i);
+				SampleStatistics diffs = getPairedDifferences(cand, best);
+				int dof = (int) diffs.getCount() - 1;
+				double halfWidth = StudentsTDistribution.getConfidenceIntervalFactor95(dof)
+						* Math.sqrt(diffs.getVariance() / diffs.getCount());
+				if (diffs.getMean() <= halfWidth)
+					next.add(cand);
+			}
+			survivors = next;
+		}
+		selectedList.addAll(survivors);
+	}
+
+	/**
+	 * Returns the statistics for the amount by which the first candidate's objective exceeds
+	 * the second candidate's, for each replication number evaluated for both.
+	 */
+	private SampleStatistics getPairedDifferences(Candidate cand, Candidate best) {
+		SampleStatistics ret = new SampleStatistics();
+		int n = Math.min(cand.repValues.size(), best.repValues.size());
+		for (int i = 0; i < n; i++) {
+			double diff = cand.repValues.get(i) - best.repValues.get(i);
+			ret.addValue(maximize ? -diff : diff);
+		}
+		return ret;
+	}
+}
@@ -17,8 +17,11 @@
 package com.jaamsim.basicsim;
 
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
 
 import com.jaamsim.Statistics.SampleStatistics;
+import com.jaamsim.units.Unit;
 
 /**
  * A set of simulation runs that are replications of a given model.
@@ -29,6 +32,8 @@ public class Scenario {
 
 	private final int scenarioNumber;
 	private final int replications;  // number of replications to be performed
+	private final int maxReplications;  // maximum number of replications for sequential sampling
+	private int lastReplication;  // replication number for the last run that was created
 	private final RunManager runmanager;  // notifies the RunManager that the run has ended
 
 	private final ArrayList<SimRun> runsToStart;
@@ -36,11 +41,13 @@ public class Scenario {
 	private final ArrayList<SimRun> runsCompleted;
 
 	private final ArrayList<SampleStatistics> runStatistics;
+	private ArrayList<Class<? extends Unit>> unitTypes;  // unit type for each run output
 
 	public Scenario(int numOuts, int scene, int numReps, RunManager r) {
 		scenarioNumber = scene;
 		replications = numReps;
 		runmanager = r;
+		maxReplications = Math.max(replications, getSimulation().getMaxNumberOfReplications());
 
 		runsToStart = new ArrayList<>(replications);
 		runsInProgress = new ArrayList<>(replications);
@@ -48,6 +55,7 @@ public class Scenario {
 		for (int i = 1; i <= replications; i++) {
 			runsToStart.add(new SimRun(i, this));
 		}
+		lastReplication = replications;
 
 		runStatistics = new ArrayList<>(numOuts);
 		for (int i = 0; i < numOuts; i++) {
@@ -82,6 +90,8 @@ public class Scenario {
 				continue;
 			runStatistics.get(i).addValue(val);
 		}
+		if (unitTypes == null)
+			unitTypes = run.getRunOutputUnitTypes();
 	}
 
 	public String[] getParameters() {
@@ -107,14 +117,175 @@ public class Scenario {
 		return runStatistics;
 	}
 
+	/**
+	 * Returns the statistics for each run output that are used to calculate the confidence
+	 * intervals for the scenario. When antithetic replications are used, each observation is
+	 * the average of a pair of replications.
+	 * @return statistics for each run output
+	 */
+	public ArrayList<SampleStatistics> getSummaryStatistics() {
+		if (!isAntithetic())
+			return runStatistics;
+
+		ArrayList<SampleStatistics> ret = newStatisticsList();
+		for (double[] vals : getObservations().values()) {
+			for (int i = 0; i < vals.length; i++) {
+				if (Double.isNaN(vals[i]))
+					continue;
+				ret.get(i).addValue(vals[i]);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the statistics for the difference between each run output for this scenario and
+	 * the corresponding output for the specified scenario. The observations are paired by
+	 * replication number, which is appropriate when common random numbers are used.
+	 * @param base - scenario to be compared
+	 * @return statistics for the difference in each run output
+	 */
+	public ArrayList<SampleStatistics> getPairedStatistics(Scenario base) {
+		ArrayList<SampleStatistics> ret = newStatisticsList();
+		TreeMap<Integer, double[]> baseObs = base.getObservations();
+		for (Map.Entry<Integer, double[]> entry : getObservations().entrySet()) {
+			double[] baseVals = baseObs.get(entry.getKey());
+			if (baseVals == null)
+				continue;
+			double[] vals = entry.getValue();
+			for (int i = 0; i < vals.length; i++) {
+				double diff = vals[i] - baseVals[i];
+				if (Double.isNaN(diff))
+					continue;
+				ret.get(i).addValue(diff);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the run output values for each observation in the scenario, keyed by replication
+	 * number or, for antithetic replications, by pair number.
+	 * @return run output values for each observation
+	 */
+	private TreeMap<Integer, double[]> getObservations() {
+		TreeMap<Integer, double[]> ret = new TreeMap<>();
+		synchronized (this) {
+			for (SimRun run : runsCompleted) {
+				if (run.isError())
+					continue;
+				ArrayList<Double> outs = run.getRunOutputValues();
+				double[] vals = new double[outs.size()];
+				for (int i = 0; i < vals.length; i++) {
+					vals[i] = outs.get(i);
+				}
+				ret.put(run.getReplicationNumber(), vals);
+			}
+		}
+		if (!isAntithetic())
+			return ret;
+
+		// Average the values for each complete pair of replications
+		TreeMap<Integer, double[]> pairs = new TreeMap<>();
+		for (Map.Entry<Integer, double[]> entry : ret.entrySet()) {
+			int rep = entry.getKey();
+			if (rep % 2 == 0)
+				continue;
+			double[] vals1 = entry.getValue();
+			double[] vals2 = ret.get(rep + 1);
+			if (vals2 == null)
+				continue;
+			double[] avg = new double[vals1.length];
+			for (int i = 0; i < avg.length; i++) {
+				avg[i] = 0.5d * (vals1[i] + vals2[i]);
+			}
+			pairs.put((rep + 1) / 2, avg);
+		}
+		return pairs;
+	}
+
+	private ArrayList<SampleStatistics> newStatisticsList() {
+		ArrayList<SampleStatistics> ret = new ArrayList<>(runStatistics.size());
+		for (int i = 0; i < runStatistics.size(); i++) {
+			ret.add(new SampleStatistics());
+		}
+		return ret;
+	}
+
+	private Simulation getSimulation() {
+		return runmanager.getJaamSimModel().getSimulation();
+	}
+
+	private boolean isAntithetic() {
+		return getSimulation().isAntitheticReplications();
+	}
+
 	public boolean hasRunsToStart() {
 		synchronized (this) {
 			return !runsToStart.isEmpty();
 		}
 	}
 
+	/**
+	 * Returns whether additional replications are required for the scenario to meet its
+	 * confidence interval targets. Always returns false unless sequential sampling has been
+	 * selected.
+	 * @return true if more replications are required
+	 */
+	public boolean needsMoreRuns() {
+		synchronized (this) {
+			if (!getSimulation().isSequentialSampling() || lastReplication >= maxReplications)
+				return false;
+			return !isConverged();
+		}
+	}
+
+	/**
+	 * Returns whether the confidence interval half-widths for the completed runs meet the
+	 * targets for every run output. The absolute targets are entered in the units shown in the
+	 * run output report and are converted to SI units before they are compared with the
+	 * statistics.
+	 * @return true if the targets have been met
+	 */
+	public boolean isConverged() {
+		Simulation simulation = getSimulation();
+		double relTarget = simulation.getRelativeHalfWidthTarget();
+		ArrayList<SampleStatistics> statsList = getSummaryStatistics();
+		for (int i = 0; i < statsList.size(); i++) {
+			double absTarget = simulation.getAbsoluteHalfWidthTarget(i);
+			if (absTarget > 0.0d && unitTypes != null)
+				absTarget *= simulation.getJaamSimModel().getDisplayedUnitFactor(unitTypes.get(i));
+			if (relTarget <= 0.0d && absTarget <= 0.0d)
+				continue;
+			SampleStatistics stats = statsList.get(i);
+			double halfWidth = stats.getConfidenceInterval95();
+			if (Double.isNaN(halfWidth))
+				return false;
+			if (absTarget > 0.0d && halfWidth <= absTarget)
+				continue;
+			if (relTarget > 0.0d && halfWidth <= relTarget * Math.abs(stats.getMean()))
+				continue;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the next replication, or the next pair of replications when antithetic
+	 * replications are used.
+	 */
+	private void addRuns() {
+		int n = isAntithetic() ? 2 : 1;
+		for (int i = 0; i < n && lastReplication < maxReplications; i++) {
+			lastReplication++;
+			runsToStart.add(new SimRun(lastReplication, this));
+		}
+	}
+
 	public void startNextRun(JaamSimModel simModel) {
 		synchronized (this) {
+			if (runsToStart.isEmpty() && needsMoreRuns())
+				addRuns();
 			if (runsToStart.isEmpty())
 				return;
 			SimRun run = runsToStart.remove(0);
@@ -127,7 +298,7 @@ public class Scenario {
 
 	public boolean isFinished() {
 		synchronized (this) {
-			return runsToStart.isEmpty() && runsInProgress.isEmpty();
+			return runsToStart.isEmpty() && runsInProgress.isEmpty() && !needsMoreRuns();
 		}
 	}
 
@@ -146,7 +317,7 @@ public class Scenario {
 			for (SimRun run : runsInProgress) {
 				ret += run.getProgress();
 			}
-			return ret / replications;
+			return ret / Math.max(replications, lastReplication);
 		}
 	}
 
@@ -18,6 +18,8 @@ package com.jaamsim.basicsim;
 
 import java.util.ArrayList;
 
+import com.jaamsim.units.Unit;
+
 /**
  * An individual run for a simulation model.
  * @author Harry King
@@ -28,6 +30,7 @@ public class SimRun implements RunListener {
 	private final int replicationNumber;
 	private JaamSimModel simModel;        // simulation model to be executed
 	private ArrayList<Double> runOutputValues;
+	private ArrayList<Class<? extends Unit>> runOutputUnitTypes;
 	private ArrayList<String> runOutputStrings;
 	private ArrayList<String> runParameterStrings;
 	private String errorMessage;
@@ -83,6 +86,7 @@ public class SimRun implements RunListener {
 	public void runEnded() {
 		double simTime = simModel.getSimTime();
 		runOutputValues = simModel.getSimulation().getRunOutputValues(simTime);
+		runOutputUnitTypes = simModel.getSimulation().getRunOutputUnitTypes(simTime);
 		runOutputStrings = simModel.getSimulation().getRunOutputStrings(simTime);
 		runParameterStrings = simModel.getSimulation().getRunParameterStrings(simTime);
 		scen.runEnded(this);
@@ -122,6 +126,10 @@ public class SimRun implements RunListener {
 		return runOutputValues;
 	}
 
+	public ArrayList<Class<? extends Unit>> getRunOutputUnitTypes() {
+		return runOutputUnitTypes;
+	}
+
 	public ArrayList<String> getRunOutputStrings() {
 		return runOutputStrings;
 	}
@@ -20,10 +20,13 @@ package com.jaamsim.basicsim;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
 
 import com.jaamsim.Commands.KeywordCommand;
+import com.jaamsim.ProbabilityDistributions.RandomStreamUser;
 import com.jaamsim.Samples.SampleInput;
 import com.jaamsim.StringProviders.StringProvListInput;
+import com.jaamsim.datatypes.DoubleVector;
 import com.jaamsim.datatypes.IntegerVector;
 import com.jaamsim.input.BooleanInput;
 import com.jaamsim.input.DateInput;
@@ -40,6 +43,7 @@ import com.jaamsim.input.Output;
 import com.jaamsim.input.RunNumberInput;
 import com.jaamsim.input.UnitTypeListInput;
 import com.jaamsim.input.ValueInput;
+import com.jaamsim.input.ValueListInput;
 import com.jaamsim.math.Vec3d;
 import com.jaamsim.ui.AboutBox;
 import com.jaamsim.units.DimensionlessUnit;
@@ -212,6 +216,56 @@ public class Simulation extends Entity {
 	         exampleList = {"10"})
 	private final SampleInput numberOfReplications;
 
+	@Keyword(description = "The target for the half-width of the 95% confidence interval for each "
+	                     + "run output, expressed as a fraction of the mean value for the output. "
+	                     + "If a target is specified, additional replications are performed for "
+	                     + "each scenario until the target is met or the MaxNumberOfReplications "
+	                     + "value is reached.\n\n"
+	                     + "The NumberOfReplications input sets the number of replications that "
+	                     + "are performed before the confidence intervals are tested. "
+	                     + "A run output meets its target if it meets either the relative target "
+	                     + "or the absolute target.",
+	         exampleList = {"0.05"})
+	private final ValueInput relativeHalfWidthTarget;
+
+	@Keyword(description = "The target for the half-width of the 95% confidence interval for each "
+	                     + "run output, in the units used for the output in the run output report. "
+	                     + "These are the SI units unless a preferred unit has been selected for "
+	                     + "the output's unit type. Each target is converted to SI units using the "
+	                     + "unit type of the output's value at the end of a run. "
+	                     + "One value must be entered for each entry in the RunOutputList input. "
+	                     + "A value of zero indicates that the output does not have an absolute "
+	                     + "target.\n\n"
+	                     + "If a target is specified, additional replications are performed for "
+	                     + "each scenario until the target is met or the MaxNumberOfReplications "
+	                     + "value is reached.",
+	         exampleList = {"0.5  0  2.0"})
+	private final ValueListInput absoluteHalfWidthTargetList;
+
+	@Keyword(description = "The maximum number of replications to perform for each scenario when "
+	                     + "a confidence interval target has been specified.",
+	         exampleList = {"200"})
+	private final IntegerInput maxNumberOfReplications;
+
+	@Keyword(description = "If TRUE, the scenarios are compared using common random numbers. "
+	                     + "Replication N of each scenario uses the same random sequences, and "
+	                     + "the run output report includes an additional row for each scenario "
+	                     + "that shows the average difference from the first scenario and its "
+	                     + "95% confidence interval calculated from the paired replications.\n\n"
+	                     + "The random streams used by each object must not overlap. "
+	                     + "An error is generated if two objects share a random stream.")
+	private final BooleanInput commonRandomNumbers;
+
+	@Keyword(description = "If TRUE, the replications are performed in pairs using antithetic "
+	                     + "random numbers. "
+	                     + "Each even-numbered replication uses the complement (1 - U) of the "
+	                     + "uniform random numbers used by the odd-numbered replication that "
+	                     + "precedes it. "
+	                     + "The confidence intervals in the run output report are calculated from "
+	                     + "the average of each pair of replications.\n\n"
+	                     + "The number of replications must be an even number.")
+	private final BooleanInput antitheticReplications;
+
 	@Keyword(description = "The number of simulation runs to perform simultaneously while "
 	                     + "executing the specified number of scenarios and replications.",
 	         exampleList = {"10"})
@@ -525,6 +579,28 @@ public class Simulation extends Entity {
 		numberOfReplications.setValidRange(1, Integer.MAX_VALUE);
 		this.addInput(numberOfReplications);
 
+		relativeHalfWidthTarget = new ValueInput("RelativeHalfWidthTarget", MULTIPLE_RUNS, 0.0d);
+		relativeHalfWidthTarget.setUnitType(DimensionlessUnit.class);
+		relativeHalfWidthTarget.setValidRange(0.0d, Double.POSITIVE_INFINITY);
+		relativeHalfWidthTarget.setDefaultText("None");
+		this.addInput(relativeHalfWidthTarget);
+
+		absoluteHalfWidthTargetList = new ValueListInput("AbsoluteHalfWidthTargetList", MULTIPLE_RUNS, new DoubleVector());
+		absoluteHalfWidthTargetList.setUnitType(DimensionlessUnit.class);
+		absoluteHalfWidthTargetList.setValidRange(0.0d, Double.POSITIVE_INFINITY);
+		absoluteHalfWidthTargetList.setDefaultText("None");
+		this.addInput(absoluteHalfWidthTargetList);
+
+		maxNumberOfReplications = new IntegerInput("MaxNumberOfReplications", MULTIPLE_RUNS, 100);
+		maxNumberOfReplications.setValidRange(1, Integer.MAX_VALUE);
+		this.addInput(maxNumberOfReplications);
+
+		commonRandomNumbers = new BooleanInput("CommonRandomNumbers", MULTIPLE_RUNS, false);
+		this.addInput(commonRandomNumbers);
+
+		antitheticReplications = new BooleanInput("AntitheticReplications", MULTIPLE_RUNS, false);
+		this.addInput(antitheticReplications);
+
 		numberOfThreads = new IntegerInput("NumberOfThreads", MULTIPLE_RUNS, 1);
 		numberOfThreads.setValidRange(1, Integer.MAX_VALUE);
 		this.addInput(numberOfThreads);
@@ -872,6 +948,54 @@ public class Simulation extends Entity {
 					+ "Present value: %g seconds.",
 					maxRunDuration, runDuration.getValue(), tickLengthInput.getValue());
 		}
+
+		if (isAntitheticReplications() && getNumberOfReplications() % 2 != 0)
+			throw new InputErrorException("NumberOfReplications must be an even number when "
+					+ "AntitheticReplications is TRUE.%n"
+					+ "Received: %s", getNumberOfReplications());
+
+		if (isCommonRandomNumbers())
+			validateRandomStreams();
+
+		if (isSequentialSampling()) {
+			int n = absoluteHalfWidthTargetList.getListSize();
+			if (n > 0 && n != runOutputList.getListSize())
+				throw new InputErrorException("The number of entries in AbsoluteHalfWidthTargetList "
+						+ "must match the number of entries in RunOutputList.%n"
+						+ "AbsoluteHalfWidthTargetList: %s, RunOutputList: %s",
+						n, runOutputList.getListSize());
+
+			if (getMaxNumberOfReplications() < getNumberOfReplications())
+				throw new InputErrorException("MaxNumberOfReplications must be greater than or equal "
+						+ "to NumberOfReplications.%n"
+						+ "MaxNumberOfReplications: %s, NumberOfReplications: %s",
+						getMaxNumberOfReplications(), getNumberOfReplications());
+
+			if (isAntitheticReplications() && getMaxNumberOfReplications() % 2 != 0)
+				throw new InputErrorException("MaxNumberOfReplications must be an even number when "
+						+ "AntitheticReplications is TRUE.%n"
+						+ "Received: %s", getMaxNumberOfReplications());
+		}
+	}
+
+	/**
+	 * Confirms that the random streams used by each RandomStreamUser do not overlap with those
+	 * used by any other object.
+	 */
+	private void validateRandomStreams() {
+		HashMap<Integer, Entity> streamMap = new HashMap<>();
+		for (Entity ent : getJaamSimModel().getClonesOfIterator(Entity.class, RandomStreamUser.class)) {
+			RandomStreamUser user = (RandomStreamUser) ent;
+			int seed = user.getStreamNumber();
+			int num = user.getRandomGenerators().length;
+			for (int i = seed; i < seed + num; i++) {
+				Entity prev = streamMap.put(i, ent);
+				if (prev != null)
+					throw new InputErrorException("Objects %s and %s both use random stream %s.%n"
+							+ "Each object must use different random streams when "
+							+ "CommonRandomNumbers is TRUE.", prev, ent, i);
+			}
+		}
 	}
 
 	@Override
@@ -886,11 +1010,24 @@ public class Simulation extends Entity {
 	}
 
 	public int getSubstreamNumber() {
-		if (globalSeedInput.isDefault())
-			return getJaamSimModel().getReplicationNumber();
+		if (globalSeedInput.isDefault()) {
+			int rep = getJaamSimModel().getReplicationNumber();
+			if (isAntitheticReplications())
+				return (rep + 1) / 2;
+			return rep;
+		}
 		return (int)globalSeedInput.getNextSample(this, 0.0);
 	}
 
+	/**
+	 * Returns whether the present replication uses the complement of the uniform random
+	 * numbers used by the previous replication.
+	 * @return true if the random generators are to be antithetic
+	 */
+	public boolean isAntitheticReplication() {
+		return isAntitheticReplications() && getJaamSimModel().getReplicationNumber() % 2 == 0;
+	}
+
 	public boolean getPrintReport() {
 		return printReport.getValue();
 	}
@@ -992,6 +1129,14 @@ public class Simulation extends Entity {
 		return ret;
 	}
 
+	public ArrayList<Class<? extends Unit>> getRunOutputUnitTypes(double simTime) {
+		ArrayList<Class<? extends Unit>> ret = new ArrayList<>(runOutputList.getListSize());
+		for (int i = 0; i < runOutputList.getListSize(); i++) {
+			ret.add(runOutputList.getUnitType(i, this, simTime));
+		}
+		return ret;
+	}
+
 	public ArrayList<String> getRunParameterHeaders() {
 		ArrayList<String> ret = new ArrayList<>(runParameterList.getListSize());
 		for (int i = 0; i < runParameterList.getListSize(); i++) {
@@ -1309,12 +1454,56 @@ public class Simulation extends Entity {
 		return (int) numberOfReplications.getNextSample(this, 0.0d);
 	}
 
+	/**
+	 * Returns whether additional replications are to be performed for each scenario until the
+	 * confidence interval targets are met.
+	 * @return true if confidence interval targets have been specified
+	 */
+	public boolean isSequentialSampling() {
+		return relativeHalfWidthTarget.getValue() > 0.0d
+				|| absoluteHalfWidthTargetList.getListSize() > 0;
+	}
+
+	/**
+	 * Returns the largest number of replications that can be performed for each scenario.
+	 * @return maximum number of replications
+	 */
+	public int getMaxNumberOfReplications() {
+		if (!isSequentialSampling())
+			return getNumberOfReplications();
+		return maxNumberOfReplications.getValue();
+	}
+
+	public double getRelativeHalfWidthTarget() {
+		return relativeHalfWidthTarget.getValue();
+	}
+
+	/**
+	 * Returns the absolute target for the confidence interval half-width for the specified run
+	 * output, or zero if there is no absolute target.
+	 * @param i - index of the run output
+	 * @return absolute half-width target
+	 */
+	public double getAbsoluteHalfWidthTarget(int i) {
+		if (i >= absoluteHalfWidthTargetList.getListSize())
+			return 0.0d;
+		return absoluteHalfWidthTargetList.getValue().get(i);
+	}
+
 	public int getNumberOfThreads() {
 		if (isRealTime())
 			return 1;
 		return Math.min(numberOfThreads.getValue(), getNumberOfRuns());
 	}
 
+	public boolean isCommonRandomNumbers() {
+		return commonRandomNumbers.getValue();
+	}
+
+	public boolean isAntitheticReplications() {
+		return antitheticReplications.getValue();
+	}
+
 	public boolean getPrintReplications() {
 		return printReplications.getValue();
 	}
@@ -1341,7 +1530,7 @@ public class Simulation extends Entity {
 	}
 
 	public int getNumberOfRuns() {
-		return getNumberOfScenarios() * getNumberOfReplications();
+		return getNumberOfScenarios() * getMaxNumberOfReplications();
 	}
 
 	public IntegerVector getScenarioIndexDefinitionList() {
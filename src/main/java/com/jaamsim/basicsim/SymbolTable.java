@@ -0,0 +1,135 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Assigns a compact integer id to each distinct string value held by a collection.
+ * <p>
+ * A collection that groups its elements by a string value, such as the Match value for a Queue,
+ * can intern the value once when an element is added and then work with its id, avoiding
+ * repeated hashing and string comparisons. Each call to intern must be matched by a call to
+ * release when the element is removed. The id for a value is released when its last element is
+ * removed and is then re-used for the next new value, so the ids remain no larger than the
+ * number of distinct values held by the collection at one time.
+ * <p>
+ * A table is intended to be owned by a single collection and is not thread-safe.
+ */
+public class SymbolTable {
+
+	private final HashMap<String, Integer> idMap = new HashMap<>();
+	private final ArrayList<String> valueList = new ArrayList<>();
+	private int[] counts = new int[8];    // number of references to each id
+	private int[] freeIds = new int[8];   // ids that have been released
+	private int numFree;
+
+	/**
+	 * Returns the id for the specified string and adds a reference to it, assigning an id if
+	 * the string has no references. A null string has the id -1.
+	 * @param str - string value
+	 * @return id for the string
+	 */
+	public int intern(String str) {
+		if (str == null)
+			return -1;
+		Integer ret = idMap.get(str);
+		if (ret != null) {
+			counts[ret]++;
+			return ret;
+		}
+
+		// Re-use a released id if there is one
+		int id;
+		if (numFree > 0) {
+			numFree--;
+			id = freeIds[numFree];
+			valueList.set(id, str);
+		}
+		else {
+			id = valueList.size();
+			valueList.add(str);
+			if (id >= counts.length)
+				counts = Arrays.copyOf(counts, counts.length * 2);
+		}
+		counts[id] = 1;
+		idMap.put(str, id);
+		return id;
+	}
+
+	/**
+	 * Removes a reference to the specified id. The id is released when it has no references.
+	 * @param id - id returned by the intern method, or -1
+	 */
+	public void release(int id) {
+		if (id < 0)
+			return;
+		counts[id]--;
+		if (counts[id] > 0)
+			return;
+		idMap.remove(valueList.get(id));
+		valueList.set(id, null);
+		if (numFree >= freeIds.length)
+			freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+		freeIds[numFree] = id;
+		numFree++;
+	}
+
+	/**
+	 * Returns the id for the specified string, or -1 if the string has no references.
+	 * @param str - string value
+	 * @return id for the string
+	 */
+	public int getId(String str) {
+		if (str == null)
+			return -1;
+		Integer ret = idMap.get(str);
+		if (ret == null)
+			return -1;
+		return ret;
+	}
+
+	/**
+	 * Returns the string value for the specified id.
+	 * @param id - id returned by the intern method
+	 * @return string value, or null if the id is -1 or has been released
+	 */
+	public String getString(int id) {
+		if (id < 0)
+			return null;
+		return valueList.get(id);
+	}
+
+	/**
+	 * Returns the number of strings that have references.
+	 */
+	public int size() {
+		return idMap.size();
+	}
+
+	/**
+	 * Releases every id.
+	 */
+	public void clear() {
+		idMap.clear();
+		valueList.clear();
+		numFree = 0;
+	}
+
+}
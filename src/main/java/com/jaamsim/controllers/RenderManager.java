@@ -61,6 +61,7 @@ import com.jaamsim.Graphics.Region;
 import com.jaamsim.Graphics.View;
 import com.jaamsim.SubModels.SubModel;
 import com.jaamsim.basicsim.Entity;
+import com.jaamsim.basicsim.FrameSnapshot;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.basicsim.Log;
 import com.jaamsim.basicsim.ObjectType;
@@ -177,6 +178,7 @@ public class RenderManager implements DragSourceListener {
 	private int mouseWindowID = -1;  // window containing the present mouse position
 
 	private long simTick = 0;
+	private long lastFrameLogged = -1L;  // sequence number for the last frame whose errors were logged
 
 	private long dragHandleID = 0;
 	private Vec3d dragCollisionPoint;
@@ -343,6 +345,8 @@ public class RenderManager implements DragSourceListener {
 	private void renderManagerLoop() {
 		boolean loopStarted = false;
 		while (!finished.get() && !fatalError.get()) {
+			FrameSnapshot snapshot = null;
+			int frame = -1;
 			try {
 
 				if (renderer.hasFatalError()) {
@@ -389,7 +393,14 @@ public class RenderManager implements DragSourceListener {
 				}
 
 				JaamSimModel simModel = GUIFrame.getJaamSimModel();
-				double renderTime = simModel.getEventManager().ticksToSeconds(simTick);
+
+				// While the simulation is running, draw the latest frame published by the
+				// event thread instead of the live state of the model
+				snapshot = simModel.getFrameSnapshot();
+				if (snapshot != null)
+					frame = snapshot.acquireDisplay();
+				long renderTick = (frame >= 0) ? snapshot.getSimTicks(frame) : simTick;
+				double renderTime = simModel.getEventManager().ticksToSeconds(renderTick);
 				redraw.beginDrawing();
 
 				for (CameraControl cc : windowControls.values()) {
@@ -414,6 +425,9 @@ public class RenderManager implements DragSourceListener {
 					// Update all graphical entities in the simulation
 					// All entities are updated regardless of the number or whether 'Show' is set
 					// (required for Queue, etc.)
+					// For a published frame, the changes are written to the frame
+					if (frame >= 0)
+						logFrameErrors(snapshot, frame);
 					updateGraphics(simModel, renderTime);
 
 					// Show each entity in the model
@@ -451,6 +465,12 @@ public class RenderManager implements DragSourceListener {
 					renderer.setScene(cachedScene);
 				} // sceneDragLock
 
+				// Return the frame so that the event thread can refill it
+				if (frame >= 0) {
+					snapshot.releaseDisplay(frame);
+					frame = -1;
+				}
+
 				String cacheString = " Hits: " + DisplayModelBinding.getCacheHits() + " Misses: " + DisplayModelBinding.getCacheMisses() +
 				                     " Total: " + totalBindings;
 
@@ -504,6 +524,10 @@ public class RenderManager implements DragSourceListener {
 				// Make a note of it, but try to keep going
 				logException(t);
 			}
+			finally {
+				if (frame >= 0)
+					snapshot.releaseDisplay(frame);
+			}
 
 			redraw.waitForRedraw();
 		}
@@ -512,6 +536,16 @@ public class RenderManager implements DragSourceListener {
 
 	}
 
+	private void logFrameErrors(FrameSnapshot snapshot, int frame) {
+		long seq = snapshot.getSequence(frame);
+		if (seq == lastFrameLogged)
+			return;
+		lastFrameLogged = seq;
+		for (Throwable t : snapshot.getErrors(frame)) {
+			logException(t);
+		}
+	}
+
 	public void updateGraphics(JaamSimModel simModel, double simTime) {
 		for (DisplayEntity de : simModel.getClonesOfIterator(DisplayEntity.class)) {
 			try {
@@ -23,6 +23,7 @@ package com.jaamsim.events;
  */
 public class EventHandle {
 	BaseEvent event = null;
+	int slot = -1;  // slot number for an event stored in an EventHeap
 
 	public EventHandle() {}
 
@@ -0,0 +1,325 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.events;
+
+import java.util.Arrays;
+
+/**
+ * EventHeap is an alternative to EventTree for storing the future events. Instead of linking
+ * Event objects into the EventNode for each time and priority, the data for each event is held
+ * in a set of primitive arrays indexed by a slot number, and the slots are ordered by an
+ * indexed binary heap. Scheduling and removing an event does not allocate any objects once the
+ * arrays have grown to the maximum number of pending events.
+ * <p>
+ * Events with the same time and priority are executed in the same order as for EventTree:
+ * FIFO events in the order they were scheduled, preceded by LIFO events in the reverse order.
+ * An EventHandle that is used to schedule an event records its slot number so that the event
+ * can be removed without searching the heap.
+ * <p>
+ * EventManager uses an EventHeap in place of its EventTree when the system property
+ * 'jaamsim.eventHeap' is set to true.
+ */
+class EventHeap {
+	private static final int INIT_CAPACITY = 64;
+
+	// Marks an EventHandle whose event is stored in an EventHeap
+	static final BaseEvent HEAP_EVENT = new BaseEvent() {};
+
+	// Data for each slot
+	private long[] ticks;             // tick at which the event will execute
+	private int[] priorities;         // schedule priority for the event
+	private long[] seqNums;           // order of execution for the same tick and priority
+	private int[] heapPos;            // position of the slot in the heap, or -1 if the slot is free
+	private ProcessTarget[] targets;  // target to be executed
+	private EventHandle[] handles;    // handle for the event, or null
+
+	// Slot numbers in heap order
+	private int[] heap;
+	private int size;
+
+	// Slots that can be re-used
+	private int[] freeSlots;
+	private int numFree;
+	private int numSlots;
+
+	private long fifoSeqNum;  // increases for each FIFO event
+	private long lifoSeqNum;  // decreases for each LIFO event
+
+	EventHeap() {
+		ticks = new long[INIT_CAPACITY];
+		priorities = new int[INIT_CAPACITY];
+		seqNums = new long[INIT_CAPACITY];
+		heapPos = new int[INIT_CAPACITY];
+		targets = new ProcessTarget[INIT_CAPACITY];
+		handles = new EventHandle[INIT_CAPACITY];
+		heap = new int[INIT_CAPACITY];
+		freeSlots = new int[INIT_CAPACITY];
+	}
+
+	final int size() {
+		return size;
+	}
+
+	final boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the events and releases the targets and handles they refer to.
+	 */
+	final void reset() {
+		for (int i = 0; i < numSlots; i++) {
+			if (handles[i] != null) {
+				handles[i].event = null;
+				handles[i].slot = -1;
+			}
+		}
+		Arrays.fill(targets, 0, numSlots, null);
+		Arrays.fill(handles, 0, numSlots, null);
+		size = 0;
+		numFree = 0;
+		numSlots = 0;
+		fifoSeqNum = 0L;
+		lifoSeqNum = 0L;
+	}
+
+	/**
+	 * Adds an event to the heap.
+	 * @param tick - tick at which the event will execute
+	 * @param priority - schedule priority for the event
+	 * @param fifo - true if the event follows the existing events with the same tick and
+	 * priority, false if it precedes them
+	 * @param target - target to be executed
+	 * @param handle - handle that will track the event, or null
+	 * @return slot number for the event
+	 */
+	final int schedule(long tick, int priority, boolean fifo, ProcessTarget target, EventHandle handle) {
+		if (handle != null && handle.isScheduled())
+			throw new ProcessError("Tried to schedule using an EventHandle already in use");
+
+		int slot = getFreeSlot();
+		ticks[slot] = tick;
+		priorities[slot] = priority;
+		seqNums[slot] = fifo ? ++fifoSeqNum : --lifoSeqNum;
+		targets[slot] = target;
+		handles[slot] = handle;
+		if (handle != null) {
+			handle.event = HEAP_EVENT;
+			handle.slot = slot;
+		}
+
+		heap[size] = slot;
+		heapPos[slot] = size;
+		size++;
+		siftUp(size - 1);
+		return slot;
+	}
+
+	/**
+	 * Returns the slot number for the next event to be executed, or -1 if there are no events.
+	 */
+	final int peek() {
+		return (size == 0) ? -1 : heap[0];
+	}
+
+	final long getTick(int slot) {
+		return ticks[slot];
+	}
+
+	final int getPriority(int slot) {
+		return priorities[slot];
+	}
+
+	final ProcessTarget getTarget(int slot) {
+		return targets[slot];
+	}
+
+	/**
+	 * Removes the next event to be executed and returns its target.
+	 * @return target for the event, or null if there are no events
+	 */
+	final ProcessTarget poll() {
+		if (size == 0)
+			return null;
+		return remove(heap[0]);
+	}
+
+	/**
+	 * Removes the event tracked by the specified handle and returns its target.
+	 * @param handle - handle for the event
+	 * @return target for the event, or null if the handle is not scheduled
+	 */
+	final ProcessTarget remove(EventHandle handle) {
+		if (handle.event != HEAP_EVENT)
+			return null;
+		return remove(handle.slot);
+	}
+
+	/**
+	 * Removes the event in the specified slot and returns its target.
+	 * @param slot - slot number for the event
+	 * @return target for the event
+	 */
+	final ProcessTarget remove(int slot) {
+		int pos = heapPos[slot];
+		if (pos < 0)
+			throw new ProcessError("Tried to remove an event that is not scheduled");
+
+		// Move the last entry into the vacated position and restore the heap order
+		size--;
+		if (pos < size) {
+			int last = heap[size];
+			heap[pos] = last;
+			heapPos[last] = pos;
+			if (pos > 0 && less(last, heap[(pos - 1) >>> 1]))
+				siftUp(pos);
+			else
+				siftDown(pos);
+		}
+
+		// Release the slot
+		ProcessTarget t = targets[slot];
+		targets[slot] = null;
+		if (handles[slot] != null) {
+			handles[slot].event = null;
+			handles[slot].slot = -1;
+			handles[slot] = null;
+		}
+		heapPos[slot] = -1;
+		freeSlots[numFree++] = slot;
+		return t;
+	}
+
+	/**
+	 * Returns the slot numbers for the events in the order they will be executed. The ordering
+	 * data is copied first so that the method can be called from a thread other than the one
+	 * executing the events.
+	 */
+	final int[] getSortedSlots() {
+		int[] h = heap;
+		long[] t = ticks;
+		int[] p = priorities;
+		long[] q = seqNums;
+		int n = Math.min(size, h.length);
+		Integer[] order = new Integer[n];
+		long[] tick = new long[n];
+		int[] prio = new int[n];
+		long[] seq = new long[n];
+		int[] slots = new int[n];
+		for (int pos = 0; pos < n; pos++) {
+			int slot = h[pos];
+			order[pos] = pos;
+			slots[pos] = slot;
+			tick[pos] = t[slot];
+			prio[pos] = p[slot];
+			seq[pos] = q[slot];
+		}
+		Arrays.sort(order, (a, b) -> {
+			if (tick[a] != tick[b])
+				return Long.compare(tick[a], tick[b]);
+			if (prio[a] != prio[b])
+				return Integer.compare(prio[a], prio[b]);
+			return Long.compare(seq[a], seq[b]);
+		});
+		int[] ret = new int[n];
+		for (int i = 0; i < n; i++) {
+			ret[i] = slots[order[i]];
+		}
+		return ret;
+	}
+
+	private int getFreeSlot() {
+		if (numFree > 0)
+			return freeSlots[--numFree];
+
+		if (numSlots == ticks.length) {
+			int cap = numSlots * 2;
+			ticks = Arrays.copyOf(ticks, cap);
+			priorities = Arrays.copyOf(priorities, cap);
+			seqNums = Arrays.copyOf(seqNums, cap);
+			heapPos = Arrays.copyOf(heapPos, cap);
+			targets = Arrays.copyOf(targets, cap);
+			handles = Arrays.copyOf(handles, cap);
+			heap = Arrays.copyOf(heap, cap);
+			freeSlots = Arrays.copyOf(freeSlots, cap);
+		}
+		return numSlots++;
+	}
+
+	/**
+	 * Returns true if the event in slot a is executed before the one in slot b.
+	 */
+	private boolean less(int a, int b) {
+		if (ticks[a] != ticks[b])
+			return ticks[a] < ticks[b];
+		if (priorities[a] != priorities[b])
+			return priorities[a] < priorities[b];
+		return seqNums[a] < seqNums[b];
+	}
+
+	private void siftUp(int pos) {
+		int slot = heap[pos];
+		while (pos > 0) {
+			int parentPos = (pos - 1) >>> 1;
+			int parent = heap[parentPos];
+			if (!less(slot, parent))
+				break;
+			heap[pos] = parent;
+			heapPos[parent] = pos;
+			pos = parentPos;
+		}
+		heap[pos] = slot;
+		heapPos[slot] = pos;
+	}
+
+	private void siftDown(int pos) {
+		int slot = heap[pos];
+		int half = size >>> 1;
+		while (pos < half) {
+			int childPos = 2 * pos + 1;
+			int child = heap[childPos];
+			int rightPos = childPos + 1;
+			if (rightPos < size && less(heap[rightPos], child)) {
+				childPos = rightPos;
+				child = heap[childPos];
+			}
+			if (!less(child, slot))
+				break;
+			heap[pos] = child;
+			heapPos[child] = pos;
+			pos = childPos;
+		}
+		heap[pos] = slot;
+		heapPos[slot] = pos;
+	}
+
+	// Verify the heap order and the slot positions, and return the number of events
+	final int verify() {
+		for (int pos = 0; pos < size; pos++) {
+			int slot = heap[pos];
+			if (heapPos[slot] != pos)
+				throw new RuntimeException("Heap position verify failed");
+			if (pos > 0 && less(slot, heap[(pos - 1) >>> 1]))
+				throw new RuntimeException("Heap order verify failed");
+			if (handles[slot] != null && handles[slot].slot != slot)
+				throw new RuntimeException("Heap handle verify failed");
+		}
+		if (size + numFree != numSlots)
+			throw new RuntimeException("Heap slot count verify failed");
+		return size;
+	}
+}
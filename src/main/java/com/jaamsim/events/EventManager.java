@@ -48,6 +48,8 @@ public final class EventManager {
 	private final ReentrantLock evtLock; // Object used as global lock for synchronization
 
 	private final EventTree eventTree;
+	private final EventHeap eventHeap;  // used in place of eventTree when not null
+	private long numEvents;  // number of events executed since the last clear
 	private final AtomicReference<ThreadEntry> runningProc;
 	private final AtomicLong currentTick;
 	private volatile boolean executeEvents;
@@ -87,6 +89,7 @@ public final class EventManager {
 		setTickLength(1e-6d);
 
 		eventTree = new EventTree();
+		eventHeap = Boolean.getBoolean("jaamsim.eventHeap") ? new EventHeap() : null;
 		condEvents = new ArrayList<>();
 
 		runningProc = new AtomicReference<>(NO_ENTRY);
@@ -125,6 +128,7 @@ public final class EventManager {
 		try {
 			currentTick.set(0);
 			nextTick = 0;
+			numEvents = 0L;
 			oneEvent = false;
 			oneSimTime = false;
 			targetTick = Long.MAX_VALUE;
@@ -136,6 +140,12 @@ public final class EventManager {
 			eventTree.runOnAllNodes(new KillAllEvents());
 			eventTree.reset();
 			clearFreeList();
+			if (eventHeap != null) {
+				for (int slot : eventHeap.getSortedSlots()) {
+					kill(eventHeap.getTarget(slot));
+				}
+				eventHeap.reset();
+			}
 
 			for (int i = 0; i < condEvents.size(); i++) {
 				kill(condEvents.get(i).target);
@@ -248,8 +258,7 @@ public final class EventManager {
 
 			// Loop continuously
 			while (true) {
-				EventNode nextNode = eventTree.getNextNode();
-				if (nextNode == null ||
+				if (!hasEvents() ||
 				    currentTick.get() >= targetTick) {
 					executeEvents = false;
 				}
@@ -261,17 +270,10 @@ public final class EventManager {
 				}
 
 				// If the next event is at the current tick, execute it
-				if (nextNode.schedTick == currentTick.get()) {
+				if (getNextEventTick() == currentTick.get()) {
 					// Remove the event from the future events
-					Event nextEvent = nextNode.head;
-					ProcessTarget nextTarget = nextEvent.target;
-					if (trcListener != null) {
-						disableSchedule();
-						trcListener.traceEvent(nextNode.schedTick, nextNode.priority, nextTarget);
-						enableSchedule();
-					}
-
-					removeEvent(nextEvent);
+					ProcessTarget nextTarget = removeNextEvent();
+					numEvents++;
 
 					if (oneEvent) {
 						oneEvent = false;
@@ -290,7 +292,7 @@ public final class EventManager {
 
 				// If the next event would require us to advance the time, check the
 				// conditonal events
-				if (eventTree.getNextNode().schedTick > nextTick) {
+				if (getNextEventTick() > nextTick) {
 					if (condEvents.size() > 0) {
 						evaluateConditions();
 						if (!executeEvents) continue;
@@ -299,7 +301,7 @@ public final class EventManager {
 					// If a conditional event was satisfied, we will have a new event at the
 					// beginning of the eventStack for the current tick, go back to the
 					// beginning, otherwise fall through to the time-advance
-					nextTick = eventTree.getNextNode().schedTick;
+					nextTick = getNextEventTick();
 					if (nextTick == currentTick.get())
 						continue;
 
@@ -329,10 +331,59 @@ public final class EventManager {
 		}
 	}
 
+	private boolean hasEvents() {
+		if (eventHeap != null)
+			return !eventHeap.isEmpty();
+		return eventTree.getNextNode() != null;
+	}
+
+	/**
+	 * Returns the tick for the next event to be executed. There must be at least one event.
+	 */
+	private long getNextEventTick() {
+		if (eventHeap != null)
+			return eventHeap.getTick(eventHeap.peek());
+		return eventTree.getNextNode().schedTick;
+	}
+
+	/**
+	 * Removes the next event to be executed and returns its target.
+	 */
+	private ProcessTarget removeNextEvent() {
+		if (eventHeap != null) {
+			int slot = eventHeap.peek();
+			if (trcListener != null) {
+				disableSchedule();
+				trcListener.traceEvent(eventHeap.getTick(slot), eventHeap.getPriority(slot), eventHeap.getTarget(slot));
+				enableSchedule();
+			}
+			return eventHeap.remove(slot);
+		}
+
+		EventNode nextNode = eventTree.getNextNode();
+		Event nextEvent = nextNode.head;
+		ProcessTarget nextTarget = nextEvent.target;
+		if (trcListener != null) {
+			disableSchedule();
+			trcListener.traceEvent(nextNode.schedTick, nextNode.priority, nextTarget);
+			enableSchedule();
+		}
+
+		removeEvent(nextEvent);
+		return nextTarget;
+	}
+
 	public final long getTicks() {
 		return currentTick.get();
 	}
 
+	/**
+	 * Returns the number of events that have been executed since the event manager was cleared.
+	 */
+	public final long getNumberOfEvents() {
+		return numEvents;
+	}
+
 	public final boolean isRunning() {
 		return runningProc.get() != NO_ENTRY;
 	}
@@ -350,17 +401,11 @@ public final class EventManager {
 					trcListener.traceConditionalEvalEnded(bool, c.target);
 				if (bool) {
 					condEvents.remove(i);
-					EventNode node = getEventNode(currentTick.get(), 0);
-					Event evt = getEvent();
-					evt.node = node;
-					evt.target = c.target;
-					evt.handle = c.handle;
-					if (evt.handle != null) {
-						// no need to check the handle.isScheduled as we just unscheduled it above
-						// and we immediately switch it to this event
-						evt.handle.event = evt;
-					}
-					node.addEvent(evt, true);
+					// no need to check the handle.isScheduled as we just unscheduled it above
+					// and we immediately switch it to this event
+					if (c.handle != null)
+						c.handle.event = null;
+					addEvent(currentTick.get(), 0, true, c.target, c.handle);
 					continue;
 				}
 				i++;
@@ -547,24 +592,16 @@ public final class EventManager {
 	private void _waitTicks(long ticks, int priority, boolean fifo, EventHandle handle) {
 		assertCanSchedule();
 		long nextEventTime = calculateEventTime(ticks);
+		if (handle != null && handle.isScheduled())
+			throw new ProcessError("Tried to schedule using an EventHandle already in use");
 		WaitTarget t = new WaitTarget(this);
-		EventNode node = getEventNode(nextEventTime, priority);
-		Event evt = getEvent();
-		evt.node = node;
-		evt.target = t;
-		evt.handle = handle;
-		if (handle != null) {
-			if (handle.isScheduled())
-				throw new ProcessError("Tried to schedule using an EventHandle already in use");
-			handle.event = evt;
-		}
 
 		if (trcListener != null) {
 			disableSchedule();
 			trcListener.traceWait(nextEventTime, priority, t);
 			enableSchedule();
 		}
-		node.addEvent(evt, fifo);
+		addEvent(nextEventTime, priority, fifo, t, handle);
 		captureProcess(t);
 	}
 
@@ -576,6 +613,25 @@ public final class EventManager {
 		return eventTree.createOrFindNode(tick, prio);
 	}
 
+	/**
+	 * Adds an event to the future events. The handle must not be in use.
+	 */
+	private void addEvent(long tick, int prio, boolean fifo, ProcessTarget t, EventHandle handle) {
+		if (eventHeap != null) {
+			eventHeap.schedule(tick, prio, fifo, t, handle);
+			return;
+		}
+
+		EventNode node = getEventNode(tick, prio);
+		Event evt = getEvent();
+		evt.node = node;
+		evt.target = t;
+		evt.handle = handle;
+		if (handle != null)
+			handle.event = evt;
+		node.addEvent(evt, fifo);
+	}
+
 	private Event freeEvents = null;
 	private Event getEvent() {
 		if (freeEvents != null) {
@@ -680,6 +736,9 @@ public final class EventManager {
 
 	private ProcessTarget getTargetFromHandle(EventHandle handle) {
 		BaseEvent base = handle.event;
+		if (base == EventHeap.HEAP_EVENT)
+			return eventHeap.remove(handle);
+
 		ProcessTarget t = base.target;
 		handle.event = null;
 		base.handle = null;
@@ -713,15 +772,20 @@ public final class EventManager {
 
 		if (trcListener != null) {
 			disableSchedule();
-			trcKill(handle.event);
+			trcKill(handle);
 			enableSchedule();
 		}
 
 		kill(getTargetFromHandle(handle));
 	}
 
-	private void trcKill(BaseEvent event) {
-		if (event instanceof Event) {
+	private void trcKill(EventHandle handle) {
+		BaseEvent event = handle.event;
+		if (event == EventHeap.HEAP_EVENT) {
+			int slot = handle.slot;
+			trcListener.traceKill(eventHeap.getTick(slot), eventHeap.getPriority(slot), eventHeap.getTarget(slot));
+		}
+		else if (event instanceof Event) {
 			EventNode node = ((Event)event).node;
 			trcListener.traceKill(node.schedTick, node.priority, event.target);
 		}
@@ -751,15 +815,20 @@ public final class EventManager {
 
 		if (trcListener != null) {
 			disableSchedule();
-			trcInterrupt(handle.event);
+			trcInterrupt(handle);
 			enableSchedule();
 		}
 
 		pushProcess(getTargetFromHandle(handle));
 	}
 
-	private void trcInterrupt(BaseEvent event) {
-		if (event instanceof Event) {
+	private void trcInterrupt(EventHandle handle) {
+		BaseEvent event = handle.event;
+		if (event == EventHeap.HEAP_EVENT) {
+			int slot = handle.slot;
+			trcListener.traceInterrupt(eventHeap.getTick(slot), eventHeap.getPriority(slot), eventHeap.getTarget(slot));
+		}
+		else if (event instanceof Event) {
 			EventNode node = ((Event)event).node;
 			trcListener.traceInterrupt(node.schedTick, node.priority, event.target);
 		}
@@ -818,26 +887,18 @@ public final class EventManager {
 		evtLock.lock();
 		try {
 			long schedTick = calculateEventTime(waitLength);
-			EventNode node = getEventNode(schedTick, eventPriority);
-			Event evt = getEvent();
-			evt.node = node;
-			evt.target = t;
-			evt.handle = handle;
-			if (handle != null) {
-				if (handle.isScheduled())
-					throw new ProcessError("Tried to schedule using an EventHandle already in use");
-				handle.event = evt;
-			}
+			if (handle != null && handle.isScheduled())
+				throw new ProcessError("Tried to schedule using an EventHandle already in use");
 			// FIXME: this is the only callback that does not occur in Process context, disable for now
 			//if (trcListener != null)
 			//	trcListener.traceSchedProcess(this, currentTick.get(), schedTick, eventPriority, t);
-			node.addEvent(evt, fifo);
+			addEvent(schedTick, eventPriority, fifo, t, handle);
 
 			// During real-time waits an event can be inserted becoming the next event to execute
 			// If nextTick is not updated, we can fall through the entire time update code and not
 			// execute this event, leading to the state machine becoming broken
-			if (nextTick > eventTree.getNextNode().schedTick)
-				nextTick = eventTree.getNextNode().schedTick;
+			if (nextTick > getNextEventTick())
+				nextTick = getNextEventTick();
 		}
 		finally {
 			evtLock.unlock();
@@ -878,22 +939,14 @@ public final class EventManager {
 	private void _scheduleTicks(long waitLength, int eventPriority, boolean fifo, ProcessTarget t, EventHandle handle) {
 		assertCanSchedule();
 		long schedTick = calculateEventTime(waitLength);
-		EventNode node = getEventNode(schedTick, eventPriority);
-		Event evt = getEvent();
-		evt.node = node;
-		evt.target = t;
-		evt.handle = handle;
-		if (handle != null) {
-			if (handle.isScheduled())
-				throw new ProcessError("Tried to schedule using an EventHandle already in use");
-			handle.event = evt;
-		}
+		if (handle != null && handle.isScheduled())
+			throw new ProcessError("Tried to schedule using an EventHandle already in use");
 		if (trcListener != null) {
 			disableSchedule();
 			trcListener.traceSchedProcess(schedTick, eventPriority, t);
 			enableSchedule();
 		}
-		node.addEvent(evt, fifo);
+		addEvent(schedTick, eventPriority, fifo, t, handle);
 	}
 
 	/**
@@ -973,7 +1026,34 @@ public final class EventManager {
 	 * @return true if we are in a Process context, false otherwise
 	 */
 	public static final boolean hasCurrent() {
-		return (Thread.currentThread() instanceof Process);
+		// The detached flag is an unsynchronized field of the present thread, so the test costs
+		// no more than the type check
+		Thread t = Thread.currentThread();
+		return t instanceof Process && !((Process)t).isDetached();
+	}
+
+	/**
+	 * Runs the specified task on the present thread as if it were not a Process. While the task
+	 * is running, hasCurrent returns false, so that probability distributions and other objects
+	 * whose state is changed by sampling return their last values, as they do for the user
+	 * interface.
+	 * @param r - task to be run
+	 */
+	public static final void runDetached(Runnable r) {
+		Thread t = Thread.currentThread();
+		if (!(t instanceof Process)) {
+			r.run();
+			return;
+		}
+		Process proc = (Process)t;
+		boolean prev = proc.isDetached();
+		proc.setDetached(true);
+		try {
+			r.run();
+		}
+		finally {
+			proc.setDetached(prev);
+		}
 	}
 
 	/**
@@ -1042,6 +1122,15 @@ public final class EventManager {
 	 */
 	public final void getEventDataList(ArrayList<EventData> events) {
 		// Unsynchronized for use by the Event Viewer
+		if (eventHeap != null) {
+			for (int slot : eventHeap.getSortedSlots()) {
+				ProcessTarget t = eventHeap.getTarget(slot);
+				if (t == null)
+					continue;
+				events.add(new EventData(eventHeap.getTick(slot), eventHeap.getPriority(slot), t.getDescription()));
+			}
+			return;
+		}
 		EventDataBuilder lb = new EventDataBuilder(events);
 		eventTree.runOnAllNodes(lb);
 	}
@@ -47,6 +47,7 @@ final class Process extends Thread {
 	private final Condition waitInPool = poolLock.newCondition();
 
 	private final AtomicReference<EventManager> evt = new AtomicReference<>(); // The EventManager that is currently managing this Process
+	private boolean detached; // true while a task is being run outside the model context, accessed only by this Process
 
 	// Initialize the storage for the pooled Processes
 	static {
@@ -103,6 +104,14 @@ final class Process extends Thread {
 		return evt.get();
 	}
 
+	final boolean isDetached() {
+		return detached;
+	}
+
+	final void setDetached(boolean bool) {
+		detached = bool;
+	}
+
 	// Set up a new process for the given entity, method, and arguments and return a process from the pool or create a new one.
 	static Process allocate(EventManager evt) {
 		while (true) {
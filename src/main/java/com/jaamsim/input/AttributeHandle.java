@@ -25,20 +25,32 @@ import com.jaamsim.units.Unit;
 public class AttributeHandle extends ValueHandle {
 	private final String attributeName;
 	private final Expression expression;
-	private ExpResult value;
+	private ExpResult value;  // non-numeric value
 	private Class<? extends Unit> unitType;
 
+	// Numeric values are held in a slot in an array owned by the entity
+	private final double[] slots;
+	private final int index;
+	private boolean number;
+
 	public AttributeHandle(Entity e, String name, Expression exp, ExpResult val, Class<? extends Unit> ut) {
+		this(e, name, exp, ut, new double[1], 0);
+		if (val != null)
+			setValue(val);
+	}
+
+	public AttributeHandle(Entity e, String name, Expression exp, Class<? extends Unit> ut, double[] slots, int index) {
 		super(e);
 		attributeName = name;
 		expression = exp;
-		value = val;
 		unitType = ut;
+		this.slots = slots;
+		this.index = index;
 	}
 
 	@Override
 	public Class<? extends Unit> getUnitType() {
-		if (value == null) {
+		if (value == null && !number) {
 			try {
 				ExpResult res = ExpEvaluator.evaluateExpression(expression, ent, 0.0d);
 				return res.unitType;
@@ -55,12 +67,51 @@ public class AttributeHandle extends ValueHandle {
 	}
 
 	public void setValue(ExpResult val) {
-		value = val;
 		unitType = val.unitType;
+		if (val.type == ExpResType.NUMBER) {
+			slots[index] = val.value;
+			number = true;
+			value = null;
+			return;
+		}
+		number = false;
+		value = val;
+	}
+
+	/**
+	 * Returns true if the attribute holds a number.
+	 */
+	public boolean isNumber() {
+		return number;
+	}
+
+	/**
+	 * Returns the numeric value for the attribute.
+	 * Valid only if the attribute holds a number.
+	 */
+	public double getNumber() {
+		return slots[index];
+	}
+
+	/**
+	 * Sets the numeric value for an attribute that already holds a number with the same unit
+	 * type, without creating a new ExpResult.
+	 * @param val - new value
+	 */
+	public void setNumber(double val) {
+		slots[index] = val;
+	}
+
+	private ExpResult getResult() {
+		if (number)
+			return ExpResult.makeNumResult(slots[index], unitType);
+		return value;
 	}
 
 	@Override
 	public <T> T getValue(double simTime, Class<T> klass) {
+		if (number)
+			return getResult().getValue(klass);
 		if (value == null) {
 			try {
 				ExpResult res = ExpEvaluator.evaluateExpression(expression, ent, simTime);
@@ -78,6 +129,8 @@ public class AttributeHandle extends ValueHandle {
 	}
 
 	public ExpResult copyValue() {
+		if (number)
+			return getResult();
 		if (value == null) {
 			return null;
 		}
@@ -86,8 +139,8 @@ public class AttributeHandle extends ValueHandle {
 
 	@Override
 	public double getValueAsDouble(double simTime, double def) {
-		if (value.type == ExpResType.NUMBER)
-			return value.value;
+		if (number)
+			return slots[index];
 		else
 			return def;
 	}
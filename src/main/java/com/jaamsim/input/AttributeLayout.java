@@ -0,0 +1,75 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.input;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Assigns a slot index to each attribute in an AttributeDefinitionList input.
+ * <p>
+ * An entity holds the numeric values for its attributes in an array indexed by these slots.
+ * Clones share the layout for their prototype, so that an expression can resolve the slot for
+ * an attribute name once and re-use it for every entity with the same layout.
+ */
+public class AttributeLayout {
+
+	private final ArrayList<NamedExpression> definitions;
+	private final String[] names;
+	private final HashMap<String, Integer> indexMap;
+
+	public AttributeLayout(ArrayList<NamedExpression> defs) {
+		definitions = defs;
+		names = new String[defs.size()];
+		indexMap = new HashMap<>(defs.size() * 2);
+		for (int i = 0; i < defs.size(); i++) {
+			names[i] = defs.get(i).getName();
+			indexMap.put(names[i], i);
+		}
+	}
+
+	/**
+	 * Returns true if this layout was created for the specified list of attribute definitions.
+	 * @param defs - attribute definitions
+	 * @return true if the layout can be used for the definitions
+	 */
+	public boolean isLayoutFor(ArrayList<NamedExpression> defs) {
+		return defs == definitions;
+	}
+
+	/**
+	 * Returns the slot index for the specified attribute name, or -1 if there is no attribute
+	 * with this name.
+	 * @param name - attribute name
+	 * @return slot index
+	 */
+	public int getIndex(String name) {
+		Integer ret = indexMap.get(name);
+		if (ret == null)
+			return -1;
+		return ret;
+	}
+
+	public String getName(int index) {
+		return names[index];
+	}
+
+	public int getSize() {
+		return names.length;
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.input;
+
+import java.util.ArrayList;
+
+import com.jaamsim.basicsim.Entity;
+
+/**
+ * Records the entities whose state determines the value of one or more expressions, together
+ * with any references whose changes in value cannot be detected from the state of these
+ * entities, such as the simulation time or an entity that is not known until the expression is
+ * evaluated.
+ */
+public class ExpDependencies {
+
+	private final Entity thisEnt;
+	private final ArrayList<Entity> entityList = new ArrayList<>();
+	private final ArrayList<String> issueList = new ArrayList<>();
+
+	/**
+	 * Constructs an empty set of dependencies for expressions evaluated by the specified entity.
+	 * @param thisEnt - entity that evaluates the expressions
+	 */
+	public ExpDependencies(Entity thisEnt) {
+		this.thisEnt = thisEnt;
+	}
+
+	public Entity getThisEntity() {
+		return thisEnt;
+	}
+
+	/**
+	 * Records a reference to the specified entity.
+	 * @param ent - entity referenced by an expression
+	 */
+	public void addEntity(Entity ent) {
+		if (ent == null || entityList.contains(ent))
+			return;
+		entityList.add(ent);
+	}
+
+	/**
+	 * Records a reference whose changes in value cannot be tracked.
+	 * @param fmt - format string for the description of the reference
+	 * @param args - objects used by the format string
+	 */
+	public void addIssue(String fmt, Object... args) {
+		String str = String.format(fmt, args);
+		if (issueList.contains(str))
+			return;
+		issueList.add(str);
+	}
+
+	/**
+	 * Returns the entities referenced by the expressions.
+	 * @return list of entities
+	 */
+	public ArrayList<Entity> getEntityList() {
+		return entityList;
+	}
+
+	/**
+	 * Returns descriptions of the references whose changes in value cannot be tracked.
+	 * @return list of descriptions
+	 */
+	public ArrayList<String> getIssueList() {
+		return issueList;
+	}
+
+	/**
+	 * Returns whether every change in the value of the expressions is the result of a change in
+	 * the state of one of the referenced entities.
+	 * @return true if there are no untracked references
+	 */
+	public boolean isComplete() {
+		return issueList.isEmpty();
+	}
+
+}
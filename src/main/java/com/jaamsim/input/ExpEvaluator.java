@@ -20,6 +20,7 @@ package com.jaamsim.input;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.jaamsim.Graphics.AbstractDirectedEntity;
 import com.jaamsim.basicsim.Entity;
@@ -120,6 +121,7 @@ public class ExpEvaluator {
 	public static class EntityParseContext extends ExpParser.ParseContext {
 		private final JaamSimModel model;
 		private final String source;
+		private final AttributeLayout layout;  // attribute slots for the entity being parsed
 
 		private final HashMap<Entity, String> entityReferences = new HashMap<>();
 
@@ -152,6 +154,7 @@ public class ExpEvaluator {
 			super(constants, dynamicVars);
 			this.model = ent.getJaamSimModel();
 			this.source = source;
+			this.layout = ent.getAttributeLayout();
 		}
 
 		@Override
@@ -194,7 +197,7 @@ public class ExpEvaluator {
 
 		@Override
 		public OutputResolver getOutputResolver(String name) throws ExpError {
-			return new EntityResolver(name);
+			return new EntityResolver(name, layout);
 		}
 
 		@Override
@@ -216,20 +219,22 @@ public class ExpEvaluator {
 			if (oh.canCache()) {
 				return new CachedResolver(oh);
 			} else {
-				return new EntityResolver(name);
+				return new EntityResolver(name, constEnt.entVal.getAttributeLayout());
 			}
 		}
 
 		@Override
 		public Assigner getAssigner(String attribName) throws ExpError {
-			return new EntityAssigner(attribName);
+			return new EntityAssigner(attribName, layout);
 		}
 
 		@Override
 		public Assigner getConstAssigner(ExpResult constEnt, String attribName)
 				throws ExpError {
-			// TODO: const optimization
-			return new EntityAssigner(attribName);
+			AttributeLayout constLayout = null;
+			if (constEnt.type == ExpResType.ENTITY && constEnt.entVal != null)
+				constLayout = constEnt.entVal.getAttributeLayout();
+			return new EntityAssigner(attribName, constLayout);
 		}
 
 	}
@@ -310,12 +315,217 @@ public class ExpEvaluator {
 
 	}
 
+	/**
+	 * Caches the slot index for an attribute name for the most recent attribute layout.
+	 * The slot is resolved when the expression is parsed for the entity that owns it, and again
+	 * only when the expression is evaluated for an entity with a different layout.
+	 */
+	private static class AttributeSlotCache {
+		private final String attribName;
+		private SlotBinding binding;  // replaced as a unit so that it is safe to read from any thread
+
+		private static class SlotBinding {
+			final AttributeLayout layout;
+			final int index;
+
+			SlotBinding(AttributeLayout layout, int index) {
+				this.layout = layout;
+				this.index = index;
+			}
+		}
+
+		AttributeSlotCache(String name, AttributeLayout layout) {
+			attribName = name;
+			binding = bind(layout);
+		}
+
+		private SlotBinding bind(AttributeLayout lay) {
+			int index = (lay == null) ? -1 : lay.getIndex(attribName);
+			return new SlotBinding(lay, index);
+		}
+
+		/**
+		 * Returns the slot index for the attribute on the specified entity, or -1 if the entity
+		 * does not have an attribute with this name.
+		 */
+		int getIndex(Entity ent) {
+			AttributeLayout lay = ent.getAttributeLayout();
+			SlotBinding bnd = binding;
+			if (bnd.layout != lay) {
+				bnd = bind(lay);
+				binding = bnd;
+			}
+			return bnd.index;
+		}
+	}
+
+	// Number of output lookups that were found or not found in the inline caches. The counts
+	// are shared by every model, so they are recorded only when debugging.
+	private static boolean countOutputCache = false;
+	private static final LongAdder outputCacheHits = new LongAdder();
+	private static final LongAdder outputCacheMisses = new LongAdder();
+
+	/**
+	 * Sets whether the output lookups made by the inline caches are counted.
+	 * @param bool - true if the lookups are to be counted
+	 */
+	public static void setOutputCacheCounting(boolean bool) {
+		countOutputCache = bool;
+	}
+
+	/**
+	 * Returns the number of output lookups in expressions that used an accessor held by an
+	 * inline cache.
+	 */
+	public static long getOutputCacheHits() {
+		return outputCacheHits.sum();
+	}
+
+	/**
+	 * Returns the number of output lookups in expressions that had to find the output for the
+	 * entity's class.
+	 */
+	public static long getOutputCacheMisses() {
+		return outputCacheMisses.sum();
+	}
+
+	public static void resetOutputCacheCounts() {
+		outputCacheHits.reset();
+		outputCacheMisses.reset();
+	}
+
+	/**
+	 * Output defined by an entity class that is bound to an accessor for its return type.
+	 */
+	private static final class BoundOutput {
+		private static final int EXP_RESULT = 0;
+		private static final int STRING = 1;
+		private static final int ENTITY = 2;
+		private static final int NUMBER = 3;
+		private static final int COLLECTION = 4;
+		private static final int DIRECTED_ENTITY = 5;
+		private static final int UNKNOWN = 6;
+
+		final Class<? extends Entity> klass;
+		final OutputHandle.OutputStaticInfo info;
+		final int kind;
+
+		BoundOutput(Class<? extends Entity> klass, OutputHandle.OutputStaticInfo info) {
+			this.klass = klass;
+			this.info = info;
+			kind = getKind(info.method.getReturnType());
+		}
+
+		// Follows the order of the tests in getResultFromOutput
+		private static int getKind(Class<?> retType) {
+			if (retType == ExpResult.class)
+				return EXP_RESULT;
+			if (retType == String.class)
+				return STRING;
+			if (Entity.class.isAssignableFrom(retType))
+				return ENTITY;
+			if (ValueHandle.isNumericType(retType) || retType == boolean.class || retType == Boolean.class)
+				return NUMBER;
+			if (ExpCollections.isCollectionClass(retType))
+				return COLLECTION;
+			if (AbstractDirectedEntity.class.isAssignableFrom(retType))
+				return DIRECTED_ENTITY;
+			return UNKNOWN;
+		}
+
+		ExpResult getResult(Entity ent, double simTime) throws ExpError {
+			if (kind == UNKNOWN)
+				throw new ExpError(null, 0, "Output %s, on entity %s does not return a type compatible with expressions.",
+				                   info.name, ent.getName());
+
+			Object val = OutputHandle.invoke(info, ent, simTime);
+			switch (kind) {
+			case EXP_RESULT:
+				if (val == null)
+					throw new ExpError(null, 0, "Output %s, on entity %s does not return a type compatible with expressions.",
+					                   info.name, ent.getName());
+				return (ExpResult) val;
+			case STRING:
+				return ExpResult.makeStringResult((String) val);
+			case ENTITY:
+				return ExpResult.makeEntityResult((Entity) val);
+			case NUMBER:
+				return ExpResult.makeNumResult(getDouble(val), OutputHandle.getUnitType(info, ent));
+			case COLLECTION:
+				return ExpCollections.wrapCollection(val, OutputHandle.getUnitType(info, ent));
+			default:
+				return ExpResult.makeEntityResult(((AbstractDirectedEntity<?>) val).getEntity());
+			}
+		}
+
+		// Matches ValueHandle.getValueAsDouble with a default value of zero
+		private static double getDouble(Object val) {
+			if (val instanceof Number)
+				return ((Number) val).doubleValue();
+			if (val instanceof Boolean)
+				return ((Boolean) val) ? 1.0d : 0.0d;
+			if (val instanceof Character)
+				return ((Character) val).charValue();
+			return 0.0d;
+		}
+	}
+
+	/**
+	 * Inline cache that holds the accessors for an output name on the entity classes seen by
+	 * one expression node. Once the cache is full, the accessors for further classes are found
+	 * on each lookup.
+	 */
+	private static class OutputCache {
+		private static final int MAX_ENTRIES = 4;
+
+		private final String outputName;
+		private BoundOutput[] entries;  // replaced as a unit so that it is safe to read from any thread
+
+		OutputCache(String name) {
+			outputName = name;
+			entries = new BoundOutput[0];
+		}
+
+		/**
+		 * Returns the accessor for the output on the specified entity class, or null if the
+		 * class does not have an output with this name.
+		 */
+		BoundOutput get(Class<? extends Entity> klass) {
+			BoundOutput[] arr = entries;
+			for (BoundOutput bo : arr) {
+				if (bo.klass == klass) {
+					if (countOutputCache)
+						outputCacheHits.increment();
+					return bo;
+				}
+			}
+			if (countOutputCache)
+				outputCacheMisses.increment();
+
+			OutputHandle.OutputStaticInfo info = OutputHandle.getOutputInfo(klass, outputName);
+			if (info == null)
+				return null;
+			BoundOutput ret = new BoundOutput(klass, info);
+			if (arr.length < MAX_ENTRIES) {
+				BoundOutput[] newArr = new BoundOutput[arr.length + 1];
+				System.arraycopy(arr, 0, newArr, 0, arr.length);
+				newArr[arr.length] = ret;
+				entries = newArr;
+			}
+			return ret;
+		}
+	}
+
 	private static class EntityResolver implements ExpParser.OutputResolver {
 
 		private final String outputName;
+		private final AttributeSlotCache slotCache;
+		private final OutputCache outputCache;
 
-		public EntityResolver(String name) {
+		public EntityResolver(String name, AttributeLayout layout) {
 			outputName = name;
+			slotCache = new AttributeSlotCache(name, layout);
+			outputCache = new OutputCache(name);
 		}
 
 		@Override
@@ -336,9 +546,25 @@ public class ExpEvaluator {
 				throw new ExpError(null, 0, "Trying to resolve output on null entity");
 			}
 
-			ValueHandle oh = ent.getOutputHandle(outputName);
+			// Attribute values are read directly from their slots
+			int index = slotCache.getIndex(ent);
+			if (index >= 0) {
+				AttributeHandle ah = ent.getAttributeHandle(index);
+				if (ah.isNumber())
+					return ExpResult.makeNumResult(ah.getNumber(), ah.getUnitType());
+				return ah.getValue(simTime, ExpResult.class);
+			}
+
+			// Custom outputs and input values
+			ValueHandle oh = ent.getUserOutputHandle(outputName);
 			if (oh == null) {
-				throw new ExpError(null, 0, "Could not find output '%s' on entity '%s'", outputName, ent.getName());
+
+				// Outputs defined by the entity's class
+				BoundOutput bo = outputCache.get(ent.getClass());
+				if (bo == null) {
+					throw new ExpError(null, 0, "Could not find output '%s' on entity '%s'", outputName, ent.getName());
+				}
+				return bo.getResult(ent, simTime);
 			}
 
 			ExpResult res = getResultFromOutput(oh, simTime);
@@ -366,14 +592,20 @@ public class ExpEvaluator {
 	private static class EntityAssigner implements ExpParser.Assigner {
 
 		private final String attribName;
-		EntityAssigner(String attribName) {
+		private final AttributeSlotCache slotCache;
+
+		EntityAssigner(String attribName, AttributeLayout layout) {
 			this.attribName = attribName;
+			slotCache = new AttributeSlotCache(attribName, layout);
 		}
 
 		@Override
 		public void assign(ExpResult ent, ExpResult[] indices, ExpResult val) throws ExpError {
 			Entity assignEnt = ent.entVal;
-			assignEnt.setAttribute(attribName, indices, val);
+			int index = slotCache.getIndex(assignEnt);
+			if (index < 0)
+				throw new ExpError(null, -1, "Invalid attribute name for %s: %s", assignEnt, attribName);
+			assignEnt.setAttribute(index, indices, val);
 		}
 
 	}
@@ -391,6 +623,19 @@ public class ExpEvaluator {
 
 	}
 
+	/**
+	 * Values for the 'this' and 'parent' variables in an expression.
+	 */
+	static final class EntityVals {
+		final ExpResult thisVal;
+		final ExpResult parentVal;
+
+		EntityVals(Entity thisEnt, Entity parent) {
+			thisVal = ExpResult.makeEntityResult(thisEnt);
+			parentVal = ExpResult.makeEntityResult(parent);
+		}
+	}
+
 	private final static HashMap<String, ExpResult> constants = new HashMap<>();
 	static {
 		constants.put("TRUE", ExpResult.makeNumResult(1, DimensionlessUnit.class));
@@ -410,11 +655,18 @@ public class ExpEvaluator {
 		if (exp == null)
 			return ExpResult.makeEntityResult(null);
 
-		ArrayList<ExpResult> varVals = new ArrayList<>();
+		// Re-use the values for 'this' and 'parent' if the entity has not changed
 		Entity parent = thisEnt.getParent();
-		varVals.add(ExpResult.makeEntityResult(thisEnt));
-		varVals.add(ExpResult.makeEntityResult(parent));
-		varVals.add(ExpResult.makeEntityResult(parent));
+		EntityVals entVals = exp.entityVals;
+		if (entVals == null || entVals.thisVal.entVal != thisEnt || entVals.parentVal.entVal != parent) {
+			entVals = new EntityVals(thisEnt, parent);
+			exp.entityVals = entVals;
+		}
+
+		ArrayList<ExpResult> varVals = new ArrayList<>(4);
+		varVals.add(entVals.thisVal);
+		varVals.add(entVals.parentVal);
+		varVals.add(entVals.parentVal);
 		varVals.add(ExpResult.makeNumResult(simTime, TimeUnit.class));
 
 		EntityEvalContext evalContext = new EntityEvalContext(thisEnt, simTime, varVals);
@@ -165,19 +165,24 @@ public class ExpParser {
 	}
 
 	public static class EvalContext {
-		private final ArrayList<ArrayList<ExpResult> > closureStack = new ArrayList<>();
+		private final ArrayList<ExpResult> dynamicVals;
+		private ArrayList<ArrayList<ExpResult> > closureStack;  // created when a lambda is called
 
 		public EvalContext(ArrayList<ExpResult> dynamicVals) {
-			closureStack.add(dynamicVals);
+			this.dynamicVals = dynamicVals;
 		}
 
 		public void pushClosure(ArrayList<ExpResult> closure) {
+			if (closureStack == null)
+				closureStack = new ArrayList<>();
 			closureStack.add(closure);
 		}
 		public void popClosure() {
 			closureStack.remove(closureStack.size()-1);
 		}
 		public ArrayList<ExpResult> getCurrentClosure() {
+			if (closureStack == null || closureStack.isEmpty())
+				return dynamicVals;
 			return closureStack.get(closureStack.size()-1);
 		}
 	}
@@ -197,6 +202,9 @@ public class ExpParser {
 
 		protected final ArrayList<Thread> executingThreads = new ArrayList<>();
 
+		// Values for the 'this' and 'parent' variables from the last evaluation
+		ExpEvaluator.EntityVals entityVals;
+
 		private ExpNode rootNode;
 		public Expression(String source) {
 			this.source = source;
@@ -326,9 +334,11 @@ public class ExpParser {
 
 	private static class Variable extends ExpNode {
 		public int varIndex;
-		public Variable(ParseContext context, int varIndex, Expression exp, int pos) {
+		public final String name;
+		public Variable(ParseContext context, String name, int varIndex, Expression exp, int pos) {
 			super(context, exp, pos);
 			this.varIndex = varIndex;
+			this.name = name;
 		}
 		@Override
 		public ExpResult evaluate(EvalContext ec) throws ExpError {
@@ -1333,6 +1343,112 @@ public class ExpParser {
 		node.walk(elb);
 	}
 
+	// Functions whose value can change without a change in their arguments
+	private static final ArrayList<String> randomFunctions = new ArrayList<>(Arrays.asList(
+			"beta", "binomial", "continuous", "discrete", "discreteUniform", "erlang",
+			"exponential", "gamma", "geometric", "loglogistic", "lognormal", "negativeBinomial",
+			"normal", "poisson", "triangular", "uniform", "weibull"));
+
+	private static class DependencyBuilder implements ExpressionWalker {
+
+		private final ExpDependencies deps;
+
+		private DependencyBuilder(ExpDependencies deps) {
+			this.deps = deps;
+		}
+
+		@Override
+		public void visit(ExpNode exp) throws ExpError {
+			if (exp instanceof Constant) {
+				addEntities(((Constant) exp).val);
+				return;
+			}
+
+			if (exp instanceof Variable) {
+				String name = ((Variable) exp).name;
+				Entity thisEnt = deps.getThisEntity();
+				if (name.equals("this"))
+					deps.addEntity(thisEnt);
+				else if ((name.equals("parent") || name.equals("sub")) && thisEnt != null)
+					deps.addEntity(thisEnt.getParent());
+				else if (name.equals("simTime"))
+					deps.addIssue("the simulation time 'simTime'");
+				return;
+			}
+
+			// Outputs and children of an entity that is not known until the expression is
+			// evaluated cannot be traced back to a fixed entity
+			if (exp instanceof ResolveOutput) {
+				ResolveOutput node = (ResolveOutput) exp;
+				if (!(node.entNode instanceof Constant || isNamedEntity(node.entNode)))
+					deps.addIssue("output '%s' of an entity that is calculated by the expression", node.outputName);
+				return;
+			}
+			if (exp instanceof ResolveChild) {
+				ResolveChild node = (ResolveChild) exp;
+				if (!(node.entNode instanceof Constant || isNamedEntity(node.entNode)))
+					deps.addIssue("child '%s' of an entity that is calculated by the expression", node.childName);
+				return;
+			}
+
+			if (exp instanceof FuncCall) {
+				String name = ((FuncCall) exp).name;
+				if (randomFunctions.contains(name))
+					deps.addIssue("the random function '%s'", name);
+			}
+		}
+
+		// Constant arrays and maps can hold entity references after optimisation
+		private void addEntities(ExpResult val) throws ExpError {
+			if (val.type == ExpResType.ENTITY) {
+				deps.addEntity(val.entVal);
+				return;
+			}
+			if (val.type != ExpResType.COLLECTION)
+				return;
+			ExpResult.Iterator it = val.colVal.getIter();
+			while (it.hasNext()) {
+				addEntities(val.colVal.index(it.nextKey()));
+			}
+		}
+
+		private static boolean isNamedEntity(ExpNode node) {
+			if (!(node instanceof Variable))
+				return false;
+			String name = ((Variable) node).name;
+			return name.equals("this") || name.equals("parent") || name.equals("sub");
+		}
+
+		@Override
+		public ExpNode updateRef(ExpNode exp) throws ExpError {
+			return exp;
+		}
+	}
+
+	/**
+	 * Appends the entities whose state determines the value of the specified expression, and
+	 * records any references whose changes in value cannot be tracked from these entities.
+	 * @param exp - expression to be analysed
+	 * @param deps - dependencies for the expression
+	 * @throws ExpError
+	 */
+	public static void appendDependencies(Expression exp, ExpDependencies deps) throws ExpError {
+		if (exp instanceof Assignment) {
+			Assignment assign = (Assignment) exp;
+			if (assign.entExp != null)
+				assign.entExp.walk(new DependencyBuilder(deps));
+			if (assign.valueExp != null)
+				assign.valueExp.walk(new DependencyBuilder(deps));
+			if (assign.attribIndices != null) {
+				for (ExpNode node : assign.attribIndices) {
+					node.walk(new DependencyBuilder(deps));
+				}
+			}
+			return;
+		}
+		exp.rootNode.walk(new DependencyBuilder(deps));
+	}
+
 	public static void assertUnitType(Expression exp, Class<? extends Unit> unitType) {
 		if (exp.validationResult.state != ExpValResult.State.VALID
 				|| exp.validationResult.type != ExpResType.NUMBER)
@@ -1595,7 +1711,7 @@ public class ExpParser {
 					context.referenceVar(nextTok.value, exp.source, nextTok.pos);
 					int varIndex = context.getVarIndex(nextTok.value);
 
-					return new Variable(context, varIndex, exp, nextTok.pos);
+					return new Variable(context, nextTok.value, varIndex, exp, nextTok.pos);
 				}
 			} else if (getFunctionEntry(nextTok.value) != null){
 				return parseFuncCall(context, nextTok.value, tokens, exp, nextTok.pos);
@@ -120,6 +120,16 @@ public class ExpressionInput extends Input<Expression> {
 		catch (ExpError e) {}
 	}
 
+	@Override
+	public void appendDependencies(ExpDependencies deps) {
+		if (value == null)
+			return;
+		try {
+			ExpParser.appendDependencies(value, deps);
+		}
+		catch (ExpError e) {}
+	}
+
 	@Override
 	public boolean useExpressionBuilder() {
 		return true;
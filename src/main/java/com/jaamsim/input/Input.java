@@ -295,6 +295,13 @@ public abstract class Input<T> {
 	 */
 	public void appendEntityReferences(ArrayList<Entity> list) {}
 
+	/**
+	 * Appends the entities whose state determines the value for this input, and records any
+	 * references whose changes in value cannot be tracked from these entities.
+	 * @param deps - dependencies for the input
+	 */
+	public void appendDependencies(ExpDependencies deps) {}
+
 	/**
 	 * Describes the valid inputs for this type of input.
 	 * @return description of valid inputs
@@ -646,6 +646,10 @@ public class InputAgent {
 			ent.setEdited();
 		}
 
+		// Entities must be validated again before the next run
+		if (changed && !ent.isGenerated())
+			simModel.recordInputChange();
+
 		// Execute the input callback for the entity
 		in.doCallback(ent);
 
@@ -1261,13 +1265,14 @@ public class InputAgent {
 	/**
 	 * Prints the custom output report for the specified scenario.
 	 * @param scene - scenario to the reported
+	 * @param base - scenario to which it is compared using paired replications, or null
 	 * @param labels - true if scenario and replication labels are to be printed for each run
 	 * @param reps - true if the results for each replication are to be printed
 	 * @param bool - true if confidence intervals are to be printed
 	 * @param outStream - PrintStream to which the results will be printed
 	 */
-	public static void printScenarioOutputs(Scenario scene, boolean labels, boolean reps,
-			boolean bool, PrintStream outStream) {
+	public static void printScenarioOutputs(Scenario scene, Scenario base, boolean labels,
+			boolean reps, boolean bool, PrintStream outStream) {
 		int replications = scene.getRunsCompleted().size();
 
 		// Sort the completed runs by replication number
@@ -1340,7 +1345,28 @@ public class InputAgent {
 		}
 
 		// Mean value and confidence interval for each output
-		ArrayList<SampleStatistics> stats = scene.getRunStatistics();
+		appendStatistics(sb, scene.getSummaryStatistics(), bool);
+		outStream.println(sb.toString());
+
+		// Average difference from the base scenario and its confidence interval
+		if (base == null || base == scene)
+			return;
+		sb = new StringBuilder();
+		if (labels) {
+			sb.append(scene.getScenarioNumber()).append(" - ").append(base.getScenarioNumber());
+			sb.append("\t");
+			if (reps)
+				sb.append("\t");
+		}
+		for (int i = 0; i < scene.getParameters().length; i++) {
+			sb.append("\t");
+		}
+		appendStatistics(sb, scene.getPairedStatistics(base), bool);
+		outStream.println(sb.toString());
+	}
+
+	private static void appendStatistics(StringBuilder sb, ArrayList<SampleStatistics> stats,
+			boolean bool) {
 		for (int i = 0; i < stats.size(); i++) {
 			if (i > 0)
 				sb.append("\t");
@@ -1358,8 +1384,6 @@ public class InputAgent {
 					sb.append(interval95);
 			}
 		}
-
-		outStream.println(sb.toString());
 	}
 
 
@@ -1577,6 +1601,33 @@ public class InputAgent {
 	}
 	public static final Comparator<Entity> uiEntitySortOrder = new EntityComparator();
 
+	/**
+	 * Returns a formated string for the specified output using the preferred unit for its unit
+	 * type.
+	 * @param simModel - simulation model
+	 * @param out - output
+	 * @param simTime - present simulation time
+	 * @return formated string for the output
+	 */
+	public static String getValueAsString(JaamSimModel simModel, ValueHandle out, double simTime) {
+
+		// Determine the preferred unit
+		Class<? extends Unit> ut = out.getUnitType();
+		double factor = 1.0d;
+		String unitString = simModel.getDisplayedUnit(ut);
+		if (!unitString.isEmpty()) {
+			factor = simModel.getDisplayedUnitFactor(ut);
+		}
+
+		// Select the appropriate format for numbers
+		String fmt = "%g";
+		if (out.isIntegerValue() && out.getUnitType() == DimensionlessUnit.class)
+			fmt = "%.0f";
+
+		// Evaluate the output
+		return getValueAsString(simModel, out, simTime, fmt, factor, unitString);
+	}
+
 	/**
 	 * Returns a formated string for the specified output.
 	 * @param simModel - simulation model
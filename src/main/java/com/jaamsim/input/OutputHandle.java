@@ -20,7 +20,9 @@ package com.jaamsim.input;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.ErrorException;
@@ -37,25 +39,29 @@ public class OutputHandle extends ValueHandle {
 	public final OutputStaticInfo outputInfo;
 	public final Class<? extends Unit> unitType;
 
-	private static final HashMap<Class<? extends Entity>, HashMap<String, OutputStaticInfo>> outputInfoCache;
+	// Output information for each class. The information is built once for each class and is
+	// then shared without locking by the models running on each thread.
+	private static final ClassValue<Map<String, OutputStaticInfo>> outputInfoCache;
 
 	static {
-		outputInfoCache = new HashMap<>();
+		outputInfoCache = new ClassValue<Map<String, OutputStaticInfo>>() {
+			@Override
+			protected Map<String, OutputStaticInfo> computeValue(Class<?> klass) {
+				return buildOutputInfo(klass);
+			}
+		};
 	}
 
 	OutputHandle(Entity e, OutputStaticInfo info) {
 		super(e);
 		outputInfo = info;
-		if (outputInfo.unitType == UserSpecifiedUnit.class)
-			unitType = e.getUserUnitType();
-		else
-			unitType = outputInfo.unitType;
+		unitType = getUnitType(info, e);
 	}
 
 	/**
 	 * A data class containing the 'static' (ie: class derived) information for a single output
 	 */
-	private static final class OutputStaticInfo {
+	static final class OutputStaticInfo {
 		public final Method method;
 		public final String name;
 		public final String desc;
@@ -79,13 +85,12 @@ public class OutputHandle extends ValueHandle {
 		return getOutputInfoImp(klass).get(outputName) != null;
 	}
 
-	private static HashMap<String, OutputStaticInfo> getOutputInfoImp(Class<? extends Entity> klass) {
-		HashMap<String, OutputStaticInfo> ret = outputInfoCache.get(klass);
-		if (ret != null)
-			return ret;
+	private static Map<String, OutputStaticInfo> getOutputInfoImp(Class<? extends Entity> klass) {
+		return outputInfoCache.get(klass);
+	}
 
-		// klass has not been cached yet, generate info
-		ret = new HashMap<>();
+	private static Map<String, OutputStaticInfo> buildOutputInfo(Class<?> klass) {
+		HashMap<String, OutputStaticInfo> ret = new HashMap<>();
 		for (Method m : klass.getMethods()) {
 			Output a = m.getAnnotation(Output.class);
 			if (a == null)
@@ -100,8 +105,52 @@ public class OutputHandle extends ValueHandle {
 			OutputStaticInfo info = new OutputStaticInfo(m, a);
 			ret.put(info.name, info);
 		}
-		outputInfoCache.put(klass, ret);
-		return ret;
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * Builds the output information for the specified class so that it does not need to be
+	 * generated while a simulation run is in progress.
+	 * @param klass - class whose outputs are to be registered
+	 */
+	public static void preloadOutputInfo(Class<? extends Entity> klass) {
+		getOutputInfoImp(klass);
+	}
+
+	/**
+	 * Returns the static information for the specified output on the specified class, or null
+	 * if the class does not have an output with this name.
+	 */
+	static OutputStaticInfo getOutputInfo(Class<? extends Entity> klass, String outputName) {
+		return getOutputInfoImp(klass).get(outputName);
+	}
+
+	/**
+	 * Returns the unit type for the specified output on the specified entity.
+	 */
+	static Class<? extends Unit> getUnitType(OutputStaticInfo info, Entity e) {
+		if (info.unitType == UserSpecifiedUnit.class)
+			return e.getUserUnitType();
+		return info.unitType;
+	}
+
+	/**
+	 * Returns the value of the specified output on the specified entity.
+	 * @param info - output to be evaluated
+	 * @param e - entity whose output is to be evaluated
+	 * @param simTime - simulation time in seconds
+	 * @return output value
+	 */
+	static Object invoke(OutputStaticInfo info, Entity e, double simTime) {
+		try {
+			return info.method.invoke(e, simTime);
+		}
+		catch (InvocationTargetException ex) {
+			throw new ErrorException(ex.getTargetException());
+		}
+		catch (IllegalAccessException ex) {
+			throw new ErrorException(ex);
+		}
 	}
 
 	public static OutputHandle getOutputHandle(Entity e, String outputName) {
@@ -0,0 +1,85 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.input;
+
+import java.net.URI;
+
+import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.Samples.TimeSeriesFileData;
+import com.jaamsim.basicsim.Entity;
+
+/**
+ * File input for a TimeSeries whose records are streamed from a sorted text or binary file.
+ * The file is checked and indexed when the input is parsed.
+ */
+public class TimeSeriesFileInput extends FileInput {
+	private double tickLength;  // simulation clock tick length used to convert times into ticks
+	private TimeSeriesFileData data;
+
+	public static final String[] VALID_FILE_EXTENSIONS = {"CSV", "TXT", "DAT", "BIN"};
+	public static final String[] VALID_FILE_DESCRIPTIONS = {
+			"Comma Separated Values (*.csv)",
+			"Text File (*.txt)",
+			"Data File (*.dat)",
+			"Binary Time Series (*.bin)"};
+
+	public TimeSeriesFileInput(String key, String cat) {
+		super(key, cat, null);
+		setFileType("Time Series");
+		setValidFileExtensions(VALID_FILE_EXTENSIONS);
+		setValidFileDescriptions(VALID_FILE_DESCRIPTIONS);
+	}
+
+	@Override
+	public void parse(Entity thisEnt, KeywordIndex kw) throws InputErrorException {
+		URI oldValue = value;
+		super.parse(thisEnt, kw);
+		try {
+			TimeSeries ts = (TimeSeries) thisEnt;
+			data = new TimeSeriesFileData(thisEnt.getJaamSimModel(), value, tickLength,
+					ts.isOffsetToFirst());
+		}
+		catch (InputErrorException e) {
+			value = oldValue;
+			throw e;
+		}
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		data = null;
+	}
+
+	/**
+	 * Returns the time series records for the file.
+	 */
+	public TimeSeriesFileData getData() {
+		if (isDef && protoInput != null)
+			return ((TimeSeriesFileInput) protoInput).getData();
+		return data;
+	}
+
+	public void setTickLength(double val) {
+		tickLength = val;
+	}
+
+	public double getTickLength() {
+		return tickLength;
+	}
+
+}
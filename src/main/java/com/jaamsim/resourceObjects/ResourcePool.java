@@ -39,7 +39,7 @@ public class ResourcePool extends AbstractResourceProvider {
 		super.earlyInit();
 
 		seizableList.clear();
-		for (Entity ent : getJaamSimModel().getClonesOfIterator(Entity.class, Seizable.class)) {
+		for (Entity ent : getJaamSimModel().getClonesOfList(Entity.class, Seizable.class)) {
 			Seizable unit = (Seizable) ent;
 			if (unit.getResourcePool() != this || !((DisplayEntity)unit).isActive())
 				continue;
@@ -89,7 +89,7 @@ public interface ResourceProvider {
 	public static ArrayList<ResourceUser> getUserList(ResourceProvider pool) {
 		ArrayList<ResourceUser> ret = new ArrayList<>();
 		JaamSimModel simModel = ((Entity) pool).getJaamSimModel();
-		for (Entity ent : simModel.getClonesOfIterator(Entity.class, ResourceUser.class)) {
+		for (Entity ent : simModel.getClonesOfList(Entity.class, ResourceUser.class)) {
 			ResourceUser ru = (ResourceUser) ent;
 			if (ru.requiresResource(pool))
 				ret.add(ru);
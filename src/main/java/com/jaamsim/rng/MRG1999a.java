@@ -29,6 +29,9 @@ public class MRG1999a {
 	// The internal state machine is held in 6 integer values (treat as unsigned)
 	int s0, s1, s2, s3, s4, s5;
 
+	// Returns the complement of each uniform value when set
+	boolean antithetic;
+
 	// Saved initial state
 	int stream = -1;
 	int substream;
@@ -168,6 +171,29 @@ public class MRG1999a {
 		this.s3 = (int)s3; this.s4 = (int)s4; this.s5 = (int)s5;
 	}
 
+	/**
+	 * Sets the state of the generator to that of the specified generator.
+	 * @param rng - generator whose state is to be copied
+	 */
+	public void setState(MRG1999a rng) {
+		s0 = rng.s0; s1 = rng.s1; s2 = rng.s2;
+		s3 = rng.s3; s4 = rng.s4; s5 = rng.s5;
+		antithetic = rng.antithetic;
+	}
+
+	/**
+	 * Sets whether the generator returns the complement (1 - U) of each uniform value so that
+	 * it produces the antithetic sequence for its seeds.
+	 * @param bool - true if the antithetic sequence is to be returned
+	 */
+	public void setAntithetic(boolean bool) {
+		antithetic = bool;
+	}
+
+	public boolean isAntithetic() {
+		return antithetic;
+	}
+
 	/**
 	 * Get the next uniformly distributed double value U(0,1)
 	 */
@@ -186,9 +212,45 @@ public class MRG1999a {
 
 		long p = p1 - p2;
 		if (p <= 0) p += m1;
+		if (antithetic)
+			return (m1 + 1 - p) * norm;
 		return p * norm;
 	}
 
+	/**
+	 * Fills the specified array with the next uniformly distributed double values U(0,1).
+	 * The values are identical to the ones that would be returned by the same number of calls
+	 * to nextUniform.
+	 * @param out - array to receive the values
+	 * @param off - index of the first entry to be filled
+	 * @param len - number of values to generate
+	 */
+	public void nextUniforms(double[] out, int off, int len) {
+		// Work with local copies of the state to avoid writing the fields for each value
+		long t0 = uint(s0), t1 = uint(s1), t2 = uint(s2);
+		long t3 = uint(s3), t4 = uint(s4), t5 = uint(s5);
+		boolean anti = antithetic;
+
+		int end = off + len;
+		for (int i = off; i < end; i++) {
+			long p1 = (1403580l * t1 - 810728l * t0) % m1;
+			if (p1 < 0) p1 += m1;
+			t0 = t1; t1 = t2; t2 = p1;
+
+			long p2 = (527612l * t5 - 1370589l * t3) % m2;
+			if (p2 < 0) p2 += m2;
+			t3 = t4; t4 = t5; t5 = p2;
+
+			long p = p1 - p2;
+			if (p <= 0) p += m1;
+			if (anti) p = m1 + 1 - p;
+			out[i] = p * norm;
+		}
+
+		s0 = (int)t0; s1 = (int)t1; s2 = (int)t2;
+		s3 = (int)t3; s4 = (int)t4; s5 = (int)t5;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("%d, %d, %d, %d, %d, %d",
@@ -123,7 +123,7 @@ public abstract class StateEntity extends DisplayEntity implements StateUser {
 		if (!isRegistered())
 			return;
 
-		for (Entity ent : getJaamSimModel().getClonesOfIterator(Entity.class, StateEntityListener.class)) {
+		for (Entity ent : getJaamSimModel().getClonesOfList(Entity.class, StateEntityListener.class)) {
 			StateEntityListener sel = (StateEntityListener)ent;
 			if (sel.isWatching(this))
 				addStateListener(sel);
@@ -42,6 +42,7 @@ import javax.swing.event.ChangeListener;
 import javax.swing.table.DefaultTableModel;
 
 import com.jaamsim.basicsim.Entity;
+import com.jaamsim.basicsim.FrameSnapshot;
 import com.jaamsim.events.EventData;
 import com.jaamsim.events.EventManager;
 import com.jaamsim.events.EventTraceListener;
@@ -120,6 +121,7 @@ public class EventViewer extends FrameBox implements EventTraceListener {
 		evtMan = em;
 		evtMan.pause();
 		evtMan.setTraceListener(this);
+		setEventsRequested(true);
 
 		timeUnit = GUIFrame.getJaamSimModel().getDisplayedUnit(TimeUnit.class);
 
@@ -304,6 +306,13 @@ public class EventViewer extends FrameBox implements EventTraceListener {
 		killInstance();
 		evtMan.pause();
 		evtMan.setTraceListener(null);
+		setEventsRequested(false);
+	}
+
+	private static void setEventsRequested(boolean bool) {
+		FrameSnapshot snapshot = GUIFrame.getJaamSimModel().getFrameSnapshot();
+		if (snapshot != null)
+			snapshot.setEventsRequested(bool);
 	}
 
 	private static final class EventTable extends JTable {
@@ -459,15 +468,23 @@ public class EventViewer extends FrameBox implements EventTraceListener {
 
 	public void updateEvents() {
 
-		// Try to update the event data. If unsuccessful, try again later.
+		// Use the event list recorded by the event thread if the simulation is running.
+		// Otherwise, try to update the event data. If unsuccessful, try again later.
+		FrameSnapshot snapshot = GUIFrame.getJaamSimModel().getFrameSnapshot();
+		int buf = (snapshot == null) ? -1 : snapshot.acquire();
 		try {
 			pendingEvents.clear();
-			evtMan.getEventDataList(pendingEvents);
+			if (buf < 0 || !snapshot.getEventDataList(buf, pendingEvents))
+				evtMan.getEventDataList(pendingEvents);
 		}
 		catch (Exception e) {
 			setDirty(true);
 			return;
 		}
+		finally {
+			if (snapshot != null)
+				snapshot.release(buf);
+		}
 
 		// Find the selected row in the updated event data
 		int selection = eventList.getSelectedRow();
@@ -537,14 +554,21 @@ public class EventViewer extends FrameBox implements EventTraceListener {
 	public void updateConditionals() {
 
 		// Make a copy of the conditional data to avoid concurrent modification exceptions
+		FrameSnapshot snapshot = GUIFrame.getJaamSimModel().getFrameSnapshot();
+		int buf = (snapshot == null) ? -1 : snapshot.acquire();
 		try {
 			condEvents.clear();
-			evtMan.getConditionalDataList(condEvents);
+			if (buf < 0 || !snapshot.getConditionalDataList(buf, condEvents))
+				evtMan.getConditionalDataList(condEvents);
 		}
 		catch (Exception e) {
 			setDirty(true);
 			return;
 		}
+		finally {
+			if (snapshot != null)
+				snapshot.release(buf);
+		}
 
 		// Build the table entries
 		DefaultTableModel tableModel = (DefaultTableModel) condList.getModel();
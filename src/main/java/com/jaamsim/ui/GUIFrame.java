@@ -135,6 +135,7 @@ import com.jaamsim.basicsim.GUIListener;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.basicsim.Log;
 import com.jaamsim.basicsim.ObjectType;
+import com.jaamsim.basicsim.RunDaemon;
 import com.jaamsim.basicsim.RunManager;
 import com.jaamsim.basicsim.Simulation;
 import com.jaamsim.basicsim.WindowDefaults;
@@ -4142,6 +4143,15 @@ public class GUIFrame extends OSFixJFrame implements GUIListener {
 	// ******************************************************************************************************
 
 	public static void main( String args[] ) {
+		// Resident daemon that executes runs requested over a local socket
+		for (String each : args) {
+			if (each.equalsIgnoreCase("-d") ||
+			    each.equalsIgnoreCase("-daemon")) {
+				RunDaemon.main(args);
+				return;
+			}
+		}
+
 		// Process the input arguments and filter out directives
 		ArrayList<String> configFiles = new ArrayList<>(args.length);
 		boolean batch = false;
@@ -4149,6 +4159,7 @@ public class GUIFrame extends OSFixJFrame implements GUIListener {
 		boolean quiet = false;
 		boolean scriptMode = false;
 		boolean headless = false;
+		boolean profile = false;
 
 		for (String each : args) {
 			// Batch mode
@@ -4188,6 +4199,12 @@ public class GUIFrame extends OSFixJFrame implements GUIListener {
 				quiet = true;
 				continue;
 			}
+			// Write a profile of the event execution times
+			if (each.equalsIgnoreCase("-p") ||
+			    each.equalsIgnoreCase("-profile")) {
+				profile = true;
+				continue;
+			}
 			if (each.equalsIgnoreCase("-sg") ||
 			    each.equalsIgnoreCase("-safe_graphics")) {
 				SAFE_GRAPHICS = true;
@@ -4260,6 +4277,7 @@ public class GUIFrame extends OSFixJFrame implements GUIListener {
 		simModel.setGUIListener(gui);
 		simModel.setBatchRun(batch);
 		simModel.setScriptMode(scriptMode);
+		simModel.setProfiling(profile);
 
 		// Resolve all input arguments against the current working directory
 		File user = new File(System.getProperty("user.dir"));
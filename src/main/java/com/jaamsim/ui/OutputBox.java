@@ -36,11 +36,9 @@ import javax.swing.table.AbstractTableModel;
 import javax.swing.table.TableModel;
 
 import com.jaamsim.basicsim.Entity;
-import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.basicsim.FrameSnapshot;
 import com.jaamsim.input.InputAgent;
 import com.jaamsim.input.ValueHandle;
-import com.jaamsim.units.DimensionlessUnit;
-import com.jaamsim.units.Unit;
 
 public class OutputBox extends FrameBox {
 	private static OutputBox myInstance;
@@ -50,6 +48,12 @@ public class OutputBox extends FrameBox {
 
 	private final ArrayList<Object> entries = new ArrayList<>();
 
+	// Output values recorded by the event thread while the simulation is running
+	private ValueHandle[] handles;
+	private int[] handleIndex;  // position in the handles array for each row
+	private String[] snapshotValues;
+	private boolean snapshotValid;
+
 	private OutputBox() {
 		super( "Output Viewer" );
 		setDefaultCloseOperation(FrameBox.DISPOSE_ON_CLOSE);
@@ -159,6 +163,7 @@ public class OutputBox extends FrameBox {
 		if (currentEntity == null) {
 			setTitle("Output Viewer");
 			entries.clear();
+			setOutputHandles(null);
 			return;
 		}
 		setTitle("Output Viewer - " + currentEntity.getName());
@@ -187,12 +192,45 @@ public class OutputBox extends FrameBox {
 
 			entries.add(h);
 		}
+
+		// Request the values for these outputs from the event thread
+		ArrayList<ValueHandle> list = new ArrayList<>();
+		handleIndex = new int[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			handleIndex[i] = list.size();
+			if (entries.get(i) instanceof ValueHandle)
+				list.add((ValueHandle) entries.get(i));
+		}
+		setOutputHandles(list.toArray(new ValueHandle[list.size()]));
+	}
+
+	private void setOutputHandles(ValueHandle[] array) {
+		handles = array;
+		snapshotValues = (array == null) ? null : new String[array.length];
+		snapshotValid = false;
+		FrameSnapshot snapshot = GUIFrame.getJaamSimModel().getFrameSnapshot();
+		if (snapshot != null)
+			snapshot.setOutputHandles(array);
 	}
 
 	@Override
 	public void updateValues(double simTime) {
 		if (tableModel == null) return;
 		tableModel.simTime = simTime;
+
+		// Copy the output values from the latest frame, if the simulation is running
+		snapshotValid = false;
+		FrameSnapshot snapshot = GUIFrame.getJaamSimModel().getFrameSnapshot();
+		if (snapshot != null && handles != null) {
+			int buf = snapshot.acquire();
+			try {
+				if (buf >= 0)
+					snapshotValid = snapshot.getOutputValues(buf, handles, snapshotValues);
+			}
+			finally {
+				snapshot.release(buf);
+			}
+		}
 		tableModel.fireTableDataChanged();
 	}
 
@@ -203,6 +241,7 @@ public class OutputBox extends FrameBox {
 	@Override
 	public void dispose() {
 		killInstance();
+		setOutputHandles(null);
 		super.dispose();
 	}
 
@@ -297,24 +336,11 @@ public class OutputBox extends FrameBox {
 			case 1:
 				if (entry instanceof Class)
 					return "";
+				// Use the value recorded by the event thread if the simulation is running
+				if (snapshotValid)
+					return snapshotValues[handleIndex[row]];
 				try {
-					// Determine the preferred unit
-					JaamSimModel simModel = GUIFrame.getJaamSimModel();
-					ValueHandle out = (ValueHandle)entry;
-					Class<? extends Unit> ut = out.getUnitType();
-					double factor = 1.0d;
-					String unitString = simModel.getDisplayedUnit(ut);
-					if (!unitString.isEmpty()) {
-						factor = simModel.getDisplayedUnitFactor(ut);
-					}
-
-					// Select the appropriate format for numbers
-					String fmt = "%g";
-					if (out.isIntegerValue() && out.getUnitType() == DimensionlessUnit.class)
-						fmt = "%.0f";
-
-					// Evaluate the output
-					return InputAgent.getValueAsString(simModel, out, simTime, fmt, factor, unitString);
+					return InputAgent.getValueAsString(GUIFrame.getJaamSimModel(), (ValueHandle)entry, simTime);
 				}
 				catch (Throwable e) {
 					return "Error: " + e.getMessage();
@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.jaamsim.basicsim.Entity;
 import com.jaamsim.basicsim.JaamSimModel;
@@ -46,8 +48,9 @@ public abstract class Unit extends Entity {
 
 	public Unit() {}
 
-	private static final HashMap<Class<? extends Unit>, String>
-		siUnit = new HashMap<>();
+	// Each unit class registers its SI unit when it is initialised, which can occur on any thread
+	private static final ConcurrentHashMap<Class<? extends Unit>, String>
+		siUnit = new ConcurrentHashMap<>();
 
 	public static final void setSIUnit(Class<? extends Unit> unitType, String si) {
 		siUnit.put(unitType, si);
@@ -153,64 +156,72 @@ public abstract class Unit extends Entity {
 		}
 	}
 
-	private static HashMap<MultPair, Class<? extends Unit>> multRules;
-	private static HashMap<DivPair, Class<? extends Unit>> divRules;
+	// The rule tables are built once and are read-only thereafter so that they can be shared by
+	// the models running on each thread
+	private static final Map<MultPair, Class<? extends Unit>> multRules;
+	private static final Map<DivPair, Class<? extends Unit>> divRules;
 
 	static {
-		multRules = new HashMap<>();
-		divRules = new HashMap<>();
+		HashMap<MultPair, Class<? extends Unit>> mult = new HashMap<>();
+		HashMap<DivPair, Class<? extends Unit>> div = new HashMap<>();
 
 		// Multiplication rules
-		addMultRule(                RateUnit.class,        TimeUnit.class,  DimensionlessUnit.class);
-		addMultRule(               SpeedUnit.class,        TimeUnit.class,       DistanceUnit.class);
-		addMultRule(        AccelerationUnit.class,        TimeUnit.class,          SpeedUnit.class);
-		addMultRule(            MassFlowUnit.class,        TimeUnit.class,           MassUnit.class);
-		addMultRule(          VolumeFlowUnit.class,        TimeUnit.class,         VolumeUnit.class);
-		addMultRule(        AngularSpeedUnit.class,        TimeUnit.class,          AngleUnit.class);
-		addMultRule(               PowerUnit.class,        TimeUnit.class,         EnergyUnit.class);
-		addMultRule(            CostRateUnit.class,        TimeUnit.class,           CostUnit.class);
-		addMultRule(           ViscosityUnit.class,        TimeUnit.class,  LinearDensityUnit.class);
-
-		addMultRule(            DistanceUnit.class,        RateUnit.class,          SpeedUnit.class);
-		addMultRule(               SpeedUnit.class,        RateUnit.class,   AccelerationUnit.class);
-		addMultRule(                MassUnit.class,        RateUnit.class,       MassFlowUnit.class);
-		addMultRule(              VolumeUnit.class,        RateUnit.class,     VolumeFlowUnit.class);
-		addMultRule(               AngleUnit.class,        RateUnit.class,   AngularSpeedUnit.class);
-		addMultRule(              EnergyUnit.class,        RateUnit.class,          PowerUnit.class);
-		addMultRule(                CostUnit.class,        RateUnit.class,       CostRateUnit.class);
-		addMultRule(           ViscosityUnit.class,        RateUnit.class,       PressureUnit.class);
-
-		addMultRule(            DistanceUnit.class,    DistanceUnit.class,           AreaUnit.class);
-		addMultRule(       LinearDensityUnit.class,    DistanceUnit.class,           MassUnit.class);
-		addMultRule( LinearDensityVolumeUnit.class,    DistanceUnit.class,         VolumeUnit.class);
-		addMultRule(                AreaUnit.class,    DistanceUnit.class,         VolumeUnit.class);
-
-		addMultRule(               SpeedUnit.class,       SpeedUnit.class, SpecificEnergyUnit.class);
-		addMultRule(       LinearDensityUnit.class,       SpeedUnit.class,       MassFlowUnit.class);
-		addMultRule( LinearDensityVolumeUnit.class,       SpeedUnit.class,     VolumeFlowUnit.class);
-		addMultRule(                AreaUnit.class,       SpeedUnit.class,     VolumeFlowUnit.class);
-
-		addMultRule(       EnergyDensityUnit.class,      VolumeUnit.class,         EnergyUnit.class);
-		addMultRule(             DensityUnit.class,      VolumeUnit.class,           MassUnit.class);
-		addMultRule(            PressureUnit.class,      VolumeUnit.class,         EnergyUnit.class);
-
-		addMultRule(       EnergyDensityUnit.class,  VolumeFlowUnit.class,          PowerUnit.class);
-		addMultRule(             DensityUnit.class,  VolumeFlowUnit.class,       MassFlowUnit.class);
-		addMultRule(            PressureUnit.class,  VolumeFlowUnit.class,          PowerUnit.class);
+		addMultRule(mult, div,                 RateUnit.class,        TimeUnit.class,  DimensionlessUnit.class);
+		addMultRule(mult, div,                SpeedUnit.class,        TimeUnit.class,       DistanceUnit.class);
+		addMultRule(mult, div,         AccelerationUnit.class,        TimeUnit.class,          SpeedUnit.class);
+		addMultRule(mult, div,             MassFlowUnit.class,        TimeUnit.class,           MassUnit.class);
+		addMultRule(mult, div,           VolumeFlowUnit.class,        TimeUnit.class,         VolumeUnit.class);
+		addMultRule(mult, div,         AngularSpeedUnit.class,        TimeUnit.class,          AngleUnit.class);
+		addMultRule(mult, div,                PowerUnit.class,        TimeUnit.class,         EnergyUnit.class);
+		addMultRule(mult, div,             CostRateUnit.class,        TimeUnit.class,           CostUnit.class);
+		addMultRule(mult, div,            ViscosityUnit.class,        TimeUnit.class,  LinearDensityUnit.class);
+
+		addMultRule(mult, div,             DistanceUnit.class,        RateUnit.class,          SpeedUnit.class);
+		addMultRule(mult, div,                SpeedUnit.class,        RateUnit.class,   AccelerationUnit.class);
+		addMultRule(mult, div,                 MassUnit.class,        RateUnit.class,       MassFlowUnit.class);
+		addMultRule(mult, div,               VolumeUnit.class,        RateUnit.class,     VolumeFlowUnit.class);
+		addMultRule(mult, div,                AngleUnit.class,        RateUnit.class,   AngularSpeedUnit.class);
+		addMultRule(mult, div,               EnergyUnit.class,        RateUnit.class,          PowerUnit.class);
+		addMultRule(mult, div,                 CostUnit.class,        RateUnit.class,       CostRateUnit.class);
+		addMultRule(mult, div,            ViscosityUnit.class,        RateUnit.class,       PressureUnit.class);
+
+		addMultRule(mult, div,             DistanceUnit.class,    DistanceUnit.class,           AreaUnit.class);
+		addMultRule(mult, div,        LinearDensityUnit.class,    DistanceUnit.class,           MassUnit.class);
+		addMultRule(mult, div,  LinearDensityVolumeUnit.class,    DistanceUnit.class,         VolumeUnit.class);
+		addMultRule(mult, div,                 AreaUnit.class,    DistanceUnit.class,         VolumeUnit.class);
+
+		addMultRule(mult, div,                SpeedUnit.class,       SpeedUnit.class, SpecificEnergyUnit.class);
+		addMultRule(mult, div,        LinearDensityUnit.class,       SpeedUnit.class,       MassFlowUnit.class);
+		addMultRule(mult, div,  LinearDensityVolumeUnit.class,       SpeedUnit.class,     VolumeFlowUnit.class);
+		addMultRule(mult, div,                 AreaUnit.class,       SpeedUnit.class,     VolumeFlowUnit.class);
+
+		addMultRule(mult, div,        EnergyDensityUnit.class,      VolumeUnit.class,         EnergyUnit.class);
+		addMultRule(mult, div,              DensityUnit.class,      VolumeUnit.class,           MassUnit.class);
+		addMultRule(mult, div,             PressureUnit.class,      VolumeUnit.class,         EnergyUnit.class);
+
+		addMultRule(mult, div,        EnergyDensityUnit.class,  VolumeFlowUnit.class,          PowerUnit.class);
+		addMultRule(mult, div,              DensityUnit.class,  VolumeFlowUnit.class,       MassFlowUnit.class);
+		addMultRule(mult, div,             PressureUnit.class,  VolumeFlowUnit.class,          PowerUnit.class);
+
+		multRules = Collections.unmodifiableMap(mult);
+		divRules = Collections.unmodifiableMap(div);
 	}
 
-	public static void addMultRule(Class<? extends Unit> a, Class<? extends Unit> b, Class<? extends Unit> product) {
+	private static void addMultRule(HashMap<MultPair, Class<? extends Unit>> mult,
+			HashMap<DivPair, Class<? extends Unit>> div,
+			Class<? extends Unit> a, Class<? extends Unit> b, Class<? extends Unit> product) {
 		MultPair key = new MultPair(a, b);
-		multRules.put(key, product);
+		mult.put(key, product);
 
 		// Add the corresponding division rules
-		addDivRule(product, a, b);
-		addDivRule(product, b, a);
+		addDivRule(div, product, a, b);
+		addDivRule(div, product, b, a);
 	}
 
-	public static void addDivRule(Class<? extends Unit> num, Class<? extends Unit> denom, Class<? extends Unit> product) {
+	private static void addDivRule(HashMap<DivPair, Class<? extends Unit>> div,
+			Class<? extends Unit> num, Class<? extends Unit> denom, Class<? extends Unit> product) {
 		DivPair key = new DivPair(num, denom);
-		divRules.put(key, product);
+		div.put(key, product);
 	}
 
 	// Get the new unit type resulting from multiplying two unit types
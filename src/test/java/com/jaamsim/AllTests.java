@@ -25,6 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
 	com.jaamsim.events.TestEventManager.class,
 	com.jaamsim.events.TestEventTree.class,
+	com.jaamsim.events.TestEventHeap.class,
 	com.jaamsim.events.TestSchedEvent.class,
 	com.jaamsim.math.TestAABB.class,
 	com.jaamsim.math.TestQuaternion.class,
@@ -44,11 +45,21 @@ import org.junit.runners.Suite.SuiteClasses;
 	com.jaamsim.video.vp8.TestYUV.class,
 	com.jaamsim.input.TestKeyedVec3dCurve.class,
 	com.jaamsim.input.TestExpParser.class,
+	com.jaamsim.input.TestTimeSeriesFile.class,
 	com.jaamsim.input.TestParser.class,
 	com.jaamsim.input.TestOutput.class,
 	com.jaamsim.basicsim.TestSimulation.class,
 	com.jaamsim.basicsim.TestSimCalendar.class,
 	com.jaamsim.basicsim.TestEntityDefinitions.class,
+	com.jaamsim.basicsim.TestFrameSnapshot.class,
+	com.jaamsim.basicsim.TestSharedMetadata.class,
+	com.jaamsim.basicsim.TestRunDaemon.class,
+	com.jaamsim.basicsim.TestRunOptimizer.class,
+	com.jaamsim.basicsim.TestFastReset.class,
+	com.jaamsim.ProcessFlow.TestEntStorage.class,
+	com.jaamsim.CalculationObjects.TestController.class,
+	com.jaamsim.FluidObjects.TestFluidFlow.class,
+	com.jaamsim.Thresholds.TestTimeSeriesThreshold.class,
 	com.jaamsim.probability.TestContinuousDistribution.class,
 	com.jaamsim.probability.TestDiscreteDistribution.class,
 	com.jaamsim.probability.TestErlangDistribution.class,
@@ -64,6 +75,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	com.jaamsim.probability.TestEntitlementSelector.class,
 	com.jaamsim.probability.TestBooleanSelector.class,
 	com.jaamsim.probability.TestStudentsTDistribution.class,
+	com.jaamsim.probability.TestDistributionFill.class,
 	com.jaamsim.MeshFiles.TestVertexMap.class,
 	com.jaamsim.MeshFiles.TestDataBlocks.class,
 	com.jaamsim.Graphics.TestPolylineInfo.class,
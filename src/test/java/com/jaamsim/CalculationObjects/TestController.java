@@ -0,0 +1,83 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.CalculationObjects;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.basicsim.RunDaemon;
+
+public class TestController {
+
+	File configFile;
+
+	@Before
+	public void setupTests() throws IOException {
+		configFile = File.createTempFile("TestController", ".cfg");
+		configFile.deleteOnExit();
+		String name = configFile.getName();
+		new File(configFile.getParentFile(), name.substring(0, name.length() - 4) + ".log").deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(configFile))) {
+			out.println("Define Controller { C1 }");
+			out.println("Define UnitDelay { D1 }");
+			out.println("Define Integrator { I1 }");
+			out.println("C1 Interval { 1 s }");
+			out.println("D1 UnitType { DimensionlessUnit } Controller { C1 } SequenceNumber { 2 }");
+			out.println("D1 InputValue { '[C1].Count + 1' }");
+			out.println("I1 UnitType { DimensionlessUnit } Controller { C1 } SequenceNumber { 1 }");
+			out.println("I1 InputValue { D1 }");
+			out.println("Simulation RunDuration { 10.5 s }");
+			out.println("Simulation RunOutputList { { [C1].Count } { [D1].Value } { [I1].Value } }");
+		}
+	}
+
+	@Test
+	public void testUpdateSequence() {
+		RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+		RunDaemon.RunResult res = RunDaemon.execute(req);
+		assertTrue(!res.isError());
+
+		// Updates at 0, 1, ..., 10 s with the Integrator updated before the UnitDelay
+		ArrayList<Double> vals = res.getOutputValues();
+		assertTrue(vals.get(0) == 11.0d);
+		assertTrue(vals.get(1) == 11.0d);
+		assertTrue(vals.get(2) == 55.25d);
+
+		// Reversing the sequence gives the Integrator the present input values
+		req.addInput("D1", "SequenceNumber", "0");
+		vals = RunDaemon.execute(req).getOutputValues();
+		assertTrue(vals.get(0) == 11.0d);
+		assertTrue(vals.get(2) == 65.5d);
+	}
+
+	@Test
+	public void testMaxUpdates() {
+		RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+		req.addInput("C1", "MaxUpdates", "5");
+		ArrayList<Double> vals = RunDaemon.execute(req).getOutputValues();
+		assertTrue(vals.get(0) == 5.0d);
+		assertTrue(vals.get(1) == 5.0d);
+	}
+}
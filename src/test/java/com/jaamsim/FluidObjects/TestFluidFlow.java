@@ -0,0 +1,122 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.FluidObjects;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.basicsim.RunDaemon;
+
+public class TestFluidFlow {
+
+	File configFile;
+
+	@Before
+	public void setupTests() throws IOException {
+		configFile = File.createTempFile("TestFluidFlow", ".cfg");
+		configFile.deleteOnExit();
+		String name = configFile.getName();
+		new File(configFile.getParentFile(), name.substring(0, name.length() - 4) + ".log").deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(configFile))) {
+			out.println("Define Controller { Controller1 }");
+			out.println("Define Fluid { Fluid1 }");
+			out.println("Define FluidFlow { FluidFlow1 }");
+			out.println("Define FluidPipe { FluidPipe1 }");
+			out.println("Define FluidTank { FluidTank1  FluidTank2 }");
+			out.println("Controller1 Interval { 1 s }");
+			out.println("FluidFlow1 Controller { Controller1 } Fluid { Fluid1 }");
+			out.println("FluidFlow1 Source { FluidTank1 } Destination { FluidTank2 }");
+			out.println("FluidPipe1 Previous { FluidTank1 } Diameter { 1 m } Length { 100 m }");
+			out.println("FluidPipe1 Roughness { 0.001 m } PressureLossCoefficient { 0.5 }");
+			out.println("FluidTank1 Diameter { 10 m } Capacity { 100 m3 } InitialVolume { 75 m3 }");
+			out.println("FluidTank2 Previous { FluidPipe1 } Diameter { 10 m } Capacity { 100 m3 } InitialVolume { 10 m3 }");
+			out.println("Simulation RunDuration { 61 s }");
+			out.println("Simulation RunOutputList { { [FluidTank2].FluidVolume } { [FluidFlow1].FlowRate } { [FluidFlow1].NumberOfSteps } { [FluidTank1].FluidVolume } }");
+		}
+	}
+
+	private ArrayList<Double> run(String interval, String maxUpdates, String maxError, String... inputs) {
+		RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+		for (int i = 0; i < inputs.length; i += 3) {
+			req.addInput(inputs[i], inputs[i + 1], inputs[i + 2]);
+		}
+		req.addInput("Controller1", "Interval", interval);
+		req.addInput("Controller1", "MaxUpdates", maxUpdates);
+		if (maxError != null)
+			req.addInput("FluidFlow1", "MaxVolumeError", maxError);
+		RunDaemon.RunResult res = RunDaemon.execute(req);
+		assertTrue(!res.isError());
+		return res.getOutputValues();
+	}
+
+	@Test
+	public void testAdaptiveSteps() {
+
+		// Reference solution from small fixed steps up to 60 s
+		ArrayList<Double> ref = run("0.005 s", "12001", null);
+		assertTrue(ref.get(2) == 12001.0d);
+
+		// Large fixed steps
+		ArrayList<Double> fixed = run("5 s", "13", null);
+		double fixedErr = Math.abs(fixed.get(0) - ref.get(0));
+
+		// Large update interval with adaptive steps
+		ArrayList<Double> adaptive = run("5 s", "13", "0.001 m3");
+		double adaptiveErr = Math.abs(adaptive.get(0) - ref.get(0));
+		assertTrue(adaptiveErr < 0.01d);
+		assertTrue(adaptiveErr < 0.01d * fixedErr);
+		assertTrue(adaptive.get(2) < 0.1d * ref.get(2));
+		assertTrue(Math.abs(adaptive.get(1) - ref.get(1)) < 0.01d * Math.abs(fixed.get(1) - ref.get(1)));
+	}
+
+	@Test
+	public void testTimeVaryingInput() {
+
+		// The pressure at the destination rises during each update interval, so the sub-steps
+		// must use their own simulation times
+		String[] inputs = {"FluidTank2", "AmbientPressure", "'4000[Pa] * (simTime/1[s])'"};
+		ArrayList<Double> ref = run("0.005 s", "12001", null, inputs);
+		ArrayList<Double> adaptive = run("5 s", "13", "0.001 m3", inputs);
+		assertTrue(Math.abs(adaptive.get(0) - ref.get(0)) < 0.01d);
+		assertTrue(Math.abs(adaptive.get(1) - ref.get(1)) < 0.001d);
+	}
+
+	@Test
+	public void testEmptyTank() {
+
+		// The source tank becomes empty part way through an update interval
+		RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+		req.addInput("FluidTank1", "Diameter", "2 m");
+		req.addInput("FluidTank1", "InitialVolume", "5 m3");
+		req.addInput("FluidPipe1", "HeightChange", "-5 m");
+		req.addInput("Controller1", "Interval", "5 s");
+		req.addInput("FluidFlow1", "MaxVolumeError", "0.0001 m3");
+		RunDaemon.RunResult res = RunDaemon.execute(req);
+		assertTrue(!res.isError());
+		ArrayList<Double> vals = res.getOutputValues();
+		assertTrue(vals.get(3) >= 0.0d && vals.get(3) < 1.0e-9d);
+		assertTrue(Math.abs(vals.get(0) - 15.0d) < 1.0e-9d);
+	}
+}
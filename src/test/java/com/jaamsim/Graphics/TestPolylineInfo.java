@@ -44,4 +44,38 @@ public class TestPolylineInfo {
 		assertTrue( MathUtils.near(pos2, (2.0d + Math.sqrt(2.0d))/length) );
 	}
 
+	@Test
+	public void testPolylinePath() {
+		ArrayList<Vec3d> pts = new ArrayList<>();
+		pts.add(new Vec3d(2.0d, 1.0d, 0.0d));
+		pts.add(new Vec3d(4.0d, 1.0d, 0.0d));
+		pts.add(new Vec3d(6.0d, 3.0d, 1.0d));
+		pts.add(new Vec3d(6.0d, 5.0d, 1.0d));
+
+		ArrayList<ArrayList<Vec3d>> curveList = new ArrayList<>();
+		curveList.add(pts);
+		curveList.add(PolylineInfo.getBezierPoints(pts));
+		curveList.add(PolylineInfo.getSplinePoints(pts));
+
+		Vec3d pos = new Vec3d();
+		Vec3d orient = new Vec3d();
+		for (ArrayList<Vec3d> curve : curveList) {
+			PolylinePath path = new PolylinePath(curve);
+			assertTrue(path.getLength() == PolylineInfo.getLength(curve));
+			for (int i = 0; i <= 100; i++) {
+				double frac = i/100.0d;
+				path.getPosition(frac, pos);
+				assertTrue(pos.equals3(PolylineInfo.getPositionOnPolyline(curve, frac)));
+				path.getOrientation(frac, orient);
+				assertTrue(orient.equals3(PolylineInfo.getOrientationOnPolyline(curve, frac)));
+			}
+		}
+
+		// Empty path
+		PolylinePath path = new PolylinePath(new ArrayList<Vec3d>());
+		path.getPosition(0.5d, pos);
+		assertTrue(path.getLength() == 0.0d);
+		assertTrue(pos.equals3(new Vec3d()));
+	}
+
 }
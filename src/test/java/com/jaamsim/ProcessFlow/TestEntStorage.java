@@ -0,0 +1,240 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.ProcessFlow;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.ProcessFlow.EntStorage.StorageEntry;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.basicsim.Simulation;
+import com.jaamsim.basicsim.SymbolTable;
+import com.jaamsim.input.InputAgent;
+
+public class TestEntStorage {
+
+	JaamSimModel simModel;
+	ArrayList<DisplayEntity> entList;
+
+	@Before
+	public void setupTests() {
+		simModel = new JaamSimModel();
+		simModel.createInstance(Simulation.class);
+		entList = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			entList.add(InputAgent.defineEntityWithUniqueName(simModel, DisplayEntity.class, null, "Ent", "-", true));
+		}
+	}
+
+	@Test
+	public void testSymbolTable() {
+		SymbolTable table = new SymbolTable();
+		int id0 = table.intern("abc");
+		int id1 = table.intern(new String("def"));
+		assertTrue(id0 != id1);
+		assertTrue(table.intern(new String("abc")) == id0);
+		assertTrue(table.getId("def") == id1);
+		assertTrue(table.getId("xyz") == -1);
+		assertTrue(table.intern(null) == -1);
+		assertTrue(table.getString(id0).equals("abc"));
+		assertTrue(table.getString(-1) == null);
+		assertTrue(table.size() == 2);
+
+		// An id is released when its last reference is removed and is then re-used
+		table.release(id0);
+		assertTrue(table.getId("abc") == id0);
+		table.release(id0);
+		assertTrue(table.getId("abc") == -1);
+		assertTrue(table.size() == 1);
+		assertTrue(table.intern("xyz") == id0);
+		assertTrue(table.getString(id0).equals("xyz"));
+	}
+
+	@Test
+	public void testUniqueMatchValues() {
+
+		// Each entry has a different match value, as for a serial number
+		EntStorage storage = new TreeEntStorage();
+		ArrayList<StorageEntry> entries = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			StorageEntry entry = new StorageEntry(null, Integer.toString(i), 0, i, 0.0d);
+			entries.add(entry);
+			assertTrue(storage.add(entry));
+			if (entries.size() > 10)
+				assertTrue(storage.remove(entries.remove(0)));
+		}
+
+		// The ids for the values that were removed have been re-used
+		assertTrue(storage.getTypeCount() == 10);
+		for (StorageEntry entry : entries) {
+			assertTrue(entry.typeId < 11);
+			assertTrue(storage.first(entry.type) == entry);
+		}
+		assertTrue(storage.size("0") == 0);
+	}
+
+	@Test
+	public void testMatchValues() {
+		EntStorage storage = new TreeEntStorage();
+		String[] types = { "A", "B", "A", null, "C", "B", "A", "C", "A", null };
+		ArrayList<StorageEntry> entries = new ArrayList<>();
+		for (int i = 0; i < entList.size(); i++) {
+			// Each match value is a new String object
+			String type = (types[i] == null) ? null : new String(types[i]);
+			StorageEntry entry = new StorageEntry(entList.get(i), type, 0, i, 0.0d);
+			entries.add(entry);
+			assertTrue(storage.add(entry));
+		}
+		assertTrue(!storage.add(entries.get(0)));
+
+		assertTrue(storage.size() == 10);
+		assertTrue(storage.size("A") == 4);
+		assertTrue(storage.size("B") == 2);
+		assertTrue(storage.size("D") == 0);
+		assertTrue(storage.isEmpty("D"));
+		assertTrue(storage.first("D") == null);
+		assertTrue(storage.getEntityList("D").isEmpty());
+		assertTrue(storage.getTypeCount() == 3);
+		assertTrue(storage.getTypes().size() == 3);
+		assertTrue(storage.getTypes().contains("C"));
+		assertTrue(storage.first("B").entity == entList.get(1));
+		assertTrue(storage.getTypeWithMaxCount().equals("A"));
+		assertTrue(storage.getCountForMaxType() == 4);
+
+		// Remove the "A" entries
+		for (int i = 0; i < entList.size(); i++) {
+			if ("A".equals(types[i]))
+				assertTrue(storage.remove(entries.get(i)));
+		}
+		assertTrue(!storage.remove(entries.get(0)));
+		assertTrue(storage.size() == 6);
+		assertTrue(storage.isEmpty("A"));
+		assertTrue(storage.getTypeCount() == 2);
+		assertTrue(!storage.getTypes().contains("A"));
+		assertTrue(storage.getCountForMaxType() == 2);
+		assertTrue(storage.getTypeWithMaxCount().equals("B"));
+		assertTrue(storage.getEntityList("C").get(1) == entList.get(7));
+
+		// The removed match value can be added again
+		assertTrue(storage.add(entries.get(8)));
+		assertTrue(storage.first("A").entity == entList.get(8));
+		assertTrue(storage.getTypeCount() == 3);
+
+		storage.clear();
+		assertTrue(storage.isEmpty());
+		assertTrue(storage.getTypeCount() == 0);
+		assertTrue(storage.getTypeWithMaxCount() == null);
+	}
+
+	/**
+	 * Applies the same random sequence of additions and removals to each storage.
+	 * @param storages - storages to be compared
+	 * @param numOps - number of operations
+	 * @param numPriorities - number of distinct priority values
+	 * @param fifoProb - probability that an entry is added in FIFO order
+	 * @param removeAnyProb - probability that a removal is from a random position
+	 */
+	private void runSequence(EntStorage[] storages, int numOps, int numPriorities,
+			double fifoProb, double removeAnyProb) {
+		Random rand = new Random(1);
+		ArrayList<StorageEntry> entries = new ArrayList<>();
+		for (int i = 1; i <= numOps; i++) {
+
+			// Add an entry
+			if (entries.isEmpty() || rand.nextDouble() < 0.55d) {
+				long n = (rand.nextDouble() < fifoProb) ? i : -i;
+				int pri = rand.nextInt(numPriorities);
+				StorageEntry entry = new StorageEntry(null, null, pri, n, i);
+				entries.add(entry);
+				for (EntStorage storage : storages) {
+					assertTrue(storage.add(entry));
+				}
+			}
+
+			// Remove a random entry
+			else if (rand.nextDouble() < removeAnyProb) {
+				StorageEntry entry = entries.remove(rand.nextInt(entries.size()));
+				for (EntStorage storage : storages) {
+					assertTrue(storage.remove(entry));
+				}
+			}
+
+			// Remove the first entry
+			else {
+				StorageEntry entry = storages[0].first();
+				assertTrue(entries.remove(entry));
+				for (EntStorage storage : storages) {
+					assertTrue(storage.first() == entry);
+					assertTrue(storage.remove(entry));
+				}
+			}
+
+			for (EntStorage storage : storages) {
+				assertTrue(storage.size() == entries.size());
+			}
+		}
+
+		// Compare the final order of the entries
+		for (int i = 1; i < storages.length; i++) {
+			Iterator<StorageEntry> itr0 = storages[0].iterator();
+			Iterator<StorageEntry> itr = storages[i].iterator();
+			while (itr0.hasNext()) {
+				assertTrue(itr.next() == itr0.next());
+			}
+			assertTrue(!itr.hasNext());
+		}
+	}
+
+	private EntStorage[] createAll() {
+		return new EntStorage[] {
+			new TreeEntStorage(),
+			new BucketEntStorage(),
+			new DequeEntStorage(),
+		};
+	}
+
+	@Test
+	public void testOrdering() {
+
+		// FIFO, LIFO, and mixed order with one priority
+		runSequence(createAll(), 20000, 1, 1.0d, 0.1d);
+		runSequence(createAll(), 20000, 1, 0.0d, 0.1d);
+		runSequence(createAll(), 20000, 1, 0.5d, 0.1d);
+
+		// Several priorities
+		runSequence(createAll(), 20000, 5, 1.0d, 0.1d);
+		runSequence(createAll(), 20000, 5, 0.5d, 0.1d);
+
+		// Many priorities, so that buckets are frequently added and removed
+		runSequence(createAll(), 20000, 1000, 0.5d, 0.1d);
+
+		// Storage selected for each usage
+		assertTrue(EntStorage.getStorage(true, 1, false) instanceof TreeEntStorage);
+		assertTrue(EntStorage.getStorage(false, 1, true) instanceof TreeEntStorage);
+		assertTrue(EntStorage.getStorage(false, 1, false) instanceof DequeEntStorage);
+		assertTrue(EntStorage.getStorage(false, 5, false) instanceof BucketEntStorage);
+		assertTrue(EntStorage.getStorage(false, EntStorage.MAX_BUCKETS + 1, false) instanceof TreeEntStorage);
+		assertTrue(EntStorage.getStorage(false, -1, false) instanceof TreeEntStorage);
+	}
+}
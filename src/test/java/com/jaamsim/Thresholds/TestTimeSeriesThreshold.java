@@ -0,0 +1,185 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.Thresholds;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.Samples.TimeSeriesCursor;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.basicsim.RunListener;
+import com.jaamsim.events.EventManager;
+
+public class TestTimeSeriesThreshold {
+
+	JaamSimModel simModel;
+	int[] values;
+
+	@Before
+	public void setupTests() {
+		simModel = new JaamSimModel();
+		simModel.autoLoad();
+
+		// Hourly values between 0 and 99, starting with the largest value
+		values = new int[2000];
+		Random rand = new Random(7);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (i == 0) ? 99 : rand.nextInt(100);
+		}
+	}
+
+	private TimeSeries createTimeSeries(String name, int[] vals, boolean cumulative, String cycle) {
+		StringBuilder sb = new StringBuilder();
+		int total = 0;
+		for (int i = 0; i < vals.length; i++) {
+			int val = cumulative ? total : vals[i];
+			sb.append(String.format("{ %d h %d } ", i, val));
+			total += vals[i];
+		}
+		simModel.defineEntity("TimeSeries", name);
+		simModel.setInput(name, "UnitType", "DimensionlessUnit");
+		simModel.setInput(name, "Value", sb.toString());
+		if (cycle != null)
+			simModel.setInput(name, "CycleTime", cycle);
+		TimeSeries ts = (TimeSeries) simModel.getNamedEntity(name);
+		ts.validate();
+		return ts;
+	}
+
+	@Test
+	public void testCursor() {
+		TimeSeries ts1 = createTimeSeries("TS1", values, false, "2000 h");
+		TimeSeries ts2 = createTimeSeries("TS2", values, true, null);
+		EventManager evt = simModel.getEventManager();
+		long hour = evt.secondsToNearestTick(3600.0d);
+		Random rand = new Random(11);
+
+		for (TimeSeries ts : new TimeSeries[] { ts1, ts2 }) {
+			TimeSeriesCursor cursor = new TimeSeriesCursor();
+
+			// Increasing times with small steps, followed by random times
+			long ticks = 0L;
+			for (int i = 0; i < 20000; i++) {
+				if (i < 10000)
+					ticks += rand.nextInt(3) * hour / 2;
+				else
+					ticks = (long) (rand.nextDouble() * 5000 * hour);
+				assertTrue(ts.getValueForTicks(ticks, cursor) == ts.getValueForTicks(ticks));
+				assertTrue(ts.getNextChangeAfterTicks(ticks, cursor) == ts.getNextChangeAfterTicks(ticks));
+				assertTrue(ts.getLastChangeBeforeTicks(ticks, cursor) == ts.getLastChangeBeforeTicks(ticks));
+				assertTrue(ts.getInterpolatedCumulativeValueForTicks(ticks, cursor)
+						== ts.getInterpolatedCumulativeValueForTicks(ticks));
+			}
+		}
+
+		// Lookups by value, including values that occur more than once in the series
+		TimeSeriesCursor cursor = new TimeSeriesCursor();
+		double val = 0.0d;
+		for (int i = 0; i < 20000; i++) {
+			if (i < 10000)
+				val += rand.nextInt(4) * 25.0d;
+			else
+				val = rand.nextInt(200000);
+			assertTrue(ts2.getInterpolatedTicksForValue(val, cursor) == ts2.getInterpolatedTicksForValue(val));
+		}
+
+		// Batch lookup
+		int n = 5000;
+		long[] ticksList = new long[n];
+		for (int i = 0; i < n; i++) {
+			ticksList[i] = i * hour / 3;
+		}
+		double[] vals = new double[n];
+		ts1.getValuesForTicks(ticksList, vals, n, new TimeSeriesCursor());
+		for (int i = 0; i < n; i++) {
+			assertTrue(vals[i] == ts1.getValueForTicks(ticksList[i]));
+		}
+	}
+
+	@Test
+	public void testThresholdModel() {
+		int numThresholds = 200;
+		int numCycles = 3;
+		createTimeSeries("TS", values, false, String.format("%d h", values.length));
+		for (int i = 0; i < numThresholds; i++) {
+			String name = "Threshold" + i;
+			simModel.defineEntity("TimeSeriesThreshold", name);
+			simModel.setInput(name, "UnitType", "DimensionlessUnit");
+			simModel.setInput(name, "TimeSeries", "TS");
+			simModel.setInput(name, "MinOpenLimit", Integer.toString(i % 100));
+		}
+		simModel.setInput("Simulation", "RunDuration", String.format("%s h", numCycles*values.length + 0.5d));
+
+		WaitForEndListener listener = new WaitForEndListener();
+		if (!simModel.start(listener))
+			Assert.fail("validation failed");
+		listener.waitForEnd(60000L);
+
+		// Compare the number of openings and closings with the values in the series
+		for (int i = 0; i < numThresholds; i++) {
+			int limit = i % 100;
+			long openCount = 0L;
+			long closedCount = 0L;
+			boolean open = true;
+			for (int j = 0; j <= numCycles*values.length; j++) {
+				boolean bool = values[j % values.length] >= limit;
+				if (bool && !open)
+					openCount++;
+				if (!bool && open)
+					closedCount++;
+				open = bool;
+			}
+			String name = "Threshold" + i;
+			assertTrue(simModel.getDoubleValue(String.format("[%s].OpenCount", name)) == openCount);
+			assertTrue(simModel.getDoubleValue(String.format("[%s].ClosedCount", name)) == closedCount);
+		}
+	}
+
+	static class WaitForEndListener implements RunListener {
+		private final CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		@Override
+		public void runEnded() {
+			countDownLatch.countDown();
+		}
+
+		public void waitForEnd(long timeoutMS) {
+			try {
+				if (!countDownLatch.await(timeoutMS, TimeUnit.MILLISECONDS))
+					Assert.fail("Model not completed");
+			}
+			catch (InterruptedException e) {
+				Assert.fail("Interrupted");
+			}
+		}
+
+		@Override
+		public void handleRuntimeError(JaamSimModel sm, Throwable t) {
+			t.printStackTrace();
+			Assert.fail("Error during simulation run");
+		}
+	}
+
+}
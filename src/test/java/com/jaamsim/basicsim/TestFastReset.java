@@ -0,0 +1,148 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.ProcessFlow.Queue;
+import com.jaamsim.ProcessFlow.QueueUser;
+
+public class TestFastReset {
+
+	File configFile;
+
+	@Before
+	public void setupTests() throws IOException {
+		configFile = File.createTempFile("TestFastReset", ".cfg");
+		configFile.deleteOnExit();
+		String name = configFile.getName();
+		new File(configFile.getParentFile(), name.substring(0, name.length() - 4) + ".log").deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(configFile))) {
+			out.println("Define ExponentialDistribution { Arrivals  Svc }");
+			out.println("Define SimEntity { Proto }");
+			out.println("Define EntityGenerator { Gen }");
+			out.println("Define Queue { Q }");
+			out.println("Define Server { S }");
+			out.println("Define EntitySink { Sink }");
+			out.println("Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }");
+			out.println("Svc UnitType { TimeUnit } Mean { 0.8 s } RandomSeed { 2 }");
+			out.println("Gen NextComponent { S } InterArrivalTime { Arrivals } PrototypeEntity { Proto }");
+			out.println("S WaitQueue { Q } ServiceTime { Svc } NextComponent { Sink }");
+			out.println("Simulation RunDuration { 100 s }");
+			out.println("Simulation RunOutputList { { [Sink].NumberAdded } { [Q].QueueLengthAverage } }");
+		}
+	}
+
+	private static RunDaemon.RunResult run(JaamSimModel sm, int rep) {
+		RunDaemon.RunResult res = new RunDaemon.RunResult();
+		RunDaemon.executeRun(sm, 1, rep, 0.0d, res);
+		assertTrue(!res.isError());
+		return res;
+	}
+
+	@Test
+	public void testReusedModel() throws Exception {
+		JaamSimModel sm = new JaamSimModel("TestFastReset");
+		RunDaemon.loadModel(sm, configFile);
+
+		// Each replication on the re-used model matches the one on a new model
+		for (int rep = 3; rep >= 1; rep--) {
+			RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+			req.setReplicationNumber(rep);
+			RunDaemon.RunResult expected = RunDaemon.execute(req);
+			assertTrue(!expected.isError());
+			for (int i = 0; i < 2; i++) {
+				RunDaemon.RunResult res = run(sm, rep);
+				assertTrue(res.getOutputValues().equals(expected.getOutputValues()));
+			}
+		}
+
+		// Changing an input is seen by the next run
+		ArrayList<Double> vals = run(sm, 1).getOutputValues();
+		sm.setInput("Simulation", "RunDuration", "50 s");
+		assertTrue(run(sm, 1).getOutputValues().get(0) < vals.get(0));
+
+		// An invalid input prevents the next run from starting
+		sm.setInput("S", "NextComponent", "");
+		boolean started = true;
+		try {
+			run(sm, 1);
+		}
+		catch (ErrorException e) {
+			started = false;
+		}
+		assertTrue(!started);
+		sm.setInput("S", "NextComponent", "Sink");
+		sm.setInput("Simulation", "RunDuration", "100 s");
+		assertTrue(run(sm, 1).getOutputValues().equals(vals));
+		sm.close();
+	}
+
+	@Test
+	public void testLogBuffer() throws Exception {
+		JaamSimModel sm = new JaamSimModel("TestFastReset");
+		RunDaemon.loadModel(sm, configFile);
+		run(sm, 1);
+
+		// The messages for a run are discarded when the next run starts
+		sm.logMessage("Message for run 1");
+		assertTrue(sm.getLogBuffer().getLines(0).contains("Message for run 1"));
+		run(sm, 2);
+		assertTrue(!sm.getLogBuffer().getLines(0).contains("Message for run 1"));
+		sm.close();
+	}
+
+	@Test
+	public void testClonesOfList() throws Exception {
+		JaamSimModel sm = new JaamSimModel("TestFastReset");
+		RunDaemon.loadModel(sm, configFile);
+		Entity server = sm.getNamedEntity("S");
+
+		// The list is re-used until one of its members is added or removed
+		ArrayList<Entity> list = new ArrayList<>();
+		for (Entity each : sm.getClonesOfIterator(Entity.class, QueueUser.class)) {
+			list.add(each);
+		}
+		assertTrue(list.contains(server));
+		assertTrue(sm.getClonesOfList(Entity.class, QueueUser.class).equals(list));
+		assertTrue(sm.getClonesOfList(Entity.class, QueueUser.class) == sm.getClonesOfList(Entity.class, QueueUser.class));
+
+		// Generated entities do not affect lists they are not members of
+		List<Entity> saved = sm.getClonesOfList(Entity.class, QueueUser.class);
+		run(sm, 1);
+		assertTrue(sm.getClonesOfList(Entity.class, QueueUser.class) == saved);
+
+		// Adding a member updates the list
+		sm.defineEntity("Server", "S2");
+		sm.setInput("S2", "WaitQueue", "Q");
+		assertTrue(sm.getClonesOfList(Entity.class, QueueUser.class).size() == list.size() + 1);
+		assertTrue(sm.getClonesOfList(Queue.class, QueueUser.class).isEmpty());
+		sm.getNamedEntity("S2").kill();
+		assertTrue(sm.getClonesOfList(Entity.class, QueueUser.class).equals(list));
+		sm.close();
+	}
+}
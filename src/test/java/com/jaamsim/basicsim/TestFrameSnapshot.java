@@ -0,0 +1,222 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.Graphics.View;
+import com.jaamsim.ProbabilityDistributions.UniformDistribution;
+import com.jaamsim.events.EventManager;
+import com.jaamsim.events.ProcessTarget;
+import com.jaamsim.events.TestFrameworkHelpers;
+import com.jaamsim.input.InputAgent;
+import com.jaamsim.input.ValueHandle;
+import com.jaamsim.math.Vec3d;
+
+public class TestFrameSnapshot {
+
+	JaamSimModel simModel;
+	DisplayEntity ent;
+
+	@Before
+	public void setupTests() {
+		simModel = new JaamSimModel();
+		simModel.createInstance(Simulation.class);
+		ent = InputAgent.defineEntityWithUniqueName(simModel, DisplayEntity.class, null, "Obj", "-", true);
+
+		// The graphics are recorded only while a view is open
+		View view = InputAgent.defineEntityWithUniqueName(simModel, View.class, null, "View", "-", true);
+		InputAgent.applyArgs(view, "ShowWindow", "TRUE");
+
+		// A user interface that ignores all its notifications
+		GUIListener gui = (GUIListener) Proxy.newProxyInstance(GUIListener.class.getClassLoader(),
+				new Class<?>[] { GUIListener.class }, (proxy, method, args) -> null);
+		simModel.setGUIListener(gui);
+	}
+
+	private void runInEventThread(ProcessTarget target) {
+		EventManager evt = simModel.getEventManager();
+		evt.clear();
+		evt.scheduleProcessExternal(0, 0, false, target, null);
+		TestFrameworkHelpers.runEventsToTick(evt, Long.MAX_VALUE, 10000);
+	}
+
+	@Test
+	public void testDisplayState() {
+		FrameSnapshot snapshot = simModel.getFrameSnapshot();
+		assertTrue(snapshot != null);
+
+		// No frame is available while the model is not running
+		assertTrue(snapshot.acquireDisplay() == -1);
+
+		final boolean[] results = new boolean[7];
+		runInEventThread(new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "FrameSnapshotTest";
+			}
+
+			@Override
+			public void process() {
+				ent.setPosition(new Vec3d(1.0d, 2.0d, 3.0d));
+				snapshot.update(true);
+				ent.setPosition(new Vec3d(4.0d, 5.0d, 6.0d));
+
+				// The thread holding the display buffer sees the published position
+				int buf = snapshot.acquireDisplay();
+				results[0] = buf >= 0;
+				results[1] = ent.getPosition().equals3(new Vec3d(1.0d, 2.0d, 3.0d));
+
+				// Graphics updated by that thread are written to the frame, not to the model
+				ent.setPosition(new Vec3d(7.0d, 8.0d, 9.0d));
+				results[5] = ent.getPosition().equals3(new Vec3d(7.0d, 8.0d, 9.0d));
+				snapshot.releaseDisplay(buf);
+				results[2] = ent.getPosition().equals3(new Vec3d(4.0d, 5.0d, 6.0d));
+				buf = snapshot.acquireDisplay();
+				results[6] = ent.getPosition().equals3(new Vec3d(7.0d, 8.0d, 9.0d));
+				snapshot.releaseDisplay(buf);
+
+				// A buffer that is being read is not overwritten
+				buf = snapshot.acquire();
+				long seq = snapshot.getSequence(buf);
+				snapshot.update(true);
+				snapshot.update(true);
+				snapshot.update(true);
+				results[3] = snapshot.getSequence(buf) == seq;
+				snapshot.release(buf);
+
+				// The next frame is published in the buffer that was released
+				snapshot.update(true);
+				buf = snapshot.acquire();
+				results[4] = snapshot.getSequence(buf) > seq + 1;
+				snapshot.release(buf);
+			}
+		});
+
+		for (boolean bool : results) {
+			assertTrue(bool);
+		}
+	}
+
+	@Test
+	public void testHiddenEntity() {
+		FrameSnapshot snapshot = simModel.getFrameSnapshot();
+		View closedView = InputAgent.defineEntityWithUniqueName(simModel, View.class, null, "View", "-", true);
+		DisplayEntity hidden = InputAgent.defineEntityWithUniqueName(simModel, DisplayEntity.class, null, "Obj", "-", true);
+		InputAgent.applyArgs(hidden, "VisibleViews", closedView.getName());
+		assertTrue(snapshot.acquireDisplay() == -1);
+
+		// An entity that is not visible in an open view is recorded as not shown
+		final boolean[] results = new boolean[5];
+		runInEventThread(new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "FrameSnapshotTest";
+			}
+
+			@Override
+			public void process() {
+				ent.setShow(true);
+				hidden.setShow(true);
+				hidden.setPosition(new Vec3d(1.0d, 2.0d, 3.0d));
+				snapshot.update(true);
+				int buf = snapshot.acquireDisplay();
+				results[0] = ent.getShow();
+				results[1] = !hidden.getShow();
+				results[2] = hidden.getPosition().equals3(new Vec3d(1.0d, 2.0d, 3.0d));
+
+				// It remains hidden when its graphics are updated for the frame
+				hidden.setShow(true);
+				results[4] = !hidden.getShow();
+				snapshot.releaseDisplay(buf);
+				results[3] = hidden.getShow();
+			}
+		});
+
+		for (boolean bool : results) {
+			assertTrue(bool);
+		}
+	}
+
+	@Test
+	public void testOutputValues() {
+		FrameSnapshot snapshot = simModel.getFrameSnapshot();
+		ValueHandle[] handles = { ent.getOutputHandle("Name"), ent.getOutputHandle("Position") };
+		snapshot.setOutputHandles(handles);
+
+		final String[] values = new String[handles.length];
+		final boolean[] results = new boolean[2];
+		runInEventThread(new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "FrameSnapshotTest";
+			}
+
+			@Override
+			public void process() {
+				snapshot.update(true);
+				int buf = snapshot.acquire();
+				results[0] = snapshot.getOutputValues(buf, handles, values);
+				results[1] = !snapshot.getOutputValues(buf, handles.clone(), new String[handles.length]);
+				snapshot.release(buf);
+			}
+		});
+
+		assertTrue(results[0]);
+		assertTrue(results[1]);
+		assertTrue(values[0].equals("\"Obj\""));
+		assertTrue(values[1].equals(InputAgent.getValueAsString(simModel, handles[1], 0.0d)));
+	}
+
+	@Test
+	public void testNoSampling() {
+		FrameSnapshot snapshot = simModel.getFrameSnapshot();
+		UniformDistribution dist = InputAgent.defineEntityWithUniqueName(simModel, UniformDistribution.class, null, "Dist", "-", true);
+		InputAgent.applyArgs(dist, "RandomSeed", "1");
+		dist.earlyInit();
+		snapshot.setOutputHandles(new ValueHandle[] { dist.getOutputHandle("Value") });
+
+		// Recording a frame does not draw a sample from the distribution
+		final long[] counts = new long[2];
+		runInEventThread(new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "FrameSnapshotTest";
+			}
+
+			@Override
+			public void process() {
+				snapshot.acquireDisplay();
+				snapshot.update(true);
+				snapshot.update(true);
+				counts[0] = dist.getNumberOfSamples(0.0d);
+				dist.getNextSample(0.0d);
+				counts[1] = dist.getNumberOfSamples(0.0d);
+			}
+		});
+
+		assertTrue(counts[0] == 0L);
+		assertTrue(counts[1] == 1L);
+	}
+
+}
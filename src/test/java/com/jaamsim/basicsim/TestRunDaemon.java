@@ -0,0 +1,251 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestRunDaemon {
+
+	File configFile;
+
+	@Before
+	public void setupTests() throws IOException {
+		configFile = File.createTempFile("TestRunDaemon", ".cfg");
+		configFile.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(configFile))) {
+			out.println("Define ExponentialDistribution { Arrivals }");
+			out.println("Define SimEntity { Proto }");
+			out.println("Define EntityGenerator { Gen }");
+			out.println("Define EntitySink { Sink }");
+			out.println("Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }");
+			out.println("Gen NextComponent { Sink } InterArrivalTime { Arrivals } PrototypeEntity { Proto }");
+			out.println("Simulation RunDuration { 1000 s }");
+			out.println("Simulation RunOutputList { { [Sink].NumberAdded } { [Simulation].ReplicationNumber } }");
+		}
+	}
+
+	private static ArrayList<String> readResponse(BufferedReader in) throws IOException {
+		ArrayList<String> ret = new ArrayList<>();
+		String line;
+		while ((line = in.readLine()) != null) {
+			ret.add(line);
+			if (line.equals("END"))
+				break;
+		}
+		return ret;
+	}
+
+	@Test
+	public void testExecute() {
+		RunDaemon.RunRequest req = new RunDaemon.RunRequest(configFile);
+		RunDaemon.RunResult res1 = RunDaemon.execute(req);
+		assertTrue(!res1.isError());
+		assertTrue(res1.getOutputStrings().size() == 2);
+		assertTrue(Double.parseDouble(res1.getOutputStrings().get(1)) == 1.0d);
+
+		// The same request gives the same results
+		RunDaemon.RunResult res2 = RunDaemon.execute(req);
+		assertTrue(res2.getOutputStrings().equals(res1.getOutputStrings()));
+
+		// A different replication uses different random numbers
+		req.setReplicationNumber(2);
+		RunDaemon.RunResult res3 = RunDaemon.execute(req);
+		assertTrue(Double.parseDouble(res3.getOutputStrings().get(1)) == 2.0d);
+		assertTrue(!res3.getOutputStrings().get(0).equals(res1.getOutputStrings().get(0)));
+
+		// Input changes are applied after the file is loaded
+		RunDaemon.RunRequest req2 = new RunDaemon.RunRequest(configFile);
+		req2.addInput("Simulation", "RunDuration", "10 s");
+		RunDaemon.RunResult res4 = RunDaemon.execute(req2);
+		assertTrue(Double.parseDouble(res4.getOutputStrings().get(0)) < Double.parseDouble(res1.getOutputStrings().get(0)));
+
+		// Errors are reported with the model's log
+		RunDaemon.RunRequest req3 = new RunDaemon.RunRequest(configFile);
+		req3.addInput("Missing", "RunDuration", "10 s");
+		RunDaemon.RunResult res5 = RunDaemon.execute(req3);
+		assertTrue(res5.isError());
+	}
+
+	@Test
+	public void testSocket() throws IOException {
+		RunDaemon daemon = new RunDaemon(0, 2);
+		daemon.start();
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+
+			out.println("AUTH " + daemon.getToken());
+			assertTrue(in.readLine().equals("OK"));
+			out.println("PING");
+			assertTrue(in.readLine().equals("OK"));
+
+			for (int rep = 1; rep <= 3; rep++) {
+				out.println("RUN " + configFile.getAbsolutePath());
+				out.println("REPLICATION " + rep);
+				out.println("SET Simulation RunDuration 100 s");
+				out.println("END");
+				ArrayList<String> resp = readResponse(in);
+				assertTrue(resp.get(0).equals("OK"));
+				String[] fields = resp.get(2).split("\t");
+				assertTrue(fields[0].equals("OUTPUT"));
+				assertTrue(fields[1].equals("[Simulation].ReplicationNumber"));
+				assertTrue(Double.parseDouble(fields[2]) == rep);
+				assertTrue(resp.get(3).startsWith("TIME\t"));
+			}
+
+			File missing = new File(configFile.getParentFile(), "Missing.cfg");
+			new File(configFile.getParentFile(), "Missing.log").deleteOnExit();
+			out.println("RUN " + missing.getAbsolutePath());
+			out.println("END");
+			ArrayList<String> resp = readResponse(in);
+			assertTrue(resp.get(0).startsWith("ERROR"));
+
+			out.println("QUIT");
+			assertTrue(in.readLine().equals("OK"));
+		}
+		assertTrue(daemon.getNumberOfRuns() == 4);
+		daemon.shutdown();
+		assertTrue(!daemon.isRunning());
+	}
+
+	@Test
+	public void testAuthentication() throws IOException {
+		RunDaemon daemon = new RunDaemon(0, 1);
+		daemon.start();
+
+		// A connection without the token is closed before any command is accepted
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+			out.println("RUN " + configFile.getAbsolutePath());
+			assertTrue(readResponse(in).get(0).startsWith("ERROR"));
+			assertTrue(in.readLine() == null);
+		}
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+			out.println("AUTH 0123456789abcdef0123456789abcdef");
+			assertTrue(readResponse(in).get(0).startsWith("ERROR"));
+			assertTrue(in.readLine() == null);
+		}
+		assertTrue(daemon.isRunning());
+
+		// The token file can be read only by its owner
+		File tokenFile = File.createTempFile("TestRunDaemon", ".token");
+		tokenFile.deleteOnExit();
+		daemon.writeToken(tokenFile);
+		assertTrue(new String(Files.readAllBytes(tokenFile.toPath()), StandardCharsets.UTF_8).equals(daemon.getToken()));
+		try {
+			Set<PosixFilePermission> perms = Files.getPosixFilePermissions(tokenFile.toPath());
+			assertTrue(perms.equals(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+		}
+		catch (UnsupportedOperationException e) {}
+		daemon.shutdown();
+	}
+
+	@Test
+	public void testUnauthenticatedConnection() throws IOException {
+		RunDaemon daemon = new RunDaemon(0, 1, 2);
+		daemon.setAuthTimeout(200);
+		daemon.start();
+
+		// An AUTH line that exceeds the maximum length is rejected
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+			StringBuilder sb = new StringBuilder("AUTH ");
+			for (int i = 0; i < 10000; i++) {
+				sb.append('0');
+			}
+			out.println(sb);
+			assertTrue(readResponse(in).get(0).startsWith("ERROR"));
+		}
+
+		// A connection that does not send the AUTH line is closed after the timeout
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()))) {
+			assertTrue(readResponse(in).get(0).startsWith("ERROR"));
+			assertTrue(in.readLine() == null);
+		}
+
+		// Connections beyond the maximum number are refused
+		try (Socket s1 = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				PrintWriter out1 = new PrintWriter(s1.getOutputStream(), true);
+				BufferedReader in1 = new BufferedReader(new InputStreamReader(s1.getInputStream()));
+				Socket s2 = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				PrintWriter out2 = new PrintWriter(s2.getOutputStream(), true);
+				BufferedReader in2 = new BufferedReader(new InputStreamReader(s2.getInputStream()))) {
+			out1.println("AUTH " + daemon.getToken());
+			assertTrue(in1.readLine().equals("OK"));
+			out2.println("AUTH " + daemon.getToken());
+			assertTrue(in2.readLine().equals("OK"));
+			try (Socket s3 = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+					BufferedReader in3 = new BufferedReader(new InputStreamReader(s3.getInputStream()))) {
+				assertTrue(readResponse(in3).get(0).equals("ERROR\tToo many connections"));
+			}
+		}
+		daemon.shutdown();
+	}
+
+	@Test
+	public void testIdleConnection() throws IOException {
+		RunDaemon daemon = new RunDaemon(0, 1);
+		daemon.start();
+
+		// An idle connection does not hold the only run thread
+		try (Socket idle = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader idleIn = new BufferedReader(new InputStreamReader(idle.getInputStream()));
+				PrintWriter idleOut = new PrintWriter(idle.getOutputStream(), true);
+				Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+			idleOut.println("AUTH " + daemon.getToken());
+			assertTrue(idleIn.readLine().equals("OK"));
+
+			out.println("AUTH " + daemon.getToken());
+			assertTrue(in.readLine().equals("OK"));
+			out.println("RUN " + configFile.getAbsolutePath());
+			out.println("SET Simulation RunDuration 10 s");
+			out.println("END");
+			assertTrue(readResponse(in).get(0).equals("OK"));
+
+			// Shutting down closes the idle connection
+			out.println("SHUTDOWN");
+			assertTrue(in.readLine().equals("OK"));
+			assertTrue(idleIn.readLine() == null);
+		}
+		assertTrue(!daemon.isRunning());
+	}
+}
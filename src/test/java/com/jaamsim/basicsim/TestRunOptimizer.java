@@ -0,0 +1,212 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestRunOptimizer {
+
+	File configFile;
+
+	@Before
+	public void setupTests() throws IOException {
+		configFile = File.createTempFile("TestRunOptimizer", ".cfg");
+		configFile.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(new FileWriter(configFile))) {
+			out.println("Define ExponentialDistribution { Arrivals }");
+			out.println("Define SimEntity { Proto }");
+			out.println("Define EntityGenerator { Gen }");
+			out.println("Define EntitySink { Sink }");
+			out.println("Define InputValue { X  Y }");
+			out.println("Arrivals UnitType { TimeUnit } Mean { 1 s } RandomSeed { 1 }");
+			out.println("Gen NextComponent { Sink } InterArrivalTime { Arrivals } PrototypeEntity { Proto }");
+			out.println("X UnitType { DimensionlessUnit } Value { 0 }");
+			out.println("Y UnitType { DimensionlessUnit } Value { 0 }");
+			out.println("Simulation RunDuration { 100 s }");
+
+			// Minimum at X = 3 and Y = 7 plus a small amount of noise
+			out.println("Simulation RunOutputList { { '([X].Value - 3)^2 + ([Y].Value - 7)^2 + [Sink].NumberAdded/1000' } }");
+		}
+	}
+
+	private RunOptimizer getOptimizer(RunOptimizer.Method method) {
+		RunOptimizer opt = new RunOptimizer(configFile, 4);
+		opt.addParameter(new RunOptimizer.Parameter("X", "Value", 0.0d, 10.0d, null, false));
+		opt.addParameter(new RunOptimizer.Parameter("Y", "Value", 0.0d, 10.0d, null, true));
+		opt.setObjective(0, false);
+		opt.setReplications(2);
+		opt.setMaxEvaluations(60);
+		opt.setTolerance(1.0e-2d);
+		opt.setMethod(method);
+		return opt;
+	}
+
+	@Test
+	public void testNelderMead() {
+		RunOptimizer opt = getOptimizer(RunOptimizer.Method.NELDER_MEAD);
+		RunOptimizer.Candidate best = opt.optimize();
+		double[] vals = best.getValues();
+		assertTrue(Math.abs(vals[0] - 3.0d) < 0.5d);
+		assertTrue(vals[1] == 7.0d);
+		assertTrue(best.getNumberOfReplications() >= 2);
+		assertTrue(opt.getCandidates().size() <= 70);
+
+		// The selected candidates are ordered best first
+		ArrayList<RunOptimizer.Candidate> list = opt.getSelectedCandidates();
+		assertTrue(list.get(0) == best);
+		for (int i = 1; i < list.size(); i++) {
+			assertTrue(list.get(i).getMean() >= best.getMean());
+		}
+	}
+
+	@Test
+	public void testCrossEntropy() {
+		RunOptimizer opt = getOptimizer(RunOptimizer.Method.CROSS_ENTROPY);
+		RunOptimizer.Candidate best = opt.optimize();
+		double[] vals = best.getValues();
+		assertTrue(Math.abs(vals[0] - 3.0d) < 1.0d);
+		assertTrue(Math.abs(vals[1] - 7.0d) <= 1.0d);
+	}
+
+	@Test
+	public void testMaximize() {
+		RunOptimizer opt = new RunOptimizer(configFile, 2);
+		opt.addParameter(new RunOptimizer.Parameter("X", "Value", 0.0d, 10.0d, null, false));
+		opt.setObjective(0, true);
+		opt.setReplications(1);
+		opt.setMaxEvaluations(30);
+		RunOptimizer.Candidate best = opt.optimize();
+		assertTrue(best.getValues()[0] == 10.0d);
+	}
+
+	@Test
+	public void testIntegerParameters() {
+		RunOptimizer opt = new RunOptimizer(configFile, 2);
+		opt.addParameter(new RunOptimizer.Parameter("X", "Value", 2.0d, 4.0d, null, true));
+		opt.addParameter(new RunOptimizer.Parameter("Y", "Value", 6.0d, 8.0d, null, true));
+		opt.setObjective(0, false);
+		opt.setReplications(2);
+		opt.setMaxEvaluations(1000);
+		opt.setTolerance(1.0e-300d);
+
+		// The search stops once the simplex only reaches candidates that have been evaluated
+		RunOptimizer.Candidate best = opt.optimize();
+		assertTrue(opt.getCandidates().size() <= 9);
+		assertTrue(best.getValues()[0] == 3.0d);
+		assertTrue(best.getValues()[1] == 7.0d);
+
+		// The noise is common to every candidate, so the paired comparisons eliminate the others
+		assertTrue(opt.getSelectedCandidates().size() == 1);
+	}
+
+	@Test
+	public void testRunExecutor() {
+
+		// The runs for four models are executed by a single thread
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		try {
+			RunOptimizer opt = getOptimizer(RunOptimizer.Method.NELDER_MEAD);
+			opt.setTimeout(60.0d);
+			opt.setRunExecutor(exec);
+			RunOptimizer.Candidate best = opt.optimize();
+			assertTrue(Math.abs(best.getValues()[0] - 3.0d) < 0.5d);
+			assertTrue(best.getValues()[1] == 7.0d);
+		}
+		finally {
+			exec.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testTolerance() {
+		RunOptimizer opt = getOptimizer(RunOptimizer.Method.NELDER_MEAD);
+		boolean accepted = true;
+		try {
+			opt.setTolerance(0.0d);
+		}
+		catch (ErrorException e) {
+			accepted = false;
+		}
+		assertTrue(!accepted);
+	}
+
+	@Test
+	public void testDaemon() throws IOException {
+		RunDaemon daemon = new RunDaemon(0, 2);
+		daemon.start();
+		try (Socket s = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
+				PrintWriter out = new PrintWriter(s.getOutputStream(), true)) {
+
+			out.println("AUTH " + daemon.getToken());
+			assertTrue(in.readLine().equals("OK"));
+
+			out.println("OPTIMIZE " + configFile.getAbsolutePath());
+			out.println("PARAMETER X Value 0 10");
+			out.println("INTEGER Y Value 0 10");
+			out.println("OBJECTIVE 1 MIN");
+			out.println("REPLICATIONS 2");
+			out.println("EVALUATIONS 60");
+			out.println("TOLERANCE 0.01");
+			out.println("END");
+			assertTrue(in.readLine().equals("OK"));
+			String[] fields = in.readLine().split("\t");
+			assertTrue(fields[0].equals("CANDIDATE"));
+			assertTrue(Integer.parseInt(fields[3]) >= 2);
+			assertTrue(Math.abs(Double.parseDouble(fields[4]) - 3.0d) < 0.5d);
+			assertTrue(fields[5].equals("7"));
+			String line = in.readLine();
+			while (line.startsWith("CANDIDATE")) {
+				line = in.readLine();
+			}
+			assertTrue(line.startsWith("EVALUATIONS\t"));
+			assertTrue(in.readLine().equals("END"));
+
+			// Errors in the request
+			out.println("OPTIMIZE " + configFile.getAbsolutePath());
+			out.println("PARAMETER X Value 0 10");
+			out.println("OBJECTIVE 2");
+			out.println("END");
+			assertTrue(in.readLine().startsWith("ERROR\t"));
+			assertTrue(in.readLine().equals("END"));
+
+			out.println("OPTIMIZE " + configFile.getAbsolutePath());
+			out.println("METHOD UNKNOWN");
+			assertTrue(in.readLine().startsWith("ERROR\t"));
+			assertTrue(in.readLine().equals("END"));
+
+			out.println("QUIT");
+			assertTrue(in.readLine().equals("OK"));
+		}
+		daemon.shutdown();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.basicsim;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import com.jaamsim.Graphics.DisplayEntity;
+import com.jaamsim.ProcessFlow.Queue;
+import com.jaamsim.ProcessFlow.Server;
+import com.jaamsim.input.OutputHandle;
+import com.jaamsim.units.DistanceUnit;
+import com.jaamsim.units.RateUnit;
+import com.jaamsim.units.SpeedUnit;
+import com.jaamsim.units.TimeUnit;
+import com.jaamsim.units.Unit;
+
+public class TestSharedMetadata {
+
+	private static void runThreads(int numThreads, Runnable task) {
+		ArrayList<Thread> threads = new ArrayList<>();
+		final Throwable[] error = new Throwable[1];
+		for (int i = 0; i < numThreads; i++) {
+			Thread t = new Thread(task);
+			t.setUncaughtExceptionHandler((thread, e) -> {
+				synchronized (error) {
+					error[0] = e;
+				}
+			});
+			threads.add(t);
+		}
+		for (Thread t : threads) {
+			t.start();
+		}
+		for (Thread t : threads) {
+			try {
+				t.join();
+			}
+			catch (InterruptedException e) {}
+		}
+		assertTrue(error[0] == null);
+	}
+
+	@Test
+	public void testConcurrentLookups() {
+		final int[] failures = new int[1];
+		runThreads(8, () -> {
+			int n = 0;
+			for (int i = 0; i < 1000; i++) {
+				if (!OutputHandle.hasOutput(Queue.class, "QueueLength")) n++;
+				if (!OutputHandle.hasOutput(Server.class, "Name")) n++;
+				if (!OutputHandle.hasOutput(DisplayEntity.class, "Position")) n++;
+				if (OutputHandle.hasOutput(Entity.class, "QueueLength")) n++;
+				if (Unit.getMultUnitType(SpeedUnit.class, TimeUnit.class) != DistanceUnit.class) n++;
+				if (Unit.getDivUnitType(DistanceUnit.class, TimeUnit.class) != SpeedUnit.class) n++;
+				if (Unit.getDivUnitType(SpeedUnit.class, DistanceUnit.class) != RateUnit.class) n++;
+			}
+			synchronized (failures) {
+				failures[0] += n;
+			}
+		});
+		assertTrue(failures[0] == 0);
+	}
+
+	@Test
+	public void testModelLogs() {
+		final int numModels = 4;
+		final int numLines = 500;
+		ArrayList<JaamSimModel> models = new ArrayList<>();
+		for (int i = 0; i < numModels; i++) {
+			models.add(new JaamSimModel("Model" + i));
+		}
+		int globalStart = Log.getLog(0).size();
+
+		final int[] next = new int[1];
+		runThreads(numModels, () -> {
+			JaamSimModel sm;
+			synchronized (next) {
+				sm = models.get(next[0]++);
+			}
+			for (int i = 0; i < numLines; i++) {
+				sm.logMessage("%s line %s", sm.getName(), i);
+			}
+		});
+
+		// Each model holds only its own messages, in the order they were written
+		for (JaamSimModel sm : models) {
+			ArrayList<String> lines = sm.getLogBuffer().getLines(0);
+			assertTrue(lines.size() == numLines);
+			for (int i = 0; i < numLines; i++) {
+				assertTrue(lines.get(i).equals(sm.getName() + " line " + i));
+			}
+			assertTrue(sm.getLogBuffer().getLines(numLines - 1).size() == 1);
+		}
+
+		// The global log receives the messages from every model
+		assertTrue(Log.getLog(globalStart).size() >= numModels * numLines);
+	}
+}
@@ -18,6 +18,8 @@ package com.jaamsim.basicsim;
 
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.jaamsim.events.ProcessTarget;
 import com.jaamsim.input.Input;
 import com.jaamsim.input.InputAgent;
 import com.jaamsim.input.KeywordIndex;
@@ -216,6 +219,111 @@ public class TestSimulation {
 		assertTrue(simModel2.getDoubleValue("[Sink].NumberAdded") == 500.0d);
 	}
 
+	@Test
+	public void testEventProfiler() {
+		JaamSimModel simModel = new JaamSimModel();
+		simModel.autoLoad();
+		simModel.setProfiling(true);
+
+		simModel.defineEntity("SimEntity", "Proto");
+		simModel.defineEntity("EntityGenerator", "Gen");
+		simModel.defineEntity("EntitySink", "Sink");
+
+		simModel.setInput("Gen", "PrototypeEntity", "Proto");
+		simModel.setInput("Gen", "NextComponent", "Sink");
+		simModel.setInput("Gen", "InterArrivalTime", "2 s");
+		simModel.setInput("Simulation", "RunDuration", "1000 s");
+
+		runTestCase(simModel, 1000l);
+
+		EventProfiler prof = simModel.getProfiler();
+		assertTrue(prof.getNumberOfEvents() > 500L);
+
+		ArrayList<EventProfiler> list = new ArrayList<>();
+		list.add(prof);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		EventProfiler.printReport(list, new PrintStream(bytes));
+		String report = bytes.toString();
+		assertTrue(report.contains(String.format("Events executed: %d", prof.getNumberOfEvents())));
+		assertTrue(report.contains("EntityGenerator."));
+	}
+
+	@Test
+	public void testEventProfilerNestedConditional() throws InterruptedException {
+		ProcessTarget t = new ProcessTarget() {
+			@Override
+			public String getDescription() {
+				return "Target";
+			}
+
+			@Override
+			public void process() {}
+		};
+
+		// The time for a conditional evaluation made during an event is not counted twice
+		EventProfiler prof = new EventProfiler(1);
+		prof.traceEvent(0L, 0, t);
+		prof.traceConditionalEval(t);
+		Thread.sleep(50L);
+		prof.traceConditionalEvalEnded(false, t);
+		prof.traceWait(0L, 0, t);
+
+		ArrayList<EventProfiler> list = new ArrayList<>();
+		list.add(prof);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		EventProfiler.printReport(list, new PrintStream(bytes));
+		String report = bytes.toString();
+		assertTrue(getEstimatedMillis(report, "Events executed") < 50.0d);
+		assertTrue(getEstimatedMillis(report, "Conditional evaluations") >= 50.0d);
+	}
+
+	private static class FirstTarget extends ProcessTarget {
+		@Override
+		public String getDescription() {
+			return "FirstTarget";
+		}
+
+		@Override
+		public void process() {}
+	}
+
+	private static class SecondTarget extends FirstTarget {}
+
+	@Test
+	public void testEventProfilerCycle() {
+
+		// Two types of event that alternate are both sampled
+		EventProfiler prof = new EventProfiler(10);
+		ProcessTarget[] targets = { new FirstTarget(), new SecondTarget() };
+		for (int i = 0; i < 200; i++) {
+			ProcessTarget t = targets[i % 2];
+			prof.traceEvent(0L, 0, t);
+			prof.traceWait(0L, 0, t);
+		}
+
+		ArrayList<EventProfiler> list = new ArrayList<>();
+		list.add(prof);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		EventProfiler.printReport(list, new PrintStream(bytes));
+		String report = bytes.toString();
+		assertTrue(getSampleCount(report, "FirstTarget") == 10L);
+		assertTrue(getSampleCount(report, "SecondTarget") == 10L);
+	}
+
+	private static long getSampleCount(String report, String name) {
+		for (String line : report.split("\\R")) {
+			String[] fields = line.trim().split("\\s+");
+			if (fields[0].equals(name))
+				return Long.parseLong(fields[2]);
+		}
+		return -1L;
+	}
+
+	private static double getEstimatedMillis(String report, String label) {
+		int start = report.indexOf("estimated time ", report.indexOf(label)) + "estimated time ".length();
+		return Double.parseDouble(report.substring(start, report.indexOf(" ms", start)));
+	}
+
 	@Test
 	public void testExampleModels() {
 		System.out.println();
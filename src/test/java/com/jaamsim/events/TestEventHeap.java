@@ -0,0 +1,256 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TestEventHeap {
+
+	static class Target extends ProcessTarget {
+		final int id;
+
+		Target(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public String getDescription() {
+			return "Target" + id;
+		}
+
+		@Override
+		public void process() {}
+	}
+
+	/**
+	 * Stores the future events in an EventTree in the same way as EventManager.
+	 */
+	static class TreeStorage {
+		final EventTree tree = new EventTree();
+		Event freeEvents = null;
+
+		void schedule(long tick, int priority, boolean fifo, ProcessTarget t, EventHandle handle) {
+			EventNode node = tree.createOrFindNode(tick, priority);
+			Event evt = freeEvents;
+			if (evt != null)
+				freeEvents = evt.next;
+			else
+				evt = new Event();
+			evt.node = node;
+			evt.target = t;
+			evt.handle = handle;
+			if (handle != null)
+				handle.event = evt;
+			node.addEvent(evt, fifo);
+		}
+
+		ProcessTarget poll() {
+			EventNode node = tree.getNextNode();
+			if (node == null)
+				return null;
+			return remove(node.head);
+		}
+
+		ProcessTarget remove(EventHandle handle) {
+			if (handle.event == null)
+				return null;
+			return remove((Event) handle.event);
+		}
+
+		ProcessTarget remove(Event evt) {
+			EventNode node = evt.node;
+			node.removeEvent(evt);
+			if (node.head == null)
+				tree.removeNode(node.schedTick, node.priority);
+
+			ProcessTarget t = evt.target;
+			evt.node = null;
+			evt.target = null;
+			if (evt.handle != null) {
+				evt.handle.event = null;
+				evt.handle = null;
+			}
+			evt.next = freeEvents;
+			freeEvents = evt;
+			return t;
+		}
+	}
+
+	@Test
+	public void testOrder() {
+		Random rng = new Random(1);
+		EventHeap heap = new EventHeap();
+		TreeStorage tree = new TreeStorage();
+		EventHandle[] heapHandles = new EventHandle[200];
+		EventHandle[] treeHandles = new EventHandle[200];
+		for (int i = 0; i < heapHandles.length; i++) {
+			heapHandles[i] = new EventHandle();
+			treeHandles[i] = new EventHandle();
+		}
+
+		// Use a small range of times and priorities so that many events share the same node
+		long now = 0L;
+		int id = 0;
+		for (int i = 0; i < 50000; i++) {
+			int op = rng.nextInt(10);
+			if (op < 5) {
+				long tick = now + rng.nextInt(5);
+				int pri = rng.nextInt(3);
+				boolean fifo = rng.nextBoolean();
+				int h = rng.nextInt(heapHandles.length + 50);
+				EventHandle heapHandle = null;
+				EventHandle treeHandle = null;
+				if (h < heapHandles.length) {
+					if (heapHandles[h].isScheduled())
+						continue;
+					heapHandle = heapHandles[h];
+					treeHandle = treeHandles[h];
+				}
+				Target t = new Target(id++);
+				heap.schedule(tick, pri, fifo, t, heapHandle);
+				tree.schedule(tick, pri, fifo, t, treeHandle);
+			}
+			else if (op < 8) {
+				int slot = heap.peek();
+				ProcessTarget t = tree.poll();
+				if (slot >= 0)
+					now = heap.getTick(slot);
+				assertTrue(heap.poll() == t);
+			}
+			else {
+				int h = rng.nextInt(heapHandles.length);
+				assertTrue(heap.remove(heapHandles[h]) == tree.remove(treeHandles[h]));
+				assertTrue(!heapHandles[h].isScheduled());
+			}
+			assertTrue(heap.verify() == heap.size());
+		}
+
+		// Remaining events are executed in the same order
+		while (!heap.isEmpty()) {
+			assertTrue(heap.poll() == tree.poll());
+		}
+		assertTrue(tree.poll() == null);
+		for (EventHandle each : heapHandles) {
+			assertTrue(!each.isScheduled());
+		}
+
+		// Reset releases the handles
+		heap.schedule(1L, 0, true, new Target(0), heapHandles[0]);
+		heap.reset();
+		assertTrue(heap.isEmpty() && !heapHandles[0].isScheduled());
+	}
+
+	/**
+	 * Executes a random set of events and returns the ids for the targets in the order they
+	 * were executed.
+	 */
+	static class RecordTarget extends ProcessTarget {
+		final int id;
+		final ArrayList<Integer> order;
+		final EventHandle[] handles;
+		final Random rng;
+		final Conditional cond = new Conditional() {
+			@Override
+			public boolean evaluate() {
+				return order.size() % 7 == 0;
+			}
+		};
+
+		RecordTarget(int id, ArrayList<Integer> order, EventHandle[] handles, Random rng) {
+			this.id = id;
+			this.order = order;
+			this.handles = handles;
+			this.rng = rng;
+		}
+
+		@Override
+		public String getDescription() {
+			return "RecordTarget" + id;
+		}
+
+		@Override
+		public void process() {
+			order.add(id);
+			if (order.size() > 5000)
+				return;
+			int h = rng.nextInt(handles.length);
+			switch (rng.nextInt(5)) {
+			case 0:
+				EventManager.killEvent(handles[h]);
+				break;
+			case 1:
+				EventManager.interruptEvent(handles[h]);
+				break;
+			case 2:
+				if (!handles[h].isScheduled()) {
+					EventManager.scheduleUntil(this, cond, handles[h]);
+					return;
+				}
+				break;
+			default:
+			}
+			EventHandle handle = handles[h].isScheduled() ? null : handles[h];
+			EventManager.scheduleTicks(rng.nextInt(20), rng.nextInt(3), rng.nextBoolean(), this, handle);
+		}
+	}
+
+	private static ArrayList<Integer> runEventManager(boolean useHeap, ArrayList<EventData> pending) {
+		System.setProperty("jaamsim.eventHeap", Boolean.toString(useHeap));
+		EventManager evt = new EventManager("TestEventHeap");
+		System.clearProperty("jaamsim.eventHeap");
+		evt.clear();
+
+		Random rng = new Random(1);
+		ArrayList<Integer> order = new ArrayList<>();
+		EventHandle[] handles = new EventHandle[50];
+		for (int i = 0; i < handles.length; i++) {
+			handles[i] = new EventHandle();
+		}
+		for (int i = 0; i < 100; i++) {
+			RecordTarget t = new RecordTarget(i, order, handles, rng);
+			EventHandle handle = (i < handles.length) ? handles[i] : null;
+			evt.scheduleProcessExternal(rng.nextInt(50), rng.nextInt(3), rng.nextBoolean(), t, handle);
+		}
+
+		TestFrameworkHelpers.runEventsToTick(evt, 200, 10000);
+		evt.getEventDataList(pending);
+		TestFrameworkHelpers.runEventsToTick(evt, Long.MAX_VALUE, 10000);
+		evt.clear();
+		for (EventHandle each : handles) {
+			assertTrue(!each.isScheduled());
+		}
+		return order;
+	}
+
+	@Test
+	public void testEventManager() {
+		ArrayList<EventData> treePending = new ArrayList<>();
+		ArrayList<EventData> heapPending = new ArrayList<>();
+		ArrayList<Integer> treeOrder = runEventManager(false, treePending);
+		ArrayList<Integer> heapOrder = runEventManager(true, heapPending);
+		assertTrue(treeOrder.size() > 1000);
+		assertTrue(!treePending.isEmpty());
+		assertEquals(treeOrder, heapOrder);
+		assertEquals(treePending, heapPending);
+	}
+}
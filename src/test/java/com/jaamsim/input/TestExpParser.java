@@ -983,4 +983,206 @@ public class TestExpParser {
 		assertTrue(res.value == 42.0);
 		assertTrue(res.type == ExpResType.NUMBER);
 	}
+
+	@Test
+	public void testAttributeSlots() throws ExpError {
+		JaamSimModel simModel = new JaamSimModel();
+		simModel.autoLoad();
+
+		simModel.defineEntity("DisplayEntity", "foo");
+		simModel.defineEntity("DisplayEntity", "bar");
+		simModel.setInput("foo", "AttributeDefinitionList", "{ arg 1 } { str '\"abc\"' }");
+		simModel.setInput("bar", "AttributeDefinitionList", "{ len 2[m] } { arg 10 }");
+
+		Entity foo = simModel.getEntity("foo");
+		Entity bar = simModel.getEntity("bar");
+		foo.earlyInit();
+		bar.earlyInit();
+		assertTrue(foo.getAttributeLayout().getIndex("arg") == 0);
+		assertTrue(bar.getAttributeLayout().getIndex("arg") == 1);
+
+		// The same expression is evaluated for entities with different layouts
+		String assignStr = "this.arg = this.arg + 1";
+		ExpEvaluator.EntityParseContext pc = ExpEvaluator.getParseContext(foo, assignStr);
+		ExpParser.Assignment assign = ExpParser.parseAssignment(pc, assignStr);
+		for (int i = 0; i < 3; i++) {
+			ExpEvaluator.evaluateExpression(assign, foo, 0.0d);
+			ExpEvaluator.evaluateExpression(assign, bar, 0.0d);
+		}
+		assertTrue(foo.getOutputHandle("arg").getValueAsDouble(0.0d, 0.0d) == 4.0d);
+		assertTrue(bar.getOutputHandle("arg").getValueAsDouble(0.0d, 0.0d) == 13.0d);
+
+		// Numeric attribute with units
+		assignStr = "this.len = this.len * 2";
+		pc = ExpEvaluator.getParseContext(bar, assignStr);
+		assign = ExpParser.parseAssignment(pc, assignStr);
+		ExpResult res = ExpEvaluator.evaluateExpression(assign, bar, 0.0d);
+		assertTrue(res.value == 4.0d);
+		assertTrue(bar.getOutputHandle("len").getUnitType() == DistanceUnit.class);
+
+		// Unit type that does not match the attribute
+		assignStr = "this.len = 5";
+		pc = ExpEvaluator.getParseContext(bar, assignStr);
+		assign = ExpParser.parseAssignment(pc, assignStr);
+		boolean threw = false;
+		try {
+			ExpEvaluator.evaluateExpression(assign, bar, 0.0d);
+		}
+		catch (ExpError e) {
+			threw = true;
+		}
+		assertTrue(threw);
+
+		// Non-numeric attribute
+		assignStr = "this.str = this.str + \"def\"";
+		pc = ExpEvaluator.getParseContext(foo, assignStr);
+		assign = ExpParser.parseAssignment(pc, assignStr);
+		res = ExpEvaluator.evaluateExpression(assign, foo, 0.0d);
+		assertTrue(res.type == ExpResType.STRING);
+		assertTrue(foo.getOutputHandle("str").getValue(0.0d, String.class).equals("abcdef"));
+
+		// Missing attribute
+		assignStr = "this.str = 1";
+		pc = ExpEvaluator.getParseContext(bar, assignStr);
+		assign = ExpParser.parseAssignment(pc, assignStr);
+		threw = false;
+		try {
+			ExpEvaluator.evaluateExpression(assign, bar, 0.0d);
+		}
+		catch (ExpError e) {
+			threw = true;
+		}
+		assertTrue(threw);
+
+		// Attribute values are copied between entities with the same layout
+		simModel.defineEntity("DisplayEntity", "baz");
+		simModel.setInput("baz", "AttributeDefinitionList", "{ arg 0 } { str '\"\"' }");
+		Entity baz = simModel.getEntity("baz");
+		baz.earlyInit();
+		Entity.copyAttributeValues(foo, baz);
+		assertTrue(baz.getOutputHandle("arg").getValueAsDouble(0.0d, 0.0d) == 4.0d);
+		assertTrue(baz.getOutputHandle("str").getValue(0.0d, String.class).equals("abcdef"));
+	}
+
+	@Test
+	public void testOutputCache() throws ExpError {
+		JaamSimModel simModel = new JaamSimModel();
+		simModel.autoLoad();
+
+		// Entities of several classes that share an output name
+		String[] types = { "Queue", "EntitySink", "Server", "Assign", "EntityDelay", "Branch" };
+		ArrayList<Entity> entList = new ArrayList<>();
+		for (String type : types) {
+			String name = type + "1";
+			simModel.defineEntity(type, name);
+			entList.add(simModel.getEntity(name));
+		}
+
+		String expStr = "this.NumberAdded";
+		ExpEvaluator.EntityParseContext pc = ExpEvaluator.getParseContext(entList.get(0), expStr);
+		ExpParser.Expression exp = ExpParser.parseExpression(pc, expStr);
+		ExpEvaluator.resetOutputCacheCounts();
+		ExpEvaluator.setOutputCacheCounting(true);
+		try {
+			for (int i = 0; i < 10; i++) {
+				for (Entity ent : entList) {
+					ExpResult res = ExpEvaluator.evaluateExpression(exp, ent, 0.0d);
+					ValueHandle oh = ent.getOutputHandle("NumberAdded");
+					assertTrue(res.type == ExpResType.NUMBER);
+					assertTrue(res.value == oh.getValueAsDouble(0.0d, 0.0d));
+					assertTrue(res.unitType == oh.getUnitType());
+				}
+			}
+		}
+		finally {
+			ExpEvaluator.setOutputCacheCounting(false);
+		}
+
+		// The first four classes are held by the cache and the remaining ones are looked up
+		assertTrue(ExpEvaluator.getOutputCacheHits() >= 4*9);
+		assertTrue(ExpEvaluator.getOutputCacheMisses() >= 4 + 2*10);
+
+		// Outputs with string, entity, and collection values
+		Entity ent = entList.get(0);
+		ExpResult res = ExpEvaluator.evaluateExpression(
+				ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, "this.Name"), "this.Name"), ent, 0.0d);
+		assertTrue(res.type == ExpResType.STRING);
+		assertTrue(res.stringVal.equals(ent.getName()));
+
+		res = ExpEvaluator.evaluateExpression(
+				ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, "this.ObjectType"), "this.ObjectType"), ent, 0.0d);
+		assertTrue(res.type == ExpResType.ENTITY);
+		assertTrue(res.entVal == ent.getOutputHandle("ObjectType").getValue(0.0d, Entity.class));
+
+		res = ExpEvaluator.evaluateExpression(
+				ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, "this.Children"), "this.Children"), ent, 0.0d);
+		assertTrue(res.type == ExpResType.COLLECTION);
+
+		// A custom output is found before the outputs for the class
+		simModel.setInput(ent.getName(), "CustomOutputList", "{ Out1 '5 + 2' }");
+		res = ExpEvaluator.evaluateExpression(
+				ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, "this.Out1"), "this.Out1"), ent, 0.0d);
+		assertTrue(res.value == 7.0d);
+
+		// Missing output
+		boolean threw = false;
+		try {
+			ExpEvaluator.evaluateExpression(
+					ExpParser.parseExpression(ExpEvaluator.getParseContext(ent, "this.xyz"), "this.xyz"), ent, 0.0d);
+		}
+		catch (ExpError e) {
+			threw = true;
+		}
+		assertTrue(threw);
+	}
+
+	private static ExpDependencies getDependencies(Entity thisEnt, String expStr) throws ExpError {
+		ExpEvaluator.EntityParseContext pc = ExpEvaluator.getParseContext(thisEnt, expStr);
+		ExpParser.Expression exp = ExpParser.parseExpression(pc, expStr);
+		ExpDependencies deps = new ExpDependencies(thisEnt);
+		ExpParser.appendDependencies(exp, deps);
+		return deps;
+	}
+
+	@Test
+	public void testDependencies() throws ExpError {
+		JaamSimModel simModel = new JaamSimModel();
+		simModel.autoLoad();
+
+		simModel.defineEntity("Queue", "q1");
+		simModel.defineEntity("Queue", "q2");
+		simModel.defineEntity("ExpressionThreshold", "thr");
+
+		Entity q1 = simModel.getEntity("q1");
+		Entity q2 = simModel.getEntity("q2");
+		Entity thr = simModel.getEntity("thr");
+
+		// Outputs of named entities
+		ExpDependencies deps = getDependencies(thr, "[q1].QueueLength + [q2].QueueLength > 3");
+		assertTrue(deps.isComplete());
+		assertTrue(deps.getEntityList().size() == 2);
+		assertTrue(deps.getEntityList().contains(q1));
+		assertTrue(deps.getEntityList().contains(q2));
+
+		// Lambda functions and local variables
+		deps = getDependencies(thr, "x = [q1].QueueLength; map(|y|(y + x), {1, 2})(1) > 0");
+		assertTrue(deps.isComplete());
+		assertTrue(deps.getEntityList().size() == 1);
+
+		// The entity that evaluates the expression
+		deps = getDependencies(thr, "this.Open");
+		assertTrue(deps.isComplete());
+		assertTrue(deps.getEntityList().contains(thr));
+
+		// Simulation time
+		deps = getDependencies(thr, "[q1].QueueLength > 0 && simTime > 10[s]");
+		assertTrue(!deps.isComplete());
+		assertTrue(deps.getEntityList().contains(q1));
+
+		// Output of an entity that is calculated by the expression
+		deps = getDependencies(thr, "map(|q|(q.QueueLength), {[q1], [q2]})(1) > 0");
+		assertTrue(!deps.isComplete());
+		assertTrue(deps.getIssueList().size() == 1);
+		assertTrue(deps.getEntityList().size() == 2);
+	}
 }
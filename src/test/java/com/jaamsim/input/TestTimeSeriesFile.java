@@ -0,0 +1,184 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.input;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.Samples.TimeSeries;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.events.EventManager;
+
+public class TestTimeSeriesFile {
+
+	JaamSimModel simModel;
+	double[] times;
+	double[] values;
+
+	@Before
+	public void setupTests() {
+		simModel = new JaamSimModel();
+		simModel.autoLoad();
+
+		// Long enough series to span several blocks in the file
+		int n = 10000;
+		times = new double[n];
+		values = new double[n];
+		Random rand = new Random(3);
+		double t = -5.0d;
+		double v = 0.0d;
+		for (int i = 0; i < n; i++) {
+			times[i] = t;
+			values[i] = v;
+			t += 1 + rand.nextInt(10);
+			v += rand.nextInt(5);
+		}
+	}
+
+	private File writeText() throws IOException {
+		File file = File.createTempFile("TimeSeries", ".csv");
+		file.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(file)) {
+			out.println("# time [s], value");
+			for (int i = 0; i < times.length; i++) {
+				if (i % 1000 == 0)
+					out.println();
+				out.format("%s, %s%n", times[i], values[i]);
+			}
+		}
+		return file;
+	}
+
+	private File writeBinary() throws IOException {
+		File file = File.createTempFile("TimeSeries", ".bin");
+		file.deleteOnExit();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			for (int i = 0; i < times.length; i++) {
+				out.writeDouble(times[i]);
+				out.writeDouble(values[i]);
+			}
+		}
+		return file;
+	}
+
+	private TimeSeries create(String... args) {
+		TimeSeries ts = InputAgent.defineEntityWithUniqueName(simModel, TimeSeries.class, null, "TS", "-", true);
+		InputAgent.applyArgs(ts, "UnitType", "DimensionlessUnit");
+		for (int i = 0; i < args.length; i += 2) {
+			InputAgent.applyArgs(ts, args[i], args[i + 1].split(" "));
+		}
+		return ts;
+	}
+
+	private TimeSeries createFromValue(String... args) {
+		TimeSeries ts = create(args);
+		ArrayList<String> toks = new ArrayList<>();
+		for (int i = 0; i < times.length; i++) {
+			toks.add("{");
+			toks.add(Double.toString(times[i]));
+			toks.add("s");
+			toks.add(Double.toString(values[i]));
+			toks.add("}");
+		}
+		InputAgent.applyArgs(ts, "Value", toks.toArray(new String[toks.size()]));
+		ts.validate();
+		return ts;
+	}
+
+	private TimeSeries createFromFile(File file, String... args) {
+		TimeSeries ts = create(args);
+		InputAgent.applyArgs(ts, "DataFile", file.getAbsolutePath());
+		ts.validate();
+		return ts;
+	}
+
+	private void compare(TimeSeries ts1, TimeSeries ts2) {
+		EventManager evt = simModel.getEventManager();
+		long endTicks = evt.secondsToNearestTick(3.0d * times[times.length - 1]);
+		Random rand = new Random(5);
+		for (int i = 0; i < 20000; i++) {
+			long ticks = (long) (rand.nextDouble() * endTicks);
+			assertTrue(ts1.getValueForTicks(ticks) == ts2.getValueForTicks(ticks));
+			assertTrue(ts1.getNextChangeAfterTicks(ticks) == ts2.getNextChangeAfterTicks(ticks));
+			assertTrue(ts1.getLastChangeBeforeTicks(ticks) == ts2.getLastChangeBeforeTicks(ticks));
+			assertTrue(ts1.getInterpolatedCumulativeValueForTicks(ticks)
+					== ts2.getInterpolatedCumulativeValueForTicks(ticks));
+
+			double val = rand.nextDouble() * 2.0d * ts1.getMaxValue();
+			assertTrue(ts1.getInterpolatedTicksForValue(val) == ts2.getInterpolatedTicksForValue(val));
+		}
+		assertTrue(ts1.getMaxTicksValue() == ts2.getMaxTicksValue());
+		assertTrue(ts1.getMaxValue() == ts2.getMaxValue());
+		assertTrue(ts1.getMinValue() == ts2.getMinValue());
+		assertTrue(ts1.isMonotonic(1) == ts2.isMonotonic(1));
+		assertTrue(ts1.isMonotonic(-1) == ts2.isMonotonic(-1));
+	}
+
+	@Test
+	public void testTextFile() throws IOException {
+		File file = writeText();
+		compare(createFromValue(), createFromFile(file));
+		compare(createFromValue("OffsetToFirst", "FALSE"), createFromFile(file, "OffsetToFirst", "FALSE"));
+	}
+
+	@Test
+	public void testBinaryFile() throws IOException {
+		File file = writeBinary();
+		compare(createFromValue(), createFromFile(file));
+	}
+
+	@Test
+	public void testCycleTime() throws IOException {
+		File file = writeBinary();
+		String cycle = String.format("%s s", times[times.length - 1] - times[0] + 7.0d);
+		String[] args = { "CycleTime", cycle, "OffsetTime", "3 s" };
+		compare(createFromValue(args), createFromFile(file, args));
+	}
+
+	@Test
+	public void testInvalidFile() throws IOException {
+		File file = File.createTempFile("TimeSeries", ".csv");
+		file.deleteOnExit();
+		try (PrintWriter out = new PrintWriter(file)) {
+			out.println("0.0, 1.0");
+			out.println("2.0, 3.0");
+			out.println("1.0, 2.0");
+		}
+		TimeSeries ts = create();
+		boolean thrown = false;
+		try {
+			InputAgent.applyArgs(ts, "DataFile", file.getAbsolutePath());
+		}
+		catch (InputErrorException e) {
+			thrown = true;
+		}
+		assertTrue(thrown);
+		assertTrue(ts.getInput("DataFile").isDefault());
+	}
+
+}
@@ -19,10 +19,13 @@ package com.jaamsim.probability;
 
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import com.jaamsim.ProbabilityDistributions.ContinuousDistribution;
+import com.jaamsim.ProbabilityDistributions.GuideTable;
 import com.jaamsim.Samples.SampleProvider;
 import com.jaamsim.basicsim.JaamSimModel;
 import com.jaamsim.basicsim.ObjectType;
@@ -96,4 +99,67 @@ public class TestContinuousDistribution {
 		assertTrue( Math.abs( dist.getSampleMean(0.0) / dist.getMeanValue(0.0) - 1.0 ) < 0.01 );
 		assertTrue( Math.abs( dist.getSampleStandardDeviation(0.0) / dist.getStandardDeviation(0.0) - 1.0 ) < 0.01 );
 	}
+
+	@Test
+	public void LargeTable() {
+		ObjectType t = InputAgent.defineEntityWithUniqueName(simModel, ObjectType.class, null, "TestType", "-", true);
+		InputAgent.applyArgs(t, "JavaClass", "com.jaamsim.units.DimensionlessUnit");
+
+		// Piecewise linear approximation to an exponential distribution with mean 1
+		int n = 500;
+		String[] values = new String[n];
+		String[] cumProbs = new String[n];
+		for (int i = 0; i < n; i++) {
+			double p = (double) i / (n - 1);
+			values[i] = String.valueOf(-Math.log(1.0d - p * 0.999d));
+			cumProbs[i] = String.valueOf(p);
+		}
+
+		ContinuousDistribution dist = InputAgent.defineEntityWithUniqueName(simModel, ContinuousDistribution.class, null, "Dist", "-", true);
+		InputAgent.applyArgs(dist, "UnitType", t.getName());
+		InputAgent.applyArgs(dist, "ValueList", values);
+		InputAgent.applyArgs(dist, "CumulativeProbabilityList", cumProbs);
+		InputAgent.applyArgs(dist, "RandomSeed", "1");
+		dist.validate();
+		dist.earlyInit();
+
+		int numSamples = 1000000;
+		double total = TestContinuousDistribution.sampleDistribution(dist, numSamples);
+		double mean = total / numSamples;
+
+		assertTrue( MathUtils.near(dist.getSampleMean(0.0), mean) );
+		assertTrue( Math.abs( dist.getSampleMean(0.0) / dist.getMeanValue(0.0) - 1.0 ) < 0.01 );
+		assertTrue( Math.abs( dist.getSampleStandardDeviation(0.0) / dist.getStandardDeviation(0.0) - 1.0 ) < 0.01 );
+	}
+
+	private static double[] getCumProbs(int n) {
+		double[] ret = new double[n];
+		double total = 0.0d;
+		for (int i = 0; i < n; i++) {
+			ret[i] = total;
+			total += (i % 7 + 1) / (4.0d * n);
+		}
+		for (int i = 0; i < n; i++) {
+			ret[i] /= ret[n - 1];
+		}
+		return ret;
+	}
+
+	@Test
+	public void GuideTableIndex() {
+		double[] cumProbs = getCumProbs(300);
+		GuideTable table = new GuideTable(cumProbs);
+
+		// Compare the guide table with a binary search, including the table entries themselves
+		int numPoints = 100000;
+		for (int k = 0; k <= numPoints; k++) {
+			double rand = (k == 0) ? Double.MIN_VALUE : (double) k / numPoints;
+			int j = Arrays.binarySearch(cumProbs, rand);
+			assertTrue( table.getIndex(rand) == ((j >= 0) ? j : -j - 1) );
+		}
+		for (int i = 1; i < cumProbs.length; i++) {
+			assertTrue( table.getIndex(cumProbs[i]) == i );
+			assertTrue( table.getIndex(Math.nextUp(cumProbs[i - 1])) == i );
+		}
+	}
 }
@@ -60,4 +60,36 @@ public class TestDiscreteDistribution {
 		assertTrue( Math.abs( dist.getSampleMean(0.0) / dist.getMeanValue(0.0) - 1.0 ) < 0.01 );
 		assertTrue( Math.abs( dist.getSampleStandardDeviation(0.0) / dist.getStandardDeviation(0.0) - 1.0 ) < 0.01 );
 	}
+
+	@Test
+	public void LargeTable() {
+		ObjectType t = InputAgent.defineEntityWithUniqueName(simModel, ObjectType.class, null, "TestType", "-", true);
+		InputAgent.applyArgs(t, "JavaClass", "com.jaamsim.units.DimensionlessUnit");
+
+		// Probabilities proportional to the value, normalised to sum to one
+		int n = 200;
+		String[] values = new String[n];
+		String[] probs = new String[n];
+		double total = n * (n + 1) / 2.0d;
+		for (int i = 0; i < n; i++) {
+			values[i] = String.valueOf(i + 1);
+			probs[i] = String.valueOf((i + 1) / total);
+		}
+
+		DiscreteDistribution dist = InputAgent.defineEntityWithUniqueName(simModel, DiscreteDistribution.class, null, "Dist", "-", true);
+		InputAgent.applyArgs(dist, "UnitType", t.getName());
+		InputAgent.applyArgs(dist, "ValueList", values);
+		InputAgent.applyArgs(dist, "ProbabilityList", probs);
+		InputAgent.applyArgs(dist, "RandomSeed", "1");
+		dist.validate();
+		dist.earlyInit();
+
+		int numSamples = 1000000;
+		double sum = TestContinuousDistribution.sampleDistribution(dist, numSamples);
+		double mean = sum / numSamples;
+
+		assertTrue( MathUtils.near(dist.getSampleMean(0.0), mean) );
+		assertTrue( Math.abs( dist.getSampleMean(0.0) / dist.getMeanValue(0.0) - 1.0 ) < 0.01 );
+		assertTrue( Math.abs( dist.getSampleStandardDeviation(0.0) / dist.getStandardDeviation(0.0) - 1.0 ) < 0.01 );
+	}
 }
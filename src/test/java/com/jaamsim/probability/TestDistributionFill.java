@@ -0,0 +1,265 @@
+/*
+ * JaamSim Discrete Event Simulation
+ * Copyright (C) 2026 JaamSim Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jaamsim.probability;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jaamsim.ProbabilityDistributions.BetaDistribution;
+import com.jaamsim.ProbabilityDistributions.BinomialDistribution;
+import com.jaamsim.ProbabilityDistributions.ContinuousDistribution;
+import com.jaamsim.ProbabilityDistributions.DiscreteDistribution;
+import com.jaamsim.ProbabilityDistributions.DiscreteUniformDistribution;
+import com.jaamsim.ProbabilityDistributions.Distribution;
+import com.jaamsim.ProbabilityDistributions.ErlangDistribution;
+import com.jaamsim.ProbabilityDistributions.ExponentialDistribution;
+import com.jaamsim.ProbabilityDistributions.GammaDistribution;
+import com.jaamsim.ProbabilityDistributions.GeometricDistribution;
+import com.jaamsim.ProbabilityDistributions.LogLogisticDistribution;
+import com.jaamsim.ProbabilityDistributions.LogNormalDistribution;
+import com.jaamsim.ProbabilityDistributions.NegativeBinomialDistribution;
+import com.jaamsim.ProbabilityDistributions.NormalDistribution;
+import com.jaamsim.ProbabilityDistributions.PoissonDistribution;
+import com.jaamsim.ProbabilityDistributions.TriangularDistribution;
+import com.jaamsim.ProbabilityDistributions.UniformDistribution;
+import com.jaamsim.ProbabilityDistributions.WeibullDistribution;
+import com.jaamsim.basicsim.JaamSimModel;
+import com.jaamsim.basicsim.ObjectType;
+import com.jaamsim.basicsim.Simulation;
+import com.jaamsim.events.EventManager;
+import com.jaamsim.events.ProcessTarget;
+import com.jaamsim.events.TestFrameworkHelpers;
+import com.jaamsim.input.InputAgent;
+
+public class TestDistributionFill {
+
+	JaamSimModel simModel;
+	ObjectType unitType;
+
+	@Before
+	public void setupTests() {
+		simModel = new JaamSimModel();
+		simModel.createInstance(Simulation.class);
+		unitType = InputAgent.defineEntityWithUniqueName(simModel, ObjectType.class, null, "TestType", "-", true);
+		InputAgent.applyArgs(unitType, "JavaClass", "com.jaamsim.units.DimensionlessUnit");
+	}
+
+	private <T extends Distribution> T create(Class<T> klass, String... args) {
+		T dist = InputAgent.defineEntityWithUniqueName(simModel, klass, null, "Dist", "-", true);
+		InputAgent.applyArgs(dist, "UnitType", unitType.getName());
+		InputAgent.applyArgs(dist, "RandomSeed", "1");
+		for (int i = 0; i < args.length; i += 2) {
+			InputAgent.applyArgs(dist, args[i], args[i + 1].split(" "));
+		}
+		dist.validate();
+		dist.earlyInit();
+		return dist;
+	}
+
+	private Distribution[] createAll() {
+		return new Distribution[] {
+			create(BetaDistribution.class, "AlphaParam", "2.0", "BetaParam", "3.0"),
+			create(BinomialDistribution.class, "NumberOfTrials", "10", "Probability", "0.3"),
+			create(ContinuousDistribution.class, "ValueList", "1.0 3.0 5.0 10.0", "CumulativeProbabilityList", "0.0 0.5 0.8 1.0"),
+			create(DiscreteDistribution.class, "ValueList", "1.0 3.0 5.0 10.0", "ProbabilityList", "0.1 0.4 0.3 0.2"),
+			create(DiscreteUniformDistribution.class, "MinValue", "2", "MaxValue", "7"),
+			create(ErlangDistribution.class, "Mean", "5.0", "Shape", "3"),
+			create(ExponentialDistribution.class, "Mean", "5.0"),
+			create(GammaDistribution.class, "Mean", "5.0", "Shape", "2.5"),
+			create(GeometricDistribution.class, "Probability", "0.2"),
+			create(LogLogisticDistribution.class, "Scale", "2.0", "Shape", "3.0"),
+			create(LogNormalDistribution.class, "NormalMean", "1.0", "NormalStandardDeviation", "0.5"),
+			create(NegativeBinomialDistribution.class, "SuccessfulTrials", "3", "Probability", "0.4"),
+			create(NormalDistribution.class, "Mean", "5.0", "StandardDeviation", "2.0"),
+			create(PoissonDistribution.class, "Mean", "4.0"),
+			create(TriangularDistribution.class, "MinValue", "1.0", "MaxValue", "6.0", "Mode", "2.0"),
+			create(UniformDistribution.class, "MinValue", "1.0", "MaxValue", "6.0"),
+			create(WeibullDistribution.class, "Scale", "2.0", "Shape", "1.5"),
+			create(ExponentialDistribution.class, "Mean", "5.0", "MinValue", "2.0", "MaxValue", "8.0"),
+			create(NormalDistribution.class, "Mean", "5.0", "StandardDeviation", "2.0", "MinValue", "3.0"),
+		};
+	}
+
+	static class SampleTarget extends ProcessTarget {
+		final Distribution[] dists;
+		final int numSamples;
+		final boolean bulk;
+		final double[][] samples;
+		final long[] nanos;
+
+		public SampleTarget(Distribution[] dists, int numSamples, boolean bulk) {
+			this.dists = dists;
+			this.numSamples = numSamples;
+			this.bulk = bulk;
+			samples = new double[dists.length][numSamples];
+			nanos = new long[dists.length];
+		}
+
+		@Override
+		public String getDescription() {
+			return "DistributionFillTest";
+		}
+
+		@Override
+		public void process() {
+			for (int i = 0; i < dists.length; i++) {
+				double[] vals = samples[i];
+				long start = System.nanoTime();
+				if (bulk) {
+					// Fill in blocks of unequal size to exercise the range arguments
+					int pos = 0;
+					int len = 1;
+					while (pos < numSamples) {
+						int n = Math.min(len, numSamples - pos);
+						dists[i].fill(vals, pos, n, 0.0d);
+						pos += n;
+						len = len * 2 + 1;
+					}
+				}
+				else {
+					for (int j = 0; j < numSamples; j++) {
+						vals[j] = dists[i].getNextSample(null, 0.0d);
+					}
+				}
+				nanos[i] = System.nanoTime() - start;
+			}
+		}
+	}
+
+	static SampleTarget runSamples(Distribution[] dists, int numSamples, boolean bulk) {
+		SampleTarget target = new SampleTarget(dists, numSamples, bulk);
+		EventManager evt = new EventManager("DistributionFillTest");
+		evt.clear();
+
+		evt.scheduleProcessExternal(0, 0, false, target, null);
+		TestFrameworkHelpers.runEventsToTick(evt, Long.MAX_VALUE, 100000000);
+		return target;
+	}
+
+	@Test
+	public void testSequence() {
+		int numSamples = 10000;
+		Distribution[] dists1 = createAll();
+		Distribution[] dists2 = createAll();
+		SampleTarget single = runSamples(dists1, numSamples, false);
+		SampleTarget bulk = runSamples(dists2, numSamples, true);
+
+		for (int i = 0; i < dists1.length; i++) {
+			for (int j = 0; j < numSamples; j++) {
+				assertTrue(single.samples[i][j] == bulk.samples[i][j]);
+			}
+			assertTrue(dists1[i].getNumberOfSamples(0.0d) == dists2[i].getNumberOfSamples(0.0d));
+			assertTrue(dists1[i].getSampleMean(0.0d) == dists2[i].getSampleMean(0.0d));
+		}
+	}
+
+	static class PrefetchTarget extends ProcessTarget {
+		final Distribution[] dists;
+		final double[][] samples;
+		final String[] states;  // generator state after the first sample
+
+		public PrefetchTarget(Distribution[] dists, int numSamples) {
+			this.dists = dists;
+			samples = new double[dists.length][numSamples];
+			states = new String[dists.length];
+		}
+
+		@Override
+		public String getDescription() {
+			return "DistributionPrefetchTest";
+		}
+
+		@Override
+		public void process() {
+			int numSamples = samples[0].length;
+			for (int i = 0; i < dists.length; i++) {
+				double[] vals = samples[i];
+				int pos = 0;
+				int len = 1;
+				while (pos < numSamples) {
+
+					// Change an input part way through the prefetched samples
+					if (pos >= numSamples/2 && pos - len < numSamples/2)
+						InputAgent.applyArgs(dists[i], "MaxValue", "7.0");
+
+					// Alternate between single samples and blocks of samples
+					int n = Math.min(len, numSamples - pos);
+					if (len % 2 == 0) {
+						dists[i].fill(vals, pos, n, 0.0d);
+					}
+					else {
+						for (int j = pos; j < pos + n; j++) {
+							vals[j] = dists[i].getNextSample(null, 0.0d);
+						}
+					}
+					if (pos == 0)
+						states[i] = dists[i].getRandomGenerators()[0].toString();
+					pos += n;
+					len = len % 13 + 1;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPrefetch() {
+		int numSamples = 2000;
+
+		// The expression inputs prevent the samples from being prefetched
+		Distribution[] dists1 = new Distribution[] {
+			create(TriangularDistribution.class, "MinValue", "1.0", "MaxValue", "6.0", "Mode", "2.0"),
+			create(GeometricDistribution.class, "Probability", "0.2", "MaxValue", "20"),
+			create(ExponentialDistribution.class, "Mean", "5.0"),
+			create(UniformDistribution.class, "MinValue", "1.0", "MaxValue", "6.0"),
+			create(WeibullDistribution.class, "Scale", "2.0", "Shape", "1.5"),
+			create(LogLogisticDistribution.class, "Scale", "2.0", "Shape", "3.0"),
+			create(DiscreteUniformDistribution.class, "MinValue", "2", "MaxValue", "9"),
+			create(ContinuousDistribution.class, "ValueList", "1.0 3.0 5.0 10.0", "CumulativeProbabilityList", "0.0 0.5 0.8 1.0"),
+		};
+		Distribution[] dists2 = new Distribution[] {
+			create(TriangularDistribution.class, "MinValue", "1.0", "MaxValue", "6.0", "Mode", "(2.0)"),
+			create(GeometricDistribution.class, "Probability", "(0.2)", "MaxValue", "20"),
+			create(ExponentialDistribution.class, "Mean", "(5.0)"),
+			create(UniformDistribution.class, "MinValue", "(1.0)", "MaxValue", "6.0"),
+			create(WeibullDistribution.class, "Scale", "2.0", "Shape", "(1.5)"),
+			create(LogLogisticDistribution.class, "Scale", "2.0", "Shape", "(3.0)"),
+			create(DiscreteUniformDistribution.class, "MinValue", "(2)", "MaxValue", "9"),
+			create(ContinuousDistribution.class, "ValueList", "1.0 3.0 5.0 10.0", "CumulativeProbabilityList", "0.0 0.5 0.8 1.0", "MinValue", "(0.0)"),
+		};
+
+		PrefetchTarget prefetched = new PrefetchTarget(dists1, numSamples);
+		PrefetchTarget single = new PrefetchTarget(dists2, numSamples);
+		EventManager evt = new EventManager("DistributionPrefetchTest");
+		evt.clear();
+		evt.scheduleProcessExternal(0, 0, false, prefetched, null);
+		evt.scheduleProcessExternal(0, 0, false, single, null);
+		TestFrameworkHelpers.runEventsToTick(evt, Long.MAX_VALUE, 100000000);
+
+		for (int i = 0; i < dists1.length; i++) {
+			for (int j = 0; j < numSamples; j++) {
+				assertTrue(prefetched.samples[i][j] == single.samples[i][j]);
+			}
+			assertTrue(dists1[i].getNumberOfSamples(0.0d) == dists2[i].getNumberOfSamples(0.0d));
+			assertTrue(dists1[i].getSampleMean(0.0d) == dists2[i].getSampleMean(0.0d));
+
+			// Confirm that the samples were prefetched
+			assertTrue(!prefetched.states[i].equals(single.states[i]));
+		}
+	}
+}
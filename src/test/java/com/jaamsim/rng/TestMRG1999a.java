@@ -225,4 +225,38 @@ public class TestMRG1999a {
 
 		assertTrue(test1.toString().equals(test2.toString()));
 	}
+
+	@Test
+	public void testAntithetic() {
+		MRG1999a test1 = new MRG1999a(27, 3);
+		MRG1999a test2 = new MRG1999a(27, 3);
+		test2.setAntithetic(true);
+
+		for (int i = 0; i < 1000; i++) {
+			double u1 = test1.nextUniform();
+			double u2 = test2.nextUniform();
+			assertTrue(u2 > 0.0d && u2 < 1.0d);
+			assertTrue(Math.abs(u1 + u2 - 1.0d) < 1.0e-15d);
+		}
+		assertTrue(test1.toString().equals(test2.toString()));
+	}
+
+	@Test
+	public void testUniformBatch() {
+		MRG1999a test1 = new MRG1999a(27, 3);
+		MRG1999a test2 = new MRG1999a(27, 3);
+		double[] vals = new double[1000];
+		test2.nextUniforms(vals, 10, 990);
+		for (int i = 10; i < vals.length; i++) {
+			assertTrue(test1.nextUniform() == vals[i]);
+		}
+		assertTrue(test1.toString().equals(test2.toString()));
+
+		test1.setAntithetic(true);
+		test2.setAntithetic(true);
+		test2.nextUniforms(vals, 0, vals.length);
+		for (int i = 0; i < vals.length; i++) {
+			assertTrue(test1.nextUniform() == vals[i]);
+		}
+	}
 }